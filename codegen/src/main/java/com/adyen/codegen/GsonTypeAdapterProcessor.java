@@ -0,0 +1,717 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Generates reflection-free Gson type adapters for the model classes, and a
+ * {@code com.adyen.serializer.GeneratedTypeAdapterFactory} that hands them out by class name.
+ * <p>
+ * An adapter binds the same fields, under the same names, as Gson's reflective adapter: the non-static, non-transient
+ * fields of the class and its superclasses, named by {@code @SerializedName} and adapted by a field {@code @JsonAdapter}.
+ * Fields are read and written directly when accessible, otherwise through their getter and setter. The few fields
+ * without one, such as read-only response fields, fall back to {@link java.lang.reflect.Field} access and are listed in
+ * a generated native-image reflection configuration.
+ * Abstract and generic classes, and classes without a no-argument constructor, are left to the reflective adapter.
+ * <p>
+ * The Terminal API models are excluded, as their Gson instance names fields by their XML annotations.
+ */
+@SupportedAnnotationTypes("*")
+public final class GsonTypeAdapterProcessor extends AbstractProcessor {
+
+    static final String FACTORY_PACKAGE = "com.adyen.serializer";
+    static final String FACTORY_NAME = "GeneratedTypeAdapterFactory";
+    static final String ADAPTER_PREFIX = "GsonAdapter_";
+    static final String REFLECT_CONFIG = "META-INF/native-image/com.adyen/adyen-java-api-library/reflect-config.json";
+
+    private static final String MODEL_PACKAGE = "com.adyen.model";
+    private static final String[] EXCLUDED_PACKAGES = {"com.adyen.model.nexo", "com.adyen.model.terminal"};
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String JSON_ADAPTER = "com.google.gson.annotations.JsonAdapter";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated || roundEnv.processingOver()) {
+            return false;
+        }
+        generated = true;
+
+        List<TypeElement> modelTypes = new ArrayList<>();
+        for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectModelTypes(typeElement, modelTypes);
+        }
+
+        Map<String, String> adapters = new TreeMap<>();
+        Map<String, Set<String>> reflectiveFields = new TreeMap<>();
+        int skipped = 0;
+        for (TypeElement modelType : modelTypes) {
+            ModelAdapter modelAdapter = ModelAdapter.analyze(processingEnv, modelType);
+            if (modelAdapter == null) {
+                skipped++;
+                continue;
+            }
+            try {
+                writeSource(modelAdapter.getQualifiedName(), modelAdapter.generate(), modelType);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + modelAdapter.getQualifiedName() + ": " + e.getMessage(), modelType);
+                return false;
+            }
+            adapters.put(processingEnv.getElementUtils().getBinaryName(modelType).toString(), modelAdapter.getQualifiedName());
+            for (BoundField field : modelAdapter.fields) {
+                if (field.reflectiveClass != null) {
+                    reflectiveFields.computeIfAbsent(field.reflectiveClass, key -> new TreeSet<>()).add(field.fieldName);
+                }
+            }
+        }
+
+        try {
+            writeSource(FACTORY_PACKAGE + "." + FACTORY_NAME, generateFactory(adapters));
+            FileObject reflectConfig = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REFLECT_CONFIG);
+            try (Writer writer = reflectConfig.openWriter()) {
+                writer.write(generateReflectConfig(reflectiveFields));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + FACTORY_NAME + ": " + e.getMessage());
+            return false;
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Generated " + adapters.size() + " Gson type adapters, " + skipped + " model classes left to reflection");
+        return false;
+    }
+
+    private void collectModelTypes(TypeElement typeElement, List<TypeElement> modelTypes) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+        if (!isModelPackage(packageName)) {
+            return;
+        }
+        if (typeElement.getKind() == ElementKind.CLASS && hasSerializedNameField(typeElement)) {
+            modelTypes.add(typeElement);
+        }
+        for (TypeElement nested : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            collectModelTypes(nested, modelTypes);
+        }
+    }
+
+    private static boolean isModelPackage(String packageName) {
+        if (!packageName.equals(MODEL_PACKAGE) && !packageName.startsWith(MODEL_PACKAGE + ".")) {
+            return false;
+        }
+        for (String excluded : EXCLUDED_PACKAGES) {
+            if (packageName.equals(excluded) || packageName.startsWith(excluded + ".")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasSerializedNameField(TypeElement typeElement) {
+        TypeElement current = typeElement;
+        while (current != null) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (findAnnotation(field, SERIALIZED_NAME) != null) {
+                    return true;
+                }
+            }
+            current = superclassOf(current);
+        }
+        return false;
+    }
+
+    private TypeElement superclassOf(TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+        return superElement.getQualifiedName().contentEquals("java.lang.Object") ? null : superElement;
+    }
+
+    private void writeSource(String qualifiedName, String source, Element... originatingElements) throws IOException {
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, originatingElements);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private static String generateFactory(Map<String, String> adapters) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(FACTORY_PACKAGE).append(";\n\n");
+        source.append("/**\n");
+        source.append(" * Hands out the Gson type adapters generated for the model classes, so they are bound without reflection.\n");
+        source.append(" * Generated by {@code ").append(GsonTypeAdapterProcessor.class.getName()).append("}, do not edit.\n");
+        source.append(" * <p>\n");
+        source.append(" * The adapters name fields by {@code @SerializedName} or the field name, so register this factory only on Gson\n");
+        source.append(" * instances using the default field naming policy.\n");
+        source.append(" */\n");
+        source.append("public final class ").append(FACTORY_NAME).append(" implements com.google.gson.TypeAdapterFactory {\n\n");
+        source.append("    @Override\n");
+        source.append("    @SuppressWarnings(\"unchecked\")\n");
+        source.append("    public <T> com.google.gson.TypeAdapter<T> create(com.google.gson.Gson gson, com.google.gson.reflect.TypeToken<T> type) {\n");
+        source.append("        switch (type.getRawType().getName()) {\n");
+        for (Map.Entry<String, String> adapter : adapters.entrySet()) {
+            source.append("            case \"").append(adapter.getKey()).append("\":\n");
+            source.append("                return (com.google.gson.TypeAdapter<T>) new ").append(adapter.getValue()).append("(gson);\n");
+        }
+        source.append("            default:\n");
+        source.append("                return null;\n");
+        source.append("        }\n");
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static String generateReflectConfig(Map<String, Set<String>> reflectiveFields) {
+        StringBuilder json = new StringBuilder("[\n");
+        for (Map.Entry<String, Set<String>> entry : reflectiveFields.entrySet()) {
+            if (json.length() > 2) {
+                json.append(",\n");
+            }
+            json.append("  {\n    \"name\": \"").append(entry.getKey()).append("\",\n    \"fields\": [");
+            boolean first = true;
+            for (String field : entry.getValue()) {
+                json.append(first ? "\n" : ",\n").append("      {\"name\": \"").append(field).append("\", \"allowWrite\": true}");
+                first = false;
+            }
+            json.append("\n    ]\n  }");
+        }
+        return json.append("\n]\n").toString();
+    }
+
+    static AnnotationMirror findAnnotation(Element element, String annotationType) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType)) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    static AnnotationValue findAnnotationValue(AnnotationMirror annotationMirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Binding of one model class, and the source of its adapter.
+     */
+    private static final class ModelAdapter {
+        private final TypeElement modelType;
+        private final String packageName;
+        private final String adapterName;
+        private final List<BoundField> fields;
+        // whether the adapter refers to deprecated model members
+        private boolean deprecated;
+
+        private ModelAdapter(TypeElement modelType, String packageName, String adapterName, List<BoundField> fields) {
+            this.modelType = modelType;
+            this.packageName = packageName;
+            this.adapterName = adapterName;
+            this.fields = fields;
+        }
+
+        String getQualifiedName() {
+            return packageName + "." + adapterName;
+        }
+
+        static ModelAdapter analyze(javax.annotation.processing.ProcessingEnvironment processingEnv, TypeElement modelType) {
+            if (!isBindable(modelType) || findAnnotation(modelType, JSON_ADAPTER) != null || !hasNoArgConstructor(modelType)) {
+                return null;
+            }
+            String packageName = processingEnv.getElementUtils().getPackageOf(modelType).getQualifiedName().toString();
+            DeclaredType declaredType = (DeclaredType) modelType.asType();
+            List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(modelType));
+
+            List<BoundField> fields = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            // Gson binds the fields of the class before those of its superclasses
+            TypeElement current = modelType;
+            while (current != null) {
+                for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                    if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.TRANSIENT)) {
+                        continue;
+                    }
+                    BoundField boundField = BoundField.analyze(processingEnv, declaredType, modelType, packageName, methods, field, fields.size());
+                    if (boundField == null) {
+                        return null;
+                    }
+                    for (String name : boundField.names) {
+                        if (!names.add(name)) {
+                            return null;
+                        }
+                    }
+                    fields.add(boundField);
+                }
+                TypeMirror superclass = current.getSuperclass();
+                current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+                if (current != null && current.getQualifiedName().contentEquals("java.lang.Object")) {
+                    current = null;
+                }
+            }
+
+            StringBuilder adapterName = new StringBuilder();
+            for (Element element = modelType; element.getKind().isClass(); element = element.getEnclosingElement()) {
+                adapterName.insert(0, "_" + element.getSimpleName());
+            }
+            ModelAdapter modelAdapter = new ModelAdapter(modelType, packageName, ADAPTER_PREFIX + adapterName.substring(1), fields);
+            modelAdapter.deprecated = processingEnv.getElementUtils().isDeprecated(modelType);
+            for (BoundField field : fields) {
+                modelAdapter.deprecated |= field.deprecated;
+            }
+            return modelAdapter;
+        }
+
+        private static boolean isBindable(TypeElement modelType) {
+            if (modelType.getModifiers().contains(Modifier.ABSTRACT) || !modelType.getTypeParameters().isEmpty()) {
+                return false;
+            }
+            for (Element element = modelType; element.getKind().isClass(); element = element.getEnclosingElement()) {
+                TypeElement typeElement = (TypeElement) element;
+                if (!typeElement.getModifiers().contains(Modifier.PUBLIC)) {
+                    return false;
+                }
+                if (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+                    return false;
+                }
+                if (typeElement.getNestingKind() != NestingKind.MEMBER && typeElement.getNestingKind() != NestingKind.TOP_LEVEL) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean hasNoArgConstructor(TypeElement modelType) {
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(modelType.getEnclosedElements())) {
+                if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String generate() {
+            String modelName = modelType.getQualifiedName().toString();
+            StringBuilder source = new StringBuilder();
+            source.append("package ").append(packageName).append(";\n\n");
+            source.append("/**\n");
+            source.append(" * Gson type adapter for {@link ").append(modelName).append("}.\n");
+            source.append(" * Generated by {@code ").append(GsonTypeAdapterProcessor.class.getName()).append("}, do not edit.\n");
+            source.append(" */\n");
+            if (deprecated) {
+                source.append("@SuppressWarnings(\"deprecation\")\n");
+            }
+            source.append("public final class ").append(adapterName)
+                    .append(" extends com.adyen.serializer.GeneratedTypeAdapter<").append(modelName).append("> {\n\n");
+            for (BoundField field : fields) {
+                source.append("    private static final java.lang.reflect.Type TYPE_").append(field.index).append(" = ").append(field.typeExpression).append(";\n");
+            }
+            for (BoundField field : fields) {
+                if (field.reflectiveClass != null) {
+                    source.append("    private static final java.lang.reflect.Field FIELD_").append(field.index)
+                            .append(" = field(").append(field.reflectiveClassLiteral).append(", \"").append(field.fieldName).append("\");\n");
+                }
+            }
+            if (!fields.isEmpty()) {
+                source.append("\n");
+            }
+            for (BoundField field : fields) {
+                source.append("    private com.google.gson.TypeAdapter<").append(field.adaptedType).append("> adapter").append(field.index).append(";\n");
+            }
+            if (!fields.isEmpty()) {
+                source.append("\n");
+            }
+            source.append("    public ").append(adapterName).append("(com.google.gson.Gson gson) {\n");
+            source.append("        super(gson);\n");
+            source.append("    }\n\n");
+
+            for (BoundField field : fields) {
+                field.appendAdapterGetter(source);
+            }
+
+            source.append("    @Override\n");
+            source.append("    protected ").append(modelName).append(" newInstance() {\n");
+            source.append("        return new ").append(modelName).append("();\n");
+            source.append("    }\n\n");
+
+            source.append("    @Override\n");
+            source.append("    protected boolean readField(com.google.gson.stream.JsonReader in, String name, ").append(modelName).append(" instance) throws java.io.IOException {\n");
+            if (fields.isEmpty()) {
+                source.append("        return false;\n");
+            } else {
+                source.append("        switch (name) {\n");
+                for (BoundField field : fields) {
+                    field.appendRead(source);
+                }
+                source.append("            default:\n");
+                source.append("                return false;\n");
+                source.append("        }\n");
+            }
+            source.append("    }\n\n");
+
+            source.append("    @Override\n");
+            for (BoundField field : fields) {
+                if (field.reflectiveClass != null && field.getter.startsWith("(")) {
+                    source.append("    @SuppressWarnings(\"unchecked\")\n");
+                    break;
+                }
+            }
+            source.append("    protected void writeFields(com.google.gson.stream.JsonWriter out, ").append(modelName).append(" value) throws java.io.IOException {\n");
+            for (BoundField field : fields) {
+                field.appendWrite(source);
+            }
+            source.append("    }\n");
+            source.append("}\n");
+            return source.toString();
+        }
+    }
+
+    /**
+     * Binding of one field: its JSON names, how it is accessed and which adapter it uses.
+     */
+    private static final class BoundField {
+        private final int index;
+        private final List<String> names;
+        private final String declaredType;
+        private final String adaptedType;
+        private final String typeExpression;
+        private final boolean primitive;
+        private final String getter;
+        private final String setter;
+        private final String jsonAdapter;
+        private final boolean nullSafe;
+        private final String fieldName;
+        private String reflectiveClass;
+        private String reflectiveClassLiteral;
+        private boolean deprecated;
+
+        private BoundField(int index, List<String> names, TypeMirror type, String adaptedType, String typeExpression, String getter, String setter, String jsonAdapter, boolean nullSafe, String fieldName) {
+            this.index = index;
+            this.names = names;
+            this.declaredType = type.toString();
+            this.adaptedType = adaptedType;
+            this.typeExpression = typeExpression;
+            this.primitive = type.getKind().isPrimitive();
+            this.getter = getter;
+            this.setter = setter;
+            this.jsonAdapter = jsonAdapter;
+            this.nullSafe = nullSafe;
+            this.fieldName = fieldName;
+        }
+
+        static BoundField analyze(javax.annotation.processing.ProcessingEnvironment processingEnv, DeclaredType declaredType, TypeElement modelType,
+                                  String packageName, List<ExecutableElement> methods, VariableElement field, int index) {
+            TypeMirror type = processingEnv.getTypeUtils().asMemberOf(declaredType, field);
+            String typeExpression = typeExpression(processingEnv, type);
+            if (typeExpression == null) {
+                return null;
+            }
+
+            List<String> names = new ArrayList<>();
+            AnnotationMirror serializedName = findAnnotation(field, SERIALIZED_NAME);
+            if (serializedName != null) {
+                names.add((String) findAnnotationValue(serializedName, "value").getValue());
+                AnnotationValue alternate = findAnnotationValue(serializedName, "alternate");
+                if (alternate != null) {
+                    for (Object value : (List<?>) alternate.getValue()) {
+                        names.add((String) ((AnnotationValue) value).getValue());
+                    }
+                }
+            } else {
+                names.add(field.getSimpleName().toString());
+            }
+
+            String jsonAdapter = null;
+            boolean nullSafe = true;
+            AnnotationMirror jsonAdapterAnnotation = findAnnotation(field, JSON_ADAPTER);
+            if (jsonAdapterAnnotation != null) {
+                TypeElement adapterType = (TypeElement) ((DeclaredType) findAnnotationValue(jsonAdapterAnnotation, "value").getValue()).asElement();
+                if (!isInstantiable(processingEnv, adapterType, packageName)) {
+                    return null;
+                }
+                jsonAdapter = adapterType.getQualifiedName().toString();
+                AnnotationValue nullSafeValue = findAnnotationValue(jsonAdapterAnnotation, "nullSafe");
+                nullSafe = nullSafeValue == null || (Boolean) nullSafeValue.getValue();
+            }
+
+            String adaptedType = type.getKind().isPrimitive()
+                    ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString()
+                    : type.toString();
+            String fieldName = field.getSimpleName().toString();
+            String getter;
+            String setter;
+            ExecutableElement getterMethod = null;
+            ExecutableElement setterMethod = null;
+            boolean reflective = false;
+            if (field.getEnclosingElement().equals(modelType) && isAccessible(processingEnv, field, packageName)) {
+                getter = "value." + fieldName;
+                setter = "instance." + fieldName + " = %s";
+            } else {
+                String property = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+                getterMethod = findAccessor(processingEnv, declaredType, methods, packageName, type, true, "get" + property, "is" + property);
+                setterMethod = findAccessor(processingEnv, declaredType, methods, packageName, type, false, "set" + property);
+                if (getterMethod != null) {
+                    getter = "value." + getterMethod.getSimpleName() + "()";
+                } else {
+                    getter = "(" + adaptedType + ") getField(FIELD_" + index + ", value)";
+                    reflective = true;
+                }
+                if (setterMethod != null) {
+                    setter = "instance." + setterMethod.getSimpleName() + "(%s)";
+                } else {
+                    setter = "setField(FIELD_" + index + ", instance, %s)";
+                    reflective = true;
+                }
+            }
+
+            BoundField boundField = new BoundField(index, names, type, adaptedType, typeExpression, getter, setter, jsonAdapter, nullSafe, fieldName);
+            boundField.deprecated = isDeprecated(processingEnv, field) || isDeprecated(processingEnv, getterMethod) || isDeprecated(processingEnv, setterMethod)
+                    || (type.getKind() == TypeKind.DECLARED && isDeprecated(processingEnv, ((DeclaredType) type).asElement()));
+            if (reflective) {
+                TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+                for (Element element = declaringType; element.getKind().isClass(); element = element.getEnclosingElement()) {
+                    if (!isAccessible(processingEnv, element, packageName)) {
+                        return null;
+                    }
+                }
+                boundField.reflectiveClass = processingEnv.getElementUtils().getBinaryName(declaringType).toString();
+                boundField.reflectiveClassLiteral = declaringType.getQualifiedName() + ".class";
+            }
+            return boundField;
+        }
+
+        private static ExecutableElement findAccessor(javax.annotation.processing.ProcessingEnvironment processingEnv, DeclaredType declaredType, List<ExecutableElement> methods,
+                                                      String packageName, TypeMirror type, boolean getter, String... names) {
+            for (String name : names) {
+                for (ExecutableElement method : methods) {
+                    if (!method.getSimpleName().contentEquals(name) || method.getModifiers().contains(Modifier.STATIC)
+                            || !isAccessible(processingEnv, method, packageName)) {
+                        continue;
+                    }
+                    ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, method);
+                    if (getter && methodType.getParameterTypes().isEmpty()
+                            && processingEnv.getTypeUtils().isSameType(methodType.getReturnType(), type)) {
+                        return method;
+                    }
+                    if (!getter && methodType.getParameterTypes().size() == 1
+                            && processingEnv.getTypeUtils().isSameType(methodType.getParameterTypes().get(0), type)) {
+                        return method;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static boolean isAccessible(javax.annotation.processing.ProcessingEnvironment processingEnv, Element element, String packageName) {
+            if (element.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+            return !element.getModifiers().contains(Modifier.PRIVATE)
+                    && processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().contentEquals(packageName);
+        }
+
+        private static boolean isDeprecated(javax.annotation.processing.ProcessingEnvironment processingEnv, Element element) {
+            return element != null && processingEnv.getElementUtils().isDeprecated(element);
+        }
+
+        private static boolean isInstantiable(javax.annotation.processing.ProcessingEnvironment processingEnv, TypeElement typeElement, String packageName) {
+            if (typeElement.getModifiers().contains(Modifier.ABSTRACT) || !isAccessible(processingEnv, typeElement, packageName)
+                    || (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC))) {
+                return false;
+            }
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+                if (constructor.getParameters().isEmpty() && isAccessible(processingEnv, constructor, packageName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the source of a java.lang.reflect.Type expression for the type, or null when it contains type variables.
+         */
+        private static String typeExpression(javax.annotation.processing.ProcessingEnvironment processingEnv, TypeMirror type) {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                case BYTE:
+                case SHORT:
+                case INT:
+                case LONG:
+                case CHAR:
+                case FLOAT:
+                case DOUBLE:
+                    return type + ".class";
+                case ARRAY:
+                    TypeMirror componentType = ((ArrayType) type).getComponentType();
+                    String component = typeExpression(processingEnv, componentType);
+                    if (component == null) {
+                        return null;
+                    }
+                    if (component.endsWith(".class")) {
+                        return component.substring(0, component.length() - ".class".length()) + "[].class";
+                    }
+                    return "com.google.gson.reflect.TypeToken.getArray(" + component + ").getType()";
+                case DECLARED:
+                    DeclaredType declaredType = (DeclaredType) type;
+                    String rawType = ((TypeElement) declaredType.asElement()).getQualifiedName() + ".class";
+                    if (declaredType.getTypeArguments().isEmpty()) {
+                        return rawType;
+                    }
+                    if (contains(declaredType, TypeKind.WILDCARD)) {
+                        // Gson has no public factory for wildcard types, so capture the type with a TypeToken subclass
+                        return contains(declaredType, TypeKind.TYPEVAR) ? null : "new com.google.gson.reflect.TypeToken<" + declaredType + ">() { }.getType()";
+                    }
+                    StringBuilder expression = new StringBuilder("com.google.gson.reflect.TypeToken.getParameterized(").append(rawType);
+                    for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+                        String argument = typeExpression(processingEnv, typeArgument);
+                        if (argument == null) {
+                            return null;
+                        }
+                        expression.append(", ").append(argument);
+                    }
+                    return expression.append(").getType()").toString();
+                default:
+                    return null;
+            }
+        }
+
+        private static boolean contains(TypeMirror type, TypeKind kind) {
+            if (type == null) {
+                return false;
+            }
+            if (type.getKind() == kind) {
+                return true;
+            }
+            switch (type.getKind()) {
+                case WILDCARD:
+                    return contains(((WildcardType) type).getExtendsBound(), kind) || contains(((WildcardType) type).getSuperBound(), kind);
+                case ARRAY:
+                    return contains(((ArrayType) type).getComponentType(), kind);
+                case DECLARED:
+                    for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+                        if (contains(typeArgument, kind)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        }
+
+        void appendAdapterGetter(StringBuilder source) {
+            String adapterType = "com.google.gson.TypeAdapter<" + adaptedType + ">";
+            source.append("    private ").append(adapterType).append(" adapter").append(index).append("() {\n");
+            source.append("        ").append(adapterType).append(" adapter = adapter").append(index).append(";\n");
+            source.append("        if (adapter == null) {\n");
+            if (jsonAdapter != null) {
+                source.append("            adapter = jsonAdapter(new ").append(jsonAdapter).append("(), TYPE_").append(index).append(", ").append(nullSafe).append(");\n");
+            } else {
+                source.append("            adapter = adapter(TYPE_").append(index).append(");\n");
+            }
+            source.append("            adapter").append(index).append(" = adapter;\n");
+            source.append("        }\n");
+            source.append("        return adapter;\n");
+            source.append("    }\n\n");
+        }
+
+        void appendRead(StringBuilder source) {
+            for (String name : names) {
+                source.append("            case \"").append(escape(name)).append("\":\n");
+            }
+            if (primitive) {
+                source.append("                ").append(adaptedType).append(" value").append(index).append(" = adapter").append(index).append("().read(in);\n");
+                source.append("                if (value").append(index).append(" != null) {\n");
+                source.append("                    ").append(String.format(setter, "value" + index)).append(";\n");
+                source.append("                }\n");
+            } else {
+                source.append("                ").append(String.format(setter, "adapter" + index + "().read(in)")).append(";\n");
+            }
+            source.append("                return true;\n");
+        }
+
+        void appendWrite(StringBuilder source) {
+            String name = escape(names.get(0));
+            if (primitive) {
+                source.append("        out.name(\"").append(name).append("\");\n");
+                source.append("        adapter").append(index).append("().write(out, ").append(getter).append(");\n");
+                return;
+            }
+            source.append("        ").append(declaredType).append(" field").append(index).append(" = ").append(getter).append(";\n");
+            // Gson skips fields referencing the object itself
+            source.append("        if ((Object) field").append(index).append(" != value) {\n");
+            source.append("            out.name(\"").append(name).append("\");\n");
+            if (jsonAdapter != null) {
+                source.append("            adapter").append(index).append("().write(out, field").append(index).append(");\n");
+            } else {
+                source.append("            writeField(out, adapter").append(index).append("(), TYPE_").append(index).append(", field").append(index).append(");\n");
+            }
+            source.append("        }\n");
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"");
+        }
+    }
+}
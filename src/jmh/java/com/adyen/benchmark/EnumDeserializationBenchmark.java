@@ -0,0 +1,86 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.model.nexo.MessageCategoryType;
+import com.adyen.model.terminal.TerminalAPIResponse;
+import com.adyen.terminal.serialization.TerminalAPIGsonBuilder;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enum value lookups and the deserialization of enum-heavy responses, measuring the static value index
+ * that {@code fromValue} reads from.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="EnumDeserializationBenchmark -prof gc"}
+ * to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumDeserializationBenchmark {
+
+    private final Gson gson = new Gson();
+    private final Gson terminalApiGson = TerminalAPIGsonBuilder.create();
+    private String paymentsResponse;
+    private String terminalApiResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        paymentsResponse = Mocks.read("mocks/checkout/payments-success.json");
+        terminalApiResponse = Mocks.read("mocks/terminal-api/payment-sync-success.json");
+    }
+
+    @Benchmark
+    public PaymentsResponse.ResultCodeEnum resultCodeFromValue() {
+        return PaymentsResponse.ResultCodeEnum.fromValue("Authorised");
+    }
+
+    @Benchmark
+    public MessageCategoryType messageCategoryFromValue() {
+        return MessageCategoryType.fromValue("Payment");
+    }
+
+    @Benchmark
+    public PaymentsResponse deserializePaymentsResponse() {
+        return gson.fromJson(paymentsResponse, PaymentsResponse.class);
+    }
+
+    @Benchmark
+    public TerminalAPIResponse deserializeSaleToPOIResponse() {
+        return terminalApiGson.fromJson(terminalApiResponse, TerminalAPIResponse.class);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.serializer.GsonJsonCodec;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflective against generated Gson type adapters for a checkout response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedAdapterBenchmark {
+
+    private final Gson reflectiveGson = new GsonBuilder().disableHtmlEscaping().create();
+    private final Gson generatedGson = GsonJsonCodec.DEFAULT.getGson();
+    private String paymentsResponseJson;
+    private PaymentsResponse paymentsResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        paymentsResponseJson = Mocks.read("mocks/checkout/payments-success.json");
+        paymentsResponse = reflectiveGson.fromJson(paymentsResponseJson, PaymentsResponse.class);
+    }
+
+    @Benchmark
+    public PaymentsResponse deserializeReflective() {
+        return reflectiveGson.fromJson(paymentsResponseJson, PaymentsResponse.class);
+    }
+
+    @Benchmark
+    public PaymentsResponse deserializeGenerated() {
+        return generatedGson.fromJson(paymentsResponseJson, PaymentsResponse.class);
+    }
+
+    @Benchmark
+    public String serializeReflective() {
+        return reflectiveGson.toJson(paymentsResponse);
+    }
+
+    @Benchmark
+    public String serializeGenerated() {
+        return generatedGson.toJson(paymentsResponse);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import com.adyen.Config;
+import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.httpclient.HTTPClientException;
+import com.adyen.serializer.GsonJsonCodec;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.io.CloseMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trips of {@link AdyenHttpClient} against a local stub returning a payments response,
+ * with and without the connection pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpClientBenchmark {
+
+    @Param({"true", "false"})
+    private boolean connectionPoolEnabled;
+
+    private HttpServer server;
+    private AdyenHttpClient httpClient;
+    private Config config;
+    private String endpoint;
+    private String requestBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        String response = Mocks.read("mocks/checkout/payments-success.json");
+        server = ServerBootstrap.bootstrap()
+                .setListenerPort(0)
+                .register("/payments", (request, httpResponse, context) -> {
+                    EntityUtils.consume(request.getEntity());
+                    httpResponse.setCode(200);
+                    httpResponse.setEntity(new StringEntity(response, ContentType.APPLICATION_JSON));
+                })
+                .create();
+        server.start();
+        endpoint = "http://localhost:" + server.getLocalPort() + "/payments";
+
+        config = new Config();
+        config.setApiKey("apiKey");
+        config.setConnectionPoolEnabled(connectionPoolEnabled);
+        httpClient = new AdyenHttpClient();
+        requestBody = GsonJsonCodec.DEFAULT.toJson(SerializationBenchmark.createPaymentsRequest());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Benchmark
+    public String request() throws IOException, HTTPClientException {
+        return httpClient.request(endpoint, requestBody, config, true);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import com.adyen.model.notification.NotificationRequestItem;
+import com.adyen.model.terminal.TerminalAPIRequest;
+import com.adyen.model.terminal.security.SaleToPOISecuredMessage;
+import com.adyen.model.terminal.security.SecurityKey;
+import com.adyen.notification.NotificationHandler;
+import com.adyen.terminal.security.NexoCrypto;
+import com.adyen.terminal.serialization.TerminalAPIGsonBuilder;
+import com.adyen.util.HMACValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SignatureException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nexo encryption of terminal messages and HMAC validation of notifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityBenchmark {
+
+    private static final String HMAC_KEY = "DFB1EB5485895CFA84146406857104ABB4CBCABDC8AAF103A624C8F6A3EAAB00";
+
+    private final NexoCrypto nexoCrypto = new NexoCrypto();
+    private final HMACValidator hmacValidator = new HMACValidator();
+    private SecurityKey securityKey;
+    private TerminalAPIRequest terminalApiRequest;
+    private String terminalApiRequestJson;
+    private SaleToPOISecuredMessage securedMessage;
+    private NotificationRequestItem notificationRequestItem;
+
+    @Setup
+    public void setUp() throws Exception {
+        securityKey = new SecurityKey();
+        securityKey.setKeyVersion(1);
+        securityKey.setAdyenCryptoVersion(1);
+        securityKey.setKeyIdentifier("CryptoKeyIdentifier12345");
+        securityKey.setPassphrase("p@ssw0rd123456");
+
+        terminalApiRequest = SerializationBenchmark.createTerminalApiRequest();
+        terminalApiRequestJson = TerminalAPIGsonBuilder.create().toJson(terminalApiRequest);
+        securedMessage = nexoCrypto.encrypt(terminalApiRequestJson, terminalApiRequest.getSaleToPOIRequest().getMessageHeader(), securityKey);
+
+        notificationRequestItem = new NotificationHandler()
+                .handleNotificationJson(Mocks.read("mocks/notification/authorisation-true.json"))
+                .getNotificationItems()
+                .get(0);
+    }
+
+    @Benchmark
+    public SaleToPOISecuredMessage nexoEncrypt() throws Exception {
+        return nexoCrypto.encrypt(terminalApiRequestJson, terminalApiRequest.getSaleToPOIRequest().getMessageHeader(), securityKey);
+    }
+
+    @Benchmark
+    public String nexoDecrypt() throws Exception {
+        return nexoCrypto.decrypt(securedMessage, securityKey);
+    }
+
+    @Benchmark
+    public boolean validateHmac() throws SignatureException {
+        return hmacValidator.validateHMAC(notificationRequestItem, HMAC_KEY);
+    }
+}
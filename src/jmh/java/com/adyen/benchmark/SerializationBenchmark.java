@@ -0,0 +1,161 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.benchmark;
+
+import com.adyen.model.checkout.PaymentsRequest;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.model.nexo.AmountsReq;
+import com.adyen.model.nexo.MessageCategoryType;
+import com.adyen.model.nexo.MessageClassType;
+import com.adyen.model.nexo.MessageHeader;
+import com.adyen.model.nexo.MessageType;
+import com.adyen.model.nexo.PaymentRequest;
+import com.adyen.model.nexo.PaymentTransaction;
+import com.adyen.model.nexo.SaleData;
+import com.adyen.model.nexo.SaleToPOIRequest;
+import com.adyen.model.nexo.TransactionIdentification;
+import com.adyen.model.notification.NotificationRequest;
+import com.adyen.model.terminal.TerminalAPIRequest;
+import com.adyen.model.terminal.TerminalAPIResponse;
+import com.adyen.notification.NotificationHandler;
+import com.adyen.serializer.GsonJsonCodec;
+import com.adyen.terminal.serialization.TerminalAPIGsonBuilder;
+import com.adyen.util.Util;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON round-trips, deserialization followed by serialization, of the main request and response payloads,
+ * with the Gson instances the services use. Terminal API requests are only serialized, as the library never reads them
+ * and their sale to acquirer data is written as a Base64 string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private final Gson gson = GsonJsonCodec.DEFAULT.getGson();
+    private final Gson terminalApiGson = TerminalAPIGsonBuilder.create();
+    private final NotificationHandler notificationHandler = new NotificationHandler();
+    private String paymentsRequest;
+    private String paymentsResponse;
+    private TerminalAPIRequest terminalApiRequest;
+    private String terminalApiResponse;
+    private String notificationRequest;
+
+    @Setup
+    public void setUp() throws IOException, DatatypeConfigurationException {
+        paymentsRequest = gson.toJson(createPaymentsRequest());
+        paymentsResponse = Mocks.read("mocks/checkout/payments-success.json");
+        terminalApiRequest = createTerminalApiRequest();
+        terminalApiResponse = Mocks.read("mocks/terminal-api/payment-sync-success.json");
+        notificationRequest = Mocks.read("mocks/notification/authorisation-true.json");
+    }
+
+    @Benchmark
+    public String paymentsRequestRoundTrip() {
+        return gson.toJson(gson.fromJson(paymentsRequest, PaymentsRequest.class));
+    }
+
+    @Benchmark
+    public String paymentsResponseRoundTrip() {
+        return gson.toJson(gson.fromJson(paymentsResponse, PaymentsResponse.class));
+    }
+
+    @Benchmark
+    public String terminalApiRequestSerialization() {
+        return terminalApiGson.toJson(terminalApiRequest);
+    }
+
+    @Benchmark
+    public String terminalApiResponseRoundTrip() {
+        return terminalApiGson.toJson(terminalApiGson.fromJson(terminalApiResponse, TerminalAPIResponse.class));
+    }
+
+    @Benchmark
+    public NotificationRequest notificationRequest() {
+        return notificationHandler.handleNotificationJson(notificationRequest);
+    }
+
+    static PaymentsRequest createPaymentsRequest() {
+        PaymentsRequest paymentsRequest = new PaymentsRequest();
+        paymentsRequest.setReference("Your order number");
+        paymentsRequest.setAmount(Util.createAmount("10.00", "USD"));
+        paymentsRequest.addCardData("4111111111111111", "10", "2018", "737", "John Smith");
+        paymentsRequest.setReturnUrl("https://your-company.com/...");
+        paymentsRequest.setMerchantAccount("MagentoMerchantTest");
+        return paymentsRequest;
+    }
+
+    static TerminalAPIRequest createTerminalApiRequest() throws DatatypeConfigurationException {
+        MessageHeader messageHeader = new MessageHeader();
+        messageHeader.setProtocolVersion("3.0");
+        messageHeader.setMessageClass(MessageClassType.SERVICE);
+        messageHeader.setMessageCategory(MessageCategoryType.PAYMENT);
+        messageHeader.setMessageType(MessageType.REQUEST);
+        messageHeader.setSaleID("001");
+        messageHeader.setServiceID("001");
+        messageHeader.setPOIID("P400Plus-123456789");
+
+        TransactionIdentification transactionIdentification = new TransactionIdentification();
+        transactionIdentification.setTransactionID("001");
+        transactionIdentification.setTimeStamp(DatatypeFactory.newInstance().newXMLGregorianCalendar(new GregorianCalendar()));
+        SaleData saleData = new SaleData();
+        saleData.setSaleTransactionID(transactionIdentification);
+
+        AmountsReq amountsReq = new AmountsReq();
+        amountsReq.setCurrency("EUR");
+        amountsReq.setRequestedAmount(BigDecimal.ONE);
+        PaymentTransaction paymentTransaction = new PaymentTransaction();
+        paymentTransaction.setAmountsReq(amountsReq);
+
+        PaymentRequest paymentRequest = new PaymentRequest();
+        paymentRequest.setSaleData(saleData);
+        paymentRequest.setPaymentTransaction(paymentTransaction);
+
+        SaleToPOIRequest saleToPOIRequest = new SaleToPOIRequest();
+        saleToPOIRequest.setMessageHeader(messageHeader);
+        saleToPOIRequest.setPaymentRequest(paymentRequest);
+
+        TerminalAPIRequest terminalAPIRequest = new TerminalAPIRequest();
+        terminalAPIRequest.setSaleToPOIRequest(saleToPOIRequest);
+        return terminalAPIRequest;
+    }
+}
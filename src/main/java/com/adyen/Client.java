@@ -22,13 +22,42 @@ package com.adyen;
 
 import com.adyen.enums.Environment;
 import com.adyen.enums.Region;
+import com.adyen.httpclient.AdyenAsyncHttpClient;
+import com.adyen.httpclient.AdyenHttp2Client;
 import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.httpclient.AsyncClientInterface;
 import com.adyen.httpclient.ClientInterface;
+import com.adyen.cache.CostEstimateCache;
+import com.adyen.cache.CostEstimateCacheConfig;
+import com.adyen.cache.PaymentMethodsCache;
+import com.adyen.cache.PaymentMethodsCacheConfig;
+import com.adyen.circuitbreaker.CircuitBreakerConfig;
+import com.adyen.circuitbreaker.CircuitBreakerRegistry;
+import com.adyen.concurrency.ConcurrencyLimiterConfig;
+import com.adyen.concurrency.ConcurrencyLimiterRegistry;
+import com.adyen.metrics.ApiCallListener;
+import com.adyen.metrics.InstrumentedJsonCodec;
+import com.adyen.retry.RetryPolicy;
+import com.adyen.serializer.GsonJsonCodec;
+import com.adyen.serializer.JsonCodec;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.security.KeyStore;
 
-public class Client {
-    private ClientInterface httpClient;
+public class Client implements Closeable {
+    private volatile ClientInterface httpClient;
+    private volatile AsyncClientInterface asyncHttpClient;
+    // the HTTP clients created by this client, as opposed to the ones passed in by the caller
+    private ClientInterface ownedHttpClient;
+    private AsyncClientInterface ownedAsyncHttpClient;
+    private volatile JsonCodec jsonCodec = GsonJsonCodec.DEFAULT;
+    private volatile ApiCallListener apiCallListener = ApiCallListener.NO_OP;
+    private volatile CircuitBreakerRegistry circuitBreakerRegistry;
+    private volatile ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private volatile PaymentMethodsCache paymentMethodsCache;
+    private volatile CostEstimateCache costEstimateCache;
+    private volatile JsonCodec serviceJsonCodec = GsonJsonCodec.DEFAULT;
     private Config config;
 
     public static final String ENDPOINT_TEST = "https://pal-test.adyen.com";
@@ -225,13 +254,106 @@ public class Client {
     }
 
     public ClientInterface getHttpClient() {
-        return this.httpClient == null ? new AdyenHttpClient() : this.httpClient;
+        ClientInterface client = this.httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = this.httpClient;
+                if (client == null) {
+                    client = config.isHttp2Enabled() ? getOwnedHttp2Client() : new AdyenHttpClient();
+                    this.httpClient = client;
+                    this.ownedHttpClient = client;
+                }
+            }
+        }
+        return client;
     }
 
     public void setHttpClient(ClientInterface httpClient) {
         this.httpClient = httpClient;
     }
 
+    public AsyncClientInterface getAsyncHttpClient() {
+        AsyncClientInterface client = this.asyncHttpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = this.asyncHttpClient;
+                if (client == null) {
+                    client = config.isHttp2Enabled() ? getOwnedHttp2Client() : new AdyenAsyncHttpClient();
+                    this.asyncHttpClient = client;
+                    this.ownedAsyncHttpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    public void setAsyncHttpClient(AsyncClientInterface asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    /**
+     * Returns the HTTP/2 client serving both blocking and non-blocking calls, so they multiplex over one connection.
+     */
+    private synchronized AdyenHttp2Client getOwnedHttp2Client() {
+        if (ownedHttpClient instanceof AdyenHttp2Client) {
+            return (AdyenHttp2Client) ownedHttpClient;
+        }
+        if (ownedAsyncHttpClient instanceof AdyenHttp2Client) {
+            return (AdyenHttp2Client) ownedAsyncHttpClient;
+        }
+        return new AdyenHttp2Client();
+    }
+
+    public JsonCodec getJsonCodec() {
+        return jsonCodec;
+    }
+
+    /**
+     * Sets the codec the services use to convert requests and responses to and from JSON. Defaults to {@link GsonJsonCodec}.
+     * Terminal API requests keep using their own Gson setup, as the Terminal API models depend on it.
+     *
+     * @param jsonCodec json codec
+     */
+    public void setJsonCodec(JsonCodec jsonCodec) {
+        if (jsonCodec == null) {
+            throw new IllegalArgumentException("jsonCodec is required");
+        }
+        synchronized (this) {
+            this.jsonCodec = jsonCodec;
+            updateServiceJsonCodec();
+        }
+    }
+
+    /**
+     * @return codec the services use, reporting to the API call listener when one is set
+     */
+    JsonCodec getServiceJsonCodec() {
+        return serviceJsonCodec;
+    }
+
+    public ApiCallListener getApiCallListener() {
+        return apiCallListener;
+    }
+
+    /**
+     * Sets the listener receiving the timing of each API call and JSON conversion, for metrics or tracing.
+     * Defaults to {@link ApiCallListener#NO_OP}, which skips the measurements altogether.
+     *
+     * @param apiCallListener API call listener
+     */
+    public void setApiCallListener(ApiCallListener apiCallListener) {
+        if (apiCallListener == null) {
+            throw new IllegalArgumentException("apiCallListener is required");
+        }
+        synchronized (this) {
+            this.apiCallListener = apiCallListener;
+            updateServiceJsonCodec();
+        }
+    }
+
+    private void updateServiceJsonCodec() {
+        serviceJsonCodec = apiCallListener == ApiCallListener.NO_OP ? jsonCodec : new InstrumentedJsonCodec(jsonCodec, apiCallListener);
+    }
 
     public Config getConfig() {
         return config;
@@ -250,4 +372,167 @@ public class Client {
         this.config.setReadTimeoutMillis(readTimeoutMillis);
     }
 
+    /**
+     * @param retryPolicy retry policy, null to disable retries
+     * @see Config#setRetryPolicy(RetryPolicy)
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.config.setRetryPolicy(retryPolicy);
+    }
+
+    /**
+     * @param circuitBreakerConfig circuit breaker settings, null to disable circuit breakers
+     * @see Config#setCircuitBreakerConfig(CircuitBreakerConfig)
+     */
+    public void setCircuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+        this.config.setCircuitBreakerConfig(circuitBreakerConfig);
+    }
+
+    /**
+     * Returns the circuit breakers of the endpoints, to observe their state.
+     * The registry is replaced, and the breakers reset, when the circuit breaker settings change.
+     *
+     * @return circuit breaker registry, null when circuit breakers are disabled
+     */
+    public CircuitBreakerRegistry getCircuitBreakerRegistry() {
+        CircuitBreakerConfig circuitBreakerConfig = config != null ? config.getCircuitBreakerConfig() : null;
+        if (circuitBreakerConfig == null) {
+            return null;
+        }
+        CircuitBreakerRegistry registry = circuitBreakerRegistry;
+        if (registry == null || registry.getConfig() != circuitBreakerConfig) {
+            synchronized (this) {
+                registry = circuitBreakerRegistry;
+                if (registry == null || registry.getConfig() != circuitBreakerConfig) {
+                    registry = new CircuitBreakerRegistry(circuitBreakerConfig,
+                            (circuitBreaker, from, to) -> apiCallListener.onCircuitBreakerStateChange(circuitBreaker, from, to));
+                    circuitBreakerRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * @param concurrencyLimiterConfig concurrency limiter settings, null to disable concurrency limits
+     * @see Config#setConcurrencyLimiterConfig(ConcurrencyLimiterConfig)
+     */
+    public void setConcurrencyLimiterConfig(ConcurrencyLimiterConfig concurrencyLimiterConfig) {
+        this.config.setConcurrencyLimiterConfig(concurrencyLimiterConfig);
+    }
+
+    /**
+     * Returns the concurrency limiters of the merchant accounts, to observe their limit.
+     * The registry is replaced, and the limits reset, when the concurrency limiter settings change.
+     *
+     * @return concurrency limiter registry, null when concurrency limits are disabled
+     */
+    public ConcurrencyLimiterRegistry getConcurrencyLimiterRegistry() {
+        ConcurrencyLimiterConfig concurrencyLimiterConfig = config != null ? config.getConcurrencyLimiterConfig() : null;
+        if (concurrencyLimiterConfig == null) {
+            return null;
+        }
+        ConcurrencyLimiterRegistry registry = concurrencyLimiterRegistry;
+        if (registry == null || registry.getConfig() != concurrencyLimiterConfig) {
+            synchronized (this) {
+                registry = concurrencyLimiterRegistry;
+                if (registry == null || registry.getConfig() != concurrencyLimiterConfig) {
+                    registry = new ConcurrencyLimiterRegistry(concurrencyLimiterConfig);
+                    concurrencyLimiterRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * @param paymentMethodsCacheConfig cache settings, null to disable the cache
+     * @see Config#setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig)
+     */
+    public void setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig paymentMethodsCacheConfig) {
+        this.config.setPaymentMethodsCacheConfig(paymentMethodsCacheConfig);
+    }
+
+    /**
+     * Returns the cache of the payment methods responses, to read its statistics or invalidate it.
+     * The cache is replaced, and emptied, when the cache settings change.
+     *
+     * @return payment methods cache, null when disabled
+     */
+    public PaymentMethodsCache getPaymentMethodsCache() {
+        PaymentMethodsCacheConfig paymentMethodsCacheConfig = config != null ? config.getPaymentMethodsCacheConfig() : null;
+        if (paymentMethodsCacheConfig == null) {
+            return null;
+        }
+        PaymentMethodsCache cache = paymentMethodsCache;
+        if (cache == null || cache.getConfig() != paymentMethodsCacheConfig) {
+            synchronized (this) {
+                cache = paymentMethodsCache;
+                if (cache == null || cache.getConfig() != paymentMethodsCacheConfig) {
+                    cache = new PaymentMethodsCache(paymentMethodsCacheConfig);
+                    paymentMethodsCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * @param costEstimateCacheConfig cache settings, null to disable the cache
+     * @see Config#setCostEstimateCacheConfig(CostEstimateCacheConfig)
+     */
+    public void setCostEstimateCacheConfig(CostEstimateCacheConfig costEstimateCacheConfig) {
+        this.config.setCostEstimateCacheConfig(costEstimateCacheConfig);
+    }
+
+    /**
+     * Returns the cache of the cost estimate responses, to read its statistics or invalidate it.
+     * The cache is replaced, and emptied, when the cache settings change.
+     *
+     * @return cost estimate cache, null when disabled
+     */
+    public CostEstimateCache getCostEstimateCache() {
+        CostEstimateCacheConfig costEstimateCacheConfig = config != null ? config.getCostEstimateCacheConfig() : null;
+        if (costEstimateCacheConfig == null) {
+            return null;
+        }
+        CostEstimateCache cache = costEstimateCache;
+        if (cache == null || cache.getConfig() != costEstimateCacheConfig) {
+            synchronized (this) {
+                cache = costEstimateCache;
+                if (cache == null || cache.getConfig() != costEstimateCacheConfig) {
+                    cache = new CostEstimateCache(costEstimateCacheConfig);
+                    costEstimateCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Releases the resources held by the HTTP clients this client created, such as pooled connections.
+     * HTTP clients passed in with {@link #setHttpClient(ClientInterface)} or {@link #setAsyncHttpClient(AsyncClientInterface)}
+     * are left open, as their lifecycle belongs to the caller.
+     * The client can still be used afterwards, but a new connection pool will be created.
+     *
+     * @throws IOException IOException
+     */
+    @Override
+    public void close() throws IOException {
+        ClientInterface client;
+        AsyncClientInterface asyncClient;
+        synchronized (this) {
+            client = this.ownedHttpClient;
+            asyncClient = this.ownedAsyncHttpClient;
+        }
+        try {
+            if (client != null) {
+                client.close();
+            }
+        } finally {
+            if (asyncClient != null && asyncClient != client) {
+                asyncClient.close();
+            }
+        }
+    }
 }
@@ -21,6 +21,11 @@
 package com.adyen;
 
 import com.adyen.enums.Environment;
+import com.adyen.cache.CostEstimateCacheConfig;
+import com.adyen.cache.PaymentMethodsCacheConfig;
+import com.adyen.circuitbreaker.CircuitBreakerConfig;
+import com.adyen.concurrency.ConcurrencyLimiterConfig;
+import com.adyen.retry.RetryPolicy;
 import com.adyen.util.CertificateUtil;
 
 import java.io.FileNotFoundException;
@@ -69,6 +74,26 @@ public class Config {
     protected KeyStore trustKeyStore;
     protected KeyStore clientKeyStore;
     protected String clientKeyStorePassword;
+    protected int sslSessionCacheSize;
+    protected int sslSessionTimeoutSeconds;
+
+    // Connection pooling
+    protected boolean connectionPoolEnabled;
+    protected int connectionPoolMaxTotal;
+    protected int connectionPoolMaxPerRoute;
+    protected int connectionIdleTimeoutMillis;
+    protected int connectionTimeToLiveMillis;
+    protected int connectionValidateAfterInactivityMillis;
+
+    protected boolean http2Enabled;
+    protected RetryPolicy retryPolicy;
+    protected CircuitBreakerConfig circuitBreakerConfig;
+    protected ConcurrencyLimiterConfig concurrencyLimiterConfig;
+    protected PaymentMethodsCacheConfig paymentMethodsCacheConfig;
+    protected CostEstimateCacheConfig costEstimateCacheConfig;
+
+    // Local Terminal API connection reuse
+    protected boolean terminalConnectionReuseEnabled;
 
     public Config() {
         // do nothing
@@ -270,4 +295,192 @@ public class Config {
     public void setClientKeyStorePassword(String clientKeyStorePassword) {
         this.clientKeyStorePassword = clientKeyStorePassword;
     }
+
+    public int getSslSessionCacheSize() {
+        return sslSessionCacheSize;
+    }
+
+    /**
+     * @param sslSessionCacheSize number of TLS sessions kept for resumption with client or terminal certificates, 0 for the JDK default
+     */
+    public void setSslSessionCacheSize(int sslSessionCacheSize) {
+        this.sslSessionCacheSize = sslSessionCacheSize;
+    }
+
+    public int getSslSessionTimeoutSeconds() {
+        return sslSessionTimeoutSeconds;
+    }
+
+    /**
+     * @param sslSessionTimeoutSeconds how long a TLS session can be resumed with client or terminal certificates, 0 for the JDK default
+     */
+    public void setSslSessionTimeoutSeconds(int sslSessionTimeoutSeconds) {
+        this.sslSessionTimeoutSeconds = sslSessionTimeoutSeconds;
+    }
+
+    public boolean isConnectionPoolEnabled() {
+        return connectionPoolEnabled;
+    }
+
+    /**
+     * Enables a long-lived, pooled HTTP client that is reused across requests instead of opening
+     * a new connection (and TLS handshake) per API call. The pool is released by {@link Client#close()}.
+     *
+     * @param connectionPoolEnabled true to reuse pooled connections
+     */
+    public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+        this.connectionPoolEnabled = connectionPoolEnabled;
+    }
+
+    public int getConnectionPoolMaxTotal() {
+        return connectionPoolMaxTotal;
+    }
+
+    public void setConnectionPoolMaxTotal(int connectionPoolMaxTotal) {
+        this.connectionPoolMaxTotal = connectionPoolMaxTotal;
+    }
+
+    public int getConnectionPoolMaxPerRoute() {
+        return connectionPoolMaxPerRoute;
+    }
+
+    public void setConnectionPoolMaxPerRoute(int connectionPoolMaxPerRoute) {
+        this.connectionPoolMaxPerRoute = connectionPoolMaxPerRoute;
+    }
+
+    public int getConnectionIdleTimeoutMillis() {
+        return connectionIdleTimeoutMillis;
+    }
+
+    /**
+     * @param connectionIdleTimeoutMillis pooled connections idle for longer than this are evicted
+     */
+    public void setConnectionIdleTimeoutMillis(int connectionIdleTimeoutMillis) {
+        this.connectionIdleTimeoutMillis = connectionIdleTimeoutMillis;
+    }
+
+    public int getConnectionTimeToLiveMillis() {
+        return connectionTimeToLiveMillis;
+    }
+
+    /**
+     * @param connectionTimeToLiveMillis maximum lifetime of a pooled connection, regardless of activity
+     */
+    public void setConnectionTimeToLiveMillis(int connectionTimeToLiveMillis) {
+        this.connectionTimeToLiveMillis = connectionTimeToLiveMillis;
+    }
+
+    public int getConnectionValidateAfterInactivityMillis() {
+        return connectionValidateAfterInactivityMillis;
+    }
+
+    /**
+     * @param connectionValidateAfterInactivityMillis pooled connections idle for longer than this are checked before being leased
+     */
+    public void setConnectionValidateAfterInactivityMillis(int connectionValidateAfterInactivityMillis) {
+        this.connectionValidateAfterInactivityMillis = connectionValidateAfterInactivityMillis;
+    }
+
+    public boolean isTerminalConnectionReuseEnabled() {
+        return terminalConnectionReuseEnabled;
+    }
+
+    /**
+     * Keeps connections to local terminals open between requests, so the several requests of a sale share one TLS session.
+     * Connections are pooled per terminal certificate and environment, health checked after
+     * {@link #setConnectionValidateAfterInactivityMillis(int)} and evicted after {@link #setConnectionIdleTimeoutMillis(int)}.
+     * They are released by {@link Client#close()}.
+     *
+     * @param terminalConnectionReuseEnabled true to reuse connections to local terminals
+     */
+    public void setTerminalConnectionReuseEnabled(boolean terminalConnectionReuseEnabled) {
+        this.terminalConnectionReuseEnabled = terminalConnectionReuseEnabled;
+    }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * Makes {@link Client} send requests over HTTP/2, multiplexing concurrent requests to the same host over one connection.
+     * Takes effect when the client creates its HTTP clients, so set it before the first request.
+     * HTTPS endpoints must support HTTP/2 through ALPN, which requires Java 8u252 or later.
+     *
+     * @param http2Enabled true to use {@link com.adyen.httpclient.AdyenHttp2Client}
+     */
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Retries API calls failing with a transient error, such as a connection reset or a 503, according to the policy.
+     * The automatic retries of the underlying HTTP clients are then disabled, so the policy decides on all retries.
+     * Long-lived HTTP clients read this when they are created, so set it before the first request.
+     *
+     * @param retryPolicy retry policy, null to disable retries
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    /**
+     * Guards each endpoint with a circuit breaker: once its calls fail at the configured rate, further calls fail fast
+     * with a {@link com.adyen.service.exception.CircuitBreakerOpenException} until probe calls succeed again.
+     *
+     * @param circuitBreakerConfig circuit breaker settings, null to disable circuit breakers
+     */
+    public void setCircuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+        this.circuitBreakerConfig = circuitBreakerConfig;
+    }
+
+    public ConcurrencyLimiterConfig getConcurrencyLimiterConfig() {
+        return concurrencyLimiterConfig;
+    }
+
+    /**
+     * Limits the concurrent API calls of each merchant account, adapting the limit to the latency and 429 responses
+     * observed. Calls over the limit wait, and fail with a {@link com.adyen.service.exception.ConcurrencyLimitExceededException}
+     * when the wait is too long. The merchant account is read from the request, or else from {@link #getMerchantAccount()}.
+     *
+     * @param concurrencyLimiterConfig concurrency limiter settings, null to disable concurrency limits
+     */
+    public void setConcurrencyLimiterConfig(ConcurrencyLimiterConfig concurrencyLimiterConfig) {
+        this.concurrencyLimiterConfig = concurrencyLimiterConfig;
+    }
+
+    public PaymentMethodsCacheConfig getPaymentMethodsCacheConfig() {
+        return paymentMethodsCacheConfig;
+    }
+
+    /**
+     * Caches the responses of {@link com.adyen.service.Checkout#paymentMethods(com.adyen.model.checkout.PaymentMethodsRequest)},
+     * which rarely change for the same merchant account, country, amount and channel.
+     *
+     * @param paymentMethodsCacheConfig cache settings, null to disable the cache
+     */
+    public void setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig paymentMethodsCacheConfig) {
+        this.paymentMethodsCacheConfig = paymentMethodsCacheConfig;
+    }
+
+    public CostEstimateCacheConfig getCostEstimateCacheConfig() {
+        return costEstimateCacheConfig;
+    }
+
+    /**
+     * Caches the responses of {@link com.adyen.service.BinLookup#getCostEstimate(com.adyen.model.binlookup.CostEstimateRequest)}
+     * per card BIN, so that repeated BINs do not each cost an API call.
+     *
+     * @param costEstimateCacheConfig cache settings, null to disable the cache
+     */
+    public void setCostEstimateCacheConfig(CostEstimateCacheConfig costEstimateCacheConfig) {
+        this.costEstimateCacheConfig = costEstimateCacheConfig;
+    }
 }
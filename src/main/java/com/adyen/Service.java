@@ -20,11 +20,17 @@
  */
 package com.adyen;
 
+import com.adyen.serializer.GsonJsonCodec;
+import com.adyen.serializer.JsonCodec;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 public class Service {
 
+    /**
+     * @deprecated use {@link #getJsonCodec()}, which honours the codec configured on the client
+     */
+    @Deprecated
     protected static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
     private boolean isApiKeyRequired = false;
     private Client client;
@@ -41,6 +47,17 @@ public class Service {
         this.client = client;
     }
 
+    /**
+     * Returns the codec of the client, used to convert requests and responses to and from JSON.
+     *
+     * @return json codec
+     */
+    public JsonCodec getJsonCodec() {
+        JsonCodec jsonCodec = client.getServiceJsonCodec();
+        // a mocked client has no codec
+        return jsonCodec != null ? jsonCodec : GsonJsonCodec.DEFAULT;
+    }
+
     public boolean isApiKeyRequired() {
         return isApiKeyRequired;
     }
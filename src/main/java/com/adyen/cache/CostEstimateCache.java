@@ -0,0 +1,158 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.model.binlookup.CostEstimateRequest;
+import com.adyen.model.binlookup.CostEstimateResponse;
+import com.adyen.service.exception.ApiException;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * BIN-keyed cache of the JSON responses of {@link com.adyen.service.BinLookup#getCostEstimate(CostEstimateRequest)},
+ * refreshing the frequently used entries in the background before they expire.
+ * <p>
+ * A cached response is shared by the cards of the same BIN, so the fields describing the card itself are taken from
+ * the current request: the card summary is set to the last four digits of its card number. The cost estimate amount
+ * is only returned for the amount it was estimated for; see {@link CostEstimateCacheConfig.Builder#amountBandSize(long)}.
+ */
+public final class CostEstimateCache {
+
+    private final CostEstimateCacheConfig config;
+    private final ResponseCache<Object, Estimate> responses;
+
+    public CostEstimateCache(CostEstimateCacheConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config is required");
+        }
+        this.config = config;
+        this.responses = new ResponseCache<>(config.getTtlNanos(), config.getRefreshAfterNanos(), config.getMaxEntries());
+    }
+
+    public CostEstimateCacheConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @param costEstimateRequest request
+     * @param loader calls the API on a miss, or when the request bypasses the cache
+     * @param refresher starts the API call reloading an entry due for a refresh
+     * @param parser reads a JSON response
+     * @return response, with the card summary of the request, and without the cost estimate amount when the cached
+     * one was estimated for another amount of the band
+     * @throws ApiException when the API call fails
+     * @throws IOException when the API call fails
+     */
+    public CostEstimateResponse get(CostEstimateRequest costEstimateRequest, ResponseCache.Loader<String> loader,
+            Supplier<CompletableFuture<String>> refresher, Function<String, CostEstimateResponse> parser) throws ApiException, IOException {
+        Object key = config.getKey(costEstimateRequest);
+        if (key == null) {
+            return parser.apply(loader.load());
+        }
+        Long amountValue = costEstimateRequest.getAmount() != null ? costEstimateRequest.getAmount().getValue() : null;
+        Estimate estimate = responses.get(key,
+                () -> new Estimate(loader.load(), amountValue),
+                () -> refresher.get().thenApply(json -> new Estimate(json, amountValue)));
+        return read(estimate, costEstimateRequest, amountValue, parser);
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(CostEstimateRequest, ResponseCache.Loader, Supplier, Function)}.
+     *
+     * @param costEstimateRequest request
+     * @param loader starts the API call on a miss, on a refresh, or when the request bypasses the cache
+     * @param parser reads a JSON response
+     * @return future completing with the response, adapted to the request as by the blocking variant
+     */
+    public CompletableFuture<CostEstimateResponse> getAsync(CostEstimateRequest costEstimateRequest, Supplier<CompletableFuture<String>> loader,
+            Function<String, CostEstimateResponse> parser) {
+        Object key = config.getKey(costEstimateRequest);
+        if (key == null) {
+            return loader.get().thenApply(parser);
+        }
+        Long amountValue = costEstimateRequest.getAmount() != null ? costEstimateRequest.getAmount().getValue() : null;
+        return responses.getAsync(key, () -> loader.get().thenApply(json -> new Estimate(json, amountValue)))
+                .thenApply(estimate -> read(estimate, costEstimateRequest, amountValue, parser));
+    }
+
+    private static CostEstimateResponse read(Estimate estimate, CostEstimateRequest costEstimateRequest, Long amountValue,
+            Function<String, CostEstimateResponse> parser) {
+        CostEstimateResponse costEstimateResponse = parser.apply(estimate.json);
+        if (costEstimateResponse != null) {
+            if (costEstimateResponse.getCardBin() != null && costEstimateResponse.getCardBin().getSummary() != null) {
+                costEstimateResponse.getCardBin().setSummary(lastFourDigits(costEstimateRequest.getCardNumber()));
+            }
+            if (!Objects.equals(estimate.amountValue, amountValue)) {
+                costEstimateResponse.setCostEstimateAmount(null);
+            }
+        }
+        return costEstimateResponse;
+    }
+
+    /**
+     * Removes all responses.
+     */
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    public int size() {
+        return responses.size();
+    }
+
+    /**
+     * @return snapshot of the statistics, excluding the requests bypassing the cache
+     */
+    public CacheStats stats() {
+        return responses.stats();
+    }
+
+    /**
+     * @return last four digits of the card number, ignoring separators
+     */
+    private static String lastFourDigits(String cardNumber) {
+        StringBuilder digits = new StringBuilder(4);
+        for (int i = cardNumber.length() - 1; i >= 0 && digits.length() < 4; i--) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.reverse().toString();
+    }
+
+    /**
+     * JSON response with the amount it was estimated for.
+     */
+    private static final class Estimate {
+        private final String json;
+        private final Long amountValue;
+
+        Estimate(String json, Long amountValue) {
+            this.json = json;
+            this.amountValue = amountValue;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.model.binlookup.CostEstimateAssumptions;
+import com.adyen.model.binlookup.CostEstimateRequest;
+import com.adyen.model.binlookup.MerchantDetails;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of the cache of {@link com.adyen.service.BinLookup#getCostEstimate(CostEstimateRequest)} responses, set with
+ * {@link com.adyen.Config#setCostEstimateCacheConfig(CostEstimateCacheConfig)}.
+ * <p>
+ * Requests are keyed on the BIN, the leading digits of the card number, with the merchant account, currency, amount band,
+ * shopper interaction, assumptions and merchant details. Requests without a card number, such as those with an
+ * encrypted card or a stored payment method, bypass the cache: their BIN is not known before the call.
+ */
+public final class CostEstimateCacheConfig {
+
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final int maxEntries;
+    private final int binLength;
+    private final long amountBandSize;
+
+    private CostEstimateCacheConfig(Builder builder) {
+        this.ttlNanos = builder.ttlNanos;
+        this.refreshAfterNanos = builder.refreshAfterNanos >= 0 ? builder.refreshAfterNanos : builder.ttlNanos / 4 * 3;
+        this.maxEntries = builder.maxEntries;
+        this.binLength = builder.binLength;
+        this.amountBandSize = builder.amountBandSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return cache settings with the defaults: 10000 entries kept for an hour and refreshed after 45 minutes,
+     * keyed on 6-digit BINs and the exact amount
+     */
+    public static CostEstimateCacheConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public long getTtlNanos() {
+        return ttlNanos;
+    }
+
+    public long getRefreshAfterNanos() {
+        return refreshAfterNanos;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int getBinLength() {
+        return binLength;
+    }
+
+    public long getAmountBandSize() {
+        return amountBandSize;
+    }
+
+    /**
+     * @param costEstimateRequest request
+     * @return cache key of the request, null when it must bypass the cache
+     */
+    public Object getKey(CostEstimateRequest costEstimateRequest) {
+        String bin = bin(costEstimateRequest.getCardNumber());
+        if (bin == null) {
+            return null;
+        }
+        String currency = null;
+        Long amountBand = null;
+        if (costEstimateRequest.getAmount() != null) {
+            currency = costEstimateRequest.getAmount().getCurrency();
+            Long value = costEstimateRequest.getAmount().getValue();
+            amountBand = value != null ? Math.floorDiv(value, amountBandSize) : null;
+        }
+        return Arrays.asList(costEstimateRequest.getMerchantAccount(), bin, currency, amountBand,
+                costEstimateRequest.getShopperInteraction(), assumptionsKey(costEstimateRequest.getAssumptions()),
+                merchantDetailsKey(costEstimateRequest.getMerchantDetails()));
+    }
+
+    /**
+     * Copies the assumptions into the key, so that changing those of the request does not change a cached key.
+     */
+    private static List<Object> assumptionsKey(CostEstimateAssumptions assumptions) {
+        if (assumptions == null) {
+            return null;
+        }
+        return Arrays.asList(assumptions.isAssume3DSecureAuthenticated(), assumptions.isAssumeLevel3Data(), assumptions.getInstallments());
+    }
+
+    /**
+     * Copies the merchant details into the key, so that changing those of the request does not change a cached key.
+     */
+    private static List<Object> merchantDetailsKey(MerchantDetails merchantDetails) {
+        if (merchantDetails == null) {
+            return null;
+        }
+        return Arrays.asList(merchantDetails.getCountryCode(), merchantDetails.isEnrolledIn3DSecure(), merchantDetails.getMcc());
+    }
+
+    /**
+     * @return leading digits of the card number, ignoring separators, null when it is too short
+     */
+    private String bin(String cardNumber) {
+        if (cardNumber == null) {
+            return null;
+        }
+        StringBuilder bin = new StringBuilder(binLength);
+        for (int i = 0; i < cardNumber.length() && bin.length() < binLength; i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                bin.append(c);
+            }
+        }
+        return bin.length() == binLength ? bin.toString() : null;
+    }
+
+    /**
+     * Builder of {@link CostEstimateCacheConfig}.
+     */
+    public static final class Builder {
+        private long ttlNanos = TimeUnit.HOURS.toNanos(1);
+        // negative for three quarters of the ttl
+        private long refreshAfterNanos = -1;
+        private int maxEntries = 10000;
+        private int binLength = 6;
+        private long amountBandSize = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * @param ttl time a response is served from the cache
+         * @param unit unit of the time
+         * @return builder
+         */
+        public Builder ttl(long ttl, TimeUnit unit) {
+            if (ttl <= 0) {
+                throw new IllegalArgumentException("ttl must be positive");
+            }
+            this.ttlNanos = unit.toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets the age after which a hit reloads the response in the background, three quarters of the ttl by default.
+         *
+         * @param refreshAfter age of the response, 0 to disable refresh-ahead
+         * @param unit unit of the age
+         * @return builder
+         */
+        public Builder refreshAfter(long refreshAfter, TimeUnit unit) {
+            if (refreshAfter < 0) {
+                throw new IllegalArgumentException("refreshAfter must not be negative");
+            }
+            this.refreshAfterNanos = unit.toNanos(refreshAfter);
+            return this;
+        }
+
+        /**
+         * @param maxEntries number of responses kept, the least recently used being evicted first
+         * @return builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * @param binLength number of leading card number digits in the key, from 6 to 11
+         * @return builder
+         */
+        public Builder binLength(int binLength) {
+            if (binLength < 6 || binLength > 11) {
+                throw new IllegalArgumentException("binLength must be between 6 and 11");
+            }
+            this.binLength = binLength;
+            return this;
+        }
+
+        /**
+         * Makes amounts in the same band share a cached response, such as 1000 to group amounts per 10.00 EUR.
+         * A band only approximates the amount: a response cached for another amount of the band is returned without
+         * its cost estimate amount, as the surcharge does not scale with the amount, keeping the card details, result
+         * code and surcharge type.
+         *
+         * @param amountBandSize band size in minor units, 1 to key on the exact amount
+         * @return builder
+         */
+        public Builder amountBandSize(long amountBandSize) {
+            if (amountBandSize < 1) {
+                throw new IllegalArgumentException("amountBandSize must be at least 1");
+            }
+            this.amountBandSize = amountBandSize;
+            return this;
+        }
+
+        public CostEstimateCacheConfig build() {
+            if (refreshAfterNanos >= ttlNanos) {
+                throw new IllegalArgumentException("refreshAfter must be shorter than the ttl");
+            }
+            return new CostEstimateCacheConfig(this);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.service.exception.ApiException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the JSON responses of {@link com.adyen.service.Checkout#paymentMethods(PaymentMethodsRequest)}.
+ * Responses are cached as JSON so that each caller gets its own response object.
+ */
+public final class PaymentMethodsCache {
+
+    private final PaymentMethodsCacheConfig config;
+    private final ResponseCache<Object, String> responses;
+
+    public PaymentMethodsCache(PaymentMethodsCacheConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config is required");
+        }
+        this.config = config;
+        this.responses = new ResponseCache<>(config.getTtlNanos(), config.getMaxEntries());
+    }
+
+    public PaymentMethodsCacheConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @param paymentMethodsRequest request
+     * @param loader calls the API on a miss, or when the request bypasses the cache
+     * @return JSON response
+     * @throws ApiException when the API call fails
+     * @throws IOException when the API call fails
+     */
+    public String get(PaymentMethodsRequest paymentMethodsRequest, ResponseCache.Loader<String> loader) throws ApiException, IOException {
+        Object key = config.getKey(paymentMethodsRequest);
+        return key != null ? responses.get(key, loader) : loader.load();
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(PaymentMethodsRequest, ResponseCache.Loader)}.
+     *
+     * @param paymentMethodsRequest request
+     * @param loader starts the API call on a miss, or when the request bypasses the cache
+     * @return future completing with the JSON response
+     */
+    public CompletableFuture<String> getAsync(PaymentMethodsRequest paymentMethodsRequest, Supplier<CompletableFuture<String>> loader) {
+        Object key = config.getKey(paymentMethodsRequest);
+        return key != null ? responses.getAsync(key, loader) : loader.get();
+    }
+
+    /**
+     * Removes all responses, for instance after changing the payment methods settings of a merchant account.
+     */
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    public int size() {
+        return responses.size();
+    }
+
+    /**
+     * @return snapshot of the statistics, excluding the requests bypassing the cache
+     */
+    public CacheStats stats() {
+        return responses.stats();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.model.checkout.PaymentMethodsRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Settings of the cache of {@link com.adyen.service.Checkout#paymentMethods(PaymentMethodsRequest)} responses, set with
+ * {@link com.adyen.Config#setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig)}.
+ * <p>
+ * By default requests are keyed on their merchant account, country, currency, amount bucket, channel, shopper locale,
+ * store, configuration and payment method filters. Requests carrying shopper or order details, such as
+ * additionalData, accountInfo, splits or order, bypass the cache, and so do requests with a shopperReference, whose
+ * response lists the stored payment methods of the shopper, unless the cache is partitioned per shopper.
+ */
+public final class PaymentMethodsCacheConfig {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long amountBucketSize;
+    private final boolean partitionByShopper;
+    private final Function<PaymentMethodsRequest, Object> keyExtractor;
+
+    private PaymentMethodsCacheConfig(Builder builder) {
+        this.ttlNanos = builder.ttlNanos;
+        this.maxEntries = builder.maxEntries;
+        this.amountBucketSize = builder.amountBucketSize;
+        this.partitionByShopper = builder.partitionByShopper;
+        this.keyExtractor = builder.keyExtractor != null ? builder.keyExtractor : this::defaultKey;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return cache settings with the defaults: 1000 entries kept for 5 minutes, keyed on the exact amount
+     */
+    public static PaymentMethodsCacheConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public long getTtlNanos() {
+        return ttlNanos;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getAmountBucketSize() {
+        return amountBucketSize;
+    }
+
+    public boolean isPartitionByShopper() {
+        return partitionByShopper;
+    }
+
+    /**
+     * @param paymentMethodsRequest request
+     * @return cache key of the request, null when it must bypass the cache
+     */
+    public Object getKey(PaymentMethodsRequest paymentMethodsRequest) {
+        return keyExtractor.apply(paymentMethodsRequest);
+    }
+
+    private Object defaultKey(PaymentMethodsRequest request) {
+        if (request.getAdditionalData() != null || request.getAccountInfo() != null || request.getMerchantRiskIndicator() != null
+                || request.getSplits() != null || request.getTrustedShopper() != null || request.getOrder() != null
+                || (request.getShopperReference() != null && !partitionByShopper)) {
+            return null;
+        }
+        String currency = null;
+        Long amountBucket = null;
+        if (request.getAmount() != null) {
+            currency = request.getAmount().getCurrency();
+            Long value = request.getAmount().getValue();
+            amountBucket = value != null ? Math.floorDiv(value, amountBucketSize) : null;
+        }
+        return Arrays.asList(request.getMerchantAccount(), request.getCountryCode(), currency, amountBucket,
+                request.getChannel(), request.getShopperLocale(), request.getStore(), request.getConfigId(),
+                sortedCopy(request.getAllowedPaymentMethods()), sortedCopy(request.getBlockedPaymentMethods()),
+                request.isSplitCardFundingSources(), request.isThreeDSAuthenticationOnly(), request.getShopperReference());
+    }
+
+    /**
+     * Copies the payment method types into the key, so that changing the list of the request does not change a cached
+     * key, and sorts them, as their order does not change the response.
+     */
+    private static List<String> sortedCopy(List<String> paymentMethodTypes) {
+        if (paymentMethodTypes == null) {
+            return null;
+        }
+        List<String> copy = new ArrayList<>(paymentMethodTypes);
+        copy.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+        return Collections.unmodifiableList(copy);
+    }
+
+    /**
+     * Builder of {@link PaymentMethodsCacheConfig}.
+     */
+    public static final class Builder {
+        private long ttlNanos = TimeUnit.MINUTES.toNanos(5);
+        private int maxEntries = 1000;
+        private long amountBucketSize = 1;
+        private boolean partitionByShopper;
+        private Function<PaymentMethodsRequest, Object> keyExtractor;
+
+        private Builder() {
+        }
+
+        /**
+         * @param ttl time a response is served from the cache
+         * @param unit unit of the time
+         * @return builder
+         */
+        public Builder ttl(long ttl, TimeUnit unit) {
+            if (ttl <= 0) {
+                throw new IllegalArgumentException("ttl must be positive");
+            }
+            this.ttlNanos = unit.toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * @param maxEntries number of responses kept, the least recently used being evicted first
+         * @return builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Makes amounts in the same bucket share a response, such as 1000 to group amounts per 10.00 EUR.
+         * Only use it when the payment methods offered do not depend on amount thresholds within a bucket.
+         *
+         * @param amountBucketSize bucket size in minor units, 1 to key on the exact amount
+         * @return builder
+         */
+        public Builder amountBucketSize(long amountBucketSize) {
+            if (amountBucketSize < 1) {
+                throw new IllegalArgumentException("amountBucketSize must be at least 1");
+            }
+            this.amountBucketSize = amountBucketSize;
+            return this;
+        }
+
+        /**
+         * @param partitionByShopper true to cache the responses of requests with a shopperReference per shopper,
+         *                           false to make them bypass the cache
+         * @return builder
+         */
+        public Builder partitionByShopper(boolean partitionByShopper) {
+            this.partitionByShopper = partitionByShopper;
+            return this;
+        }
+
+        /**
+         * Replaces the default key. Keys must implement equals and hashCode, and tell apart all the requests whose
+         * response can differ.
+         *
+         * @param keyExtractor cache key of a request, returning null for requests that must bypass the cache
+         * @return builder
+         */
+        public Builder keyExtractor(Function<PaymentMethodsRequest, Object> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+            return this;
+        }
+
+        public PaymentMethodsCacheConfig build() {
+            return new PaymentMethodsCacheConfig(this);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.service.exception.ApiException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of API responses, with a time to live, a maximum number of entries evicted least recently used first,
+ * and request coalescing: concurrent misses on the same key share a single load.
+ * <p>
+ * With refresh-ahead, a hit on an entry older than the refresh time still returns the cached value, and reloads it
+ * in the background so that frequently used entries do not expire.
+ * <p>
+ * Failed loads are not cached. Entries loaded while the cache was being invalidated are discarded.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public final class ResponseCache<K, V> {
+
+    /**
+     * Loads the value of a missing key.
+     *
+     * @param <V> type of the value
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws ApiException, IOException;
+    }
+
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> loads = new HashMap<>();
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private long evictionCount;
+    private long refreshCount;
+
+    /**
+     * @param ttlNanos time an entry is served after being loaded
+     * @param maxEntries number of entries kept
+     */
+    public ResponseCache(long ttlNanos, int maxEntries) {
+        this(ttlNanos, 0, maxEntries);
+    }
+
+    /**
+     * @param ttlNanos time an entry is served after being loaded
+     * @param refreshAfterNanos time after which a hit reloads the entry in the background, 0 to disable refresh-ahead
+     * @param maxEntries number of entries kept
+     */
+    public ResponseCache(long ttlNanos, long refreshAfterNanos, int maxEntries) {
+        if (ttlNanos <= 0 || refreshAfterNanos < 0 || maxEntries < 1) {
+            throw new IllegalArgumentException("ttl must be positive, refreshAfter not negative and maxEntries at least 1");
+        }
+        this.ttlNanos = ttlNanos;
+        this.refreshAfterNanos = refreshAfterNanos;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached value of the key, loading it on a miss, or waiting for the load already started by another caller.
+     *
+     * @param key key of the value
+     * @param loader loader of the value, called on the calling thread
+     * @return value
+     * @throws ApiException when the load fails with an ApiException
+     * @throws IOException when the load fails with an IOException
+     */
+    public V get(K key, Loader<V> loader) throws ApiException, IOException {
+        return get(key, loader, null);
+    }
+
+    /**
+     * Variant of {@link #get(Object, Loader)} refreshing the entries ahead of their expiry.
+     *
+     * @param key key of the value
+     * @param loader loader of the value, called on the calling thread on a miss
+     * @param refresher starts the background reload of the value, null to disable refresh-ahead
+     * @return value
+     * @throws ApiException when the load fails with an ApiException
+     * @throws IOException when the load fails with an IOException
+     */
+    public V get(K key, Loader<V> loader, Supplier<CompletableFuture<V>> refresher) throws ApiException, IOException {
+        Entry<V> entry;
+        boolean refresh = false;
+        boolean loading = false;
+        CompletableFuture<V> load = null;
+        long currentGeneration;
+        synchronized (this) {
+            currentGeneration = generation;
+            entry = lookup(key);
+            if (entry != null) {
+                refresh = refresher != null && startRefresh(entry);
+            } else {
+                load = loads.get(key);
+                if (load == null) {
+                    load = new CompletableFuture<>();
+                    loads.put(key, load);
+                    loading = true;
+                }
+            }
+        }
+        if (entry != null) {
+            if (refresh) {
+                refresh(key, entry, currentGeneration, refresher);
+            }
+            return entry.value;
+        }
+        if (!loading) {
+            return await(load);
+        }
+        try {
+            V value = loader.load();
+            loaded(key, load, currentGeneration, value);
+            return value;
+        } catch (ApiException | IOException | RuntimeException | Error e) {
+            failed(key, load, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(Object, Loader)}, refreshing the entries ahead of their expiry when enabled.
+     *
+     * @param key key of the value
+     * @param loader starts the load of the value
+     * @return future completing with the value, or exceptionally with the failure of the load
+     */
+    public CompletableFuture<V> getAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        Entry<V> entry;
+        boolean refresh = false;
+        boolean loading = false;
+        CompletableFuture<V> load = null;
+        long currentGeneration;
+        synchronized (this) {
+            currentGeneration = generation;
+            entry = lookup(key);
+            if (entry != null) {
+                refresh = startRefresh(entry);
+            } else {
+                load = loads.get(key);
+                if (load == null) {
+                    load = new CompletableFuture<>();
+                    loads.put(key, load);
+                    loading = true;
+                }
+            }
+        }
+        if (entry != null) {
+            if (refresh) {
+                refresh(key, entry, currentGeneration, loader);
+            }
+            return CompletableFuture.completedFuture(entry.value);
+        }
+        if (loading) {
+            CompletableFuture<V> sharedLoad = load;
+            try {
+                loader.get().whenComplete((value, throwable) -> {
+                    if (throwable == null) {
+                        loaded(key, sharedLoad, currentGeneration, value);
+                    } else {
+                        failed(key, sharedLoad, throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                    }
+                });
+            } catch (RuntimeException e) {
+                failed(key, sharedLoad, e);
+            }
+        }
+        // callers get their own future, so that they cannot complete the shared one
+        return load.thenApply(value -> value);
+    }
+
+    /**
+     * Removes the entry of a key.
+     *
+     * @param key key of the entry
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        loads.remove(key);
+    }
+
+    /**
+     * Removes all entries, and discards the values of the loads in progress.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        loads.clear();
+        generation++;
+    }
+
+    /**
+     * @return number of entries, including the expired ones not evicted yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return snapshot of the statistics since the cache was created
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(hitCount, missCount, loadSuccessCount, loadFailureCount, evictionCount, refreshCount);
+    }
+
+    private Entry<V> lookup(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                hitCount++;
+                return entry;
+            }
+            entries.remove(key);
+        }
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Marks the entry as being refreshed when it is due for a refresh and no refresh is in progress.
+     */
+    private boolean startRefresh(Entry<V> entry) {
+        if (refreshAfterNanos == 0 || entry.refreshing || System.nanoTime() - entry.loadedAt < refreshAfterNanos) {
+            return false;
+        }
+        entry.refreshing = true;
+        refreshCount++;
+        return true;
+    }
+
+    /**
+     * Reloads an entry in the background, keeping the current value when the reload fails.
+     */
+    private void refresh(K key, Entry<V> entry, long refreshGeneration, Supplier<CompletableFuture<V>> refresher) {
+        CompletableFuture<V> reload;
+        try {
+            reload = refresher.get();
+        } catch (RuntimeException e) {
+            reload = new CompletableFuture<>();
+            reload.completeExceptionally(e);
+        }
+        reload.whenComplete((value, throwable) -> {
+            synchronized (this) {
+                if (throwable == null) {
+                    loadSuccessCount++;
+                    store(key, refreshGeneration, value);
+                } else {
+                    // the current value is served until it expires
+                    loadFailureCount++;
+                    entry.refreshing = false;
+                }
+            }
+        });
+    }
+
+    private void loaded(K key, CompletableFuture<V> load, long loadGeneration, V value) {
+        synchronized (this) {
+            loadSuccessCount++;
+            if (loads.get(key) == load) {
+                loads.remove(key);
+            }
+            store(key, loadGeneration, value);
+        }
+        load.complete(value);
+    }
+
+    private void store(K key, long loadGeneration, V value) {
+        if (value == null || loadGeneration != generation) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime()));
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries) {
+            eldest.next();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    private void failed(K key, CompletableFuture<V> load, Throwable failure) {
+        synchronized (this) {
+            loadFailureCount++;
+            if (loads.get(key) == load) {
+                loads.remove(key);
+            }
+        }
+        load.completeExceptionally(failure);
+    }
+
+    private static <V> V await(CompletableFuture<V> load) throws ApiException, IOException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the load of a cache entry");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException) {
+                throw (ApiException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Cached value with its load time, in {@link System#nanoTime()} units.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+        // guarded by the cache
+        private boolean refreshing;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
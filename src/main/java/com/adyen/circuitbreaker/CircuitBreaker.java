@@ -0,0 +1,248 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.circuitbreaker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of one endpoint, tracking the outcome of its most recent calls.
+ * <p>
+ * Closed, it lets all calls through and opens when the failure rate reaches the threshold. Open, it rejects calls until
+ * the open duration has elapsed, then turns half-open and lets a limited number of probe calls through: the breaker
+ * closes when they all succeed and opens again on the first failure.
+ * <p>
+ * Each call let through holds a {@link Permit} stamped with the state it was granted in. Outcomes reported after the
+ * breaker changed state are ignored, so calls started while closed do not count as half-open probes.
+ */
+public final class CircuitBreaker {
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Observer of the state transitions of circuit breakers.
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateChange(CircuitBreaker circuitBreaker, State from, State to);
+    }
+
+    private final String endpoint;
+    private final CircuitBreakerConfig config;
+    private final StateListener stateListener;
+    // outcomes of the last calls, true for failures
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    // incremented on every transition, stale permits carry an older value
+    private long generation;
+    private long openedAt;
+    private int halfOpenCalls;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(String endpoint, CircuitBreakerConfig config, StateListener stateListener) {
+        this.endpoint = endpoint;
+        this.config = config;
+        this.stateListener = stateListener;
+        this.window = new boolean[config.getSlidingWindowSize()];
+    }
+
+    /**
+     * @return endpoint template of the breaker, such as {@code https://checkout-test.adyen.com/checkout/v68/payments}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return percentage of failed calls in the sliding window, or -1 when fewer calls than the minimum were recorded
+     */
+    public synchronized float getFailureRate() {
+        if (windowCount < config.getMinimumNumberOfCalls()) {
+            return -1;
+        }
+        return windowFailures * 100f / windowCount;
+    }
+
+    /**
+     * @return number of calls in the sliding window
+     */
+    public synchronized int getNumberOfCalls() {
+        return windowCount;
+    }
+
+    /**
+     * @return time left before an open breaker lets probe calls through, 0 when it is not open
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(config.getOpenDurationNanos() - (System.nanoTime() - openedAt)));
+    }
+
+    /**
+     * Asks to let a call through. Calls let through must report their outcome with {@link Permit#onSuccess(long)}
+     * or {@link Permit#onFailure()}.
+     *
+     * @return permit of the call, null when the call must be rejected
+     */
+    public Permit tryAcquirePermission() {
+        State from;
+        Permit permit;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return new Permit(generation);
+            }
+            from = state;
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < config.getOpenDurationNanos()) {
+                    return null;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (halfOpenCalls >= config.getPermittedHalfOpenCalls()) {
+                return null;
+            }
+            halfOpenCalls++;
+            permit = new Permit(generation);
+        }
+        notifyTransition(from, State.HALF_OPEN);
+        return permit;
+    }
+
+    /**
+     * Closes the breaker and clears its window.
+     */
+    public void reset() {
+        State from;
+        synchronized (this) {
+            from = state;
+            transitionTo(State.CLOSED);
+        }
+        notifyTransition(from, State.CLOSED);
+    }
+
+    private void onResult(long permitGeneration, boolean failure) {
+        State from;
+        State to;
+        synchronized (this) {
+            if (permitGeneration != generation) {
+                // granted before the last transition
+                return;
+            }
+            from = state;
+            if (state == State.CLOSED) {
+                record(failure);
+                if (windowCount >= config.getMinimumNumberOfCalls() && windowFailures * 100 >= config.getFailureRateThreshold() * windowCount) {
+                    transitionTo(State.OPEN);
+                }
+            } else if (state == State.HALF_OPEN) {
+                if (failure) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= config.getPermittedHalfOpenCalls()) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            to = state;
+        }
+        notifyTransition(from, to);
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        generation++;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        halfOpenCalls = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+    }
+
+    private void notifyTransition(State from, State to) {
+        if (from != to && stateListener != null) {
+            stateListener.onStateChange(this, from, to);
+        }
+    }
+
+    /**
+     * Permission to make one call, reporting the outcome of the call to the breaker that granted it.
+     */
+    public final class Permit {
+        private final long generation;
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+
+        /**
+         * Records a successful call, counted as a failure when slower than the slow call threshold.
+         *
+         * @param durationNanos duration of the call
+         */
+        public void onSuccess(long durationNanos) {
+            long slowCallDurationNanos = config.getSlowCallDurationNanos();
+            onResult(generation, slowCallDurationNanos > 0 && durationNanos > slowCallDurationNanos);
+        }
+
+        /**
+         * Records a failed call.
+         */
+        public void onFailure() {
+            onResult(generation, true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{endpoint='" + endpoint + "', state=" + getState() + ", failureRate=" + getFailureRate() + '}';
+    }
+}
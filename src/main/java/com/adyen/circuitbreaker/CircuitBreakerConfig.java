@@ -0,0 +1,162 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.circuitbreaker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of the per-endpoint circuit breakers, set with {@link com.adyen.Config#setCircuitBreakerConfig(CircuitBreakerConfig)}.
+ * <p>
+ * A breaker opens when the failure rate over the last calls to its endpoint reaches the threshold. Failures are I/O errors,
+ * such as read timeouts, 5xx responses and, when a slow call threshold is set, calls slower than it.
+ * While open, calls fail fast for the open duration; the breaker then lets a few probe calls through and closes
+ * when they all succeed.
+ */
+public final class CircuitBreakerConfig {
+
+    private final int failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long openDurationNanos;
+    private final int permittedHalfOpenCalls;
+    private final long slowCallDurationNanos;
+
+    private CircuitBreakerConfig(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = Math.min(builder.minimumNumberOfCalls, builder.slidingWindowSize);
+        this.openDurationNanos = builder.openDurationNanos;
+        this.permittedHalfOpenCalls = builder.permittedHalfOpenCalls;
+        this.slowCallDurationNanos = builder.slowCallDurationNanos;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return breaker settings with the defaults: opens at 50% failures over the last 20 calls, for 30 seconds
+     */
+    public static CircuitBreakerConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public long getOpenDurationNanos() {
+        return openDurationNanos;
+    }
+
+    public int getPermittedHalfOpenCalls() {
+        return permittedHalfOpenCalls;
+    }
+
+    public long getSlowCallDurationNanos() {
+        return slowCallDurationNanos;
+    }
+
+    /**
+     * Builder of {@link CircuitBreakerConfig}.
+     */
+    public static final class Builder {
+        private int failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private long openDurationNanos = TimeUnit.SECONDS.toNanos(30);
+        private int permittedHalfOpenCalls = 3;
+        private long slowCallDurationNanos;
+
+        private Builder() {
+        }
+
+        /**
+         * @param failureRateThreshold percentage of failed calls, from 1 to 100, opening the breaker
+         * @return builder
+         */
+        public Builder failureRateThreshold(int failureRateThreshold) {
+            if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+                throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100");
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * @param slidingWindowSize number of most recent calls the failure rate is computed over
+         * @param minimumNumberOfCalls number of calls needed before the failure rate is evaluated
+         * @return builder
+         */
+        public Builder slidingWindow(int slidingWindowSize, int minimumNumberOfCalls) {
+            if (slidingWindowSize < 1 || minimumNumberOfCalls < 1) {
+                throw new IllegalArgumentException("slidingWindowSize and minimumNumberOfCalls must be at least 1");
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /**
+         * @param openDuration time calls fail fast once the breaker opened, before probe calls are let through
+         * @param unit unit of the duration
+         * @return builder
+         */
+        public Builder openDuration(long openDuration, TimeUnit unit) {
+            this.openDurationNanos = unit.toNanos(openDuration);
+            return this;
+        }
+
+        /**
+         * @param permittedHalfOpenCalls number of probe calls that must succeed to close the breaker again
+         * @return builder
+         */
+        public Builder permittedHalfOpenCalls(int permittedHalfOpenCalls) {
+            if (permittedHalfOpenCalls < 1) {
+                throw new IllegalArgumentException("permittedHalfOpenCalls must be at least 1");
+            }
+            this.permittedHalfOpenCalls = permittedHalfOpenCalls;
+            return this;
+        }
+
+        /**
+         * @param slowCallDuration duration above which a successful call counts as a failure, 0 to disable
+         * @param unit unit of the duration
+         * @return builder
+         */
+        public Builder slowCallDuration(long slowCallDuration, TimeUnit unit) {
+            this.slowCallDurationNanos = unit.toNanos(slowCallDuration);
+            return this;
+        }
+
+        public CircuitBreakerConfig build() {
+            return new CircuitBreakerConfig(this);
+        }
+    }
+}
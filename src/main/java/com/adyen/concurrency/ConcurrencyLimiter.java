@@ -0,0 +1,298 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.concurrency;
+
+import com.adyen.service.exception.ConcurrencyLimitExceededException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limit of the concurrent calls of one merchant account.
+ * <p>
+ * Calls take a permit before being sent and report their outcome, which releases it, with {@link #onSuccess(long)},
+ * {@link #onLimited(long)} or {@link #release()}. Calls finding no permit wait in a first-in first-out queue.
+ */
+public final class ConcurrencyLimiter {
+
+    private final String merchantAccount;
+    private final ConcurrencyLimiterConfig config;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int limit;
+    private int inFlight;
+    private boolean paused;
+    private long pausedUntil;
+    private boolean drainScheduled;
+
+    ConcurrencyLimiter(String merchantAccount, ConcurrencyLimiterConfig config) {
+        this.merchantAccount = merchantAccount;
+        this.config = config;
+        this.limit = config.getInitialLimit();
+    }
+
+    /**
+     * @return merchant account of the limiter, empty for the calls without merchant account
+     */
+    public String getMerchantAccount() {
+        return merchantAccount;
+    }
+
+    /**
+     * @return current number of concurrent calls allowed
+     */
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueSize() {
+        return waiters.size();
+    }
+
+    /**
+     * Takes a permit, waiting for one up to the maximum wait.
+     *
+     * @throws ConcurrencyLimitExceededException when no permit was available in time, or the queue is full
+     * @throws InterruptedException when the thread was interrupted while waiting
+     */
+    public void acquire() throws ConcurrencyLimitExceededException, InterruptedException {
+        Waiter waiter = enqueue();
+        try {
+            waiter.future.get();
+        } catch (InterruptedException e) {
+            abandon(waiter);
+            throw e;
+        } catch (ExecutionException e) {
+            throw (ConcurrencyLimitExceededException) e.getCause();
+        }
+    }
+
+    /**
+     * Takes a permit without blocking.
+     *
+     * @return future completing once the permit is taken, or exceptionally with a {@link ConcurrencyLimitExceededException}
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        return enqueue().future;
+    }
+
+    /**
+     * Releases the permit of a successful call, growing the limit when it was in use, or shrinking it when the call was slow.
+     *
+     * @param latencyNanos duration of the call
+     */
+    public void onSuccess(long latencyNanos) {
+        long latencyThresholdNanos = config.getLatencyThresholdNanos();
+        synchronized (this) {
+            if (latencyThresholdNanos > 0 && latencyNanos > latencyThresholdNanos) {
+                decreaseLimit();
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(config.getMaxLimit(), limit + 1);
+            }
+            inFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * Releases the permit of a call rejected with a 429 response, shrinking the limit.
+     *
+     * @param retryAfterMillis time to hold back all calls, from the Retry-After header, 0 when absent
+     */
+    public void onLimited(long retryAfterMillis) {
+        synchronized (this) {
+            decreaseLimit();
+            inFlight--;
+            if (retryAfterMillis > 0) {
+                long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis);
+                if (!paused || until - pausedUntil > 0) {
+                    pausedUntil = until;
+                }
+                paused = true;
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Releases the permit of a call whose outcome says nothing about the load, such as a validation error.
+     */
+    public void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    private Waiter enqueue() {
+        Waiter waiter = new Waiter();
+        long drainDelay;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (waiters.isEmpty() && hasCapacity(now)) {
+                inFlight++;
+                waiter.future.complete(null);
+                return waiter;
+            }
+            if (waiters.size() >= config.getMaxQueueSize()) {
+                waiter.future.completeExceptionally(new ConcurrencyLimitExceededException(merchantAccount, limit));
+                return waiter;
+            }
+            waiters.add(waiter);
+            drainDelay = drainDelay(now);
+        }
+        waiter.timeout = Scheduler.INSTANCE.schedule(() -> timeout(waiter), config.getMaxWaitNanos(), TimeUnit.NANOSECONDS);
+        scheduleDrain(drainDelay);
+        return waiter;
+    }
+
+    /**
+     * Hands the free permits to the waiting calls, in arrival order.
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        long drainDelay;
+        synchronized (this) {
+            long now = System.nanoTime();
+            while (!waiters.isEmpty() && hasCapacity(now)) {
+                Waiter waiter = waiters.poll();
+                waiter.granted = true;
+                inFlight++;
+                granted.add(waiter);
+            }
+            drainDelay = drainDelay(now);
+        }
+        scheduleDrain(drainDelay);
+        for (Waiter waiter : granted) {
+            ScheduledFuture<?> timeout = waiter.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            waiter.future.complete(null);
+        }
+    }
+
+    private boolean hasCapacity(long now) {
+        if (paused) {
+            if (now - pausedUntil < 0) {
+                return false;
+            }
+            paused = false;
+        }
+        return inFlight < limit;
+    }
+
+    /**
+     * Returns the delay before the waiting calls can be let through at the end of a pause, or -1 when no drain needs scheduling.
+     */
+    private long drainDelay(long now) {
+        if (!paused || waiters.isEmpty() || drainScheduled) {
+            return -1;
+        }
+        drainScheduled = true;
+        return Math.max(0, pausedUntil - now);
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        if (delayNanos < 0) {
+            return;
+        }
+        Scheduler.INSTANCE.schedule(() -> {
+            synchronized (this) {
+                drainScheduled = false;
+            }
+            drain();
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void decreaseLimit() {
+        limit = Math.max(config.getMinLimit(), (int) (limit * config.getBackoffRatio()));
+    }
+
+    private void timeout(Waiter waiter) {
+        int currentLimit;
+        synchronized (this) {
+            if (!waiters.remove(waiter)) {
+                return;
+            }
+            currentLimit = limit;
+        }
+        waiter.future.completeExceptionally(new ConcurrencyLimitExceededException(merchantAccount, currentLimit));
+    }
+
+    /**
+     * Gives up waiting, releasing the permit when it was granted in the meantime.
+     */
+    private void abandon(Waiter waiter) {
+        boolean release;
+        synchronized (this) {
+            release = !waiters.remove(waiter) && waiter.granted;
+        }
+        if (release) {
+            release();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter{merchantAccount='" + merchantAccount + "', limit=" + getLimit() + ", inFlight=" + getInFlight() + '}';
+    }
+
+    /**
+     * Call waiting for a permit.
+     */
+    private static final class Waiter {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        // guarded by the limiter
+        private boolean granted;
+        private volatile ScheduledFuture<?> timeout;
+    }
+
+    /**
+     * Holder of the thread timing out the waiting calls and ending the pauses, created on first use.
+     */
+    private static final class Scheduler {
+        private static final ScheduledThreadPoolExecutor INSTANCE = createScheduler();
+
+        private Scheduler() {
+        }
+
+        private static ScheduledThreadPoolExecutor createScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "adyen-concurrency-limiter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of the per-merchant account concurrency limiters, set with {@link com.adyen.Config#setConcurrencyLimiterConfig(ConcurrencyLimiterConfig)}.
+ * <p>
+ * The limit of concurrent calls adapts to the responses (additive increase, multiplicative decrease): it grows by one
+ * while calls succeed with the limit in use, and shrinks by the backoff ratio on a 429 response or a call slower than
+ * the latency threshold. A 429 response with a Retry-After header also holds back all calls until the given time.
+ * Calls over the limit wait in a queue, and fail when the wait or the queue size exceeds its bound.
+ */
+public final class ConcurrencyLimiterConfig {
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final long maxWaitNanos;
+    private final int maxQueueSize;
+
+    private ConcurrencyLimiterConfig(Builder builder) {
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.initialLimit = Math.max(minLimit, Math.min(maxLimit, builder.initialLimit));
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyThresholdNanos = builder.latencyThresholdNanos;
+        this.maxWaitNanos = builder.maxWaitNanos;
+        this.maxQueueSize = builder.maxQueueSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return limiter settings with the defaults: 20 concurrent calls to start with, between 1 and 200
+     */
+    public static ConcurrencyLimiterConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public long getLatencyThresholdNanos() {
+        return latencyThresholdNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Builder of {@link ConcurrencyLimiterConfig}.
+     */
+    public static final class Builder {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private long latencyThresholdNanos = TimeUnit.SECONDS.toNanos(2);
+        private long maxWaitNanos = TimeUnit.SECONDS.toNanos(5);
+        private int maxQueueSize = 1000;
+
+        private Builder() {
+        }
+
+        /**
+         * @param initialLimit concurrent calls allowed before any response was observed
+         * @return builder
+         */
+        public Builder initialLimit(int initialLimit) {
+            if (initialLimit < 1) {
+                throw new IllegalArgumentException("initialLimit must be at least 1");
+            }
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * @param minLimit lowest limit the backoff can reach
+         * @param maxLimit highest limit the increase can reach
+         * @return builder
+         */
+        public Builder limits(int minLimit, int maxLimit) {
+            if (minLimit < 1 || maxLimit < minLimit) {
+                throw new IllegalArgumentException("minLimit must be at least 1 and not above maxLimit");
+            }
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * @param backoffRatio factor applied to the limit on a 429 response or slow call, between 0.1 and 1 excluded
+         * @return builder
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (backoffRatio < 0.1 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("backoffRatio must be between 0.1 and 1 excluded");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * @param latencyThreshold duration above which a successful call shrinks the limit, 0 to only react to 429 responses
+         * @param unit unit of the duration
+         * @return builder
+         */
+        public Builder latencyThreshold(long latencyThreshold, TimeUnit unit) {
+            this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+            return this;
+        }
+
+        /**
+         * @param maxWait longest time a call waits in the queue before failing
+         * @param unit unit of the duration
+         * @return builder
+         */
+        public Builder maxWait(long maxWait, TimeUnit unit) {
+            this.maxWaitNanos = unit.toNanos(maxWait);
+            return this;
+        }
+
+        /**
+         * @param maxQueueSize number of calls that can wait, further calls fail immediately
+         * @return builder
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("maxQueueSize must not be negative");
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public ConcurrencyLimiterConfig build() {
+            return new ConcurrencyLimiterConfig(this);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.concurrency;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrency limiters of a client, one per merchant account, created on first use.
+ */
+public final class ConcurrencyLimiterRegistry {
+
+    private final ConcurrentMap<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+    private final ConcurrencyLimiterConfig config;
+
+    public ConcurrencyLimiterRegistry(ConcurrencyLimiterConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config is required");
+        }
+        this.config = config;
+    }
+
+    public ConcurrencyLimiterConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @param merchantAccount merchant account of the call, null or empty for calls without one, which share a limiter
+     * @return concurrency limiter of the merchant account
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter(String merchantAccount) {
+        return concurrencyLimiters.computeIfAbsent(merchantAccount != null ? merchantAccount : "", key -> new ConcurrencyLimiter(key, config));
+    }
+
+    /**
+     * @return concurrency limiters of the merchant accounts called so far
+     */
+    public Collection<ConcurrencyLimiter> getConcurrencyLimiters() {
+        return Collections.unmodifiableCollection(concurrencyLimiters.values());
+    }
+}
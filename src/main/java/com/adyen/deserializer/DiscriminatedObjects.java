@@ -0,0 +1,96 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.deserializer;
+
+import com.adyen.serializer.GeneratedTypeAdapter;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Reads objects whose class is named by a string member, the discriminator, buffering only the members in front of it.
+ */
+final class DiscriminatedObjects {
+
+    private DiscriminatedObjects() {
+    }
+
+    /**
+     * Opens the object and reads its members up to and including the discriminator, or all of them when it has none.
+     *
+     * @param in reader positioned at the object
+     * @param discriminator name of the discriminator
+     * @param elementAdapter adapter reading the members in front of the discriminator
+     * @return members read, the discriminator last when found
+     * @throws IOException IOException
+     */
+    static JsonObject readToDiscriminator(JsonReader in, String discriminator, TypeAdapter<JsonElement> elementAdapter) throws IOException {
+        JsonObject members = new JsonObject();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (discriminator.equals(name) && in.peek() == JsonToken.STRING) {
+                members.addProperty(name, in.nextString());
+                break;
+            }
+            members.add(name, elementAdapter.read(in));
+        }
+        return members;
+    }
+
+    /**
+     * @param members members read by {@link #readToDiscriminator(JsonReader, String, TypeAdapter)}
+     * @param discriminator name of the discriminator
+     * @return value of the discriminator, null when the object has none
+     */
+    static String discriminatorValue(JsonObject members, String discriminator) {
+        JsonElement value = members.get(discriminator);
+        return value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString() ? value.getAsString() : null;
+    }
+
+    /**
+     * Binds the object with the adapter of its class. A generated adapter continues straight from the stream; other
+     * adapters can only read an object from its start, so they are given a tree of the whole object.
+     *
+     * @param adapter adapter of the class named by the discriminator
+     * @param members members read by {@link #readToDiscriminator(JsonReader, String, TypeAdapter)}
+     * @param in reader positioned after the members read
+     * @param elementAdapter adapter reading the remaining members for other adapters
+     * @param <T> class named by the discriminator
+     * @return bound object
+     * @throws IOException IOException
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T readRemainder(TypeAdapter<T> adapter, JsonObject members, JsonReader in, TypeAdapter<JsonElement> elementAdapter) throws IOException {
+        if (adapter instanceof GeneratedTypeAdapter) {
+            return ((GeneratedTypeAdapter<T>) adapter).readRemainder(in, members);
+        }
+        while (in.hasNext()) {
+            members.add(in.nextName(), elementAdapter.read(in));
+        }
+        in.endObject();
+        return adapter.fromJsonTree(members);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.deserializer;
+
+import com.adyen.model.marketpay.notification.GenericNotification;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import static com.adyen.deserializer.MarketPayNotificationTypes.EVENT_TYPE;
+
+/**
+ * Streaming deserializer for MarketPay notifications.
+ * Reads up to the event type, then binds the notification class straight from the stream when it has a generated adapter.
+ */
+public class MarketPayNotificationTypeAdapter implements TypeAdapterFactory {
+
+    private final MarketPayNotificationTypes notificationTypes;
+
+    public MarketPayNotificationTypeAdapter() {
+        this(new MarketPayNotificationTypes());
+    }
+
+    public MarketPayNotificationTypeAdapter(MarketPayNotificationTypes notificationTypes) {
+        this.notificationTypes = notificationTypes;
+    }
+
+    public MarketPayNotificationTypes getNotificationTypes() {
+        return notificationTypes;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.getRawType() != GenericNotification.class) {
+            return null;
+        }
+
+        TypeAdapter<GenericNotification> genericAdapter = gson.getDelegateAdapter(this, TypeToken.get(GenericNotification.class));
+        TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+        return (TypeAdapter<T>) new TypeAdapter<GenericNotification>() {
+
+            @Override
+            public void write(JsonWriter out, GenericNotification notification) throws IOException {
+                if (notification == null || notification.getClass() == GenericNotification.class) {
+                    genericAdapter.write(out, notification);
+                    return;
+                }
+                TypeAdapter<GenericNotification> adapter = (TypeAdapter<GenericNotification>) gson.getAdapter(notification.getClass());
+                adapter.write(out, notification);
+            }
+
+            @Override
+            public GenericNotification read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+
+                // Buffer only the members in front of the event type, then bind the rest straight from the stream
+                JsonObject members = DiscriminatedObjects.readToDiscriminator(in, EVENT_TYPE, elementAdapter);
+                String eventType = DiscriminatedObjects.discriminatorValue(members, EVENT_TYPE);
+
+                Class<? extends GenericNotification> notificationClass = notificationTypes.getNotificationClass(eventType);
+                TypeAdapter<? extends GenericNotification> adapter = notificationClass == GenericNotification.class
+                        ? genericAdapter
+                        : gson.getAdapter(notificationClass);
+                return DiscriminatedObjects.readRemainder(adapter, members, in, elementAdapter);
+            }
+        };
+    }
+}
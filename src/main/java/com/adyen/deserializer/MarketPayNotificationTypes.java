@@ -0,0 +1,109 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.deserializer;
+
+import com.adyen.model.marketpay.notification.AccountCloseNotification;
+import com.adyen.model.marketpay.notification.AccountCreateNotification;
+import com.adyen.model.marketpay.notification.AccountFundsBelowThresholdNotification;
+import com.adyen.model.marketpay.notification.AccountHolderCreateNotification;
+import com.adyen.model.marketpay.notification.AccountHolderPayoutNotification;
+import com.adyen.model.marketpay.notification.AccountHolderStatusChangeNotification;
+import com.adyen.model.marketpay.notification.AccountHolderStoreStatusChangeNotification;
+import com.adyen.model.marketpay.notification.AccountHolderUpcomingDeadlineNotification;
+import com.adyen.model.marketpay.notification.AccountHolderUpdateNotification;
+import com.adyen.model.marketpay.notification.AccountHolderVerificationNotification;
+import com.adyen.model.marketpay.notification.AccountUpdateNotification;
+import com.adyen.model.marketpay.notification.BeneficiarySetupNotification;
+import com.adyen.model.marketpay.notification.CompensateNegativeBalanceNotification;
+import com.adyen.model.marketpay.notification.DirectDebitInitiatedNotification;
+import com.adyen.model.marketpay.notification.GenericNotification;
+import com.adyen.model.marketpay.notification.PaymentFailureNotification;
+import com.adyen.model.marketpay.notification.RefundFundsTransferNotification;
+import com.adyen.model.marketpay.notification.ReportAvailableNotification;
+import com.adyen.model.marketpay.notification.ScheduledRefundsNotification;
+import com.adyen.model.marketpay.notification.TransferFundsNotification;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry from MarketPay notification event type to the GenericNotification class it binds to.
+ * Starts with the event types known to this library; new ones can be registered at runtime.
+ */
+public final class MarketPayNotificationTypes {
+
+    static final String EVENT_TYPE = "eventType";
+
+    private final Map<String, Class<? extends GenericNotification>> notificationClasses = new ConcurrentHashMap<>();
+
+    public MarketPayNotificationTypes() {
+        register(GenericNotification.EventTypeEnum.ACCOUNT_CREATED.toString(), AccountCreateNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_CLOSED.toString(), AccountCloseNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_UPDATED.toString(), AccountUpdateNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_FUNDS_BELOW_THRESHOLD.toString(), AccountFundsBelowThresholdNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_HOLDER_CREATED.toString(), AccountHolderCreateNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_HOLDER_VERIFICATION.toString(), AccountHolderVerificationNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_HOLDER_STATUS_CHANGE.toString(), AccountHolderStatusChangeNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_HOLDER_PAYOUT.toString(), AccountHolderPayoutNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_HOLDER_UPDATED.toString(), AccountHolderUpdateNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_HOLDER_STORE_STATUS_CHANGE.toString(), AccountHolderStoreStatusChangeNotification.class);
+        register(GenericNotification.EventTypeEnum.ACCOUNT_HOLDER_UPCOMING_DEADLINE.toString(), AccountHolderUpcomingDeadlineNotification.class);
+        register(GenericNotification.EventTypeEnum.BENEFICIARY_SETUP.toString(), BeneficiarySetupNotification.class);
+        register(GenericNotification.EventTypeEnum.SCHEDULED_REFUNDS.toString(), ScheduledRefundsNotification.class);
+        register(GenericNotification.EventTypeEnum.COMPENSATE_NEGATIVE_BALANCE.toString(), CompensateNegativeBalanceNotification.class);
+        register(GenericNotification.EventTypeEnum.PAYMENT_FAILURE.toString(), PaymentFailureNotification.class);
+        register(GenericNotification.EventTypeEnum.REPORT_AVAILABLE.toString(), ReportAvailableNotification.class);
+        register(GenericNotification.EventTypeEnum.TRANSFER_FUNDS.toString(), TransferFundsNotification.class);
+        register(GenericNotification.EventTypeEnum.DIRECT_DEBIT_INITIATED.toString(), DirectDebitInitiatedNotification.class);
+        register(GenericNotification.EventTypeEnum.PAYOUT_CONFIRMED.toString(), AccountHolderPayoutNotification.class);
+        register(GenericNotification.EventTypeEnum.REFUND_FUNDS_TRANSFER.toString(), RefundFundsTransferNotification.class);
+    }
+
+    /**
+     * Binds notifications of the given event type (case insensitive) to the given class, replacing any previous mapping.
+     *
+     * @param eventType event type
+     * @param notificationClass class to bind the notification to
+     * @return this registry
+     */
+    public MarketPayNotificationTypes register(String eventType, Class<? extends GenericNotification> notificationClass) {
+        if (eventType == null || notificationClass == null) {
+            throw new IllegalArgumentException("eventType and notificationClass are required");
+        }
+        notificationClasses.put(eventType.toUpperCase(Locale.ROOT), notificationClass);
+        return this;
+    }
+
+    /**
+     * Returns the class to bind notifications of the given event type to, GenericNotification when it is unknown.
+     *
+     * @param eventType event type, may be null
+     * @return notification class
+     */
+    public Class<? extends GenericNotification> getNotificationClass(String eventType) {
+        if (eventType == null) {
+            return GenericNotification.class;
+        }
+        Class<? extends GenericNotification> notificationClass = notificationClasses.get(eventType.toUpperCase(Locale.ROOT));
+        return notificationClass != null ? notificationClass : GenericNotification.class;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.deserializer;
+
+import com.adyen.model.checkout.DefaultPaymentMethodDetails;
+import com.adyen.model.checkout.PaymentMethodDetails;
+import com.adyen.model.checkout.details.AchDetails;
+import com.adyen.model.checkout.details.AmazonPayDetails;
+import com.adyen.model.checkout.details.AndroidPayDetails;
+import com.adyen.model.checkout.details.ApplePayDetails;
+import com.adyen.model.checkout.details.BacsDirectDebitDetails;
+import com.adyen.model.checkout.details.BillDeskOnlineDetails;
+import com.adyen.model.checkout.details.BillDeskWalletDetails;
+import com.adyen.model.checkout.details.BlikDetails;
+import com.adyen.model.checkout.details.CellulantDetails;
+import com.adyen.model.checkout.details.DokuDetails;
+import com.adyen.model.checkout.details.DotpayDetails;
+import com.adyen.model.checkout.details.DragonpayDetails;
+import com.adyen.model.checkout.details.EcontextVoucherDetails;
+import com.adyen.model.checkout.details.EntercashDetails;
+import com.adyen.model.checkout.details.GiropayDetails;
+import com.adyen.model.checkout.details.GooglePayDetails;
+import com.adyen.model.checkout.details.IdealDetails;
+import com.adyen.model.checkout.details.KlarnaDetails;
+import com.adyen.model.checkout.details.LianLianPayDetails;
+import com.adyen.model.checkout.details.MasterpassDetails;
+import com.adyen.model.checkout.details.MbwayDetails;
+import com.adyen.model.checkout.details.MobilePayDetails;
+import com.adyen.model.checkout.details.MolPayDetails;
+import com.adyen.model.checkout.details.PayPalDetails;
+import com.adyen.model.checkout.details.PayUUpiDetails;
+import com.adyen.model.checkout.details.QiwiWalletDetails;
+import com.adyen.model.checkout.details.SamsungPayDetails;
+import com.adyen.model.checkout.details.SepaDirectDebitDetails;
+import com.adyen.model.checkout.details.UpiDetails;
+import com.adyen.model.checkout.details.VippsDetails;
+import com.adyen.model.checkout.details.VisaCheckoutDetails;
+import com.adyen.model.checkout.details.WeChatPayDetails;
+import com.adyen.model.checkout.details.WeChatPayMiniProgramDetails;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup table from payment method type to its PaymentMethodDetails class, shared by the Gson and Jackson deserializers.
+ */
+final class PaymentMethodDetailsTypes {
+
+    static final String TYPE = "type";
+
+    private static final Map<String, Class<? extends PaymentMethodDetails>> DETAILS_CLASSES;
+
+    static {
+        Map<String, Class<? extends PaymentMethodDetails>> types = new HashMap<>();
+        types.put(AchDetails.ACH, AchDetails.class);
+        types.put(AmazonPayDetails.AMAZONPAY, AmazonPayDetails.class);
+        types.put(AndroidPayDetails.ANDROIDPAY, AndroidPayDetails.class);
+        types.put(ApplePayDetails.APPLEPAY, ApplePayDetails.class);
+        types.put(BacsDirectDebitDetails.DIRECTDEBIT_GB, BacsDirectDebitDetails.class);
+        types.put(BillDeskOnlineDetails.BILLDESK_ONLINE, BillDeskOnlineDetails.class);
+        types.put(BillDeskWalletDetails.BILLDESK_WALLET, BillDeskWalletDetails.class);
+        types.put(BlikDetails.BLIK, BlikDetails.class);
+        types.put(CellulantDetails.CELLULANT, CellulantDetails.class);
+        types.put(DokuDetails.ALFAMART, DokuDetails.class);
+        types.put(DokuDetails.BCA_VA, DokuDetails.class);
+        types.put(DokuDetails.BNI_VA, DokuDetails.class);
+        types.put(DokuDetails.BRI_VA, DokuDetails.class);
+        types.put(DokuDetails.CIMB_VA, DokuDetails.class);
+        types.put(DokuDetails.DANAMON_VA, DokuDetails.class);
+        types.put(DokuDetails.INDOMARET, DokuDetails.class);
+        types.put(DokuDetails.MANDIRI_VA, DokuDetails.class);
+        types.put(DokuDetails.PERMATA_ATM, DokuDetails.class);
+        types.put(DokuDetails.PERMATA_LITE_ATM, DokuDetails.class);
+        types.put(DokuDetails.SINARMAS_VA, DokuDetails.class);
+        types.put(DotpayDetails.DOTPAY, DotpayDetails.class);
+        types.put(DragonpayDetails.EBANKING, DragonpayDetails.class);
+        types.put(DragonpayDetails.OTC_BANKING, DragonpayDetails.class);
+        types.put(DragonpayDetails.OTC_NON_BANKING, DragonpayDetails.class);
+        types.put(DragonpayDetails.OTC_PHILIPPINES, DragonpayDetails.class);
+        types.put(EcontextVoucherDetails.SEVENELEVEN, EcontextVoucherDetails.class);
+        types.put(EcontextVoucherDetails.STORES, EcontextVoucherDetails.class);
+        types.put(EntercashDetails.ENTERCASH, EntercashDetails.class);
+        types.put(GiropayDetails.GIROPAY, GiropayDetails.class);
+        types.put(GooglePayDetails.GOOGLEPAY, GooglePayDetails.class);
+        types.put(IdealDetails.IDEAL, IdealDetails.class);
+        types.put(KlarnaDetails.KLARNA, KlarnaDetails.class);
+        types.put(KlarnaDetails.KLARNA_ACCOUNT, KlarnaDetails.class);
+        types.put(KlarnaDetails.KLARNA_B2B, KlarnaDetails.class);
+        types.put(KlarnaDetails.KLARNA_PAY_NOW, KlarnaDetails.class);
+        types.put(KlarnaDetails.KLARNA_PAYMENTS, KlarnaDetails.class);
+        types.put(KlarnaDetails.KLARNA_PAYMENTS_ACCOUNT, KlarnaDetails.class);
+        types.put(KlarnaDetails.KLARNA_PAYMENTS_B2B, KlarnaDetails.class);
+        types.put(LianLianPayDetails.EBANKING_CREDIT, LianLianPayDetails.class);
+        types.put(LianLianPayDetails.EBANKING_DEBIT, LianLianPayDetails.class);
+        types.put(LianLianPayDetails.EBANKING_ENTERPRISE, LianLianPayDetails.class);
+        types.put(MasterpassDetails.MASTERPASS, MasterpassDetails.class);
+        types.put(MbwayDetails.MBWAY, MbwayDetails.class);
+        types.put(MobilePayDetails.MOBILEPAY, MobilePayDetails.class);
+        types.put(MolPayDetails.EBANKING_DIRECT_MY, MolPayDetails.class);
+        types.put(MolPayDetails.EBANKING_FPX_MY, MolPayDetails.class);
+        types.put(MolPayDetails.EBANKING_MY, MolPayDetails.class);
+        types.put(MolPayDetails.EBANKING_TH, MolPayDetails.class);
+        types.put(MolPayDetails.EBANKING_VN, MolPayDetails.class);
+        types.put(MolPayDetails.FPX, MolPayDetails.class);
+        types.put(PayPalDetails.PAYPAL, PayPalDetails.class);
+        types.put(PayUUpiDetails.PAYUINUPI, PayUUpiDetails.class);
+        types.put(QiwiWalletDetails.QIWIWALLET, QiwiWalletDetails.class);
+        types.put(SamsungPayDetails.SAMSUNGPAY, SamsungPayDetails.class);
+        types.put(SepaDirectDebitDetails.SEPA_DIRECT_DEBIT, SepaDirectDebitDetails.class);
+        types.put(UpiDetails.UPI, UpiDetails.class);
+        types.put(VippsDetails.VIPPS, VippsDetails.class);
+        types.put(VisaCheckoutDetails.VISA_CHECKOUT, VisaCheckoutDetails.class);
+        types.put(WeChatPayDetails.WECHATPAY, WeChatPayDetails.class);
+        types.put(WeChatPayMiniProgramDetails.WECHATPAYMINIPROGRAM, WeChatPayMiniProgramDetails.class);
+        DETAILS_CLASSES = Collections.unmodifiableMap(types);
+    }
+
+    private PaymentMethodDetailsTypes() {
+    }
+
+    /**
+     * Returns the details class for a payment method type, or DefaultPaymentMethodDetails for unknown or missing types.
+     */
+    static Class<? extends PaymentMethodDetails> getDetailsClass(String type) {
+        if (type == null) {
+            return DefaultPaymentMethodDetails.class;
+        }
+        return DETAILS_CLASSES.getOrDefault(type, DefaultPaymentMethodDetails.class);
+    }
+}
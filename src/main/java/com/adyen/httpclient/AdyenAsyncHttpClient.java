@@ -0,0 +1,310 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.model.RequestOptions;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.net.Proxy;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking HTTP client built on the httpclient5 async client.
+ * <p>
+ * A single I/O reactor and connection pool are created on the first request, using the pool and SSL settings
+ * of that request's {@link Config}, and are kept until {@link #close()} is called. As with {@link AdyenHttpClient},
+ * they are replaced when those settings change or a retry policy is set or removed, as the automatic retries of
+ * httpclient are disabled under a policy; the previous client finishes its requests and is closed once they have
+ * completed. Timeouts are set on each request.
+ */
+public class AdyenAsyncHttpClient implements AsyncClientInterface {
+
+    private Proxy proxy;
+    private volatile ClientSetup clientSetup;
+    private final List<ClientSetup> retiredClients = new ArrayList<>();
+
+    public Proxy getProxy() {
+        return proxy;
+    }
+
+    public void setProxy(Proxy proxy) {
+        this.proxy = proxy;
+    }
+
+    @Override
+    public CompletableFuture<String> requestAsync(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            SimpleHttpRequest httpRequest = createRequest(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+            ClientSetup setup = acquireClient(config);
+            Future<SimpleHttpResponse> future;
+            try {
+                future = execute(setup, httpRequest, result);
+            } catch (RuntimeException e) {
+                releaseClient(setup);
+                throw e;
+            }
+            // Propagate cancellation of the returned future to the in-flight exchange
+            result.whenComplete((response, throwable) -> {
+                if (result.isCancelled()) {
+                    future.cancel(true);
+                }
+            });
+        } catch (HTTPClientException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private Future<SimpleHttpResponse> execute(ClientSetup setup, SimpleHttpRequest httpRequest, CompletableFuture<String> result) {
+        return setup.httpAsyncClient.execute(httpRequest, new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                releaseClient(setup);
+                String body = getBody(response);
+                if (response.getCode() < 200 || response.getCode() >= 300) {
+                    result.completeExceptionally(new HTTPClientException(response.getCode(), "HTTP Exception", AdyenResponseHandler.getHeaders(response.getHeaders()), body));
+                } else {
+                    result.complete(body);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                releaseClient(setup);
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                releaseClient(setup);
+                result.cancel(false);
+            }
+        });
+    }
+
+    /**
+     * Shuts down the I/O reactor and closes pooled connections. A subsequent request creates a new client.
+     */
+    @Override
+    public synchronized void close() {
+        if (clientSetup != null) {
+            clientSetup.retired = true;
+            retiredClients.add(clientSetup);
+            clientSetup = null;
+        }
+        for (ClientSetup retiredClient : retiredClients) {
+            if (retiredClient.closed.compareAndSet(false, true)) {
+                retiredClient.httpAsyncClient.close(CloseMode.GRACEFUL);
+            }
+        }
+        retiredClients.clear();
+    }
+
+    private SimpleHttpRequest createRequest(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws HTTPClientException {
+        // Default to POST if httpMethod is not provided
+        ApiConstants.HttpMethod method = httpMethod == null ? ApiConstants.HttpMethod.POST : httpMethod;
+        SimpleHttpRequest httpRequest = SimpleHttpRequest.create(method.name(), AdyenHttpClient.createUri(endpoint, params));
+        if ((method == ApiConstants.HttpMethod.POST || method == ApiConstants.HttpMethod.PATCH) && requestBody != null && !requestBody.isEmpty()) {
+            httpRequest.setBody(requestBody.getBytes(StandardCharsets.UTF_8), ContentType.APPLICATION_JSON);
+        }
+        httpRequest.setConfig(AdyenHttpClient.createRequestConfig(config, proxy));
+
+        AdyenHttpClient.setAuthentication(httpRequest, isApiKeyRequired, config);
+        AdyenHttpClient.setHeaders(config, requestOptions, httpRequest);
+
+        return httpRequest;
+    }
+
+    /**
+     * Returns the client for the config, held until {@link #releaseClient(ClientSetup)} so that it is not closed
+     * while a request runs on it.
+     */
+    private ClientSetup acquireClient(Config config) throws HTTPClientException {
+        while (true) {
+            ClientSetup setup = getClientSetup(config);
+            setup.calls.incrementAndGet();
+            if (!setup.retired) {
+                return setup;
+            }
+            // retired before it was held, the request goes to the client that replaced it
+            releaseClient(setup);
+        }
+    }
+
+    private void releaseClient(ClientSetup setup) {
+        if (setup.calls.decrementAndGet() == 0 && setup.retired) {
+            closeRetiredClient(setup);
+        }
+    }
+
+    /**
+     * Returns the started client, which is not held: a request sent with it may find it closed when the config
+     * changes meanwhile.
+     */
+    CloseableHttpAsyncClient getHttpAsyncClient(Config config) throws HTTPClientException {
+        return getClientSetup(config).httpAsyncClient;
+    }
+
+    private ClientSetup getClientSetup(Config config) throws HTTPClientException {
+        ClientSetup setup = clientSetup;
+        if (setup == null || !setup.settings.matches(config)) {
+            synchronized (this) {
+                setup = clientSetup;
+                if (setup == null || !setup.settings.matches(config)) {
+                    if (setup != null) {
+                        retireClient(setup);
+                    }
+                    CloseableHttpAsyncClient client = createHttpAsyncClient(config);
+                    client.start();
+                    setup = new ClientSetup(client, new ConnectionSettings(config));
+                    clientSetup = setup;
+                }
+            }
+        }
+        return setup;
+    }
+
+    private void retireClient(ClientSetup setup) {
+        setup.retired = true;
+        if (setup.calls.get() == 0) {
+            closeRetiredClient(setup);
+        } else {
+            retiredClients.add(setup);
+        }
+    }
+
+    /**
+     * Closes the retired client from its own thread, as the last request on it completes on one of its I/O threads,
+     * which a graceful close waits for.
+     */
+    private void closeRetiredClient(ClientSetup setup) {
+        synchronized (this) {
+            retiredClients.remove(setup);
+        }
+        if (setup.closed.compareAndSet(false, true)) {
+            Thread thread = new Thread(() -> setup.httpAsyncClient.close(CloseMode.GRACEFUL), "adyen-async-client-close");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private CloseableHttpAsyncClient createHttpAsyncClient(Config config) throws HTTPClientException {
+        PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder = PoolingAsyncClientConnectionManagerBuilder.create();
+        TlsStrategy tlsStrategy = createTlsStrategy(config);
+        if (tlsStrategy != null) {
+            connectionManagerBuilder.setTlsStrategy(tlsStrategy);
+        }
+        if (config.getConnectionPoolMaxTotal() > 0) {
+            connectionManagerBuilder.setMaxConnTotal(config.getConnectionPoolMaxTotal());
+        }
+        if (config.getConnectionPoolMaxPerRoute() > 0) {
+            connectionManagerBuilder.setMaxConnPerRoute(config.getConnectionPoolMaxPerRoute());
+        }
+        if (config.getConnectionTimeToLiveMillis() > 0) {
+            connectionManagerBuilder.setConnectionTimeToLive(TimeValue.ofMilliseconds(config.getConnectionTimeToLiveMillis()));
+        }
+        if (config.getConnectionValidateAfterInactivityMillis() > 0) {
+            connectionManagerBuilder.setValidateAfterInactivity(TimeValue.ofMilliseconds(config.getConnectionValidateAfterInactivityMillis()));
+        }
+
+        HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManagerBuilder.build())
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                .evictExpiredConnections();
+        if (config.getConnectionIdleTimeoutMillis() > 0) {
+            httpAsyncClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(config.getConnectionIdleTimeoutMillis()));
+        }
+        if (config.getRetryPolicy() != null) {
+            // the retry policy decides on all retries
+            httpAsyncClientBuilder.disableAutomaticRetries();
+        }
+        return httpAsyncClientBuilder.build();
+    }
+
+    /**
+     * Returns the TLS strategy for client certificate or terminal certificate authentication,
+     * or null when the default one should be used.
+     */
+    static TlsStrategy createTlsStrategy(Config config) throws HTTPClientException {
+        SSLContext sslContext = AdyenHttpClient.createSSLContext(config);
+        if (sslContext == null) {
+            return null;
+        }
+        ClientTlsStrategyBuilder tlsStrategyBuilder = ClientTlsStrategyBuilder.create().setSslContext(sslContext);
+        HostnameVerifier hostnameVerifier = AdyenHttpClient.createHostnameVerifier(config);
+        if (hostnameVerifier != null) {
+            tlsStrategyBuilder.setHostnameVerifier(hostnameVerifier);
+        }
+        return tlsStrategyBuilder.build();
+    }
+
+    /**
+     * Started client together with the config values it was built from.
+     */
+    private static final class ClientSetup {
+        private final CloseableHttpAsyncClient httpAsyncClient;
+        private final ConnectionSettings settings;
+        // requests running on the client
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        ClientSetup(CloseableHttpAsyncClient httpAsyncClient, ConnectionSettings settings) {
+            this.httpAsyncClient = httpAsyncClient;
+            this.settings = settings;
+        }
+    }
+
+    private static String getBody(SimpleHttpResponse response) {
+        byte[] body = response.getBodyBytes();
+        if (body == null) {
+            return null;
+        }
+        ContentType contentType = response.getContentType();
+        Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return new String(body, charset);
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.model.RequestOptions;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2MultiplexingRequester;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2MultiplexingRequesterBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.adyen.constants.ApiConstants.HttpMethod.POST;
+
+/**
+ * HTTP/2 client built on the httpcore5 multiplexing requester.
+ * <p>
+ * Keeps one connection per host and multiplexes concurrent requests over it as separate streams, for both the
+ * blocking {@link ClientInterface} and the non-blocking {@link AsyncClientInterface} calls.
+ * The I/O reactor is created on the first request, using the read timeout and SSL settings of that request's
+ * {@link Config}, and is kept until {@link #close()} is called. It is replaced when those settings change;
+ * the previous one finishes its requests and is closed once they have completed.
+ * Blocking calls wait at most the connection timeout plus the read timeout of their {@link Config} for the response,
+ * then reset the stream and throw a {@link SocketTimeoutException}.
+ * HTTPS endpoints are negotiated through ALPN, plain HTTP endpoints are spoken to with prior knowledge.
+ * Proxies are not supported.
+ */
+public class AdyenHttp2Client implements ClientInterface, AsyncClientInterface {
+
+    // httpclient5 default connect timeout
+    private static final Timeout DEFAULT_CONNECT_TIMEOUT = Timeout.ofMinutes(3);
+
+    private volatile RequesterSetup requesterSetup;
+    private final List<RequesterSetup> retiredRequesters = new ArrayList<>();
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, false);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, null);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, POST);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod) throws IOException, HTTPClientException {
+        return request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, null);
+    }
+
+    @Override
+    public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        CompletableFuture<String> response = requestAsync(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+        try {
+            if (config.getReadTimeoutMillis() <= 0) {
+                return response.get();
+            }
+            // the reactor's socket timeout only fires when the whole connection is idle, so bound each stream as well
+            return response.get(config.getConnectionTimeoutMillis() + (long) config.getReadTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // cancelling the future resets the stream, the connection stays open for the other streams
+            response.cancel(true);
+            throw new SocketTimeoutException("Read timed out");
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HTTPClientException) {
+                throw (HTTPClientException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> requestAsync(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            // Default to POST if httpMethod is not provided
+            ApiConstants.HttpMethod method = httpMethod == null ? POST : httpMethod;
+            BasicHttpRequest httpRequest = new BasicHttpRequest(method.name(), AdyenHttpClient.createUri(endpoint, params));
+            AdyenHttpClient.setAuthentication(httpRequest, isApiKeyRequired, config);
+            AdyenHttpClient.setHeaders(config, requestOptions, httpRequest);
+
+            AsyncEntityProducer entityProducer = null;
+            if ((method == POST || method == ApiConstants.HttpMethod.PATCH) && requestBody != null && !requestBody.isEmpty()) {
+                entityProducer = new StringAsyncEntityProducer(requestBody, ContentType.APPLICATION_JSON);
+            }
+            Timeout connectTimeout = config.getConnectionTimeoutMillis() > 0 ? Timeout.ofMilliseconds(config.getConnectionTimeoutMillis()) : DEFAULT_CONNECT_TIMEOUT;
+
+            RequesterSetup setup = acquireRequester(config);
+            Future<Message<HttpResponse, String>> future;
+            try {
+                future = execute(setup, httpRequest, entityProducer, connectTimeout, result);
+            } catch (RuntimeException e) {
+                releaseRequester(setup);
+                throw e;
+            }
+            // Propagate cancellation of the returned future to the in-flight stream
+            result.whenComplete((response, throwable) -> {
+                if (result.isCancelled()) {
+                    future.cancel(true);
+                }
+            });
+        } catch (HTTPClientException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private Future<Message<HttpResponse, String>> execute(RequesterSetup setup, BasicHttpRequest httpRequest, AsyncEntityProducer entityProducer,
+            Timeout connectTimeout, CompletableFuture<String> result) {
+        return setup.requester.execute(
+                new BasicRequestProducer(httpRequest, entityProducer),
+                new BasicResponseConsumer<>(new StringAsyncEntityConsumer()),
+                connectTimeout,
+                new FutureCallback<Message<HttpResponse, String>>() {
+                    @Override
+                    public void completed(Message<HttpResponse, String> message) {
+                        releaseRequester(setup);
+                        HttpResponse response = message.getHead();
+                        if (response.getCode() < 200 || response.getCode() >= 300) {
+                            result.completeExceptionally(new HTTPClientException(response.getCode(), "HTTP Exception", AdyenResponseHandler.getHeaders(response.getHeaders()), message.getBody()));
+                        } else {
+                            result.complete(message.getBody());
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        releaseRequester(setup);
+                        result.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        releaseRequester(setup);
+                        result.cancel(false);
+                    }
+                });
+    }
+
+    /**
+     * Shuts down the I/O reactor and closes open connections. A subsequent request creates a new requester.
+     */
+    @Override
+    public synchronized void close() {
+        if (requesterSetup != null) {
+            requesterSetup.retired = true;
+            retiredRequesters.add(requesterSetup);
+            requesterSetup = null;
+        }
+        for (RequesterSetup retiredRequester : retiredRequesters) {
+            if (retiredRequester.closed.compareAndSet(false, true)) {
+                retiredRequester.requester.close(CloseMode.GRACEFUL);
+            }
+        }
+        retiredRequesters.clear();
+    }
+
+    /**
+     * Returns the requester for the config, held until {@link #releaseRequester(RequesterSetup)} so that it is not
+     * closed while a request runs on it.
+     */
+    private RequesterSetup acquireRequester(Config config) throws HTTPClientException {
+        while (true) {
+            RequesterSetup setup = getRequesterSetup(config);
+            setup.calls.incrementAndGet();
+            if (!setup.retired) {
+                return setup;
+            }
+            // retired before it was held, the request goes to the requester that replaced it
+            releaseRequester(setup);
+        }
+    }
+
+    private void releaseRequester(RequesterSetup setup) {
+        if (setup.calls.decrementAndGet() == 0 && setup.retired) {
+            closeRetiredRequester(setup);
+        }
+    }
+
+    /**
+     * Returns the started requester, which is not held: a request sent with it may find it closed when the config
+     * changes meanwhile.
+     */
+    H2MultiplexingRequester getRequester(Config config) throws HTTPClientException {
+        return getRequesterSetup(config).requester;
+    }
+
+    private RequesterSetup getRequesterSetup(Config config) throws HTTPClientException {
+        RequesterSetup setup = requesterSetup;
+        if (setup == null || !setup.matches(config)) {
+            synchronized (this) {
+                setup = requesterSetup;
+                if (setup == null || !setup.matches(config)) {
+                    if (setup != null) {
+                        retireRequester(setup);
+                    }
+                    H2MultiplexingRequester requester = createRequester(config);
+                    requester.start();
+                    setup = new RequesterSetup(config, requester);
+                    requesterSetup = setup;
+                }
+            }
+        }
+        return setup;
+    }
+
+    private void retireRequester(RequesterSetup setup) {
+        setup.retired = true;
+        if (setup.calls.get() == 0) {
+            closeRetiredRequester(setup);
+        } else {
+            retiredRequesters.add(setup);
+        }
+    }
+
+    /**
+     * Closes the retired requester from its own thread, as the last request on it completes on one of its I/O threads,
+     * which a graceful close waits for.
+     */
+    private void closeRetiredRequester(RequesterSetup setup) {
+        synchronized (this) {
+            retiredRequesters.remove(setup);
+        }
+        if (setup.closed.compareAndSet(false, true)) {
+            Thread thread = new Thread(() -> setup.requester.close(CloseMode.GRACEFUL), "adyen-http2-requester-close");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private static H2MultiplexingRequester createRequester(Config config) throws HTTPClientException {
+        IOReactorConfig.Builder ioReactorConfigBuilder = IOReactorConfig.custom();
+        if (config.getReadTimeoutMillis() > 0) {
+            ioReactorConfigBuilder.setSoTimeout(Timeout.ofMilliseconds(config.getReadTimeoutMillis()));
+        }
+        TlsStrategy tlsStrategy = AdyenAsyncHttpClient.createTlsStrategy(config);
+        return H2MultiplexingRequesterBootstrap.bootstrap()
+                .setIOReactorConfig(ioReactorConfigBuilder.build())
+                .setTlsStrategy(tlsStrategy != null ? tlsStrategy : DefaultClientTlsStrategy.getDefault())
+                .create();
+    }
+
+    /**
+     * Started requester together with the config values it was built from.
+     */
+    private static final class RequesterSetup {
+        private final ConnectionSettings settings;
+        private final int readTimeoutMillis;
+        private final H2MultiplexingRequester requester;
+        // requests running on the requester
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        RequesterSetup(Config config, H2MultiplexingRequester requester) {
+            this.settings = new ConnectionSettings(config);
+            this.readTimeoutMillis = config.getReadTimeoutMillis();
+            this.requester = requester;
+        }
+
+        boolean matches(Config config) {
+            return settings.sslMatches(config) && readTimeoutMillis == config.getReadTimeoutMillis();
+        }
+    }
+}
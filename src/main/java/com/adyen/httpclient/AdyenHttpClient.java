@@ -31,21 +31,26 @@ import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPatch;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import java.io.IOException;
@@ -57,8 +62,12 @@ import java.nio.charset.Charset;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.adyen.constants.ApiConstants.HttpMethod.POST;
 import static com.adyen.constants.ApiConstants.RequestProperty.ACCEPT_CHARSET;
@@ -75,6 +84,10 @@ public class AdyenHttpClient implements ClientInterface {
     private static final String SSL = "SSL";
     private static final String TLSV1_2 = "TLSv1.2";
     private Proxy proxy;
+    private volatile PoolSetup poolSetup;
+    private final List<PoolSetup> retiredPools = new ArrayList<>();
+    private final TerminalConnectionCache terminalConnections = new TerminalConnectionCache();
+    private volatile SSLSetup sslSetup;
 
     public Proxy getProxy() {
         return proxy;
@@ -106,22 +119,101 @@ public class AdyenHttpClient implements ClientInterface {
 
     @Override
     public String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException {
+        HttpUriRequestBase httpRequest = createRequest(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+        if (config.isConnectionPoolEnabled()) {
+            PoolSetup setup = acquirePool(config);
+            try {
+                return execute(setup.httpClient, httpRequest);
+            } finally {
+                releasePool(setup);
+            }
+        }
+        CloseableHttpClient reusableHttpClient = getReusableHttpClient(config);
+        if (reusableHttpClient != null) {
+            return execute(reusableHttpClient, httpRequest);
+        }
         try (CloseableHttpClient httpclient = createCloseableHttpClient(config)) {
-            HttpUriRequestBase httpRequest = createRequest(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+            return execute(httpclient, httpRequest);
+        }
+    }
 
-            // Execute request with a custom response handler
-            AdyenResponse response = httpclient.execute(httpRequest, new AdyenResponseHandler());
+    @Override
+    public <T> T streamRequest(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, ResponseBodyReader<T> responseBodyReader) throws IOException, HTTPClientException {
+        HttpUriRequestBase httpRequest = createRequest(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, null);
+        if (config.isConnectionPoolEnabled()) {
+            PoolSetup setup = acquirePool(config);
+            try {
+                return execute(setup.httpClient, httpRequest, responseBodyReader);
+            } finally {
+                releasePool(setup);
+            }
+        }
+        CloseableHttpClient reusableHttpClient = getReusableHttpClient(config);
+        if (reusableHttpClient != null) {
+            return execute(reusableHttpClient, httpRequest, responseBodyReader);
+        }
+        try (CloseableHttpClient httpclient = createCloseableHttpClient(config)) {
+            return execute(httpclient, httpRequest, responseBodyReader);
+        }
+    }
 
-            if (response.getStatus() < 200 || response.getStatus() >= 300) {
-                throw new HTTPClientException(response.getStatus(), "HTTP Exception", response.getHeaders(), response.getBody());
+    /**
+     * Closes the pooled HTTP clients and the local terminal connections, if any were created.
+     * A subsequent request creates new ones.
+     *
+     * @throws IOException IOException
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (poolSetup != null) {
+                poolSetup.retired = true;
+                retiredPools.add(poolSetup);
+                poolSetup = null;
+            }
+            for (PoolSetup retired : retiredPools) {
+                if (retired.closed.compareAndSet(false, true)) {
+                    retired.httpClient.close();
+                }
             }
-            return response.getBody();
+        } finally {
+            retiredPools.clear();
+            terminalConnections.close();
+        }
+    }
+
+    private String execute(CloseableHttpClient httpclient, HttpUriRequestBase httpRequest) throws IOException, HTTPClientException {
+        // Execute request with a custom response handler
+        AdyenResponse response = httpclient.execute(httpRequest, new AdyenResponseHandler());
+
+        if (response.getStatus() < 200 || response.getStatus() >= 300) {
+            throw new HTTPClientException(response.getStatus(), "HTTP Exception", response.getHeaders(), response.getBody());
         }
+        return response.getBody();
+    }
+
+    private <T> T execute(CloseableHttpClient httpclient, HttpUriRequestBase httpRequest, ResponseBodyReader<T> responseBodyReader) throws IOException, HTTPClientException {
+        // Bind successful responses directly from the entity stream
+        AdyenStreamingResponseHandler<T> responseHandler = new AdyenStreamingResponseHandler<>(responseBodyReader);
+        AdyenResponse response = httpclient.execute(httpRequest, responseHandler);
+
+        if (response.getStatus() < 200 || response.getStatus() >= 300) {
+            throw new HTTPClientException(response.getStatus(), "HTTP Exception", response.getHeaders(), response.getBody());
+        }
+        return responseHandler.getResult();
     }
 
     private HttpUriRequestBase createRequest(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws HTTPClientException {
         HttpUriRequestBase httpRequest = createHttpRequestBase(createUri(endpoint, params), requestBody, httpMethod);
+        httpRequest.setConfig(createRequestConfig(config, proxy));
+
+        setAuthentication(httpRequest, isApiKeyRequired, config);
+        setHeaders(config, requestOptions, httpRequest);
 
+        return httpRequest;
+    }
+
+    static RequestConfig createRequestConfig(Config config, Proxy proxy) {
         RequestConfig.Builder builder = RequestConfig.custom();
         if (config.getReadTimeoutMillis() > 0) {
             builder.setResponseTimeout(config.getReadTimeoutMillis(), TimeUnit.MILLISECONDS);
@@ -133,15 +225,10 @@ public class AdyenHttpClient implements ClientInterface {
             InetSocketAddress inetSocketAddress = (InetSocketAddress) proxy.address();
             builder.setProxy(new HttpHost(inetSocketAddress.getHostName(), inetSocketAddress.getPort()));
         }
-        httpRequest.setConfig(builder.build());
-
-        setAuthentication(httpRequest, isApiKeyRequired, config);
-        setHeaders(config, requestOptions, httpRequest);
-
-        return httpRequest;
+        return builder.build();
     }
 
-    private void setHeaders(Config config, RequestOptions requestOptions, HttpUriRequestBase httpUriRequest) {
+    static void setHeaders(Config config, RequestOptions requestOptions, HttpRequest httpUriRequest) {
 
         setContentType(httpUriRequest, APPLICATION_JSON_TYPE);
         httpUriRequest.addHeader(ACCEPT_CHARSET, CHARSET);
@@ -175,7 +262,7 @@ public class AdyenHttpClient implements ClientInterface {
         }
     }
 
-    private URI createUri(String endpoint, Map<String, String> params) throws HTTPClientException {
+    static URI createUri(String endpoint, Map<String, String> params) throws HTTPClientException {
         try {
             URIBuilder uriBuilder = new URIBuilder(endpoint);
             if (params != null && !params.isEmpty()) {
@@ -190,24 +277,201 @@ public class AdyenHttpClient implements ClientInterface {
     }
 
     private CloseableHttpClient createCloseableHttpClient(Config config) throws HTTPClientException {
-        if (config.getClientKeyStore() != null && config.getTrustKeyStore() != null) {
-            return createHttpClientWithSocketFactory(getClientCertificateAuthSSLContext(config));
+        SSLConnectionSocketFactory socketFactory = createSSLConnectionSocketFactory(config);
+        if (socketFactory != null) {
+            return createHttpClientWithSocketFactory(socketFactory, config);
         }
-        if (config.getTerminalCertificate() != null) {
-            return createHttpClientWithSocketFactory(getTerminalCertificateSocketFactory(config));
+        if (config.getRetryPolicy() != null) {
+            return HttpClients.custom().disableAutomaticRetries().build();
         }
         return HttpClients.createDefault();
     }
 
-    private CloseableHttpClient createHttpClientWithSocketFactory(SSLConnectionSocketFactory socketFactory) {
-        return HttpClients.custom()
+    /**
+     * Returns the long-lived terminal client to use for the config, or null when a client should be created for the request.
+     */
+    private CloseableHttpClient getReusableHttpClient(Config config) throws HTTPClientException {
+        if (config.isTerminalConnectionReuseEnabled() && config.getTerminalCertificate() != null) {
+            return terminalConnections.getHttpClient(config);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the long-lived pooled client, creating it from the given config on first use.
+     * The client is not held: a request sent with it may find it closed when the config changes meanwhile.
+     */
+    CloseableHttpClient getPooledHttpClient(Config config) throws HTTPClientException {
+        return getPoolSetup(config).httpClient;
+    }
+
+    /**
+     * Returns the pool for the config, held until {@link #releasePool(PoolSetup)} so that it is not closed
+     * while a request runs on it.
+     */
+    private PoolSetup acquirePool(Config config) throws HTTPClientException {
+        while (true) {
+            PoolSetup setup = getPoolSetup(config);
+            setup.calls.incrementAndGet();
+            if (!setup.retired) {
+                return setup;
+            }
+            // retired before it was held, the request goes to the pool that replaced it
+            releasePool(setup);
+        }
+    }
+
+    private void releasePool(PoolSetup setup) {
+        if (setup.calls.decrementAndGet() == 0 && setup.retired) {
+            closeRetiredPool(setup);
+        }
+    }
+
+    /**
+     * When the pool settings or SSL material of the config change, or a retry policy is set or removed,
+     * a new pool is created; the previous one stops handing out connections, closes its idle ones
+     * and is closed once the requests still running on it have completed, so they are not interrupted.
+     */
+    private PoolSetup getPoolSetup(Config config) throws HTTPClientException {
+        SSLConnectionSocketFactory socketFactory = createSSLConnectionSocketFactory(config);
+        PoolSetup setup = poolSetup;
+        if (setup == null || !setup.matches(config, socketFactory)) {
+            synchronized (this) {
+                setup = poolSetup;
+                if (setup == null || !setup.matches(config, socketFactory)) {
+                    if (setup != null) {
+                        retirePool(setup);
+                    }
+                    setup = createPooledHttpClient(config, socketFactory);
+                    poolSetup = setup;
+                }
+            }
+        }
+        return setup;
+    }
+
+    private void retirePool(PoolSetup setup) {
+        setup.connectionManager.closeIdle(TimeValue.ZERO_MILLISECONDS);
+        setup.retired = true;
+        if (setup.calls.get() == 0) {
+            closeRetiredPool(setup);
+        } else {
+            retiredPools.add(setup);
+        }
+    }
+
+    private void closeRetiredPool(PoolSetup setup) {
+        synchronized (this) {
+            retiredPools.remove(setup);
+        }
+        if (setup.closed.compareAndSet(false, true)) {
+            setup.httpClient.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    private PoolSetup createPooledHttpClient(Config config, SSLConnectionSocketFactory socketFactory) {
+        PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder.create();
+        if (socketFactory != null) {
+            connectionManagerBuilder.setSSLSocketFactory(socketFactory);
+        }
+        if (config.getConnectionPoolMaxTotal() > 0) {
+            connectionManagerBuilder.setMaxConnTotal(config.getConnectionPoolMaxTotal());
+        }
+        if (config.getConnectionPoolMaxPerRoute() > 0) {
+            connectionManagerBuilder.setMaxConnPerRoute(config.getConnectionPoolMaxPerRoute());
+        }
+        if (config.getConnectionTimeToLiveMillis() > 0) {
+            connectionManagerBuilder.setConnectionTimeToLive(TimeValue.ofMilliseconds(config.getConnectionTimeToLiveMillis()));
+        }
+        if (config.getConnectionValidateAfterInactivityMillis() > 0) {
+            connectionManagerBuilder.setValidateAfterInactivity(TimeValue.ofMilliseconds(config.getConnectionValidateAfterInactivityMillis()));
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = connectionManagerBuilder.build();
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections();
+        if (config.getConnectionIdleTimeoutMillis() > 0) {
+            httpClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(config.getConnectionIdleTimeoutMillis()));
+        }
+        if (config.getRetryPolicy() != null) {
+            // the retry policy decides on all retries
+            httpClientBuilder.disableAutomaticRetries();
+        }
+        return new PoolSetup(config, socketFactory, connectionManager, httpClientBuilder.build());
+    }
+
+    /**
+     * Returns the socket factory for the SSL material of the config, or null when the default one should be used.
+     * The factory is reused until the keystores, certificate or session settings of the config change,
+     * so its SSL context can resume TLS sessions across requests.
+     */
+    SSLConnectionSocketFactory createSSLConnectionSocketFactory(Config config) throws HTTPClientException {
+        SSLSetup setup = sslSetup;
+        if (setup != null && setup.matches(config)) {
+            return setup.socketFactory;
+        }
+
+        SSLConnectionSocketFactory socketFactory = null;
+        SSLContext sslContext = createSSLContext(config);
+        if (sslContext != null) {
+            HostnameVerifier hostnameVerifier = createHostnameVerifier(config);
+            socketFactory = hostnameVerifier == null
+                    ? new SSLConnectionSocketFactory(sslContext)
+                    : new SSLConnectionSocketFactory(sslContext, hostnameVerifier);
+        }
+        sslSetup = new SSLSetup(config, socketFactory);
+        return socketFactory;
+    }
+
+    private CloseableHttpClient createHttpClientWithSocketFactory(SSLConnectionSocketFactory socketFactory, Config config) {
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
                 .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
                         .setSSLSocketFactory(socketFactory)
-                        .build())
-                .build();
+                        .build());
+        if (config.getRetryPolicy() != null) {
+            httpClientBuilder.disableAutomaticRetries();
+        }
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Creates the SSL context for client certificate or terminal certificate authentication,
+     * or returns null when the default SSL context should be used.
+     */
+    static SSLContext createSSLContext(Config config) throws HTTPClientException {
+        SSLContext sslContext = null;
+        if (config.getClientKeyStore() != null && config.getTrustKeyStore() != null) {
+            sslContext = getClientCertificateAuthSSLContext(config);
+        } else if (config.getTerminalCertificate() != null) {
+            sslContext = getTerminalCertificateSSLContext(config);
+        }
+        if (sslContext != null) {
+            SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+            if (config.getSslSessionCacheSize() > 0) {
+                sessionContext.setSessionCacheSize(config.getSslSessionCacheSize());
+            }
+            if (config.getSslSessionTimeoutSeconds() > 0) {
+                sessionContext.setSessionTimeout(config.getSslSessionTimeoutSeconds());
+            }
+        }
+        return sslContext;
+    }
+
+    /**
+     * Returns the hostname verifier to use with {@link #createSSLContext(Config)}, or null for the default one.
+     */
+    static HostnameVerifier createHostnameVerifier(Config config) {
+        if (config.getClientKeyStore() != null && config.getTrustKeyStore() != null) {
+            return null;
+        }
+        if (config.getTerminalCertificate() != null) {
+            return createHostnameVerifier(config.getEnvironment());
+        }
+        return null;
     }
 
-    private SSLConnectionSocketFactory getTerminalCertificateSocketFactory(Config config) throws HTTPClientException {
+    private static SSLContext getTerminalCertificateSSLContext(Config config) throws HTTPClientException {
         try {
             // Create new KeyStore for the terminal certificate
             KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
@@ -223,13 +487,13 @@ public class AdyenHttpClient implements ClientInterface {
             SSLContext sc = SSLContext.getInstance(SSL);
             sc.init(null, trustManagers, new java.security.SecureRandom());
 
-            return new SSLConnectionSocketFactory(sc, createHostnameVerifier(config.getEnvironment()));
+            return sc;
         } catch (GeneralSecurityException | IOException e) {
             throw new HTTPClientException("Error loading certificate from path", e);
         }
     }
 
-    private SSLConnectionSocketFactory getClientCertificateAuthSSLContext(Config config) throws HTTPClientException {
+    private static SSLContext getClientCertificateAuthSSLContext(Config config) throws HTTPClientException {
         try {
             char[] password = null;
             if (config.getClientKeyStorePassword() != null && !config.getClientKeyStorePassword().isEmpty()) {
@@ -246,13 +510,13 @@ public class AdyenHttpClient implements ClientInterface {
             // Create an SSLContext that uses our TrustManager
             SSLContext context = SSLContext.getInstance(TLSV1_2);
             context.init(keyManagerFactory.getKeyManagers(), tmf.getTrustManagers(), null);
-            return new SSLConnectionSocketFactory(context);
+            return context;
         } catch (Exception e) {
             throw new HTTPClientException("Error creating SSL Context", e);
         }
     }
 
-    private HostnameVerifier createHostnameVerifier(final Environment environment) {
+    private static HostnameVerifier createHostnameVerifier(final Environment environment) {
         return (host, session) -> {
             try {
                 if (session.getPeerCertificates() != null && session.getPeerCertificates().length > 0) {
@@ -272,7 +536,7 @@ public class AdyenHttpClient implements ClientInterface {
     /**
      * Sets content type
      */
-    private void setAuthentication(HttpUriRequest httpUriRequest, boolean isApiKeyRequired, Config config) {
+    static void setAuthentication(HttpRequest httpUriRequest, boolean isApiKeyRequired, Config config) {
         String apiKey = config.getApiKey();
         // Use Api key if required or if provided
         if (isApiKeyRequired || (apiKey != null && !apiKey.isEmpty())) {
@@ -285,14 +549,14 @@ public class AdyenHttpClient implements ClientInterface {
     /**
      * Sets content type
      */
-    private void setContentType(HttpUriRequest httpUriRequest, String contentType) {
+    private static void setContentType(HttpRequest httpUriRequest, String contentType) {
         httpUriRequest.addHeader(CONTENT_TYPE, contentType);
     }
 
     /**
      * Sets api key
      */
-    private void setApiKey(HttpUriRequest httpUriRequest, String apiKey) {
+    private static void setApiKey(HttpRequest httpUriRequest, String apiKey) {
         if (apiKey != null && !apiKey.isEmpty()) {
             httpUriRequest.addHeader(API_KEY, apiKey);
         }
@@ -301,7 +565,7 @@ public class AdyenHttpClient implements ClientInterface {
     /**
      * Adds Basic Authentication headers
      */
-    private void setBasicAuthentication(HttpUriRequest httpUriRequest, String username, String password) {
+    private static void setBasicAuthentication(HttpRequest httpUriRequest, String username, String password) {
         // set basic authentication
         String authString = username + ":" + password;
         byte[] authEncBytes = Base64.encodeBase64(authString.getBytes());
@@ -309,4 +573,46 @@ public class AdyenHttpClient implements ClientInterface {
 
         httpUriRequest.addHeader("Authorization", "Basic " + authStringEnc);
     }
+
+    /**
+     * Socket factory together with the config values it was built from.
+     */
+    private static final class SSLSetup {
+        private final ConnectionSettings settings;
+        private final SSLConnectionSocketFactory socketFactory;
+
+        SSLSetup(Config config, SSLConnectionSocketFactory socketFactory) {
+            this.settings = new ConnectionSettings(config);
+            this.socketFactory = socketFactory;
+        }
+
+        boolean matches(Config config) {
+            return settings.sslMatches(config);
+        }
+    }
+
+    /**
+     * Pooled client together with the config values it was built from.
+     */
+    private static final class PoolSetup {
+        private final ConnectionSettings settings;
+        private final SSLConnectionSocketFactory socketFactory;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final CloseableHttpClient httpClient;
+        // requests running on the pool
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        PoolSetup(Config config, SSLConnectionSocketFactory socketFactory, PoolingHttpClientConnectionManager connectionManager, CloseableHttpClient httpClient) {
+            this.settings = new ConnectionSettings(config);
+            this.socketFactory = socketFactory;
+            this.connectionManager = connectionManager;
+            this.httpClient = httpClient;
+        }
+
+        boolean matches(Config config, SSLConnectionSocketFactory socketFactory) {
+            return this.socketFactory == socketFactory && settings.poolMatches(config);
+        }
+    }
 }
@@ -48,7 +48,7 @@ public class AdyenResponseHandler implements HttpClientResponseHandler<AdyenResp
         return adyenResponse;
     }
 
-    private Map<String, List<String>> getHeaders(Header[] allHeaders) {
+    static Map<String, List<String>> getHeaders(Header[] allHeaders) {
         Map<String, List<String>> headers = new HashMap<>();
         for (Header header : allHeaders) {
             headers.put(header.getName(), Collections.singletonList(header.getValue()));
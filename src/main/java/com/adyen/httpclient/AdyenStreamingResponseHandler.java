@@ -0,0 +1,81 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response handler that passes successful response bodies straight from the entity stream to a {@link ResponseBodyReader}.
+ * Error bodies are still buffered, so they can be carried by {@link HTTPClientException}.
+ *
+ * @param <T> result type
+ */
+class AdyenStreamingResponseHandler<T> implements HttpClientResponseHandler<AdyenResponse> {
+
+    private final ResponseBodyReader<T> responseBodyReader;
+    private T result;
+
+    AdyenStreamingResponseHandler(ResponseBodyReader<T> responseBodyReader) {
+        this.responseBodyReader = responseBodyReader;
+    }
+
+    @Override
+    public AdyenResponse handleResponse(ClassicHttpResponse httpResponse) throws IOException, ParseException {
+        AdyenResponse adyenResponse = new AdyenResponse();
+        adyenResponse.setStatus(httpResponse.getCode());
+        adyenResponse.setHeaders(AdyenResponseHandler.getHeaders(httpResponse.getHeaders()));
+
+        HttpEntity entity = httpResponse.getEntity();
+        if (httpResponse.getCode() < 200 || httpResponse.getCode() >= 300) {
+            if (entity != null) {
+                adyenResponse.setBody(EntityUtils.toString(entity));
+            }
+        } else if (entity != null) {
+            result = responseBodyReader.read(httpResponse.getCode(), new InputStreamReader(entity.getContent(), getCharset(entity)));
+        } else {
+            result = responseBodyReader.read(httpResponse.getCode(), new StringReader(""));
+        }
+        return adyenResponse;
+    }
+
+    T getResult() {
+        return result;
+    }
+
+    private static Charset getCharset(HttpEntity entity) {
+        ContentType contentType = ContentType.parseLenient(entity.getContentType());
+        if (contentType == null || contentType.getCharset() == null) {
+            return StandardCharsets.UTF_8;
+        }
+        return contentType.getCharset();
+    }
+}
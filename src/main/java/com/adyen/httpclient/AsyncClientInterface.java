@@ -0,0 +1,51 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.model.RequestOptions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link ClientInterface}.
+ * <p>
+ * The returned future completes with the response body, or exceptionally with an {@link HTTPClientException}
+ * for non-2xx responses and an {@link IOException} for transport failures.
+ */
+public interface AsyncClientInterface extends Closeable {
+
+    CompletableFuture<String> requestAsync(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params);
+
+    /**
+     * Releases any long-lived resources (e.g. the I/O reactor and pooled connections) held by this client.
+     *
+     * @throws IOException IOException
+     */
+    @Override
+    default void close() throws IOException {
+        // nothing to release by default
+    }
+}
@@ -24,14 +24,47 @@ import com.adyen.Config;
 import com.adyen.constants.ApiConstants;
 import com.adyen.model.RequestOptions;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.Map;
 
-public interface ClientInterface {
+public interface ClientInterface extends Closeable {
 
     String request(String endpoint, String requestBody, Config config) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod) throws IOException, HTTPClientException;
     String request(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws IOException, HTTPClientException;
+
+    /**
+     * Request whose successful response body is passed to {@code responseBodyReader} instead of being returned as a String.
+     * Implementations may stream the body from the connection; by default the buffered String response is read.
+     *
+     * @param endpoint endpoint
+     * @param requestBody request body
+     * @param config config
+     * @param isApiKeyRequired whether the API key is required
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param responseBodyReader reader binding the response body
+     * @param <T> result type
+     * @return result bound from the response body
+     * @throws IOException IOException
+     * @throws HTTPClientException HTTPClientException
+     */
+    default <T> T streamRequest(String endpoint, String requestBody, Config config, boolean isApiKeyRequired, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, ResponseBodyReader<T> responseBodyReader) throws IOException, HTTPClientException {
+        String response = request(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, null);
+        return responseBodyReader.read(new StringReader(response == null ? "" : response));
+    }
+
+    /**
+     * Releases any long-lived resources (e.g. pooled connections) held by this client.
+     *
+     * @throws IOException IOException
+     */
+    @Override
+    default void close() throws IOException {
+        // nothing to release by default
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.enums.Environment;
+
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Objects;
+
+/**
+ * The config values a connection pool is built from, so that the pool is rebuilt when they change.
+ * The keystores and certificate are compared by identity.
+ */
+final class ConnectionSettings {
+    private final KeyStore clientKeyStore;
+    private final KeyStore trustKeyStore;
+    private final String clientKeyStorePassword;
+    private final Certificate terminalCertificate;
+    private final Environment environment;
+    private final int sslSessionCacheSize;
+    private final int sslSessionTimeoutSeconds;
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final int timeToLiveMillis;
+    private final int validateAfterInactivityMillis;
+    private final int idleTimeoutMillis;
+    private final boolean retryPolicySet;
+
+    ConnectionSettings(Config config) {
+        this.clientKeyStore = config.getClientKeyStore();
+        this.trustKeyStore = config.getTrustKeyStore();
+        this.clientKeyStorePassword = config.getClientKeyStorePassword();
+        this.terminalCertificate = config.getTerminalCertificate();
+        this.environment = config.getEnvironment();
+        this.sslSessionCacheSize = config.getSslSessionCacheSize();
+        this.sslSessionTimeoutSeconds = config.getSslSessionTimeoutSeconds();
+        this.maxTotal = config.getConnectionPoolMaxTotal();
+        this.maxPerRoute = config.getConnectionPoolMaxPerRoute();
+        this.timeToLiveMillis = config.getConnectionTimeToLiveMillis();
+        this.validateAfterInactivityMillis = config.getConnectionValidateAfterInactivityMillis();
+        this.idleTimeoutMillis = config.getConnectionIdleTimeoutMillis();
+        this.retryPolicySet = config.getRetryPolicy() != null;
+    }
+
+    /**
+     * @return whether the keystores, certificate, environment and SSL session settings of the config are the same
+     */
+    boolean sslMatches(Config config) {
+        return clientKeyStore == config.getClientKeyStore()
+                && trustKeyStore == config.getTrustKeyStore()
+                && Objects.equals(clientKeyStorePassword, config.getClientKeyStorePassword())
+                && terminalCertificate == config.getTerminalCertificate()
+                && environment == config.getEnvironment()
+                && sslSessionCacheSize == config.getSslSessionCacheSize()
+                && sslSessionTimeoutSeconds == config.getSslSessionTimeoutSeconds();
+    }
+
+    /**
+     * @return whether the pool settings of the config are the same, and a retry policy is set on both or neither
+     */
+    boolean poolMatches(Config config) {
+        return maxTotal == config.getConnectionPoolMaxTotal()
+                && maxPerRoute == config.getConnectionPoolMaxPerRoute()
+                && timeToLiveMillis == config.getConnectionTimeToLiveMillis()
+                && validateAfterInactivityMillis == config.getConnectionValidateAfterInactivityMillis()
+                && idleTimeoutMillis == config.getConnectionIdleTimeoutMillis()
+                && retryPolicySet == (config.getRetryPolicy() != null);
+    }
+
+    boolean matches(Config config) {
+        return sslMatches(config) && poolMatches(config);
+    }
+}
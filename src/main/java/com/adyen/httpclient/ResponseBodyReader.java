@@ -0,0 +1,54 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Binds a response body to a result while it is being read, so the body does not have to be buffered into a String first.
+ *
+ * @param <T> result type
+ */
+@FunctionalInterface
+public interface ResponseBodyReader<T> {
+
+    /**
+     * Reads the response body.
+     *
+     * @param body response body, positioned at its start
+     * @return result bound from the body
+     * @throws IOException IOException
+     */
+    T read(Reader body) throws IOException;
+
+    /**
+     * Reads the body of a successful response whose status the HTTP client knows; by default the status is ignored.
+     *
+     * @param statusCode HTTP status of the response
+     * @param body response body, positioned at its start
+     * @return result bound from the body
+     * @throws IOException IOException
+     */
+    default T read(int statusCode, Reader body) throws IOException {
+        return read(body);
+    }
+}
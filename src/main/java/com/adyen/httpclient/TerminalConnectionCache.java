@@ -0,0 +1,150 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.enums.Environment;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLContext;
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.cert.Certificate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keep-alive HTTP clients for the local Terminal API, one per terminal certificate and environment, and per whether
+ * a retry policy disables the automatic retries.
+ * The SSL context is built once per client and connections are pooled per terminal address,
+ * so consecutive requests to the same terminal skip the TLS handshake.
+ */
+final class TerminalConnectionCache implements Closeable {
+
+    static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30000;
+    static final long DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS = 1000;
+
+    private final Map<TerminalKey, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the keep-alive client for the terminal certificate and environment of the config, creating it on first use.
+     */
+    CloseableHttpClient getHttpClient(Config config) throws HTTPClientException {
+        TerminalKey key = new TerminalKey(config.getTerminalCertificate(), config.getEnvironment(), config.getRetryPolicy() != null);
+        CloseableHttpClient httpClient = httpClients.get(key);
+        if (httpClient == null) {
+            synchronized (this) {
+                httpClient = httpClients.get(key);
+                if (httpClient == null) {
+                    httpClient = createHttpClient(config);
+                    httpClients.put(key, httpClient);
+                }
+            }
+        }
+        return httpClient;
+    }
+
+    int size() {
+        return httpClients.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException closeException = null;
+        for (CloseableHttpClient httpClient : httpClients.values()) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                closeException = e;
+            }
+        }
+        httpClients.clear();
+        if (closeException != null) {
+            throw closeException;
+        }
+    }
+
+    private static CloseableHttpClient createHttpClient(Config config) throws HTTPClientException {
+        SSLContext sslContext = AdyenHttpClient.createSSLContext(config);
+        SSLConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(sslContext, AdyenHttpClient.createHostnameVerifier(config));
+
+        long validateAfterInactivityMillis = config.getConnectionValidateAfterInactivityMillis() > 0
+                ? config.getConnectionValidateAfterInactivityMillis()
+                : DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS;
+        PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder.create()
+                .setSSLSocketFactory(socketFactory)
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMillis));
+        if (config.getConnectionPoolMaxPerRoute() > 0) {
+            connectionManagerBuilder.setMaxConnPerRoute(config.getConnectionPoolMaxPerRoute());
+        }
+        if (config.getConnectionTimeToLiveMillis() > 0) {
+            connectionManagerBuilder.setConnectionTimeToLive(TimeValue.ofMilliseconds(config.getConnectionTimeToLiveMillis()));
+        }
+
+        long idleTimeoutMillis = config.getConnectionIdleTimeoutMillis() > 0
+                ? config.getConnectionIdleTimeoutMillis()
+                : DEFAULT_IDLE_TIMEOUT_MILLIS;
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManagerBuilder.build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis));
+        if (config.getRetryPolicy() != null) {
+            // the retry policy decides on all retries
+            httpClientBuilder.disableAutomaticRetries();
+        }
+        return httpClientBuilder.build();
+    }
+
+    private static final class TerminalKey {
+        private final Certificate certificate;
+        private final Environment environment;
+        private final boolean retryPolicySet;
+
+        TerminalKey(Certificate certificate, Environment environment, boolean retryPolicySet) {
+            this.certificate = certificate;
+            this.environment = environment;
+            this.retryPolicySet = retryPolicySet;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TerminalKey)) {
+                return false;
+            }
+            TerminalKey that = (TerminalKey) o;
+            return certificate.equals(that.certificate) && environment == that.environment && retryPolicySet == that.retryPolicySet;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(certificate, environment, retryPolicySet);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.inventory;
+
+import com.adyen.model.posterminalmanagement.GetTerminalDetailsResponse;
+
+/**
+ * Terminal of a {@link TerminalInventory}: where it is assigned, and its details when they could be retrieved.
+ */
+public final class InventoryTerminal {
+
+    private final String terminal;
+    private final String merchantAccount;
+    private final String store;
+    private final boolean inInventory;
+    private final GetTerminalDetailsResponse details;
+    private final long detailsRetrievedAt;
+
+    InventoryTerminal(String terminal, String merchantAccount, String store, boolean inInventory, GetTerminalDetailsResponse details, long detailsRetrievedAt) {
+        this.terminal = terminal;
+        this.merchantAccount = merchantAccount;
+        this.store = store;
+        this.inInventory = inInventory;
+        this.details = details;
+        this.detailsRetrievedAt = detailsRetrievedAt;
+    }
+
+    /**
+     * @return terminal ID, the POIID, such as {@code V400m-446489245}
+     */
+    public String getTerminal() {
+        return terminal;
+    }
+
+    /**
+     * @return merchant account the terminal is assigned to, null when it is in the company inventory
+     */
+    public String getMerchantAccount() {
+        return merchantAccount;
+    }
+
+    /**
+     * @return store the terminal is assigned to, null when it is not assigned to a store
+     */
+    public String getStore() {
+        return store;
+    }
+
+    /**
+     * @return true when the terminal is in the company or merchant inventory, rather than in use
+     */
+    public boolean isInInventory() {
+        return inInventory;
+    }
+
+    /**
+     * @return details of the terminal, null when they could not be retrieved yet. Must not be modified.
+     */
+    public GetTerminalDetailsResponse getDetails() {
+        return details;
+    }
+
+    /**
+     * @return time the details were retrieved, in epoch milliseconds, 0 when they were not
+     */
+    public long getDetailsRetrievedAt() {
+        return detailsRetrievedAt;
+    }
+
+    public String getSerialNumber() {
+        return details != null ? details.getSerialNumber() : null;
+    }
+
+    public String getFirmwareVersion() {
+        return details != null ? details.getFirmwareVersion() : null;
+    }
+
+    public GetTerminalDetailsResponse.TerminalStatusEnum getTerminalStatus() {
+        return details != null ? details.getTerminalStatus() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryTerminal{terminal='" + terminal + "', merchantAccount='" + merchantAccount + "', store='" + store
+                + "', terminalStatus=" + getTerminalStatus() + '}';
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.inventory;
+
+import com.adyen.Client;
+import com.adyen.model.posterminalmanagement.GetTerminalDetailsRequest;
+import com.adyen.model.posterminalmanagement.GetTerminalDetailsResponse;
+import com.adyen.model.posterminalmanagement.GetTerminalsUnderAccountRequest;
+import com.adyen.model.posterminalmanagement.GetTerminalsUnderAccountResponse;
+import com.adyen.model.posterminalmanagement.MerchantAccount;
+import com.adyen.model.posterminalmanagement.Store;
+import com.adyen.service.PosTerminalManagement;
+import com.adyen.service.exception.ApiException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of the POS terminals of a company account, fed by {@link PosTerminalManagement}, so that lookups
+ * by terminal, store, merchant account, serial number, firmware or status do not call the API.
+ * <p>
+ * A refresh lists the terminals with getTerminalsUnderAccount, then requests the details of the new terminals, of the
+ * terminals that moved and of those whose details are older than the maximum age, a bounded number at a time.
+ * Lookups read an immutable snapshot, replaced at the end of each refresh.
+ */
+public final class TerminalInventory implements Closeable {
+
+    private final PosTerminalManagement posTerminalManagement;
+    private final TerminalInventoryConfig config;
+    private final ExecutorService detailsExecutor;
+    private final Object refreshLock = new Object();
+    private volatile Index index = new Index(Collections.emptyMap());
+    private volatile long lastRefreshTime;
+    private volatile Exception lastRefreshError;
+    private ScheduledExecutorService scheduler;
+
+    public TerminalInventory(Client client, TerminalInventoryConfig config) {
+        this(new PosTerminalManagement(client), config);
+    }
+
+    public TerminalInventory(PosTerminalManagement posTerminalManagement, TerminalInventoryConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config is required");
+        }
+        this.posTerminalManagement = posTerminalManagement;
+        this.config = config;
+        this.detailsExecutor = Executors.newFixedThreadPool(config.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "adyen-terminal-inventory-details");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Refreshes the inventory now, waiting for a refresh in progress to end first.
+     * Terminals whose details cannot be retrieved keep their previous details.
+     *
+     * @return counts of the refresh
+     * @throws ApiException when the terminals cannot be listed
+     * @throws IOException when the terminals cannot be listed
+     */
+    public RefreshResult refresh() throws ApiException, IOException {
+        synchronized (refreshLock) {
+            try {
+                RefreshResult result = doRefresh();
+                lastRefreshTime = System.currentTimeMillis();
+                lastRefreshError = null;
+                return result;
+            } catch (ApiException | IOException | RuntimeException e) {
+                lastRefreshError = e;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Refreshes the inventory now and then at the refresh interval, from a background thread.
+     * Failures of the scheduled refreshes are available from {@link #getLastRefreshError()}.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adyen-terminal-inventory-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scheduledRefresh, 0, config.getRefreshIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the scheduled refreshes and the threads requesting the terminal details. The index can still be queried.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        detailsExecutor.shutdownNow();
+    }
+
+    public TerminalInventoryConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return time the last successful refresh ended, in epoch milliseconds, 0 before the first one
+     */
+    public long getLastRefreshTime() {
+        return lastRefreshTime;
+    }
+
+    /**
+     * @return failure of the last refresh, null when it succeeded
+     */
+    public Exception getLastRefreshError() {
+        return lastRefreshError;
+    }
+
+    public int size() {
+        return index.terminals.size();
+    }
+
+    public Collection<InventoryTerminal> getTerminals() {
+        return index.terminals.values();
+    }
+
+    /**
+     * @param terminal terminal ID, the POIID
+     * @return terminal, null when not in the inventory
+     */
+    public InventoryTerminal getTerminal(String terminal) {
+        return index.terminals.get(terminal);
+    }
+
+    /**
+     * @param serialNumber serial number, such as {@code 375-039-202}
+     * @return terminal, null when not in the inventory
+     */
+    public InventoryTerminal getTerminalBySerialNumber(String serialNumber) {
+        return index.bySerialNumber.get(serialNumber);
+    }
+
+    public List<InventoryTerminal> getTerminalsByMerchantAccount(String merchantAccount) {
+        return index.byMerchantAccount.getOrDefault(merchantAccount, Collections.emptyList());
+    }
+
+    public List<InventoryTerminal> getTerminalsByStore(String merchantAccount, String store) {
+        return index.byStore.getOrDefault(Arrays.asList(merchantAccount, store), Collections.emptyList());
+    }
+
+    public List<InventoryTerminal> getTerminalsByFirmwareVersion(String firmwareVersion) {
+        return index.byFirmwareVersion.getOrDefault(firmwareVersion, Collections.emptyList());
+    }
+
+    public List<InventoryTerminal> getTerminalsByStatus(GetTerminalDetailsResponse.TerminalStatusEnum terminalStatus) {
+        return index.byTerminalStatus.getOrDefault(terminalStatus, Collections.emptyList());
+    }
+
+    /**
+     * @param predicate condition on the terminals
+     * @return terminals matching the condition
+     */
+    public List<InventoryTerminal> find(Predicate<InventoryTerminal> predicate) {
+        return index.terminals.values().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (ApiException | IOException | RuntimeException e) {
+            // recorded as the last refresh error, the next refresh tries again
+        }
+    }
+
+    private RefreshResult doRefresh() throws ApiException, IOException {
+        GetTerminalsUnderAccountRequest getTerminalsUnderAccountRequest = new GetTerminalsUnderAccountRequest();
+        getTerminalsUnderAccountRequest.setCompanyAccount(config.getCompanyAccount());
+        getTerminalsUnderAccountRequest.setMerchantAccount(config.getMerchantAccount());
+        Map<String, InventoryTerminal> listed = list(posTerminalManagement.getTerminalsUnderAccount(getTerminalsUnderAccountRequest));
+
+        Map<String, InventoryTerminal> previous = index.terminals;
+        Map<String, InventoryTerminal> terminals = new LinkedHashMap<>();
+        List<Callable<InventoryTerminal>> detailsRequests = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (InventoryTerminal placement : listed.values()) {
+            InventoryTerminal current = previous.get(placement.getTerminal());
+            boolean moved = current != null && (!Objects.equals(current.getMerchantAccount(), placement.getMerchantAccount())
+                    || !Objects.equals(current.getStore(), placement.getStore()) || current.isInInventory() != placement.isInInventory());
+            if (current == null || current.getDetails() == null || moved || now - current.getDetailsRetrievedAt() >= config.getDetailsMaxAgeMillis()) {
+                // keeps the previous details should the request fail
+                terminals.put(placement.getTerminal(), current != null ? withDetails(placement, current.getDetails(), current.getDetailsRetrievedAt()) : placement);
+                detailsRequests.add(() -> withDetails(placement, getTerminalDetails(placement.getTerminal()), System.currentTimeMillis()));
+            } else {
+                terminals.put(placement.getTerminal(), current);
+            }
+        }
+
+        int failed = 0;
+        for (Future<InventoryTerminal> detailsRequest : invokeAll(detailsRequests)) {
+            try {
+                InventoryTerminal terminal = detailsRequest.get();
+                terminals.put(terminal.getTerminal(), terminal);
+            } catch (ExecutionException e) {
+                failed++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while refreshing the terminal inventory");
+            }
+        }
+
+        int added = 0;
+        for (String terminal : terminals.keySet()) {
+            if (!previous.containsKey(terminal)) {
+                added++;
+            }
+        }
+        int removed = 0;
+        for (String terminal : previous.keySet()) {
+            if (!terminals.containsKey(terminal)) {
+                removed++;
+            }
+        }
+        index = new Index(terminals);
+        return new RefreshResult(terminals.size(), added, removed, detailsRequests.size() - failed, failed);
+    }
+
+    private List<Future<InventoryTerminal>> invokeAll(List<Callable<InventoryTerminal>> detailsRequests) throws InterruptedIOException {
+        try {
+            return detailsExecutor.invokeAll(detailsRequests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while refreshing the terminal inventory");
+        }
+    }
+
+    private GetTerminalDetailsResponse getTerminalDetails(String terminal) throws ApiException, IOException {
+        GetTerminalDetailsRequest getTerminalDetailsRequest = new GetTerminalDetailsRequest();
+        getTerminalDetailsRequest.setTerminal(terminal);
+        return posTerminalManagement.getTerminalDetails(getTerminalDetailsRequest);
+    }
+
+    /**
+     * Reads where each terminal is assigned: the company or merchant inventory, a merchant account, or a store.
+     */
+    private static Map<String, InventoryTerminal> list(GetTerminalsUnderAccountResponse response) {
+        Map<String, InventoryTerminal> terminals = new LinkedHashMap<>();
+        addAll(terminals, response.getInventoryTerminals(), null, null, true);
+        if (response.getMerchantAccounts() != null) {
+            for (MerchantAccount merchantAccount : response.getMerchantAccounts()) {
+                String merchantAccountCode = merchantAccount.getMerchantAccount();
+                addAll(terminals, merchantAccount.getInventoryTerminals(), merchantAccountCode, null, true);
+                addAll(terminals, merchantAccount.getInStoreTerminals(), merchantAccountCode, null, false);
+                if (merchantAccount.getStores() != null) {
+                    for (Store store : merchantAccount.getStores()) {
+                        addAll(terminals, store.getInStoreTerminals(), merchantAccountCode, store.getStore(), false);
+                    }
+                }
+            }
+        }
+        return terminals;
+    }
+
+    private static void addAll(Map<String, InventoryTerminal> terminals, List<String> terminalIds, String merchantAccount, String store, boolean inInventory) {
+        if (terminalIds != null) {
+            for (String terminal : terminalIds) {
+                terminals.put(terminal, new InventoryTerminal(terminal, merchantAccount, store, inInventory, null, 0));
+            }
+        }
+    }
+
+    private static InventoryTerminal withDetails(InventoryTerminal placement, GetTerminalDetailsResponse details, long detailsRetrievedAt) {
+        return new InventoryTerminal(placement.getTerminal(), placement.getMerchantAccount(), placement.getStore(), placement.isInInventory(), details, detailsRetrievedAt);
+    }
+
+    /**
+     * Counts of a refresh.
+     */
+    public static final class RefreshResult {
+        private final int terminalCount;
+        private final int addedCount;
+        private final int removedCount;
+        private final int detailsRetrievedCount;
+        private final int detailsFailedCount;
+
+        RefreshResult(int terminalCount, int addedCount, int removedCount, int detailsRetrievedCount, int detailsFailedCount) {
+            this.terminalCount = terminalCount;
+            this.addedCount = addedCount;
+            this.removedCount = removedCount;
+            this.detailsRetrievedCount = detailsRetrievedCount;
+            this.detailsFailedCount = detailsFailedCount;
+        }
+
+        public int getTerminalCount() {
+            return terminalCount;
+        }
+
+        public int getAddedCount() {
+            return addedCount;
+        }
+
+        public int getRemovedCount() {
+            return removedCount;
+        }
+
+        public int getDetailsRetrievedCount() {
+            return detailsRetrievedCount;
+        }
+
+        public int getDetailsFailedCount() {
+            return detailsFailedCount;
+        }
+
+        @Override
+        public String toString() {
+            return "RefreshResult{terminalCount=" + terminalCount + ", addedCount=" + addedCount + ", removedCount=" + removedCount
+                    + ", detailsRetrievedCount=" + detailsRetrievedCount + ", detailsFailedCount=" + detailsFailedCount + '}';
+        }
+    }
+
+    /**
+     * Immutable snapshot of the terminals, with their lookup tables.
+     */
+    private static final class Index {
+        private final Map<String, InventoryTerminal> terminals;
+        private final Map<String, InventoryTerminal> bySerialNumber = new HashMap<>();
+        private final Map<String, List<InventoryTerminal>> byMerchantAccount = new HashMap<>();
+        private final Map<List<String>, List<InventoryTerminal>> byStore = new HashMap<>();
+        private final Map<String, List<InventoryTerminal>> byFirmwareVersion = new HashMap<>();
+        private final Map<GetTerminalDetailsResponse.TerminalStatusEnum, List<InventoryTerminal>> byTerminalStatus =
+                new EnumMap<>(GetTerminalDetailsResponse.TerminalStatusEnum.class);
+
+        private Index(Map<String, InventoryTerminal> terminals) {
+            this.terminals = Collections.unmodifiableMap(terminals);
+            for (InventoryTerminal terminal : terminals.values()) {
+                if (terminal.getSerialNumber() != null) {
+                    bySerialNumber.put(terminal.getSerialNumber(), terminal);
+                }
+                if (terminal.getMerchantAccount() != null) {
+                    byMerchantAccount.computeIfAbsent(terminal.getMerchantAccount(), key -> new ArrayList<>()).add(terminal);
+                }
+                if (terminal.getStore() != null) {
+                    byStore.computeIfAbsent(Arrays.asList(terminal.getMerchantAccount(), terminal.getStore()), key -> new ArrayList<>()).add(terminal);
+                }
+                if (terminal.getFirmwareVersion() != null) {
+                    byFirmwareVersion.computeIfAbsent(terminal.getFirmwareVersion(), key -> new ArrayList<>()).add(terminal);
+                }
+                if (terminal.getTerminalStatus() != null) {
+                    byTerminalStatus.computeIfAbsent(terminal.getTerminalStatus(), key -> new ArrayList<>()).add(terminal);
+                }
+            }
+            byMerchantAccount.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            byStore.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            byFirmwareVersion.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            byTerminalStatus.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.inventory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of a {@link TerminalInventory}.
+ */
+public final class TerminalInventoryConfig {
+
+    private final String companyAccount;
+    private final String merchantAccount;
+    private final int parallelism;
+    private final long refreshIntervalMillis;
+    private final long detailsMaxAgeMillis;
+
+    private TerminalInventoryConfig(Builder builder) {
+        this.companyAccount = builder.companyAccount;
+        this.merchantAccount = builder.merchantAccount;
+        this.parallelism = builder.parallelism;
+        this.refreshIntervalMillis = builder.refreshIntervalMillis;
+        this.detailsMaxAgeMillis = builder.detailsMaxAgeMillis;
+    }
+
+    /**
+     * @param companyAccount company account whose terminals are indexed
+     * @return builder
+     */
+    public static Builder builder(String companyAccount) {
+        return new Builder(companyAccount);
+    }
+
+    public String getCompanyAccount() {
+        return companyAccount;
+    }
+
+    /**
+     * @return merchant account the inventory is restricted to, null for all the merchant accounts of the company
+     */
+    public String getMerchantAccount() {
+        return merchantAccount;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getRefreshIntervalMillis() {
+        return refreshIntervalMillis;
+    }
+
+    public long getDetailsMaxAgeMillis() {
+        return detailsMaxAgeMillis;
+    }
+
+    /**
+     * Builder of {@link TerminalInventoryConfig}.
+     */
+    public static final class Builder {
+        private final String companyAccount;
+        private String merchantAccount;
+        private int parallelism = 8;
+        private long refreshIntervalMillis = TimeUnit.MINUTES.toMillis(15);
+        private long detailsMaxAgeMillis = TimeUnit.HOURS.toMillis(1);
+
+        private Builder(String companyAccount) {
+            if (companyAccount == null) {
+                throw new IllegalArgumentException("companyAccount is required");
+            }
+            this.companyAccount = companyAccount;
+        }
+
+        /**
+         * @param merchantAccount merchant account to restrict the inventory to
+         * @return builder
+         */
+        public Builder merchantAccount(String merchantAccount) {
+            this.merchantAccount = merchantAccount;
+            return this;
+        }
+
+        /**
+         * @param parallelism number of terminal details requested concurrently during a refresh
+         * @return builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param refreshInterval delay between the end of a scheduled refresh and the start of the next one
+         * @param unit unit of the delay
+         * @return builder
+         */
+        public Builder refreshInterval(long refreshInterval, TimeUnit unit) {
+            if (refreshInterval <= 0) {
+                throw new IllegalArgumentException("refreshInterval must be positive");
+            }
+            this.refreshIntervalMillis = unit.toMillis(refreshInterval);
+            return this;
+        }
+
+        /**
+         * Sets the age after which a refresh requests the details of a terminal again, such as its status and firmware.
+         * The details of new terminals, and of terminals that moved, are always requested.
+         *
+         * @param detailsMaxAge age of the details, 0 to request the details of all the terminals on each refresh
+         * @param unit unit of the age
+         * @return builder
+         */
+        public Builder detailsMaxAge(long detailsMaxAge, TimeUnit unit) {
+            if (detailsMaxAge < 0) {
+                throw new IllegalArgumentException("detailsMaxAge must not be negative");
+            }
+            this.detailsMaxAgeMillis = unit.toMillis(detailsMaxAge);
+            return this;
+        }
+
+        public TerminalInventoryConfig build() {
+            return new TerminalInventoryConfig(this);
+        }
+    }
+}
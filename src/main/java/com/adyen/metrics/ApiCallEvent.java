@@ -0,0 +1,254 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import com.adyen.constants.ApiConstants;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing and size of one API call, as seen by the service resource.
+ */
+public final class ApiCallEvent {
+
+    /**
+     * Status reported for successful calls whose HTTP client returns only the body, which it does for any 2xx status.
+     */
+    public static final int STATUS_UNKNOWN = -1;
+
+    private final String endpoint;
+    private final ApiConstants.HttpMethod httpMethod;
+    private final int statusCode;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final long startTimeMillis;
+    private final long durationNanos;
+    private final long bindingNanos;
+    private final String idempotencyKey;
+    private final Throwable error;
+    private final boolean async;
+    private final int attempt;
+
+    private ApiCallEvent(Builder builder) {
+        this.endpoint = builder.endpoint;
+        this.httpMethod = builder.httpMethod;
+        this.statusCode = builder.statusCode;
+        this.requestBytes = builder.requestBytes;
+        this.responseBytes = builder.responseBytes;
+        this.startTimeMillis = builder.startTimeMillis;
+        this.durationNanos = builder.durationNanos;
+        this.bindingNanos = builder.bindingNanos;
+        this.idempotencyKey = builder.idempotencyKey;
+        this.error = builder.error;
+        this.async = builder.async;
+        this.attempt = builder.attempt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return endpoint template, with path parameters such as {@code {paymentPspReference}} left unresolved
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public ApiConstants.HttpMethod getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * @return HTTP status, {@link #STATUS_UNKNOWN} when the HTTP client did not report it, 0 when no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return size of the request body in bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * @return size of the response body in bytes, -1 when unknown
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return wall clock time the call started at, in epoch milliseconds
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * @return time spent in the HTTP client, from sending the request to receiving the response, or to the start of
+     * its body when the body was bound while streamed
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return time spent reading and binding a streamed response body, -1 when the body was not streamed
+     */
+    public long getBindingNanos() {
+        return bindingNanos;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * @return exception the call failed with, null when it succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * @return number of the attempt, starting at 1, greater for the retries of the call
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    @Override
+    public String toString() {
+        return "ApiCallEvent{"
+                + "endpoint='" + endpoint + '\''
+                + ", httpMethod=" + httpMethod
+                + ", statusCode=" + statusCode
+                + ", requestBytes=" + requestBytes
+                + ", responseBytes=" + responseBytes
+                + ", durationNanos=" + durationNanos
+                + ", bindingNanos=" + bindingNanos
+                + ", async=" + async
+                + ", attempt=" + attempt
+                + '}';
+    }
+
+    /**
+     * Builder of {@link ApiCallEvent}.
+     */
+    public static final class Builder {
+        private String endpoint;
+        private ApiConstants.HttpMethod httpMethod = ApiConstants.HttpMethod.POST;
+        private int statusCode;
+        private long requestBytes;
+        private long responseBytes = -1;
+        private long startTimeMillis;
+        private long durationNanos;
+        private long bindingNanos = -1;
+        private String idempotencyKey;
+        private Throwable error;
+        private boolean async;
+        private int attempt = 1;
+
+        private Builder() {
+        }
+
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder httpMethod(ApiConstants.HttpMethod httpMethod) {
+            if (httpMethod != null) {
+                this.httpMethod = httpMethod;
+            }
+            return this;
+        }
+
+        public Builder statusCode(int statusCode) {
+            this.statusCode = statusCode;
+            return this;
+        }
+
+        public Builder requestBytes(long requestBytes) {
+            this.requestBytes = requestBytes;
+            return this;
+        }
+
+        public Builder responseBytes(long responseBytes) {
+            this.responseBytes = responseBytes;
+            return this;
+        }
+
+        public Builder startTimeMillis(long startTimeMillis) {
+            this.startTimeMillis = startTimeMillis;
+            return this;
+        }
+
+        public Builder durationNanos(long durationNanos) {
+            this.durationNanos = durationNanos;
+            return this;
+        }
+
+        public Builder bindingNanos(long bindingNanos) {
+            this.bindingNanos = bindingNanos;
+            return this;
+        }
+
+        public Builder idempotencyKey(String idempotencyKey) {
+            this.idempotencyKey = idempotencyKey;
+            return this;
+        }
+
+        public Builder error(Throwable error) {
+            this.error = error;
+            return this;
+        }
+
+        public Builder async(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        public Builder attempt(int attempt) {
+            this.attempt = attempt;
+            return this;
+        }
+
+        public ApiCallEvent build() {
+            return new ApiCallEvent(this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import com.adyen.circuitbreaker.CircuitBreaker;
+
+import java.lang.reflect.Type;
+
+/**
+ * Receives timing events for the API calls and JSON conversions of a {@link com.adyen.Client}, for metrics or tracing.
+ * <p>
+ * Listeners are invoked on the thread completing the call and must not block or throw.
+ * When no listener is set the client uses {@link #NO_OP}, in which case no event is created.
+ */
+public interface ApiCallListener {
+
+    /**
+     * Listener ignoring all events, the default of the client.
+     */
+    ApiCallListener NO_OP = new ApiCallListener() {
+    };
+
+    /**
+     * Called when an API call has completed, successfully or not.
+     *
+     * @param event call details
+     */
+    default void onApiCall(ApiCallEvent event) {
+    }
+
+    /**
+     * Called after a value has been converted to JSON by the service codec.
+     *
+     * @param type type of the value
+     * @param length length of the JSON, in characters
+     * @param durationNanos time spent serializing
+     */
+    default void onSerialization(Type type, int length, long durationNanos) {
+    }
+
+    /**
+     * Called after JSON has been converted to a value by the service codec.
+     *
+     * @param type requested type
+     * @param length length of the JSON, in characters, or -1 when it has been read from a stream
+     * @param durationNanos time spent deserializing
+     */
+    default void onDeserialization(Type type, int length, long durationNanos) {
+    }
+
+    /**
+     * Called when the circuit breaker of an endpoint changes state.
+     *
+     * @param circuitBreaker circuit breaker of the endpoint
+     * @param from previous state
+     * @param to new state
+     */
+    default void onCircuitBreakerStateChange(CircuitBreaker circuitBreaker, CircuitBreaker.State from, CircuitBreaker.State to) {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import com.adyen.serializer.JsonCodec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+/**
+ * {@link JsonCodec} decorator reporting the time spent converting to and from JSON to an {@link ApiCallListener}.
+ */
+public final class InstrumentedJsonCodec implements JsonCodec {
+
+    private final JsonCodec delegate;
+    private final ApiCallListener listener;
+
+    public InstrumentedJsonCodec(JsonCodec delegate, ApiCallListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    public JsonCodec getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String toJson(Object value) {
+        long start = System.nanoTime();
+        String json = delegate.toJson(value);
+        listener.onSerialization(value != null ? value.getClass() : Object.class, json.length(), System.nanoTime() - start);
+        return json;
+    }
+
+    @Override
+    public <T> T fromJson(String json, Type type) {
+        long start = System.nanoTime();
+        T value = delegate.fromJson(json, type);
+        listener.onDeserialization(type, json != null ? json.length() : 0, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public <T> T fromJson(Reader json, Class<T> type) throws IOException {
+        long start = System.nanoTime();
+        T value = delegate.fromJson(json, type);
+        listener.onDeserialization(type, -1, System.nanoTime() - start);
+        return value;
+    }
+}
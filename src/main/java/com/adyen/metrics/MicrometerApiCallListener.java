@@ -0,0 +1,117 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * {@link ApiCallListener} recording the events as meters following the Micrometer naming and tagging conventions,
+ * without depending on Micrometer. The meters are handed to a {@link MeterRecorder}, which bridges to a
+ * {@code MeterRegistry} in a few lines, the tags being key/value pairs as accepted by {@code Tags.of(String...)}:
+ * <pre>
+ * client.setApiCallListener(new MicrometerApiCallListener(new MicrometerApiCallListener.MeterRecorder() {
+ *     public void recordTimer(String name, long durationNanos, String... tags) {
+ *         Timer.builder(name).tags(tags).register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+ *     }
+ *
+ *     public void recordSummary(String name, String baseUnit, double amount, String... tags) {
+ *         DistributionSummary.builder(name).baseUnit(baseUnit).tags(tags).register(registry).record(amount);
+ *     }
+ * }));
+ * </pre>
+ * Recorded meters:
+ * <ul>
+ * <li>{@code adyen.client.requests}: timer of the HTTP calls, tagged with endpoint, method, status and outcome</li>
+ * <li>{@code adyen.client.request.size} and {@code adyen.client.response.size}: body sizes in bytes, same tags</li>
+ * <li>{@code adyen.client.serialization}: timer of the JSON conversions, tagged with type and direction</li>
+ * </ul>
+ */
+public class MicrometerApiCallListener implements ApiCallListener {
+
+    public static final String REQUESTS = "adyen.client.requests";
+    public static final String REQUEST_SIZE = "adyen.client.request.size";
+    public static final String RESPONSE_SIZE = "adyen.client.response.size";
+    public static final String SERIALIZATION = "adyen.client.serialization";
+    private static final String BYTES = "bytes";
+
+    /**
+     * Sink of the recorded meters, typically backed by a Micrometer {@code MeterRegistry}.
+     */
+    public interface MeterRecorder {
+
+        void recordTimer(String name, long durationNanos, String... tags);
+
+        void recordSummary(String name, String baseUnit, double amount, String... tags);
+    }
+
+    private final MeterRecorder meterRecorder;
+
+    public MicrometerApiCallListener(MeterRecorder meterRecorder) {
+        if (meterRecorder == null) {
+            throw new IllegalArgumentException("meterRecorder is required");
+        }
+        this.meterRecorder = meterRecorder;
+    }
+
+    @Override
+    public void onApiCall(ApiCallEvent event) {
+        String[] tags = {
+                "endpoint", event.getEndpoint() != null ? event.getEndpoint() : "none",
+                "method", event.getHttpMethod().name(),
+                "status", event.getStatusCode() == ApiCallEvent.STATUS_UNKNOWN ? "UNKNOWN" : String.valueOf(event.getStatusCode()),
+                "outcome", outcome(event)
+        };
+        meterRecorder.recordTimer(REQUESTS, event.getDurationNanos(), tags);
+        meterRecorder.recordSummary(REQUEST_SIZE, BYTES, event.getRequestBytes(), tags);
+        if (event.getResponseBytes() >= 0) {
+            meterRecorder.recordSummary(RESPONSE_SIZE, BYTES, event.getResponseBytes(), tags);
+        }
+    }
+
+    @Override
+    public void onSerialization(Type type, int length, long durationNanos) {
+        meterRecorder.recordTimer(SERIALIZATION, durationNanos, "type", typeName(type), "direction", "serialize");
+    }
+
+    @Override
+    public void onDeserialization(Type type, int length, long durationNanos) {
+        meterRecorder.recordTimer(SERIALIZATION, durationNanos, "type", typeName(type), "direction", "deserialize");
+    }
+
+    /**
+     * Outcome tag, with the values of Micrometer's {@code Outcome} for HTTP clients.
+     */
+    private static String outcome(ApiCallEvent event) {
+        int status = event.getStatusCode();
+        if (event.isSuccess()) {
+            return "SUCCESS";
+        } else if (status >= 400 && status < 500) {
+            return "CLIENT_ERROR";
+        } else if (status >= 500 && status < 600) {
+            return "SERVER_ERROR";
+        }
+        return "UNKNOWN";
+    }
+
+    private static String typeName(Type type) {
+        return type instanceof Class ? ((Class<?>) type).getSimpleName() : type.getTypeName();
+    }
+}
@@ -21,6 +21,7 @@
 package com.adyen.model;
 
 import com.adyen.serializer.DateTimeISO8601Serializer;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -29,7 +30,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Date;
 import java.util.Objects;
 
@@ -68,10 +69,10 @@ public class AccountInfo {
             return String.valueOf(value);
         }
 
+        private static final Map<String, AccountAgeIndicatorEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static AccountAgeIndicatorEnum fromValue(String text) {
-           return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+           return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<AccountAgeIndicatorEnum> {
@@ -121,10 +122,10 @@ public class AccountInfo {
             return String.valueOf(value);
         }
 
+        private static final Map<String, AccountChangeIndicatorEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static AccountChangeIndicatorEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<AccountChangeIndicatorEnum> {
@@ -173,10 +174,10 @@ public class AccountInfo {
             return String.valueOf(value);
         }
 
+        private static final Map<String, AccountTypeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static AccountTypeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<AccountTypeEnum> {
@@ -229,10 +230,10 @@ public class AccountInfo {
             return String.valueOf(value);
         }
 
+        private static final Map<String, DeliveryAddressUsageIndicatorEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static DeliveryAddressUsageIndicatorEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<DeliveryAddressUsageIndicatorEnum> {
@@ -289,10 +290,10 @@ public class AccountInfo {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PasswordChangeIndicatorEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static PasswordChangeIndicatorEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PasswordChangeIndicatorEnum> {
@@ -349,10 +350,10 @@ public class AccountInfo {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PaymentAccountIndicatorEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static PaymentAccountIndicatorEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PaymentAccountIndicatorEnum> {
@@ -22,6 +22,7 @@
 
 package com.adyen.model;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -31,7 +32,7 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.List;
 import java.util.Objects;
 
@@ -69,10 +70,10 @@ public class DeviceRenderOptions {
             return String.valueOf(value);
         }
 
+        private static final Map<String, SdkInterfaceEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static SdkInterfaceEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<SdkInterfaceEnum> {
@@ -120,10 +121,10 @@ public class DeviceRenderOptions {
             return String.valueOf(value);
         }
 
+        private static final Map<String, SdkUiTypeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static SdkUiTypeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<SdkUiTypeEnum> {
@@ -21,6 +21,7 @@
 package com.adyen.model;
 
 import com.adyen.serializer.DateSerializer;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -29,7 +30,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Date;
 import java.util.Objects;
 
@@ -74,10 +75,10 @@ public class MerchantRiskIndicator {
             return String.valueOf(value);
         }
 
+        private static final Map<String, DeliveryAddressIndicatorEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static DeliveryAddressIndicatorEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<DeliveryAddressIndicatorEnum> {
@@ -127,10 +128,10 @@ public class MerchantRiskIndicator {
             return String.valueOf(value);
         }
 
+        private static final Map<String, DeliveryTimeframeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static DeliveryTimeframeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<DeliveryTimeframeEnum> {
@@ -21,6 +21,7 @@
  */
 package com.adyen.model;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -30,7 +31,7 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.List;
 import java.util.Objects;
 
@@ -103,10 +104,10 @@ public class PaymentRequest3ds2 extends AbstractPaymentRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static RecurringProcessingModelEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -158,10 +159,10 @@ public class PaymentRequest3ds2 extends AbstractPaymentRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ShopperInteractionEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ShopperInteractionEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
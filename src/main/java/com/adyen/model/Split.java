@@ -20,6 +20,7 @@
  */
 package com.adyen.model;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -28,6 +29,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -78,13 +80,10 @@ public class Split {
             return String.valueOf(value);
         }
 
+        private static final Map<String, TypeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static TypeEnum fromValue(String text) {
-            for (TypeEnum b : TypeEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -21,6 +21,8 @@
 
 package com.adyen.model;
 
+import com.adyen.util.EnumUtil;
+import java.util.Map;
 import java.util.Objects;
 
 import com.google.gson.TypeAdapter;
@@ -60,13 +62,10 @@ public class SubjectErasureResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ResultEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ResultEnum fromValue(String text) {
-            for (ResultEnum b : ResultEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ResultEnum> {
@@ -20,6 +20,7 @@
  */
 package com.adyen.model;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -28,7 +29,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 
@@ -70,10 +71,10 @@ public class ThreeDS2RequestData {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ChallengeIndicatorEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ChallengeIndicatorEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ChallengeIndicatorEnum> {
@@ -183,10 +184,10 @@ public class ThreeDS2RequestData {
         public String toString() {
             return String.valueOf(value);
         }
+        private static final Map<String, TransactionTypeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static TransactionTypeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
         public static class Adapter extends TypeAdapter<TransactionTypeEnum> {
             @Override
@@ -22,6 +22,7 @@ package com.adyen.model.binlookup;
 
 import com.adyen.model.Amount;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.adyen.util.EnumUtil;
 import com.adyen.util.MaskUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -30,7 +31,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 
@@ -97,10 +98,10 @@ public class CostEstimateRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ShopperInteractionEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ShopperInteractionEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
@@ -20,6 +20,7 @@
  */
 package com.adyen.model.binlookup;
 
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -27,7 +28,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Date;
 import java.util.Objects;
 
@@ -66,10 +67,10 @@ public class Recurring {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ContractEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ContractEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ContractEnum> {
@@ -121,10 +122,10 @@ public class Recurring {
             return String.valueOf(value);
         }
 
+        private static final Map<String, TokenServiceEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static TokenServiceEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TokenServiceEnum> {
@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.adyen.model.Amount;
+import com.adyen.util.EnumUtil;
 
 /**
  * CheckoutCreateOrderResponse
@@ -88,13 +89,10 @@ public class CheckoutCreateOrderResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ResultCodeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ResultCodeEnum fromValue(String text) {
-            for (ResultCodeEnum b : ResultCodeEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -30,6 +30,7 @@ import com.adyen.model.Amount;
 import com.adyen.model.applicationinfo.ApplicationInfo;
 import com.adyen.model.Name;
 import com.adyen.model.Split;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -110,13 +111,14 @@ public class CreateCheckoutSessionRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ChannelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ChannelEnum fromValue(String value) {
-            for (ChannelEnum b : ChannelEnum.values()) {
-                if (b.value.equals(value)) {
-                    return b;
-                }
+            ChannelEnum constant = BY_VALUE.get(value);
+            if (constant == null) {
+                throw new IllegalArgumentException("Unexpected value '" + value + "'");
             }
-            throw new IllegalArgumentException("Unexpected value '" + value + "'");
+            return constant;
         }
 
         public static class Adapter extends TypeAdapter<ChannelEnum> {
@@ -230,13 +232,14 @@ public class CreateCheckoutSessionRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static RecurringProcessingModelEnum fromValue(String value) {
-            for (RecurringProcessingModelEnum b : RecurringProcessingModelEnum.values()) {
-                if (b.value.equals(value)) {
-                    return b;
-                }
+            RecurringProcessingModelEnum constant = BY_VALUE.get(value);
+            if (constant == null) {
+                throw new IllegalArgumentException("Unexpected value '" + value + "'");
             }
-            throw new IllegalArgumentException("Unexpected value '" + value + "'");
+            return constant;
         }
 
         public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -311,13 +314,14 @@ public class CreateCheckoutSessionRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ShopperInteractionEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ShopperInteractionEnum fromValue(String value) {
-            for (ShopperInteractionEnum b : ShopperInteractionEnum.values()) {
-                if (b.value.equals(value)) {
-                    return b;
-                }
+            ShopperInteractionEnum constant = BY_VALUE.get(value);
+            if (constant == null) {
+                throw new IllegalArgumentException("Unexpected value '" + value + "'");
             }
-            throw new IllegalArgumentException("Unexpected value '" + value + "'");
+            return constant;
         }
 
         public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
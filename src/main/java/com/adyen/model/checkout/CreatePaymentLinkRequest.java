@@ -29,6 +29,7 @@ import com.adyen.model.Name;
 import com.adyen.model.Split;
 import com.adyen.model.applicationinfo.ApplicationInfo;
 import com.adyen.serializer.DateSerializer;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -114,13 +115,10 @@ public class CreatePaymentLinkRequest {
         public String toString() {
             return String.valueOf(value);
         }
+        private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static RecurringProcessingModelEnum fromValue(String text) {
-            for (RecurringProcessingModelEnum b : RecurringProcessingModelEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
         public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
             @Override
@@ -167,13 +165,10 @@ public class CreatePaymentLinkRequest {
         public String toString() {
             return String.valueOf(value);
         }
+        private static final Map<String, RequiredShopperFieldsEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static RequiredShopperFieldsEnum fromValue(String text) {
-            for (RequiredShopperFieldsEnum b : RequiredShopperFieldsEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
         public static class Adapter extends TypeAdapter<RequiredShopperFieldsEnum> {
             @Override
@@ -245,13 +240,10 @@ public class CreatePaymentLinkRequest {
         public String toString() {
             return String.valueOf(value);
         }
+        private static final Map<String, StorePaymentMethodModeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static StorePaymentMethodModeEnum fromValue(String value) {
-            for (StorePaymentMethodModeEnum b : StorePaymentMethodModeEnum.values()) {
-                if (b.value.equals(value)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(value);
         }
 
         public static class Adapter extends TypeAdapter<StorePaymentMethodModeEnum> {
@@ -21,6 +21,7 @@
 
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -31,6 +32,7 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -65,13 +67,10 @@ public class InstallmentOption {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PlansEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static PlansEnum fromValue(String text) {
-            for (PlansEnum b : PlansEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PlansEnum> {
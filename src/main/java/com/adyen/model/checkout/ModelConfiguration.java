@@ -22,6 +22,7 @@
 package com.adyen.model.checkout;
 
 import com.adyen.model.Installments;
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -29,7 +30,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 
@@ -65,10 +66,10 @@ public class ModelConfiguration {
             return String.valueOf(value);
         }
 
+        private static final Map<String, CardHolderNameEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static CardHolderNameEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<CardHolderNameEnum> {
@@ -20,6 +20,7 @@
  */
 package com.adyen.model.checkout;
 
+import java.util.Map;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -34,6 +35,7 @@ import java.util.ArrayList;
 import java.util.List;
 import com.adyen.model.Amount;
 import com.adyen.model.Split;
+import com.adyen.util.EnumUtil;
 
 /**
  * PaymentAmountUpdateResource
@@ -80,13 +82,14 @@ public class PaymentAmountUpdateResource {
       return String.valueOf(value);
     }
 
+    private static final Map<String, ReasonEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     public static ReasonEnum fromValue(String value) {
-      for (ReasonEnum b : ReasonEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+      ReasonEnum constant = BY_VALUE.get(value);
+      if (constant == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return constant;
     }
 
     public static class Adapter extends TypeAdapter<ReasonEnum> {
@@ -138,13 +141,14 @@ public class PaymentAmountUpdateResource {
       return String.valueOf(value);
     }
 
+    private static final Map<String, StatusEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     public static StatusEnum fromValue(String value) {
-      for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+      StatusEnum constant = BY_VALUE.get(value);
+      if (constant == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return constant;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
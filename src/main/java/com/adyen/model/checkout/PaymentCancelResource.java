@@ -20,6 +20,8 @@
  */
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
+import java.util.Map;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -73,13 +75,14 @@ public class PaymentCancelResource {
       return String.valueOf(value);
     }
 
+    private static final Map<String, StatusEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     public static StatusEnum fromValue(String value) {
-      for (StatusEnum b : StatusEnum.values()) {
-        if (b.value.equals(value)) {
-          return b;
-        }
+      StatusEnum constant = BY_VALUE.get(value);
+      if (constant == null) {
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
       }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return constant;
     }
 
     public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -25,6 +25,7 @@ import com.adyen.model.Amount;
 import com.adyen.model.Name;
 import com.adyen.model.Split;
 import com.adyen.model.applicationinfo.ApplicationInfo;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -35,6 +36,7 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -109,13 +111,10 @@ public class PaymentLinkResource {
             return String.valueOf(value);
         }
 
+        private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static RecurringProcessingModelEnum fromValue(String text) {
-            for (RecurringProcessingModelEnum b : RecurringProcessingModelEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -188,13 +187,10 @@ public class PaymentLinkResource {
             return String.valueOf(value);
         }
 
+        private static final Map<String, StatusEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static StatusEnum fromValue(String text) {
-            for (StatusEnum b : StatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<StatusEnum> {
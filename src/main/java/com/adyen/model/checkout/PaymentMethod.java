@@ -20,6 +20,7 @@
  */
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -76,13 +77,10 @@ public class PaymentMethod {
             return String.valueOf(value);
         }
 
+        private static final Map<String, FundingSourceEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static FundingSourceEnum fromValue(String text) {
-            for (FundingSourceEnum b : FundingSourceEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<FundingSourceEnum> {
@@ -26,6 +26,7 @@ import com.adyen.model.Amount;
 import com.adyen.model.MerchantRiskIndicator;
 import com.adyen.model.Split;
 import com.adyen.model.ThreeDS2RequestData;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -34,7 +35,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.List;
 import java.util.Objects;
 
@@ -399,10 +400,10 @@ public class PaymentMethodsRequest {
             this.value = value;
         }
 
+        private static final Map<String, ChannelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ChannelEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                                 findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public String getValue() {
@@ -22,6 +22,7 @@
 package com.adyen.model.checkout;
 
 import com.adyen.model.FraudResult;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -30,7 +31,6 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -359,10 +359,10 @@ public class PaymentResultResponse {
             this.value = value;
         }
 
+        private static final Map<String, ResultCodeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ResultCodeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public String getValue() {
@@ -35,6 +35,7 @@ import com.adyen.model.ThreeDS2RequestData;
 import com.adyen.model.applicationinfo.ApplicationInfo;
 import com.adyen.model.recurring.Recurring;
 import com.adyen.serializer.DateSerializer;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -44,7 +45,7 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -123,10 +124,10 @@ public class PaymentSessionRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ChannelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ChannelEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ChannelEnum> {
@@ -211,10 +212,10 @@ public class PaymentSessionRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, EntityTypeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static EntityTypeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<EntityTypeEnum> {
@@ -303,10 +304,10 @@ public class PaymentSessionRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, RecurringProcessingModelEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static RecurringProcessingModelEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<RecurringProcessingModelEnum> {
@@ -391,10 +392,10 @@ public class PaymentSessionRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ShopperInteractionEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ShopperInteractionEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
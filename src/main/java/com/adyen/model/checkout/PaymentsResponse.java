@@ -21,6 +21,7 @@
 
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -29,7 +30,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -125,10 +126,10 @@ public class PaymentsResponse extends AbstractPaymentsResponse<PaymentsResponse>
             this.value = value;
         }
 
+        private static final Map<String, ResultCodeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ResultCodeEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public String getValue() {
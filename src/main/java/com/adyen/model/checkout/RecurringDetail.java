@@ -21,6 +21,7 @@
 
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -78,13 +79,10 @@ public class RecurringDetail {
             return String.valueOf(value);
         }
 
+        private static final Map<String, FundingSourceEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static FundingSourceEnum fromValue(String text) {
-            for (FundingSourceEnum b : FundingSourceEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<FundingSourceEnum> {
@@ -20,6 +20,7 @@
  */
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -28,7 +29,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 
@@ -65,10 +66,10 @@ public class ShopperInput {
             return String.valueOf(value);
         }
 
+        private static final Map<String, BillingAddressEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static BillingAddressEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<BillingAddressEnum> {
@@ -114,10 +115,10 @@ public class ShopperInput {
             return String.valueOf(value);
         }
 
+        private static final Map<String, DeliveryAddressEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static DeliveryAddressEnum fromValue(String text) {
-            return Arrays.stream(DeliveryAddressEnum.values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<DeliveryAddressEnum> {
@@ -163,10 +164,10 @@ public class ShopperInput {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PersonalDetailsEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static PersonalDetailsEnum fromValue(String text) {
-            return Arrays.stream(PersonalDetailsEnum.values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PersonalDetailsEnum> {
@@ -21,6 +21,7 @@
 
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -29,6 +30,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -63,13 +65,10 @@ public class SubscriptionDetails {
             return String.valueOf(value);
         }
 
+        private static final Map<String, AmountRuleEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static AmountRuleEnum fromValue(String text) {
-            for (AmountRuleEnum b : AmountRuleEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<AmountRuleEnum> {
@@ -114,13 +113,10 @@ public class SubscriptionDetails {
             return String.valueOf(value);
         }
 
+        private static final Map<String, BillingAttemptsRuleEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static BillingAttemptsRuleEnum fromValue(String text) {
-            for (BillingAttemptsRuleEnum b : BillingAttemptsRuleEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<BillingAttemptsRuleEnum> {
@@ -176,13 +172,10 @@ public class SubscriptionDetails {
             return String.valueOf(value);
         }
 
+        private static final Map<String, FrequencyEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static FrequencyEnum fromValue(String text) {
-            for (FrequencyEnum b : FrequencyEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<FrequencyEnum> {
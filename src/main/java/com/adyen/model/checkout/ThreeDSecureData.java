@@ -21,6 +21,7 @@
 
 package com.adyen.model.checkout;
 
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -28,7 +29,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 
@@ -224,10 +225,10 @@ public class ThreeDSecureData {
             this.value = value;
         }
 
+        private static final Map<String, AuthenticationResponseEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static AuthenticationResponseEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public String getValue() {
@@ -277,10 +278,10 @@ public class ThreeDSecureData {
             this.value = value;
         }
 
+        private static final Map<String, DirectoryResponseEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static DirectoryResponseEnum fromValue(String text) {
-            return Arrays.stream(DirectoryResponseEnum.values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public String getValue() {
@@ -23,6 +23,7 @@ package com.adyen.model.checkout.details;
 
 import com.adyen.model.checkout.PaymentMethodDetails;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.adyen.util.EnumUtil;
 import com.adyen.util.MaskUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -31,7 +32,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 
@@ -74,10 +75,10 @@ public class ApplePayDetails implements PaymentMethodDetails {
             return String.valueOf(value);
         }
 
+        private static final Map<String, FundingSourceEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static FundingSourceEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<FundingSourceEnum> {
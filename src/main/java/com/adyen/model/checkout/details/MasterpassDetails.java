@@ -22,6 +22,7 @@
 package com.adyen.model.checkout.details;
 
 import com.adyen.model.checkout.PaymentMethodDetails;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -30,6 +31,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -68,13 +70,10 @@ public class MasterpassDetails implements PaymentMethodDetails {
             return String.valueOf(value);
         }
 
+        private static final Map<String, FundingSourceEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static FundingSourceEnum fromValue(String text) {
-            for (FundingSourceEnum b : FundingSourceEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<FundingSourceEnum> {
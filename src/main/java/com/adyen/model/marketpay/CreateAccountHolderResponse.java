@@ -22,6 +22,7 @@
 
 package com.adyen.model.marketpay;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -31,7 +32,7 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.List;
 import java.util.Objects;
 
@@ -87,10 +88,10 @@ public class CreateAccountHolderResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, LegalEntityEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static LegalEntityEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<LegalEntityEnum> {
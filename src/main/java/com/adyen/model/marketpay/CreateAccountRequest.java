@@ -21,6 +21,7 @@
 
 package com.adyen.model.marketpay;
 
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -28,7 +29,6 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -83,10 +83,10 @@ public class CreateAccountRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PayoutScheduleEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static PayoutScheduleEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PayoutScheduleEnum> {
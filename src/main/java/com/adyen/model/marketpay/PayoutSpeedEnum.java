@@ -21,12 +21,14 @@
 
 package com.adyen.model.marketpay;
 
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.Map;
 
 @JsonAdapter(PayoutSpeedEnum.Adapter.class)
 public enum PayoutSpeedEnum {
@@ -44,13 +46,10 @@ public enum PayoutSpeedEnum {
         return String.valueOf(value);
     }
 
+    private static final Map<String, PayoutSpeedEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     public static PayoutSpeedEnum fromValue(String text) {
-        for (PayoutSpeedEnum b : PayoutSpeedEnum.values()) {
-            if (String.valueOf(b.value).equals(text)) {
-                return b;
-            }
-        }
-        return null;
+        return BY_VALUE.get(text);
     }
 
     public static class Adapter extends TypeAdapter<PayoutSpeedEnum> {
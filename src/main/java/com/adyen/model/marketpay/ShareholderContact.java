@@ -23,6 +23,7 @@ package com.adyen.model.marketpay;
 
 import com.adyen.model.Address;
 import com.adyen.model.Name;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -31,6 +32,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 
@@ -89,13 +91,10 @@ public class ShareholderContact {
     public String toString() {
       return String.valueOf(value);
     }
+    private static final Map<String, ShareholderTypeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     public static ShareholderTypeEnum fromValue(String text) {
-      for (ShareholderTypeEnum b : ShareholderTypeEnum.values()) {
-        if (String.valueOf(b.value).equals(text)) {
-          return b;
-        }
-      }
-      return null;
+      return BY_VALUE.get(text);
     }
 
     public static class Adapter extends TypeAdapter<ShareholderTypeEnum> {
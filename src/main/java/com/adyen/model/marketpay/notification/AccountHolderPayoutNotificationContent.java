@@ -23,6 +23,7 @@ package com.adyen.model.marketpay.notification;
 
 import com.adyen.model.Amount;
 import com.adyen.model.marketpay.BankAccountDetail;
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -33,6 +34,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -108,13 +110,10 @@ public class AccountHolderPayoutNotificationContent {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PayoutSpeedEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static PayoutSpeedEnum fromValue(String text) {
-            for (PayoutSpeedEnum b : PayoutSpeedEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PayoutSpeedEnum> {
@@ -21,6 +21,7 @@
 
 package com.adyen.model.marketpay.notification;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -31,6 +32,7 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -73,13 +75,10 @@ public class AccountHolderStoreStatusChangeNotificationContent {
             return String.valueOf(value);
         }
 
+        private static final Map<String, NewStatusEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static NewStatusEnum fromValue(String text) {
-            for (NewStatusEnum b : NewStatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<NewStatusEnum> {
@@ -126,13 +125,10 @@ public class AccountHolderStoreStatusChangeNotificationContent {
             return String.valueOf(value);
         }
 
+        private static final Map<String, OldStatusEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static OldStatusEnum fromValue(String text) {
-            for (OldStatusEnum b : OldStatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<OldStatusEnum> {
@@ -21,6 +21,7 @@
 
 package com.adyen.model.marketpay.notification;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -30,6 +31,7 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.Date;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -83,13 +85,10 @@ public class AccountHolderUpcomingDeadlineNotificationContent {
             return String.valueOf(value);
         }
 
+        private static final Map<String, EventEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static EventEnum fromValue(String text) {
-            for (EventEnum b : EventEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<EventEnum> {
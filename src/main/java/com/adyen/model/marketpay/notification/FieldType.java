@@ -21,6 +21,7 @@
 
 package com.adyen.model.marketpay.notification;
 
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -29,6 +30,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -194,13 +196,10 @@ public class FieldType {
             return String.valueOf(value);
         }
 
+        private static final Map<String, FieldNameEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static FieldNameEnum fromValue(String text) {
-            for (FieldNameEnum b : FieldNameEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<FieldNameEnum> {
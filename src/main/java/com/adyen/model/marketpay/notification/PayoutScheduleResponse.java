@@ -21,6 +21,7 @@
 
 package com.adyen.model.marketpay.notification;
 
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -29,6 +30,7 @@ import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
 import java.util.Date;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.adyen.util.Util.toIndentedString;
@@ -76,13 +78,10 @@ public class PayoutScheduleResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ScheduleEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ScheduleEnum fromValue(String text) {
-            for (ScheduleEnum b : ScheduleEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ScheduleEnum> {
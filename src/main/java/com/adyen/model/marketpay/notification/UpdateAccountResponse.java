@@ -21,6 +21,7 @@
 
 package com.adyen.model.marketpay.notification;
 
+import com.adyen.util.EnumUtil;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -85,13 +86,10 @@ public class UpdateAccountResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, PayoutSpeedEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static PayoutSpeedEnum fromValue(String text) {
-            for (PayoutSpeedEnum b : PayoutSpeedEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<PayoutSpeedEnum> {
@@ -1,11 +1,12 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -103,6 +104,8 @@ public enum AccountType {
         return value;
     }
 
+    private static final Map<String, AccountType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value account type.
      *
@@ -110,9 +113,11 @@ public enum AccountType {
      * @return the account type
      */
     public static AccountType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AccountType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
@@ -1,9 +1,10 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -100,6 +101,8 @@ public enum AlgorithmType {
         return value;
     }
 
+    private static final Map<String, AlgorithmType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value algorithm type.
      *
@@ -107,9 +110,11 @@ public enum AlgorithmType {
      * @return the algorithm type
      */
     public static AlgorithmType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AlgorithmType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
@@ -1,9 +1,10 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -61,6 +62,8 @@ public enum AlignmentType {
         return value;
     }
 
+    private static final Map<String, AlignmentType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value alignment type.
      *
@@ -68,9 +71,11 @@ public enum AlignmentType {
      * @return the alignment type
      */
     public static AlignmentType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AlignmentType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
@@ -1,9 +1,10 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -72,6 +73,8 @@ public enum AttributeType {
         return value;
     }
 
+    private static final Map<String, AttributeType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value attribute type.
      *
@@ -79,9 +82,11 @@ public enum AttributeType {
      * @return the attribute type
      */
     public static AttributeType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AttributeType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
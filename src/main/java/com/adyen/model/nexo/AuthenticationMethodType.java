@@ -1,11 +1,12 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -128,6 +129,8 @@ public enum AuthenticationMethodType {
         return value;
     }
 
+    private static final Map<String, AuthenticationMethodType> BY_VALUE = EnumUtil.indexByValues(values(), constant -> constant.value);
+
     /**
      * From value authentication method type.
      *
@@ -135,9 +138,11 @@ public enum AuthenticationMethodType {
      * @return the authentication method type
      */
     public static AuthenticationMethodType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> Arrays.asList(s.value).contains(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        AuthenticationMethodType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
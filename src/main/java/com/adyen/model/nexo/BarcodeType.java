@@ -1,9 +1,10 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -78,6 +79,8 @@ public enum BarcodeType {
         return value;
     }
 
+    private static final Map<String, BarcodeType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value barcode type.
      *
@@ -85,9 +88,11 @@ public enum BarcodeType {
      * @return the barcode type
      */
     public static BarcodeType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        BarcodeType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
@@ -1,9 +1,10 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -55,6 +56,8 @@ public enum CharacterHeightType {
         return value;
     }
 
+    private static final Map<String, CharacterHeightType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value character height type.
      *
@@ -62,9 +65,11 @@ public enum CharacterHeightType {
      * @return the character height type
      */
     public static CharacterHeightType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        CharacterHeightType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
@@ -1,11 +1,12 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -63,6 +64,8 @@ public enum CustomerOrderReqType {
         return value;
     }
 
+    private static final Map<String, CustomerOrderReqType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value customer order req type.
      *
@@ -70,9 +73,11 @@ public enum CustomerOrderReqType {
      * @return the customer order req type
      */
     public static CustomerOrderReqType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        CustomerOrderReqType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
@@ -1,11 +1,12 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -71,6 +72,8 @@ public enum DeviceType {
         return value;
     }
 
+    private static final Map<String, DeviceType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value device type.
      *
@@ -78,9 +81,11 @@ public enum DeviceType {
      * @return the device type
      */
     public static DeviceType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        DeviceType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
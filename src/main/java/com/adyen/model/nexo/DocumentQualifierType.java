@@ -1,11 +1,12 @@
 package com.adyen.model.nexo;
 
+import com.adyen.util.EnumUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import javax.xml.bind.annotation.XmlEnum;
 import javax.xml.bind.annotation.XmlEnumValue;
 import javax.xml.bind.annotation.XmlType;
-import java.util.Arrays;
+import java.util.Map;
 
 
 /**
@@ -87,6 +88,8 @@ public enum DocumentQualifierType {
         return value;
     }
 
+    private static final Map<String, DocumentQualifierType> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     /**
      * From value document qualifier type.
      *
@@ -94,9 +97,11 @@ public enum DocumentQualifierType {
      * @return the document qualifier type
      */
     public static DocumentQualifierType fromValue(String v) {
-        return Arrays.stream(values()).
-                filter(s -> s.value.equals(v)).
-                findFirst().orElseThrow(() -> new IllegalArgumentException(v));
+        DocumentQualifierType constant = BY_VALUE.get(v);
+        if (constant == null) {
+            throw new IllegalArgumentException(v);
+        }
+        return constant;
     }
 
 }
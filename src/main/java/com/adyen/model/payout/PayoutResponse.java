@@ -35,6 +35,7 @@ package com.adyen.model.payout;
 
 import com.adyen.model.Amount;
 import com.adyen.model.FraudResult;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -43,7 +44,6 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -111,10 +111,10 @@ public class PayoutResponse {
     public String toString() {
       return String.valueOf(value);
     }
+    private static final Map<String, ResultCodeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
     public static ResultCodeEnum fromValue(String text) {
-      return Arrays.stream(values()).
-              filter(s -> s.value.equals(text)).
-              findFirst().orElse(null);
+      return BY_VALUE.get(text);
     }
     public static class Adapter extends TypeAdapter<ResultCodeEnum> {
       @Override
@@ -21,6 +21,8 @@
 
 package com.adyen.model.posterminalmanagement;
 
+import com.adyen.util.EnumUtil;
+import java.util.Map;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -137,13 +139,10 @@ public class GetTerminalDetailsResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, TerminalStatusEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static TerminalStatusEnum fromValue(String text) {
-            for (TerminalStatusEnum b : TerminalStatusEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<TerminalStatusEnum> {
@@ -21,6 +21,7 @@
 package com.adyen.model.recurring;
 
 import com.adyen.serializer.DateSerializer;
+import com.adyen.util.EnumUtil;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -29,7 +30,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.Date;
 import java.util.Objects;
 
@@ -115,10 +116,10 @@ public class Recurring {
         public String toString() {
             return String.valueOf(value);
         }
+        private static final Map<String, TokenServiceEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static TokenServiceEnum fromValue(String text) {
-            return Arrays.stream(values()).
-                    filter(s -> s.value.equals(text)).
-                    findFirst().orElse(null);
+            return BY_VALUE.get(text);
         }
         public static class Adapter extends TypeAdapter<TokenServiceEnum> {
             @Override
@@ -20,6 +20,7 @@
  */
 package com.adyen.model.storedvalue;
 
+import java.util.Map;
 import java.util.Objects;
 
 import com.adyen.model.checkout.PaymentMethodDetails;
@@ -33,6 +34,7 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 
 import com.adyen.model.Amount;
+import com.adyen.util.EnumUtil;
 
 /**
  * StoredValueBalanceCheckRequest
@@ -81,13 +83,10 @@ public class StoredValueBalanceCheckRequest {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ShopperInteractionEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ShopperInteractionEnum fromValue(String text) {
-            for (ShopperInteractionEnum b : ShopperInteractionEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ShopperInteractionEnum> {
@@ -20,6 +20,7 @@
  */
 package com.adyen.model.storedvalue;
 
+import java.util.Map;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -32,6 +33,7 @@ import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 
 import com.adyen.model.Amount;
+import com.adyen.util.EnumUtil;
 
 /**
  * StoredValueBalanceCheckResponse
@@ -73,13 +75,10 @@ public class StoredValueBalanceCheckResponse {
             return String.valueOf(value);
         }
 
+        private static final Map<String, ResultCodeEnum> BY_VALUE = EnumUtil.indexByValue(values(), constant -> constant.value);
+
         public static ResultCodeEnum fromValue(String text) {
-            for (ResultCodeEnum b : ResultCodeEnum.values()) {
-                if (String.valueOf(b.value).equals(text)) {
-                    return b;
-                }
-            }
-            return null;
+            return BY_VALUE.get(text);
         }
 
         public static class Adapter extends TypeAdapter<ResultCodeEnum> {
@@ -20,23 +20,47 @@
  */
 package com.adyen.notification;
 
-import com.adyen.deserializer.MarketPayNotificationMessageDeserializer;
+import com.adyen.deserializer.MarketPayNotificationTypeAdapter;
+import com.adyen.deserializer.MarketPayNotificationTypes;
 import com.adyen.model.marketpay.notification.GenericNotification;
 import com.adyen.model.notification.NotificationRequest;
+import com.adyen.model.notification.NotificationRequestItem;
+import com.adyen.serializer.GeneratedTypeAdapterFactory;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 
 /**
  * Notification converter
  */
 public class NotificationHandler {
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory(new GeneratedTypeAdapterFactory()).create();
+    private static final TypeAdapter<NotificationRequestItem> ITEM_ADAPTER = GSON.getAdapter(NotificationRequestItem.class);
+    private static final TypeAdapter<String> STRING_ADAPTER = GSON.getAdapter(String.class);
     private final Gson marketPayGson;
 
     public NotificationHandler() {
+        this(new MarketPayNotificationTypes());
+    }
+
+    /**
+     * @param marketPayNotificationTypes event type registry used to bind MarketPay notifications
+     */
+    public NotificationHandler(MarketPayNotificationTypes marketPayNotificationTypes) {
         GsonBuilder gsonBuilder = new GsonBuilder();
-        gsonBuilder.registerTypeAdapter(GenericNotification.class, new MarketPayNotificationMessageDeserializer());
+        // registered first so that the notification type adapter takes precedence
+        gsonBuilder.registerTypeAdapterFactory(new GeneratedTypeAdapterFactory());
+        gsonBuilder.registerTypeAdapterFactory(new MarketPayNotificationTypeAdapter(marketPayNotificationTypes));
         marketPayGson = gsonBuilder.create();
     }
 
@@ -48,4 +72,103 @@ public class NotificationHandler {
     public GenericNotification handleMarketpayNotificationJson(String json) {
         return marketPayGson.fromJson(json, GenericNotification.class);
     }
+
+    /**
+     * Parses a notification request incrementally, passing each item to the consumer as soon as it has been read.
+     * Only one item is held in memory at a time; entries without a NotificationRequestItem are skipped.
+     *
+     * @param json notification request body, UTF-8 encoded
+     * @param itemConsumer consumer of the notification items, in order
+     * @return the request without its items (which are not collected)
+     * @throws IOException IOException
+     */
+    public NotificationRequest handleNotificationJson(InputStream json, Consumer<NotificationRequestItem> itemConsumer) throws IOException {
+        return handleNotificationJson(new InputStreamReader(json, StandardCharsets.UTF_8), itemConsumer);
+    }
+
+    /**
+     * Parses a notification request incrementally, passing each item to the consumer as soon as it has been read.
+     * Only one item is held in memory at a time; entries without a NotificationRequestItem are skipped.
+     *
+     * @param json notification request body
+     * @param itemConsumer consumer of the notification items, in order
+     * @return the request without its items (which are not collected)
+     * @throws IOException IOException
+     */
+    public NotificationRequest handleNotificationJson(Reader json, Consumer<NotificationRequestItem> itemConsumer) throws IOException {
+        NotificationRequest notificationRequest = new NotificationRequest();
+        JsonReader jsonReader = new JsonReader(json);
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            if ("live".equals(name)) {
+                // bound like the buffered parsing does, which also accepts a boolean or a number
+                notificationRequest.setLive(STRING_ADAPTER.read(jsonReader));
+            } else if ("notificationItems".equals(name) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                readNotificationItems(jsonReader, itemConsumer);
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+        return notificationRequest;
+    }
+
+    /**
+     * Parses MarketPay notifications incrementally from a single notification or an array of notifications,
+     * passing each one to the consumer as soon as it has been read.
+     *
+     * @param json MarketPay notification body, UTF-8 encoded
+     * @param notificationConsumer consumer of the notifications, in order
+     * @throws IOException IOException
+     */
+    public void handleMarketpayNotificationJson(InputStream json, Consumer<GenericNotification> notificationConsumer) throws IOException {
+        handleMarketpayNotificationJson(new InputStreamReader(json, StandardCharsets.UTF_8), notificationConsumer);
+    }
+
+    /**
+     * Parses MarketPay notifications incrementally from a single notification or an array of notifications,
+     * passing each one to the consumer as soon as it has been read.
+     *
+     * @param json MarketPay notification body
+     * @param notificationConsumer consumer of the notifications, in order
+     * @throws IOException IOException
+     */
+    public void handleMarketpayNotificationJson(Reader json, Consumer<GenericNotification> notificationConsumer) throws IOException {
+        JsonReader jsonReader = new JsonReader(json);
+        if (jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+            notificationConsumer.accept(marketPayGson.fromJson(jsonReader, GenericNotification.class));
+            return;
+        }
+
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            notificationConsumer.accept(marketPayGson.fromJson(jsonReader, GenericNotification.class));
+        }
+        jsonReader.endArray();
+    }
+
+    private static void readNotificationItems(JsonReader jsonReader, Consumer<NotificationRequestItem> itemConsumer) throws IOException {
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+                jsonReader.skipValue();
+                continue;
+            }
+            NotificationRequestItem notificationRequestItem = null;
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                if ("NotificationRequestItem".equals(jsonReader.nextName())) {
+                    notificationRequestItem = ITEM_ADAPTER.read(jsonReader);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            if (notificationRequestItem != null) {
+                itemConsumer.accept(notificationRequestItem);
+            }
+        }
+        jsonReader.endArray();
+    }
 }
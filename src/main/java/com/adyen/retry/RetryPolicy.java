@@ -0,0 +1,244 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.retry;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Retry policy for API calls failing with a transient error, set with {@link com.adyen.Config#setRetryPolicy(RetryPolicy)}.
+ * <p>
+ * Failed attempts are retried after an exponential backoff with random jitter, up to a maximum number of attempts and
+ * within a total time budget. A call is only retried when it is safe to repeat: when it carries an idempotency key,
+ * is a GET, or could not connect at all. Calls to endpoints accepting idempotency keys, such as payments, modifications
+ * and payouts, get a generated key when none is set, unless {@link Builder#generateIdempotencyKeys(boolean)} is disabled.
+ */
+public final class RetryPolicy {
+
+    /**
+     * Retries on 429 Too Many Requests and on 500, 502, 503 and 504 responses.
+     */
+    public static final IntPredicate DEFAULT_RETRY_ON_STATUS = status -> status == 429 || status == 500 || (status >= 502 && status <= 504);
+
+    /**
+     * Retries on I/O errors other than unknown hosts and TLS failures, which are not transient.
+     */
+    public static final Predicate<IOException> DEFAULT_RETRY_ON_EXCEPTION = e -> !(e instanceof UnknownHostException) && !(e instanceof SSLException);
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+    private final double jitter;
+    private final long maxElapsedMillis;
+    private final IntPredicate retryOnStatus;
+    private final Predicate<IOException> retryOnException;
+    private final boolean generateIdempotencyKeys;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffMillis = builder.initialBackoffMillis;
+        this.maxBackoffMillis = builder.maxBackoffMillis;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.maxElapsedMillis = builder.maxElapsedMillis;
+        this.retryOnStatus = builder.retryOnStatus;
+        this.retryOnException = builder.retryOnException;
+        this.generateIdempotencyKeys = builder.generateIdempotencyKeys;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return policy with the default settings: 3 attempts, backoff from 200 ms up to 5 s, 30 s budget
+     */
+    public static RetryPolicy defaultPolicy() {
+        return builder().build();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getMaxElapsedMillis() {
+        return maxElapsedMillis;
+    }
+
+    public boolean isGenerateIdempotencyKeys() {
+        return generateIdempotencyKeys;
+    }
+
+    public boolean isRetryable(int statusCode) {
+        return retryOnStatus.test(statusCode);
+    }
+
+    public boolean isRetryable(IOException exception) {
+        return retryOnException.test(exception);
+    }
+
+    /**
+     * Returns the delay before the next attempt: the exponential backoff for the number of failed attempts,
+     * reduced by a random part of up to the jitter fraction of it.
+     *
+     * @param failedAttempts number of attempts made so far, at least 1
+     * @return delay in milliseconds
+     */
+    public long getBackoffMillis(int failedAttempts) {
+        double backoff = initialBackoffMillis * Math.pow(multiplier, failedAttempts - 1);
+        backoff = Math.min(backoff, maxBackoffMillis);
+        return (long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    /**
+     * Tells whether another attempt fits the policy.
+     *
+     * @param failedAttempts number of attempts made so far
+     * @param elapsedMillis time spent since the first attempt
+     * @param backoffMillis delay before the next attempt
+     * @return true when the next attempt is within the maximum attempts and the time budget
+     */
+    public boolean canRetry(int failedAttempts, long elapsedMillis, long backoffMillis) {
+        return failedAttempts < maxAttempts && elapsedMillis + backoffMillis <= maxElapsedMillis;
+    }
+
+    /**
+     * Builder of {@link RetryPolicy}.
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private long initialBackoffMillis = 200;
+        private long maxBackoffMillis = 5000;
+        private double multiplier = 2;
+        private double jitter = 0.5;
+        private long maxElapsedMillis = 30000;
+        private IntPredicate retryOnStatus = DEFAULT_RETRY_ON_STATUS;
+        private Predicate<IOException> retryOnException = DEFAULT_RETRY_ON_EXCEPTION;
+        private boolean generateIdempotencyKeys = true;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxAttempts total number of attempts, including the first one
+         * @return builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param initialBackoff delay before the first retry
+         * @param maxBackoff maximum delay between two attempts
+         * @param unit unit of the delays
+         * @return builder
+         */
+        public Builder backoff(long initialBackoff, long maxBackoff, TimeUnit unit) {
+            if (initialBackoff < 0 || maxBackoff < initialBackoff) {
+                throw new IllegalArgumentException("backoff must be positive, and maxBackoff at least initialBackoff");
+            }
+            this.initialBackoffMillis = unit.toMillis(initialBackoff);
+            this.maxBackoffMillis = unit.toMillis(maxBackoff);
+            return this;
+        }
+
+        /**
+         * @param multiplier factor applied to the delay after each failed attempt
+         * @return builder
+         */
+        public Builder multiplier(double multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("multiplier must be at least 1");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * @param jitter fraction of the delay randomly taken off, between 0 (none) and 1 (full jitter)
+         * @return builder
+         */
+        public Builder jitter(double jitter) {
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * @param maxElapsed total time budget, no attempt is started after it
+         * @param unit unit of the budget
+         * @return builder
+         */
+        public Builder maxElapsed(long maxElapsed, TimeUnit unit) {
+            this.maxElapsedMillis = unit.toMillis(maxElapsed);
+            return this;
+        }
+
+        /**
+         * @param retryOnStatus HTTP statuses to retry on, {@link #DEFAULT_RETRY_ON_STATUS} by default
+         * @return builder
+         */
+        public Builder retryOnStatus(IntPredicate retryOnStatus) {
+            if (retryOnStatus == null) {
+                throw new IllegalArgumentException("retryOnStatus is required");
+            }
+            this.retryOnStatus = retryOnStatus;
+            return this;
+        }
+
+        /**
+         * @param retryOnException I/O errors to retry on, {@link #DEFAULT_RETRY_ON_EXCEPTION} by default
+         * @return builder
+         */
+        public Builder retryOnException(Predicate<IOException> retryOnException) {
+            if (retryOnException == null) {
+                throw new IllegalArgumentException("retryOnException is required");
+            }
+            this.retryOnException = retryOnException;
+            return this;
+        }
+
+        /**
+         * @param generateIdempotencyKeys false to only retry calls to idempotent endpoints when the caller set a key
+         * @return builder
+         */
+        public Builder generateIdempotencyKeys(boolean generateIdempotencyKeys) {
+            this.generateIdempotencyKeys = generateIdempotencyKeys;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
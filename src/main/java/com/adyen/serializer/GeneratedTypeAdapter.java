@@ -0,0 +1,307 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Map;
+
+/**
+ * Base class of the type adapters generated for the model classes at build time, see {@link GeneratedTypeAdapterFactory}.
+ * <p>
+ * Reads and writes JSON objects the same way as Gson's reflective adapter, including the choice of the runtime type
+ * adapter for field values, but binds each field through generated code instead of reflection.
+ *
+ * @param <T> model type
+ */
+public abstract class GeneratedTypeAdapter<T> extends TypeAdapter<T> {
+
+    private final Gson gson;
+
+    protected GeneratedTypeAdapter(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * @return new, empty model instance
+     */
+    protected abstract T newInstance();
+
+    /**
+     * Reads the value of the member into the instance.
+     *
+     * @param in reader positioned at the member value
+     * @param name member name
+     * @param instance model instance
+     * @return false when the member is not bound, in which case its value has not been read
+     * @throws IOException IOException
+     */
+    protected abstract boolean readField(JsonReader in, String name, T instance) throws IOException;
+
+    /**
+     * Writes the members of the value.
+     *
+     * @param out writer positioned inside the object
+     * @param value model instance
+     * @throws IOException IOException
+     */
+    protected abstract void writeFields(JsonWriter out, T value) throws IOException;
+
+    @Override
+    public final T read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            in.beginObject();
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+        return readMembers(in, newInstance());
+    }
+
+    /**
+     * Reads the rest of an object whose first members were already read, such as the members in front of a type
+     * discriminator, so that it is bound straight from the stream instead of from a tree of the whole object.
+     *
+     * @param in reader positioned inside the object, after the members already read
+     * @param readMembers members already read
+     * @return model instance
+     * @throws IOException IOException
+     */
+    public final T readRemainder(JsonReader in, JsonObject readMembers) throws IOException {
+        T instance = newInstance();
+        try {
+            for (Map.Entry<String, JsonElement> member : readMembers.entrySet()) {
+                JsonReader memberReader = new JsonReader(new StringReader(member.getValue().toString()));
+                memberReader.setLenient(true);
+                readField(memberReader, member.getKey(), instance);
+            }
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+        return readMembers(in, instance);
+    }
+
+    private T readMembers(JsonReader in, T instance) throws IOException {
+        try {
+            while (in.hasNext()) {
+                if (!readField(in, in.nextName(), instance)) {
+                    in.skipValue();
+                }
+            }
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+        in.endObject();
+        return instance;
+    }
+
+    @Override
+    public final void write(JsonWriter out, T value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        writeFields(out, value);
+        out.endObject();
+    }
+
+    /**
+     * @param type field type
+     * @param <F> field type
+     * @return adapter of the Gson instance for the field type
+     */
+    @SuppressWarnings("unchecked")
+    protected final <F> TypeAdapter<F> adapter(Type type) {
+        return (TypeAdapter<F>) gson.getAdapter(TypeToken.get(type));
+    }
+
+    /**
+     * Returns the adapter for a field annotated with {@link com.google.gson.annotations.JsonAdapter}, resolved as Gson does.
+     *
+     * @param instance instance of the annotation value
+     * @param type field type
+     * @param nullSafe the nullSafe attribute of the annotation
+     * @param <F> field type
+     * @return field adapter
+     */
+    @SuppressWarnings("unchecked")
+    protected final <F> TypeAdapter<F> jsonAdapter(Object instance, Type type, boolean nullSafe) {
+        TypeToken<F> typeToken = (TypeToken<F>) TypeToken.get(type);
+        TypeAdapter<F> typeAdapter;
+        if (instance instanceof TypeAdapter) {
+            typeAdapter = (TypeAdapter<F>) instance;
+        } else if (instance instanceof TypeAdapterFactory) {
+            typeAdapter = ((TypeAdapterFactory) instance).create(gson, typeToken);
+        } else if (instance instanceof JsonSerializer || instance instanceof JsonDeserializer) {
+            JsonSerializer<F> serializer = instance instanceof JsonSerializer ? (JsonSerializer<F>) instance : null;
+            JsonDeserializer<F> deserializer = instance instanceof JsonDeserializer ? (JsonDeserializer<F>) instance : null;
+            typeAdapter = new TreeAdapter<>(serializer, deserializer, type);
+        } else {
+            throw new IllegalArgumentException("Invalid attempt to bind an instance of " + instance.getClass().getName() + " as a @JsonAdapter for " + typeToken);
+        }
+        if (typeAdapter == null) {
+            return adapter(type);
+        }
+        return nullSafe ? typeAdapter.nullSafe() : typeAdapter;
+    }
+
+    /**
+     * Writes a field value with the adapter of its runtime type when that is more specific than the declared one,
+     * unless the declared type has a custom adapter.
+     *
+     * @param out writer
+     * @param adapter adapter of the declared type
+     * @param declaredType declared field type
+     * @param value field value
+     * @param <F> field type
+     * @throws IOException IOException
+     */
+    @SuppressWarnings("unchecked")
+    protected final <F> void writeField(JsonWriter out, TypeAdapter<F> adapter, Type declaredType, F value) throws IOException {
+        TypeAdapter<F> chosen = adapter;
+        if (value != null && value.getClass() != declaredType
+                && (declaredType == Object.class || declaredType instanceof TypeVariable || declaredType instanceof Class)) {
+            TypeAdapter<F> runtimeTypeAdapter = (TypeAdapter<F>) gson.getAdapter(value.getClass());
+            if (!isReflective(runtimeTypeAdapter) || isReflective(adapter)) {
+                chosen = runtimeTypeAdapter;
+            }
+        }
+        chosen.write(out, value);
+    }
+
+    /**
+     * Looks up a field that has no accessor, such as a read-only response field, and makes it accessible.
+     *
+     * @param declaringClass class declaring the field
+     * @param name field name
+     * @return accessible field
+     */
+    protected static Field field(Class<?> declaringClass, String name) {
+        try {
+            Field field = declaringClass.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Generated adapter is out of date with " + declaringClass.getName(), e);
+        }
+    }
+
+    protected static Object getField(Field field, Object instance) {
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    protected static void setField(Field field, Object instance, Object value) {
+        try {
+            field.set(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Gson has no public API telling its reflective adapter apart from custom ones, so only the generated adapters,
+     * which cover the concrete model classes, count as reflective.
+     */
+    private static boolean isReflective(TypeAdapter<?> typeAdapter) {
+        return typeAdapter instanceof GeneratedTypeAdapter;
+    }
+
+    /**
+     * Adapts a {@link JsonSerializer} and {@link JsonDeserializer} pair through the JSON tree, as Gson does for a
+     * {@link com.google.gson.annotations.JsonAdapter}; the missing half falls back to the Gson instance's adapter.
+     */
+    private final class TreeAdapter<F> extends TypeAdapter<F> implements JsonSerializationContext, JsonDeserializationContext {
+        private final JsonSerializer<F> serializer;
+        private final JsonDeserializer<F> deserializer;
+        private final Type type;
+
+        TreeAdapter(JsonSerializer<F> serializer, JsonDeserializer<F> deserializer, Type type) {
+            this.serializer = serializer;
+            this.deserializer = deserializer;
+            this.type = type;
+        }
+
+        @Override
+        public void write(JsonWriter out, F value) throws IOException {
+            if (serializer == null) {
+                GeneratedTypeAdapter.this.<F>adapter(type).write(out, value);
+            } else if (value == null) {
+                out.nullValue();
+            } else {
+                gson.toJson(serializer.serialize(value, type, this), out);
+            }
+        }
+
+        @Override
+        public F read(JsonReader in) throws IOException {
+            if (deserializer == null) {
+                return GeneratedTypeAdapter.this.<F>adapter(type).read(in);
+            }
+            JsonElement element = JsonParser.parseReader(in);
+            if (element.isJsonNull()) {
+                return null;
+            }
+            return deserializer.deserialize(element, type, this);
+        }
+
+        @Override
+        public JsonElement serialize(Object src) {
+            return gson.toJsonTree(src);
+        }
+
+        @Override
+        public JsonElement serialize(Object src, Type typeOfSrc) {
+            return gson.toJsonTree(src, typeOfSrc);
+        }
+
+        @Override
+        public <R> R deserialize(JsonElement json, Type typeOfT) {
+            return gson.fromJson(json, typeOfT);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSerializer;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson module that reads the Gson annotations of the model fields: it names fields and enum constants by their
+ * {@link SerializedName}, accepting its alternate names, and applies the Gson {@link JsonSerializer} and
+ * {@link JsonDeserializer} named by a field's {@link JsonAdapter} annotation, such as {@link DateSerializer} on date
+ * of birth fields, so Jackson writes the models in the same format as Gson does.
+ * <p>
+ * Registered by the default {@link JacksonJsonCodec}; register it on an application mapper passed to the codec as well.
+ */
+public class GsonJsonAdapterModule extends SimpleModule {
+
+    public GsonJsonAdapterModule() {
+        super(GsonJsonAdapterModule.class.getSimpleName(), Version.unknownVersion());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.insertAnnotationIntrospector(new GsonAnnotationIntrospector());
+    }
+
+    private static final class GsonAnnotationIntrospector extends NopAnnotationIntrospector {
+
+        @Override
+        public PropertyName findNameForSerialization(Annotated annotated) {
+            return findName(annotated);
+        }
+
+        @Override
+        public PropertyName findNameForDeserialization(Annotated annotated) {
+            return findName(annotated);
+        }
+
+        @Override
+        public List<PropertyName> findPropertyAliases(Annotated annotated) {
+            SerializedName serializedName = annotated instanceof AnnotatedField ? annotated.getAnnotation(SerializedName.class) : null;
+            if (serializedName == null || serializedName.alternate().length == 0) {
+                return null;
+            }
+            List<PropertyName> aliases = new ArrayList<>(serializedName.alternate().length);
+            for (String alternate : serializedName.alternate()) {
+                aliases.add(PropertyName.construct(alternate));
+            }
+            return aliases;
+        }
+
+        @Override
+        public String[] findEnumValues(Class<?> enumType, Enum<?>[] enumValues, String[] names) {
+            for (int i = 0; i < enumValues.length; i++) {
+                try {
+                    SerializedName serializedName = enumType.getField(enumValues[i].name()).getAnnotation(SerializedName.class);
+                    if (serializedName != null) {
+                        names[i] = serializedName.value();
+                    }
+                } catch (NoSuchFieldException e) {
+                    // keep the name Jackson found
+                }
+            }
+            return names;
+        }
+
+        private static PropertyName findName(Annotated annotated) {
+            SerializedName serializedName = annotated instanceof AnnotatedField ? annotated.getAnnotation(SerializedName.class) : null;
+            return serializedName != null ? PropertyName.construct(serializedName.value()) : null;
+        }
+
+        @Override
+        public Object findSerializer(Annotated annotated) {
+            Object adapter = createAdapter(annotated);
+            return adapter instanceof JsonSerializer ? new GsonSerializerBridge((JsonSerializer<?>) adapter) : null;
+        }
+
+        @Override
+        public Object findDeserializer(Annotated annotated) {
+            Object adapter = createAdapter(annotated);
+            if (!(adapter instanceof JsonDeserializer)) {
+                return null;
+            }
+            // setters carry the property type as their parameter
+            Class<?> type = annotated instanceof AnnotatedMethod && ((AnnotatedMethod) annotated).getParameterCount() == 1
+                    ? ((AnnotatedMethod) annotated).getRawParameterType(0)
+                    : annotated.getRawType();
+            return new GsonDeserializerBridge(type, (JsonDeserializer<?>) adapter);
+        }
+
+        private static Object createAdapter(Annotated annotated) {
+            JsonAdapter jsonAdapter = annotated.getAnnotation(JsonAdapter.class);
+            if (jsonAdapter == null) {
+                return null;
+            }
+            try {
+                return jsonAdapter.value().getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                // adapters Gson instantiates in other ways are left to Jackson
+                return null;
+            }
+        }
+    }
+
+    private static final class GsonSerializerBridge extends StdSerializer<Object> {
+        private final JsonSerializer<Object> serializer;
+
+        @SuppressWarnings("unchecked")
+        GsonSerializerBridge(JsonSerializer<?> serializer) {
+            super(Object.class);
+            this.serializer = (JsonSerializer<Object>) serializer;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            JsonElement element = serializer.serialize(value, value.getClass(), null);
+            if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
+                generator.writeString(element.getAsString());
+            } else {
+                generator.writeRawValue(element.toString());
+            }
+        }
+    }
+
+    private static final class GsonDeserializerBridge extends StdDeserializer<Object> {
+        private final JsonDeserializer<?> deserializer;
+
+        GsonDeserializerBridge(Class<?> type, JsonDeserializer<?> deserializer) {
+            super(type);
+            this.deserializer = deserializer;
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            try {
+                return deserializer.deserialize(com.google.gson.JsonParser.parseString(node.toString()), handledType(), null);
+            } catch (JsonParseException e) {
+                throw new JsonMappingException(parser, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+/**
+ * {@link JsonCodec} backed by Gson. This is the default codec, binding models through their {@code @SerializedName} fields.
+ * The default instance uses the adapters generated at build time, see {@link GeneratedTypeAdapterFactory}.
+ */
+public class GsonJsonCodec implements JsonCodec {
+
+    /**
+     * Shared default codec, used by clients that have no other codec set.
+     */
+    public static final GsonJsonCodec DEFAULT = new GsonJsonCodec();
+
+    private final Gson gson;
+
+    /**
+     * Creates a codec with the Gson settings the services have always used.
+     */
+    public GsonJsonCodec() {
+        this(new GsonBuilder()
+                .disableHtmlEscaping()
+                .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                .create());
+    }
+
+    /**
+     * Creates a codec sharing an existing, possibly tuned, Gson instance.
+     *
+     * @param gson gson
+     */
+    public GsonJsonCodec(Gson gson) {
+        if (gson == null) {
+            throw new IllegalArgumentException("gson is required");
+        }
+        this.gson = gson;
+    }
+
+    public Gson getGson() {
+        return gson;
+    }
+
+    @Override
+    public String toJson(Object value) {
+        return gson.toJson(value);
+    }
+
+    @Override
+    public <T> T fromJson(String json, Type type) {
+        return gson.fromJson(json, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Failures of the reader itself, such as a connection dropped halfway through the body, are rethrown
+     * as the original {@link IOException} instead of the {@link JsonParseException} Gson wraps them in.
+     */
+    @Override
+    public <T> T fromJson(Reader json, Class<T> type) throws IOException {
+        try {
+            return gson.fromJson(json, type);
+        } catch (JsonParseException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException && !(cause instanceof MalformedJsonException)) {
+                throw (IOException) cause;
+            }
+            throw e;
+        }
+    }
+}
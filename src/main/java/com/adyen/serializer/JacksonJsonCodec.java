@@ -0,0 +1,107 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+
+/**
+ * {@link JsonCodec} backed by a Jackson {@link ObjectMapper}, binding models through their fields as Gson does.
+ * <p>
+ * Pass the application's own mapper to share its configuration and caches, for example one with the afterburner
+ * or blackbird module registered. Such a mapper should leave nulls out and ignore unknown properties, as the
+ * default one does, since the API omits empty fields and adds new ones without a version bump. For the same reason
+ * it should read unknown enum values as null, as Gson does. It should also detect fields only, not getters or
+ * setters, since the model accessors do not all match a JSON property, and register {@link GsonJsonAdapterModule},
+ * so fields are named and dates written as with Gson.
+ */
+public class JacksonJsonCodec implements JsonCodec {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a codec with a mapper that binds fields only, named by their Gson annotations, leaves null fields out,
+     * ignores unknown properties, reads unknown enum values as null and writes dates in the formats of the Gson adapters on the model fields,
+     * see {@link GsonJsonAdapterModule}.
+     */
+    public JacksonJsonCodec() {
+        this(new ObjectMapper()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(new GsonJsonAdapterModule()));
+    }
+
+    /**
+     * Creates a codec sharing an existing, possibly tuned, mapper.
+     *
+     * @param objectMapper object mapper
+     */
+    public JacksonJsonCodec(ObjectMapper objectMapper) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("objectMapper is required");
+        }
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(String json, Type type) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, objectMapper.getTypeFactory().constructType(type));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(Reader json, Class<T> type) throws IOException {
+        return objectMapper.readValue(json, type);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+/**
+ * Converts request and response models to and from JSON for the services of a {@link com.adyen.Client}.
+ * <p>
+ * Implementations must be thread-safe, as one instance is shared by all services of a client.
+ * Malformed JSON is reported as an unchecked exception: {@link com.google.gson.JsonSyntaxException} by the Gson codec
+ * and {@link java.io.UncheckedIOException} by the Jackson codec.
+ *
+ * @see GsonJsonCodec
+ * @see JacksonJsonCodec
+ */
+public interface JsonCodec {
+
+    /**
+     * Serializes the model to JSON.
+     *
+     * @param value model
+     * @return json
+     */
+    String toJson(Object value);
+
+    /**
+     * Deserializes JSON to a model of the given type.
+     *
+     * @param json json, null or empty returns null
+     * @param type model type, either a class or a parameterized type
+     * @param <T> model type
+     * @return model
+     */
+    <T> T fromJson(String json, Type type);
+
+    /**
+     * Deserializes JSON to a model of the given class.
+     *
+     * @param json json, null or empty returns null
+     * @param type model class
+     * @param <T> model type
+     * @return model
+     */
+    default <T> T fromJson(String json, Class<T> type) {
+        return fromJson(json, (Type) type);
+    }
+
+    /**
+     * Deserializes JSON while it is read, without buffering it into a String first.
+     *
+     * @param json json reader
+     * @param type model class
+     * @param <T> model type
+     * @return model
+     * @throws IOException when reading fails
+     */
+    <T> T fromJson(Reader json, Class<T> type) throws IOException;
+}
@@ -81,6 +81,7 @@ import com.adyen.service.resource.account.UploadDocument;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Account extends Service {
 
@@ -127,147 +128,255 @@ public class Account extends Service {
     }
 
     public CreateAccountHolderResponse createAccountHolder(CreateAccountHolderRequest accountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(accountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(accountHolderRequest);
 
         String jsonResult = createAccountHolder.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<CreateAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CreateAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<CreateAccountHolderResponse> createAccountHolderAsync(CreateAccountHolderRequest accountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(accountHolderRequest);
+        return createAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CreateAccountHolderResponse.class));
+    }
+
     public UpdateAccountHolderResponse updateAccountHolder(UpdateAccountHolderRequest updateAccountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(updateAccountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(updateAccountHolderRequest);
 
         String jsonResult = updateAccountHolder.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<UpdateAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<UpdateAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<UpdateAccountHolderResponse> updateAccountHolderAsync(UpdateAccountHolderRequest updateAccountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(updateAccountHolderRequest);
+        return updateAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, UpdateAccountHolderResponse.class));
+    }
+
     public GetAccountHolderResponse getAccountHolder(GetAccountHolderRequest getAccountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(getAccountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(getAccountHolderRequest);
 
         String jsonResult = getAccountHolder.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<GetAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<GetAccountHolderResponse> getAccountHolderAsync(GetAccountHolderRequest getAccountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(getAccountHolderRequest);
+        return getAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetAccountHolderResponse.class));
+    }
+
     public UploadDocumentResponse uploadDocument(UploadDocumentRequest uploadDocumentRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(uploadDocumentRequest);
+        String jsonRequest = getJsonCodec().toJson(uploadDocumentRequest);
 
         String jsonResult = uploadDocument.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<UploadDocumentResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<UploadDocumentResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<UploadDocumentResponse> uploadDocumentAsync(UploadDocumentRequest uploadDocumentRequest) {
+        String jsonRequest = getJsonCodec().toJson(uploadDocumentRequest);
+        return uploadDocument.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, UploadDocumentResponse.class));
+    }
+
     public CreateAccountResponse createAccount(CreateAccountRequest createAccountRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(createAccountRequest);
+        String jsonRequest = getJsonCodec().toJson(createAccountRequest);
 
         String jsonResult = createAccount.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CreateAccountResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CreateAccountResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<CreateAccountResponse> createAccountAsync(CreateAccountRequest createAccountRequest) {
+        String jsonRequest = getJsonCodec().toJson(createAccountRequest);
+        return createAccount.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CreateAccountResponse.class));
+    }
+
     public DeleteBankAccountResponse deleteBankAccount(DeleteBankAccountRequest deleteBankAccountRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(deleteBankAccountRequest);
+        String jsonRequest = getJsonCodec().toJson(deleteBankAccountRequest);
 
         String jsonResult = deleteBankAccount.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<DeleteBankAccountResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DeleteBankAccountResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<DeleteBankAccountResponse> deleteBankAccountAsync(DeleteBankAccountRequest deleteBankAccountRequest) {
+        String jsonRequest = getJsonCodec().toJson(deleteBankAccountRequest);
+        return deleteBankAccount.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DeleteBankAccountResponse.class));
+    }
+
     public DeleteShareholderResponse deleteShareholder(DeleteShareholderRequest deleteShareholderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(deleteShareholderRequest);
+        String jsonRequest = getJsonCodec().toJson(deleteShareholderRequest);
 
         String jsonResult = deleteShareholder.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<DeleteShareholderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DeleteShareholderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<DeleteShareholderResponse> deleteShareholderAsync(DeleteShareholderRequest deleteShareholderRequest) {
+        String jsonRequest = getJsonCodec().toJson(deleteShareholderRequest);
+        return deleteShareholder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DeleteShareholderResponse.class));
+    }
+
     public DeleteSignatoriesResponse deleteSignatories(DeleteSignatoriesRequest deleteSignatoriesRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(deleteSignatoriesRequest);
+        String jsonRequest = getJsonCodec().toJson(deleteSignatoriesRequest);
 
         String jsonResult = deleteSignatories.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<DeleteSignatoriesResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DeleteSignatoriesResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<DeleteSignatoriesResponse> deleteSignatoriesAsync(DeleteSignatoriesRequest deleteSignatoriesRequest) {
+        String jsonRequest = getJsonCodec().toJson(deleteSignatoriesRequest);
+        return deleteSignatories.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DeleteSignatoriesResponse.class));
+    }
+
     public SuspendAccountHolderResponse suspendAccountHolder(SuspendAccountHolderRequest suspendAccountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(suspendAccountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(suspendAccountHolderRequest);
 
         String jsonResult = suspendAccountHolder.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<SuspendAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<SuspendAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<SuspendAccountHolderResponse> suspendAccountHolderAsync(SuspendAccountHolderRequest suspendAccountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(suspendAccountHolderRequest);
+        return suspendAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, SuspendAccountHolderResponse.class));
+    }
+
     public UnSuspendAccountHolderResponse unSuspendAccountHolder(UnSuspendAccountHolderRequest unSuspendAccountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(unSuspendAccountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(unSuspendAccountHolderRequest);
 
         String jsonResult = unSuspendAccountHolder.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<UnSuspendAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<UnSuspendAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<UnSuspendAccountHolderResponse> unSuspendAccountHolderAsync(UnSuspendAccountHolderRequest unSuspendAccountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(unSuspendAccountHolderRequest);
+        return unSuspendAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, UnSuspendAccountHolderResponse.class));
+    }
+
     public UpdateAccountHolderStateResponse updateAccountHolderState(UpdateAccountHolderStateRequest updateAccountHolderStateRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(updateAccountHolderStateRequest);
+        String jsonRequest = getJsonCodec().toJson(updateAccountHolderStateRequest);
 
         String jsonResult = updateAccountHolderState.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<UpdateAccountHolderStateResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<UpdateAccountHolderStateResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<UpdateAccountHolderStateResponse> updateAccountHolderStateAsync(UpdateAccountHolderStateRequest updateAccountHolderStateRequest) {
+        String jsonRequest = getJsonCodec().toJson(updateAccountHolderStateRequest);
+        return updateAccountHolderState.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, UpdateAccountHolderStateResponse.class));
+    }
+
     public CloseAccountResponse closeAccount(CloseAccountRequest closeAccountRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(closeAccountRequest);
+        String jsonRequest = getJsonCodec().toJson(closeAccountRequest);
 
         String jsonResult = closeAccount.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CloseAccountResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CloseAccountResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<CloseAccountResponse> closeAccountAsync(CloseAccountRequest closeAccountRequest) {
+        String jsonRequest = getJsonCodec().toJson(closeAccountRequest);
+        return closeAccount.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CloseAccountResponse.class));
+    }
+
     public CloseAccountHolderResponse closeAccountHolder(CloseAccountHolderRequest closeAccountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(closeAccountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(closeAccountHolderRequest);
 
         String jsonResult = closeAccountHolder.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CloseAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CloseAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<CloseAccountHolderResponse> closeAccountHolderAsync(CloseAccountHolderRequest closeAccountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(closeAccountHolderRequest);
+        return closeAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CloseAccountHolderResponse.class));
+    }
+
     public UpdateAccountResponse updateAccount(UpdateAccountRequest updateAccountRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(updateAccountRequest);
+        String jsonRequest = getJsonCodec().toJson(updateAccountRequest);
 
         String jsonResult = updateAccount.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<UpdateAccountResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<UpdateAccountResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<UpdateAccountResponse> updateAccountAsync(UpdateAccountRequest updateAccountRequest) {
+        String jsonRequest = getJsonCodec().toJson(updateAccountRequest);
+        return updateAccount.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, UpdateAccountResponse.class));
+    }
+
     public GetUploadedDocumentsResponse getUploadedDocuments(GetUploadedDocumentsRequest getUploadedDocumentsRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(getUploadedDocumentsRequest);
+        String jsonRequest = getJsonCodec().toJson(getUploadedDocumentsRequest);
 
         String jsonResult = getUploadedDocuments.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<GetUploadedDocumentsResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetUploadedDocumentsResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<GetUploadedDocumentsResponse> getUploadedDocumentsAsync(GetUploadedDocumentsRequest getUploadedDocumentsRequest) {
+        String jsonRequest = getJsonCodec().toJson(getUploadedDocumentsRequest);
+        return getUploadedDocuments.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetUploadedDocumentsResponse.class));
+    }
+
     public CheckAccountHolderResponse checkAccountHolder(PerformVerificationRequest performVerificationRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(performVerificationRequest);
+        String jsonRequest = getJsonCodec().toJson(performVerificationRequest);
 
         String jsonResult = checkAccountHolder.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CheckAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CheckAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<CheckAccountHolderResponse> checkAccountHolderAsync(PerformVerificationRequest performVerificationRequest) {
+        String jsonRequest = getJsonCodec().toJson(performVerificationRequest);
+        return checkAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CheckAccountHolderResponse.class));
+    }
+
     public DeletePayoutMethodResponse deletePayoutMethod(DeletePayoutMethodRequest deletePayoutMethodRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(deletePayoutMethodRequest);
+        String jsonRequest = getJsonCodec().toJson(deletePayoutMethodRequest);
 
         String jsonResult = deletePayoutMethod.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<DeletePayoutMethodResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DeletePayoutMethodResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<DeletePayoutMethodResponse> deletePayoutMethodAsync(DeletePayoutMethodRequest deletePayoutMethodRequest) {
+        String jsonRequest = getJsonCodec().toJson(deletePayoutMethodRequest);
+        return deletePayoutMethod.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DeletePayoutMethodResponse.class));
+    }
+
     public GetTaxFormResponse getTaxForm(GetTaxFormRequest getTaxFormRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(getTaxFormRequest);
+        String jsonRequest = getJsonCodec().toJson(getTaxFormRequest);
 
         String jsonResult = getTaxForm.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<GetTaxFormResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetTaxFormResponse>() {
         }.getType());
     }
+
+    public CompletableFuture<GetTaxFormResponse> getTaxFormAsync(GetTaxFormRequest getTaxFormRequest) {
+        String jsonRequest = getJsonCodec().toJson(getTaxFormRequest);
+        return getTaxForm.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetTaxFormResponse.class));
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.adyen.service;
 
 import com.adyen.ApiKeyAuthenticatedService;
 import com.adyen.Client;
+import com.adyen.cache.CostEstimateCache;
 import com.adyen.model.binlookup.CostEstimateRequest;
 import com.adyen.model.binlookup.CostEstimateResponse;
 import com.adyen.model.binlookup.ThreeDSAvailabilityRequest;
@@ -10,6 +11,8 @@ import com.adyen.service.resource.binlookup.Get3dsAvailability;
 import com.adyen.service.resource.binlookup.GetCostEstimate;
 import com.google.gson.reflect.TypeToken;
 
+import java.util.concurrent.CompletableFuture;
+
 public class BinLookup extends ApiKeyAuthenticatedService {
 
     private Get3dsAvailability get3dsAvailability;
@@ -23,20 +26,48 @@ public class BinLookup extends ApiKeyAuthenticatedService {
 
 
     public ThreeDSAvailabilityResponse get3dsAvailability(ThreeDSAvailabilityRequest threeDSAvailabilityRequest) throws Exception {
-        String jsonRequest = GSON.toJson(threeDSAvailabilityRequest);
+        String jsonRequest = getJsonCodec().toJson(threeDSAvailabilityRequest);
 
-        String jsonResult = get3dsAvailability.request(jsonRequest);
+        String jsonResult = get3dsAvailability.request(jsonRequest, null, threeDSAvailabilityRequest.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<ThreeDSAvailabilityResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<ThreeDSAvailabilityResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<ThreeDSAvailabilityResponse> get3dsAvailabilityAsync(ThreeDSAvailabilityRequest threeDSAvailabilityRequest) {
+        String jsonRequest = getJsonCodec().toJson(threeDSAvailabilityRequest);
+        return get3dsAvailability.requestAsync(jsonRequest, null, threeDSAvailabilityRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, ThreeDSAvailabilityResponse.class));
+    }
+
     public CostEstimateResponse getCostEstimate(CostEstimateRequest costEstimateRequest) throws Exception {
-        String jsonRequest = GSON.toJson(costEstimateRequest);
+        String jsonRequest = getJsonCodec().toJson(costEstimateRequest);
 
-        String jsonResult = getCostEstimate.request(jsonRequest);
+        CostEstimateCache cache = getClient().getCostEstimateCache();
+        if (cache != null) {
+            return cache.get(costEstimateRequest,
+                    () -> getCostEstimate.request(jsonRequest, null, costEstimateRequest.getMerchantAccount()),
+                    () -> getCostEstimate.requestAsync(jsonRequest, null, costEstimateRequest.getMerchantAccount()),
+                    this::readCostEstimateResponse);
+        }
+        return readCostEstimateResponse(getCostEstimate.request(jsonRequest, null, costEstimateRequest.getMerchantAccount()));
+    }
+
+    public CompletableFuture<CostEstimateResponse> getCostEstimateAsync(CostEstimateRequest costEstimateRequest) {
+        String jsonRequest = getJsonCodec().toJson(costEstimateRequest);
+
+        CostEstimateCache cache = getClient().getCostEstimateCache();
+        if (cache != null) {
+            return cache.getAsync(costEstimateRequest,
+                    () -> getCostEstimate.requestAsync(jsonRequest, null, costEstimateRequest.getMerchantAccount()),
+                    this::readCostEstimateResponse);
+        }
+        return getCostEstimate.requestAsync(jsonRequest, null, costEstimateRequest.getMerchantAccount())
+                .thenApply(this::readCostEstimateResponse);
+    }
 
-        return GSON.fromJson(jsonResult, new TypeToken<CostEstimateResponse>() {
+    private CostEstimateResponse readCostEstimateResponse(String jsonResult) {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CostEstimateResponse>() {
         }.getType());
     }
 
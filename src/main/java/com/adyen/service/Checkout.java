@@ -23,6 +23,7 @@ package com.adyen.service;
 
 import com.adyen.ApiKeyAuthenticatedService;
 import com.adyen.Client;
+import com.adyen.cache.PaymentMethodsCache;
 import com.adyen.model.RequestOptions;
 import com.adyen.service.exception.ApiException;
 import com.adyen.model.checkout.CheckoutCancelOrderRequest;
@@ -73,6 +74,7 @@ import com.adyen.service.resource.checkout.PaymentsReversals;
 import com.adyen.service.resource.checkout.PaymentsCaptures;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Checkout extends ApiKeyAuthenticatedService {
 
@@ -117,12 +119,35 @@ public class Checkout extends ApiKeyAuthenticatedService {
 
 
     public PaymentsResponse payments(PaymentsRequest paymentsRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(paymentsRequest);
-        String jsonResult = payments.request(jsonRequest, requestOptions);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentsResponse>() {
+        String jsonRequest = getJsonCodec().toJson(paymentsRequest);
+        String jsonResult = payments.request(jsonRequest, requestOptions, paymentsRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentsResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #payments(PaymentsRequest)}
+     *
+     * @param paymentsRequest PaymentsRequest
+     * @return future completing with the PaymentsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentsResponse> paymentsAsync(PaymentsRequest paymentsRequest) {
+        return paymentsAsync(paymentsRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #payments(PaymentsRequest, RequestOptions)}
+     *
+     * @param paymentsRequest PaymentsRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the PaymentsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentsResponse> paymentsAsync(PaymentsRequest paymentsRequest, RequestOptions requestOptions) {
+        String jsonRequest = getJsonCodec().toJson(paymentsRequest);
+        return payments.requestAsync(jsonRequest, requestOptions, paymentsRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentsResponse.class));
+    }
+
     /**
      * POST /paymentMethods API call
      *
@@ -133,11 +158,29 @@ public class Checkout extends ApiKeyAuthenticatedService {
      */
 
     public PaymentMethodsResponse paymentMethods(PaymentMethodsRequest paymentMethodsRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(paymentMethodsRequest);
-        String jsonResult = paymentMethods.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentMethodsResponse>() {
-        }.getType());
+        String jsonRequest = getJsonCodec().toJson(paymentMethodsRequest);
+        PaymentMethodsCache cache = getClient().getPaymentMethodsCache();
+        if (cache != null) {
+            String jsonResult = cache.get(paymentMethodsRequest, () -> paymentMethods.request(jsonRequest, null, paymentMethodsRequest.getMerchantAccount()));
+            return getJsonCodec().fromJson(jsonResult, PaymentMethodsResponse.class);
+        }
+        return paymentMethods.request(jsonRequest, null, paymentMethodsRequest.getMerchantAccount(),
+                body -> getJsonCodec().fromJson(body, PaymentMethodsResponse.class));
+    }
 
+    /**
+     * Non-blocking variant of {@link #paymentMethods(PaymentMethodsRequest)}
+     *
+     * @param paymentMethodsRequest PaymentMethodsRequest
+     * @return future completing with the PaymentMethodsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentMethodsResponse> paymentMethodsAsync(PaymentMethodsRequest paymentMethodsRequest) {
+        String jsonRequest = getJsonCodec().toJson(paymentMethodsRequest);
+        PaymentMethodsCache cache = getClient().getPaymentMethodsCache();
+        CompletableFuture<String> jsonResult = cache != null
+                ? cache.getAsync(paymentMethodsRequest, () -> paymentMethods.requestAsync(jsonRequest, null, paymentMethodsRequest.getMerchantAccount()))
+                : paymentMethods.requestAsync(jsonRequest, null, paymentMethodsRequest.getMerchantAccount());
+        return jsonResult.thenApply(json -> getJsonCodec().fromJson(json, PaymentMethodsResponse.class));
     }
 
     /**
@@ -153,12 +196,35 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentsDetailsResponse paymentsDetails(PaymentsDetailsRequest paymentsDetailsRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(paymentsDetailsRequest);
+        String jsonRequest = getJsonCodec().toJson(paymentsDetailsRequest);
         String jsonResult = paymentsDetails.request(jsonRequest, requestOptions);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentsDetailsResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentsDetailsResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #paymentsDetails(PaymentsDetailsRequest)}
+     *
+     * @param paymentsDetailsRequest PaymentsDetailsRequest
+     * @return future completing with the PaymentsDetailsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentsDetailsResponse> paymentsDetailsAsync(PaymentsDetailsRequest paymentsDetailsRequest) {
+        return paymentsDetailsAsync(paymentsDetailsRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #paymentsDetails(PaymentsDetailsRequest, RequestOptions)}
+     *
+     * @param paymentsDetailsRequest PaymentsDetailsRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the PaymentsDetailsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentsDetailsResponse> paymentsDetailsAsync(PaymentsDetailsRequest paymentsDetailsRequest, RequestOptions requestOptions) {
+        String jsonRequest = getJsonCodec().toJson(paymentsDetailsRequest);
+        return paymentsDetails.requestAsync(jsonRequest, requestOptions)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentsDetailsResponse.class));
+    }
+
     /**
      * POST /paymentSession API call
      *
@@ -173,12 +239,35 @@ public class Checkout extends ApiKeyAuthenticatedService {
     }
 
     public PaymentSessionResponse paymentSession(PaymentSessionRequest paymentSessionRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(paymentSessionRequest);
-        String jsonResult = paymentSession.request(jsonRequest, requestOptions);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentSessionResponse>() {
+        String jsonRequest = getJsonCodec().toJson(paymentSessionRequest);
+        String jsonResult = paymentSession.request(jsonRequest, requestOptions, paymentSessionRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentSessionResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #paymentSession(PaymentSessionRequest)}
+     *
+     * @param paymentSessionRequest paymentSessionRequest
+     * @return future completing with the PaymentSessionResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentSessionResponse> paymentSessionAsync(PaymentSessionRequest paymentSessionRequest) {
+        return paymentSessionAsync(paymentSessionRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #paymentSession(PaymentSessionRequest, RequestOptions)}
+     *
+     * @param paymentSessionRequest paymentSessionRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the PaymentSessionResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentSessionResponse> paymentSessionAsync(PaymentSessionRequest paymentSessionRequest, RequestOptions requestOptions) {
+        String jsonRequest = getJsonCodec().toJson(paymentSessionRequest);
+        return paymentSession.requestAsync(jsonRequest, requestOptions, paymentSessionRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentSessionResponse.class));
+    }
+
     /**
      * POST payments/result API call
      *
@@ -188,12 +277,24 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws ApiException ApiException
      */
     public PaymentResultResponse paymentResult(PaymentResultRequest paymentResultRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(paymentResultRequest);
+        String jsonRequest = getJsonCodec().toJson(paymentResultRequest);
         String jsonResult = paymentsResult.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentResultResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentResultResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #paymentResult(PaymentResultRequest)}
+     *
+     * @param paymentResultRequest paymentResultRequest
+     * @return future completing with the PaymentResultResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentResultResponse> paymentResultAsync(PaymentResultRequest paymentResultRequest) {
+        String jsonRequest = getJsonCodec().toJson(paymentResultRequest);
+        return paymentsResult.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentResultResponse.class));
+    }
+
     /**
      * POST /storedPaymentMethods API call
      *
@@ -203,12 +304,24 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws ApiException ApiException
      */
     public StoredPaymentMethodResource storedPaymentMethods(CreateStoredPaymentMethodRequest createStoredPaymentMethodRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(createStoredPaymentMethodRequest);
-        String jsonResult = storedPaymentsMethods.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<StoredPaymentMethodResource>() {
+        String jsonRequest = getJsonCodec().toJson(createStoredPaymentMethodRequest);
+        String jsonResult = storedPaymentsMethods.request(jsonRequest, null, createStoredPaymentMethodRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<StoredPaymentMethodResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #storedPaymentMethods(CreateStoredPaymentMethodRequest)}
+     *
+     * @param createStoredPaymentMethodRequest StoredPaymentMethodsRequest
+     * @return future completing with the StoredPaymentMethodResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<StoredPaymentMethodResource> storedPaymentMethodsAsync(CreateStoredPaymentMethodRequest createStoredPaymentMethodRequest) {
+        String jsonRequest = getJsonCodec().toJson(createStoredPaymentMethodRequest);
+        return storedPaymentsMethods.requestAsync(jsonRequest, null, createStoredPaymentMethodRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoredPaymentMethodResource.class));
+    }
+
     /**
      * POST /orders API call
      *
@@ -218,12 +331,24 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CheckoutCreateOrderResponse orders(CheckoutCreateOrderRequest checkoutCreateOrderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(checkoutCreateOrderRequest);
-        String jsonResult = orders.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CheckoutCreateOrderResponse>() {
+        String jsonRequest = getJsonCodec().toJson(checkoutCreateOrderRequest);
+        String jsonResult = orders.request(jsonRequest, null, checkoutCreateOrderRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CheckoutCreateOrderResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #orders(CheckoutCreateOrderRequest)}
+     *
+     * @param checkoutCreateOrderRequest CheckoutCreateOrderRequest
+     * @return future completing with the CheckoutCreateOrderResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<CheckoutCreateOrderResponse> ordersAsync(CheckoutCreateOrderRequest checkoutCreateOrderRequest) {
+        String jsonRequest = getJsonCodec().toJson(checkoutCreateOrderRequest);
+        return orders.requestAsync(jsonRequest, null, checkoutCreateOrderRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CheckoutCreateOrderResponse.class));
+    }
+
     /**
      * POST /orders/cancel API call
      *
@@ -233,12 +358,24 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CheckoutCancelOrderResponse ordersCancel(CheckoutCancelOrderRequest checkoutCancelOrderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(checkoutCancelOrderRequest);
-        String jsonResult = ordersCancel.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CheckoutCancelOrderResponse>() {
+        String jsonRequest = getJsonCodec().toJson(checkoutCancelOrderRequest);
+        String jsonResult = ordersCancel.request(jsonRequest, null, checkoutCancelOrderRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CheckoutCancelOrderResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #ordersCancel(CheckoutCancelOrderRequest)}
+     *
+     * @param checkoutCancelOrderRequest CheckoutCancelOrderRequest
+     * @return future completing with the CheckoutCancelOrderResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<CheckoutCancelOrderResponse> ordersCancelAsync(CheckoutCancelOrderRequest checkoutCancelOrderRequest) {
+        String jsonRequest = getJsonCodec().toJson(checkoutCancelOrderRequest);
+        return ordersCancel.requestAsync(jsonRequest, null, checkoutCancelOrderRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CheckoutCancelOrderResponse.class));
+    }
+
     /**
      * POST /sessions API call
      *
@@ -248,12 +385,24 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public CreateCheckoutSessionResponse sessions(CreateCheckoutSessionRequest createCheckoutSessionRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(createCheckoutSessionRequest);
-        String jsonResult = sessions.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CreateCheckoutSessionResponse>() {
+        String jsonRequest = getJsonCodec().toJson(createCheckoutSessionRequest);
+        String jsonResult = sessions.request(jsonRequest, null, createCheckoutSessionRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CreateCheckoutSessionResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #sessions(CreateCheckoutSessionRequest)}
+     *
+     * @param createCheckoutSessionRequest CreateCheckoutSessionRequest
+     * @return future completing with the CreateCheckoutSessionResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<CreateCheckoutSessionResponse> sessionsAsync(CreateCheckoutSessionRequest createCheckoutSessionRequest) {
+        String jsonRequest = getJsonCodec().toJson(createCheckoutSessionRequest);
+        return sessions.requestAsync(jsonRequest, null, createCheckoutSessionRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CreateCheckoutSessionResponse.class));
+    }
+
     /**
      * POST /payments/{paymentPspReference}/captures
      *
@@ -262,12 +411,26 @@ public class Checkout extends ApiKeyAuthenticatedService {
      */
     public PaymentCaptureResource paymentsCaptures(String paymentPspReference, CreatePaymentCaptureRequest createPaymentCaptureRequest) throws ApiException, IOException {
         PaymentsCaptures paymentsCaptures = new PaymentsCaptures(this, paymentPspReference);
-        String jsonRequest = GSON.toJson(createPaymentCaptureRequest);
-        String jsonResult = paymentsCaptures.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentCaptureResource>() {
+        String jsonRequest = getJsonCodec().toJson(createPaymentCaptureRequest);
+        String jsonResult = paymentsCaptures.request(jsonRequest, null, createPaymentCaptureRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentCaptureResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #paymentsCaptures(String, CreatePaymentCaptureRequest)}
+     *
+     * @param paymentPspReference String
+     * @param createPaymentCaptureRequest CreatePaymentCaptureRequest
+     * @return future completing with the PaymentCaptureResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentCaptureResource> paymentsCapturesAsync(String paymentPspReference, CreatePaymentCaptureRequest createPaymentCaptureRequest) {
+        PaymentsCaptures paymentsCaptures = new PaymentsCaptures(this, paymentPspReference);
+        String jsonRequest = getJsonCodec().toJson(createPaymentCaptureRequest);
+        return paymentsCaptures.requestAsync(jsonRequest, null, createPaymentCaptureRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentCaptureResource.class));
+    }
+
     /**
      * POST /payments/{paymentPspReference}/cancels
      *
@@ -279,12 +442,26 @@ public class Checkout extends ApiKeyAuthenticatedService {
      */
     public PaymentCancelResource paymentsCancels(String paymentPspReference, CreatePaymentCancelRequest createPaymentCancelRequest) throws ApiException, IOException {
         PaymentsCancels paymentsCancels = new PaymentsCancels(this, paymentPspReference);
-        String jsonRequest = GSON.toJson(createPaymentCancelRequest);
-        String jsonResult = paymentsCancels.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentCancelResource>() {
+        String jsonRequest = getJsonCodec().toJson(createPaymentCancelRequest);
+        String jsonResult = paymentsCancels.request(jsonRequest, null, createPaymentCancelRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentCancelResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #paymentsCancels(String, CreatePaymentCancelRequest)}
+     *
+     * @param paymentPspReference String
+     * @param createPaymentCancelRequest CreatePaymentCancelRequest
+     * @return future completing with the PaymentCancelResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentCancelResource> paymentsCancelsAsync(String paymentPspReference, CreatePaymentCancelRequest createPaymentCancelRequest) {
+        PaymentsCancels paymentsCancels = new PaymentsCancels(this, paymentPspReference);
+        String jsonRequest = getJsonCodec().toJson(createPaymentCancelRequest);
+        return paymentsCancels.requestAsync(jsonRequest, null, createPaymentCancelRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentCancelResource.class));
+    }
+
     /**
      * POST /cancels
      *
@@ -294,12 +471,24 @@ public class Checkout extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public StandalonePaymentCancelResource cancels(CreateStandalonePaymentCancelRequest createStandalonePaymentCancelRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(createStandalonePaymentCancelRequest);
-        String jsonResult = cancels.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<StandalonePaymentCancelResource>() {
+        String jsonRequest = getJsonCodec().toJson(createStandalonePaymentCancelRequest);
+        String jsonResult = cancels.request(jsonRequest, null, createStandalonePaymentCancelRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<StandalonePaymentCancelResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #cancels(CreateStandalonePaymentCancelRequest)}
+     *
+     * @param createStandalonePaymentCancelRequest CreateStandalonePaymentCancelRequest
+     * @return future completing with the StandalonePaymentCancelResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<StandalonePaymentCancelResource> cancelsAsync(CreateStandalonePaymentCancelRequest createStandalonePaymentCancelRequest) {
+        String jsonRequest = getJsonCodec().toJson(createStandalonePaymentCancelRequest);
+        return cancels.requestAsync(jsonRequest, null, createStandalonePaymentCancelRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StandalonePaymentCancelResource.class));
+    }
+
     /**
      * POST /payments/{paymentPspReference}/reversal
      *
@@ -311,12 +500,26 @@ public class Checkout extends ApiKeyAuthenticatedService {
      */
     public PaymentReversalResource paymentsReversals(String paymentPspReference, CreatePaymentReversalRequest createPaymentReversalRequest) throws ApiException, IOException {
         PaymentsReversals paymentReversal = new PaymentsReversals(this, paymentPspReference);
-        String jsonRequest = GSON.toJson(createPaymentReversalRequest);
-        String jsonResult = paymentReversal.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentReversalResource>() {
+        String jsonRequest = getJsonCodec().toJson(createPaymentReversalRequest);
+        String jsonResult = paymentReversal.request(jsonRequest, null, createPaymentReversalRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentReversalResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #paymentsReversals(String, CreatePaymentReversalRequest)}
+     *
+     * @param paymentPspReference String
+     * @param createPaymentReversalRequest CreatePaymentReversalRequest
+     * @return future completing with the PaymentReversalResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentReversalResource> paymentsReversalsAsync(String paymentPspReference, CreatePaymentReversalRequest createPaymentReversalRequest) {
+        PaymentsReversals paymentReversal = new PaymentsReversals(this, paymentPspReference);
+        String jsonRequest = getJsonCodec().toJson(createPaymentReversalRequest);
+        return paymentReversal.requestAsync(jsonRequest, null, createPaymentReversalRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentReversalResource.class));
+    }
+
     /**
      * POST /payments/{paymentPspReference}/refunds
      *
@@ -328,12 +531,26 @@ public class Checkout extends ApiKeyAuthenticatedService {
      */
     public PaymentRefundResource paymentsRefunds(String paymentPspReference, CreatePaymentRefundRequest createPaymentRefundRequest) throws ApiException, IOException {
         PaymentsRefunds paymentsRefunds = new PaymentsRefunds(this, paymentPspReference);
-        String jsonRequest = GSON.toJson(createPaymentRefundRequest);
-        String jsonResult = paymentsRefunds.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentRefundResource>() {
+        String jsonRequest = getJsonCodec().toJson(createPaymentRefundRequest);
+        String jsonResult = paymentsRefunds.request(jsonRequest, null, createPaymentRefundRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentRefundResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #paymentsRefunds(String, CreatePaymentRefundRequest)}
+     *
+     * @param paymentPspReference String
+     * @param createPaymentRefundRequest CreatePaymentRefundRequest
+     * @return future completing with the PaymentRefundResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentRefundResource> paymentsRefundsAsync(String paymentPspReference, CreatePaymentRefundRequest createPaymentRefundRequest) {
+        PaymentsRefunds paymentsRefunds = new PaymentsRefunds(this, paymentPspReference);
+        String jsonRequest = getJsonCodec().toJson(createPaymentRefundRequest);
+        return paymentsRefunds.requestAsync(jsonRequest, null, createPaymentRefundRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentRefundResource.class));
+    }
+
     /**
      * POST /payments/{paymentPspReference}/amountUpdates
      *
@@ -345,9 +562,23 @@ public class Checkout extends ApiKeyAuthenticatedService {
      */
     public PaymentAmountUpdateResource paymentsAmountUpdates(String paymentPspReference, CreatePaymentAmountUpdateRequest createPaymentAmountUpdateRequest) throws ApiException, IOException {
         PaymentsAmountUpdates paymentsAmountUpdates = new PaymentsAmountUpdates(this, paymentPspReference);
-        String jsonRequest = GSON.toJson(createPaymentAmountUpdateRequest);
-        String jsonResult = paymentsAmountUpdates.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentAmountUpdateResource>() {
+        String jsonRequest = getJsonCodec().toJson(createPaymentAmountUpdateRequest);
+        String jsonResult = paymentsAmountUpdates.request(jsonRequest, null, createPaymentAmountUpdateRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentAmountUpdateResource>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #paymentsAmountUpdates(String, CreatePaymentAmountUpdateRequest)}
+     *
+     * @param paymentPspReference String
+     * @param createPaymentAmountUpdateRequest CreatePaymentAmountUpdateRequest
+     * @return future completing with the PaymentAmountUpdateResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentAmountUpdateResource> paymentsAmountUpdatesAsync(String paymentPspReference, CreatePaymentAmountUpdateRequest createPaymentAmountUpdateRequest) {
+        PaymentsAmountUpdates paymentsAmountUpdates = new PaymentsAmountUpdates(this, paymentPspReference);
+        String jsonRequest = getJsonCodec().toJson(createPaymentAmountUpdateRequest);
+        return paymentsAmountUpdates.requestAsync(jsonRequest, null, createPaymentAmountUpdateRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentAmountUpdateResource.class));
+    }
 }
@@ -29,6 +29,7 @@ import com.adyen.service.resource.checkoututility.OriginKeys;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class CheckoutUtility extends ApiKeyAuthenticatedService {
 
@@ -48,9 +49,21 @@ public class CheckoutUtility extends ApiKeyAuthenticatedService {
      * @throws ApiException ApiException
      */
     public OriginKeysResponse originKeys(OriginKeysRequest originKeysRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(originKeysRequest);
+        String jsonRequest = getJsonCodec().toJson(originKeysRequest);
         String jsonResult = originKeys.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<OriginKeysResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<OriginKeysResponse>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #originKeys(OriginKeysRequest)}
+     *
+     * @param originKeysRequest OriginKeysRequest
+     * @return future completing with the OriginKeysResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<OriginKeysResponse> originKeysAsync(OriginKeysRequest originKeysRequest) {
+        String jsonRequest = getJsonCodec().toJson(originKeysRequest);
+        return originKeys.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, OriginKeysResponse.class));
+    }
 }
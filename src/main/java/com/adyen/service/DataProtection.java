@@ -30,6 +30,7 @@ import com.adyen.service.resource.dataprotection.RequestSubjectErasure;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class DataProtection extends Service {
 
@@ -53,10 +54,33 @@ public class DataProtection extends Service {
     }
 
     public SubjectErasureResponse requestSubjectErasure(SubjectErasureRequest subjectErasureRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(subjectErasureRequest);
+        String jsonRequest = getJsonCodec().toJson(subjectErasureRequest);
         String jsonResult = requestSubjectErasure.request(jsonRequest, requestOptions);
-        return GSON.fromJson(jsonResult, new TypeToken<SubjectErasureResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<SubjectErasureResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #requestSubjectErasure(SubjectErasureRequest)}
+     *
+     * @param subjectErasureRequest subjectErasureRequest
+     * @return future completing with the SubjectErasureResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<SubjectErasureResponse> requestSubjectErasureAsync(SubjectErasureRequest subjectErasureRequest) {
+        return requestSubjectErasureAsync(subjectErasureRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #requestSubjectErasure(SubjectErasureRequest, RequestOptions)}
+     *
+     * @param subjectErasureRequest subjectErasureRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the SubjectErasureResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<SubjectErasureResponse> requestSubjectErasureAsync(SubjectErasureRequest subjectErasureRequest, RequestOptions requestOptions) {
+        String jsonRequest = getJsonCodec().toJson(subjectErasureRequest);
+        return requestSubjectErasure.requestAsync(jsonRequest, requestOptions)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, SubjectErasureResponse.class));
+    }
+
 }
@@ -52,6 +52,7 @@ import com.adyen.service.resource.fund.TransferFunds;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Fund extends Service {
 
@@ -77,74 +78,119 @@ public class Fund extends Service {
     }
 
     public AccountHolderBalanceResponse accountHolderBalance(AccountHolderBalanceRequest accountHolderBalanceRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(accountHolderBalanceRequest);
+        String jsonRequest = getJsonCodec().toJson(accountHolderBalanceRequest);
 
         String jsonResult = accountHolderBalance.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<AccountHolderBalanceResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<AccountHolderBalanceResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<AccountHolderBalanceResponse> accountHolderBalanceAsync(AccountHolderBalanceRequest accountHolderBalanceRequest) {
+        String jsonRequest = getJsonCodec().toJson(accountHolderBalanceRequest);
+        return accountHolderBalance.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, AccountHolderBalanceResponse.class));
+    }
+
     public TransferFundsResponse transferFunds(TransferFundsRequest transferFundsRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(transferFundsRequest);
+        String jsonRequest = getJsonCodec().toJson(transferFundsRequest);
 
         String jsonResult = transferFunds.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<TransferFundsResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<TransferFundsResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<TransferFundsResponse> transferFundsAsync(TransferFundsRequest transferFundsRequest) {
+        String jsonRequest = getJsonCodec().toJson(transferFundsRequest);
+        return transferFunds.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, TransferFundsResponse.class));
+    }
+
     public PayoutAccountHolderResponse payoutAccountHolder(PayoutAccountHolderRequest payoutAccountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(payoutAccountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(payoutAccountHolderRequest);
 
         String jsonResult = payoutAccountHolder.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<PayoutAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PayoutAccountHolderResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<PayoutAccountHolderResponse> payoutAccountHolderAsync(PayoutAccountHolderRequest payoutAccountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(payoutAccountHolderRequest);
+        return payoutAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PayoutAccountHolderResponse.class));
+    }
+
     public AccountHolderTransactionListResponse accountHolderTransactionList(AccountHolderTransactionListRequest accountHolderTransactionListRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(accountHolderTransactionListRequest);
+        String jsonRequest = getJsonCodec().toJson(accountHolderTransactionListRequest);
 
-        String jsonResult = accountHolderTransactionList.request(jsonRequest);
+        return accountHolderTransactionList.request(jsonRequest, body -> getJsonCodec().fromJson(body, AccountHolderTransactionListResponse.class));
+    }
 
-        return GSON.fromJson(jsonResult, new TypeToken<AccountHolderTransactionListResponse>() {
-        }.getType());
+    public CompletableFuture<AccountHolderTransactionListResponse> accountHolderTransactionListAsync(AccountHolderTransactionListRequest accountHolderTransactionListRequest) {
+        String jsonRequest = getJsonCodec().toJson(accountHolderTransactionListRequest);
+        return accountHolderTransactionList.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, AccountHolderTransactionListResponse.class));
     }
 
     public RefundNotPaidOutTransfersResponse refundNotPaidOutTransfers(RefundNotPaidOutTransfersRequest refundNotPaidOutTransfersRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(refundNotPaidOutTransfersRequest);
+        String jsonRequest = getJsonCodec().toJson(refundNotPaidOutTransfersRequest);
 
         String jsonResult = refundNotPaidOutTransfers.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<RefundNotPaidOutTransfersResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<RefundNotPaidOutTransfersResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<RefundNotPaidOutTransfersResponse> refundNotPaidOutTransfersAsync(RefundNotPaidOutTransfersRequest refundNotPaidOutTransfersRequest) {
+        String jsonRequest = getJsonCodec().toJson(refundNotPaidOutTransfersRequest);
+        return refundNotPaidOutTransfers.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, RefundNotPaidOutTransfersResponse.class));
+    }
+
     public SetupBeneficiaryResponse setupBeneficiary(SetupBeneficiaryRequest setupBeneficiaryRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(setupBeneficiaryRequest);
+        String jsonRequest = getJsonCodec().toJson(setupBeneficiaryRequest);
 
         String jsonResult = setupBeneficiary.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<SetupBeneficiaryResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<SetupBeneficiaryResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<SetupBeneficiaryResponse> setupBeneficiaryAsync(SetupBeneficiaryRequest setupBeneficiaryRequest) {
+        String jsonRequest = getJsonCodec().toJson(setupBeneficiaryRequest);
+        return setupBeneficiary.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, SetupBeneficiaryResponse.class));
+    }
+
     public RefundFundsTransferResponse refundFundsTransfer(RefundFundsTransferRequest refundFundsTransferRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(refundFundsTransferRequest);
+        String jsonRequest = getJsonCodec().toJson(refundFundsTransferRequest);
 
         String jsonResult = refundFundsTransfer.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<RefundFundsTransferResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<RefundFundsTransferResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<RefundFundsTransferResponse> refundFundsTransferAsync(RefundFundsTransferRequest refundFundsTransferRequest) {
+        String jsonRequest = getJsonCodec().toJson(refundFundsTransferRequest);
+        return refundFundsTransfer.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, RefundFundsTransferResponse.class));
+    }
+
     public DebitAccountHolderResponse debitAccountHolder(DebitAccountHolderRequest debitAccountHolderRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(debitAccountHolderRequest);
+        String jsonRequest = getJsonCodec().toJson(debitAccountHolderRequest);
 
         String jsonResult = debitAccountHolder.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<DebitAccountHolderResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DebitAccountHolderResponse>() {
         }.getType());
     }
+
+    public CompletableFuture<DebitAccountHolderResponse> debitAccountHolderAsync(DebitAccountHolderRequest debitAccountHolderRequest) {
+        String jsonRequest = getJsonCodec().toJson(debitAccountHolderRequest);
+        return debitAccountHolder.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DebitAccountHolderResponse.class));
+    }
 }
\ No newline at end of file
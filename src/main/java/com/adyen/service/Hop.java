@@ -30,6 +30,7 @@ import com.adyen.service.resource.hop.GetOnboardingUrl;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Hop extends Service {
 
@@ -41,11 +42,17 @@ public class Hop extends Service {
     }
 
     public GetOnboardingUrlResponse getOnboardingUrl(GetOnboardingUrlRequest getOnboardingUrlRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(getOnboardingUrlRequest);
+        String jsonRequest = getJsonCodec().toJson(getOnboardingUrlRequest);
 
         String jsonResult = getOnboardingUrl.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<GetOnboardingUrlResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetOnboardingUrlResponse>() {
         }.getType());
     }
+
+    public CompletableFuture<GetOnboardingUrlResponse> getOnboardingUrlAsync(GetOnboardingUrlRequest getOnboardingUrlRequest) {
+        String jsonRequest = getJsonCodec().toJson(getOnboardingUrlRequest);
+        return getOnboardingUrl.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetOnboardingUrlResponse.class));
+    }
 }
\ No newline at end of file
@@ -115,7 +115,7 @@ public class HostedPaymentPages extends Service {
         String jsonResult = directoryLookup(postParameters);
 
         try {
-            DirectoryLookupResult directoryLookupResult = GSON.fromJson(jsonResult, new TypeToken<DirectoryLookupResult>() {
+            DirectoryLookupResult directoryLookupResult = getJsonCodec().fromJson(jsonResult, new TypeToken<DirectoryLookupResult>() {
             }.getType());
 
             return directoryLookupResult.getPaymentMethods();
@@ -45,6 +45,7 @@ import com.adyen.service.resource.modification.VoidPendingRefund;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Modification extends Service {
     private CancelOrRefund cancelOrRefund;
@@ -84,10 +85,33 @@ public class Modification extends Service {
 
     public ModificationResult capture(CaptureRequest captureRequest, RequestOptions requestOptions) throws IOException, ApiException {
         String jsonRequest = serializeRequest(captureRequest);
-        String jsonResult = capture.request(jsonRequest, requestOptions);
+        String jsonResult = capture.request(jsonRequest, requestOptions, captureRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #capture(CaptureRequest)}
+     *
+     * @param captureRequest CaptureRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> captureAsync(CaptureRequest captureRequest) {
+        return captureAsync(captureRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #capture(CaptureRequest, RequestOptions)}
+     *
+     * @param captureRequest CaptureRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> captureAsync(CaptureRequest captureRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeRequest(captureRequest);
+        return capture.requestAsync(jsonRequest, requestOptions, captureRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
     /**
      * Issues /cancelOrRefund request
      *
@@ -102,10 +126,33 @@ public class Modification extends Service {
 
     public ModificationResult cancelOrRefund(CancelOrRefundRequest cancelOrRefundRequest, RequestOptions requestOptions) throws IOException, ApiException {
         String jsonRequest = serializeRequest(cancelOrRefundRequest);
-        String jsonResult = cancelOrRefund.request(jsonRequest, requestOptions);
+        String jsonResult = cancelOrRefund.request(jsonRequest, requestOptions, cancelOrRefundRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #cancelOrRefund(CancelOrRefundRequest)}
+     *
+     * @param cancelOrRefundRequest CancelOrRefundRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> cancelOrRefundAsync(CancelOrRefundRequest cancelOrRefundRequest) {
+        return cancelOrRefundAsync(cancelOrRefundRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #cancelOrRefund(CancelOrRefundRequest, RequestOptions)}
+     *
+     * @param cancelOrRefundRequest CancelOrRefundRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> cancelOrRefundAsync(CancelOrRefundRequest cancelOrRefundRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeRequest(cancelOrRefundRequest);
+        return cancelOrRefund.requestAsync(jsonRequest, requestOptions, cancelOrRefundRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
     /**
      * Issues /refund request
      *
@@ -120,10 +167,33 @@ public class Modification extends Service {
 
     public ModificationResult refund(RefundRequest refundRequest, RequestOptions requestOptions) throws IOException, ApiException {
         String jsonRequest = serializeRequest(refundRequest);
-        String jsonResult = refund.request(jsonRequest, requestOptions);
+        String jsonResult = refund.request(jsonRequest, requestOptions, refundRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #refund(RefundRequest)}
+     *
+     * @param refundRequest RefundRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> refundAsync(RefundRequest refundRequest) {
+        return refundAsync(refundRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #refund(RefundRequest, RequestOptions)}
+     *
+     * @param refundRequest RefundRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> refundAsync(RefundRequest refundRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeRequest(refundRequest);
+        return refund.requestAsync(jsonRequest, requestOptions, refundRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
     /**
      * Issues /cancel request
      *
@@ -139,10 +209,33 @@ public class Modification extends Service {
     public ModificationResult cancel(CancelRequest cancelRequest, RequestOptions requestOptions) throws IOException, ApiException {
 
         String jsonRequest = serializeRequest(cancelRequest);
-        String jsonResult = cancel.request(jsonRequest, requestOptions);
+        String jsonResult = cancel.request(jsonRequest, requestOptions, cancelRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #cancel(CancelRequest)}
+     *
+     * @param cancelRequest CancelRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> cancelAsync(CancelRequest cancelRequest) {
+        return cancelAsync(cancelRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #cancel(CancelRequest, RequestOptions)}
+     *
+     * @param cancelRequest CancelRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> cancelAsync(CancelRequest cancelRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeRequest(cancelRequest);
+        return cancel.requestAsync(jsonRequest, requestOptions, cancelRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
 
     /**
      * Issues /technical Cancel
@@ -159,10 +252,33 @@ public class Modification extends Service {
     public ModificationResult technicalCancel(TechnicalCancelRequest technicalCancelRequest, RequestOptions requestOptions) throws IOException, ApiException {
 
         String jsonRequest = serializeRequest(technicalCancelRequest);
-        String jsonResult = technicalCancel.request(jsonRequest, requestOptions);
+        String jsonResult = technicalCancel.request(jsonRequest, requestOptions, technicalCancelRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #technicalCancel(TechnicalCancelRequest)}
+     *
+     * @param technicalCancelRequest TechnicalCancelRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> technicalCancelAsync(TechnicalCancelRequest technicalCancelRequest) {
+        return technicalCancelAsync(technicalCancelRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #technicalCancel(TechnicalCancelRequest, RequestOptions)}
+     *
+     * @param technicalCancelRequest TechnicalCancelRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> technicalCancelAsync(TechnicalCancelRequest technicalCancelRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeRequest(technicalCancelRequest);
+        return technicalCancel.requestAsync(jsonRequest, requestOptions, technicalCancelRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
     /**
      * Issues /adjust Authorisation
      *
@@ -178,10 +294,33 @@ public class Modification extends Service {
     public ModificationResult adjustAuthorization(AdjustAuthorisationRequest adjustAuthorisationRequest, RequestOptions requestOptions) throws IOException, ApiException {
 
         String jsonRequest = serializeRequest(adjustAuthorisationRequest);
-        String jsonResult = adjustAuthorisation.request(jsonRequest, requestOptions);
+        String jsonResult = adjustAuthorisation.request(jsonRequest, requestOptions, adjustAuthorisationRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #adjustAuthorization(AdjustAuthorisationRequest)}
+     *
+     * @param adjustAuthorisationRequest AdjustAuthorisationRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> adjustAuthorizationAsync(AdjustAuthorisationRequest adjustAuthorisationRequest) {
+        return adjustAuthorizationAsync(adjustAuthorisationRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #adjustAuthorization(AdjustAuthorisationRequest, RequestOptions)}
+     *
+     * @param adjustAuthorisationRequest AdjustAuthorisationRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> adjustAuthorizationAsync(AdjustAuthorisationRequest adjustAuthorisationRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeRequest(adjustAuthorisationRequest);
+        return adjustAuthorisation.requestAsync(jsonRequest, requestOptions, adjustAuthorisationRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
     /**
      * Issues /voidPendingRefund request
      *
@@ -196,10 +335,33 @@ public class Modification extends Service {
 
     public ModificationResult voidPendingRefund(VoidPendingRefundRequest voidPendingRefundRequest, RequestOptions requestOptions) throws IOException, ApiException {
         String jsonRequest = serializeRequest(voidPendingRefundRequest);
-        String jsonResult = voidPendingRefund.request(jsonRequest, requestOptions);
+        String jsonResult = voidPendingRefund.request(jsonRequest, requestOptions, voidPendingRefundRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #voidPendingRefund(VoidPendingRefundRequest)}
+     *
+     * @param voidPendingRefundRequest VoidPendingRefundRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> voidPendingRefundAsync(VoidPendingRefundRequest voidPendingRefundRequest) {
+        return voidPendingRefundAsync(voidPendingRefundRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #voidPendingRefund(VoidPendingRefundRequest, RequestOptions)}
+     *
+     * @param voidPendingRefundRequest VoidPendingRefundRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> voidPendingRefundAsync(VoidPendingRefundRequest voidPendingRefundRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeRequest(voidPendingRefundRequest);
+        return voidPendingRefund.requestAsync(jsonRequest, requestOptions, voidPendingRefundRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
     /**
      * Issues /donate request
      *
@@ -214,20 +376,43 @@ public class Modification extends Service {
 
     public ModificationResult donate(DonationRequest donationRequest, RequestOptions requestOptions) throws IOException, ApiException {
         String jsonRequest = serializeDonationRequest(donationRequest);
-        String jsonResult = donate.request(jsonRequest, requestOptions);
+        String jsonResult = donate.request(jsonRequest, requestOptions, donationRequest.getMerchantAccount());
         return deserializeResponse(jsonResult);
     }
 
+    /**
+     * Non-blocking variant of {@link #donate(DonationRequest)}
+     *
+     * @param donationRequest DonationRequest
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> donateAsync(DonationRequest donationRequest) {
+        return donateAsync(donationRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #donate(DonationRequest, RequestOptions)}
+     *
+     * @param donationRequest DonationRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the ModificationResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ModificationResult> donateAsync(DonationRequest donationRequest, RequestOptions requestOptions) {
+        String jsonRequest = serializeDonationRequest(donationRequest);
+        return donate.requestAsync(jsonRequest, requestOptions, donationRequest.getMerchantAccount())
+                .thenApply(this::deserializeResponse);
+    }
+
     private String serializeRequest(AbstractModificationRequest modificationRequest) {
-        return GSON.toJson(modificationRequest);
+        return getJsonCodec().toJson(modificationRequest);
     }
 
     private String serializeDonationRequest(DonationRequest donationRequest) {
-        return GSON.toJson(donationRequest);
+        return getJsonCodec().toJson(donationRequest);
     }
 
     private ModificationResult deserializeResponse(String jsonResult) {
-        return GSON.fromJson(jsonResult, new TypeToken<ModificationResult>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<ModificationResult>() {
         }.getType());
     }
 }
@@ -41,6 +41,8 @@ import com.adyen.service.resource.notification.TestNotificationConfiguration;
 import com.adyen.service.resource.notification.UpdateNotificationConfiguration;
 import com.google.gson.reflect.TypeToken;
 
+import java.util.concurrent.CompletableFuture;
+
 public class Notification extends Service {
 
     private CreateNotificationConfiguration createNotificationConfiguration;
@@ -62,46 +64,81 @@ public class Notification extends Service {
     }
 
     public CreateNotificationConfigurationResponse createNotificationConfiguration(CreateNotificationConfigurationRequest createNotificationConfigurationRequest) throws Exception {
-        String jsonRequest = GSON.toJson(createNotificationConfigurationRequest);
+        String jsonRequest = getJsonCodec().toJson(createNotificationConfigurationRequest);
         String jsonResult = createNotificationConfiguration.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<CreateNotificationConfigurationResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<CreateNotificationConfigurationResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<CreateNotificationConfigurationResponse> createNotificationConfigurationAsync(CreateNotificationConfigurationRequest createNotificationConfigurationRequest) {
+        String jsonRequest = getJsonCodec().toJson(createNotificationConfigurationRequest);
+        return createNotificationConfiguration.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, CreateNotificationConfigurationResponse.class));
+    }
+
     public UpdateNotificationConfigurationResponse updateNotificationConfiguration(UpdateNotificationConfigurationRequest updateNotificationConfigurationRequest) throws Exception {
-        String jsonRequest = GSON.toJson(updateNotificationConfigurationRequest);
+        String jsonRequest = getJsonCodec().toJson(updateNotificationConfigurationRequest);
         String jsonResult = updateNotificationConfiguration.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<UpdateNotificationConfigurationResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<UpdateNotificationConfigurationResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<UpdateNotificationConfigurationResponse> updateNotificationConfigurationAsync(UpdateNotificationConfigurationRequest updateNotificationConfigurationRequest) {
+        String jsonRequest = getJsonCodec().toJson(updateNotificationConfigurationRequest);
+        return updateNotificationConfiguration.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, UpdateNotificationConfigurationResponse.class));
+    }
+
     public GetNotificationConfigurationResponse getNotificationConfiguration(GetNotificationConfigurationRequest getNotificationConfigurationRequest) throws Exception {
-        String jsonRequest = GSON.toJson(getNotificationConfigurationRequest);
+        String jsonRequest = getJsonCodec().toJson(getNotificationConfigurationRequest);
         String jsonResult = getNotificationConfiguration.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<GetNotificationConfigurationResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetNotificationConfigurationResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<GetNotificationConfigurationResponse> getNotificationConfigurationAsync(GetNotificationConfigurationRequest getNotificationConfigurationRequest) {
+        String jsonRequest = getJsonCodec().toJson(getNotificationConfigurationRequest);
+        return getNotificationConfiguration.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetNotificationConfigurationResponse.class));
+    }
+
     public DeleteNotificationConfigurationResponse deleteNotificationConfiguration(DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest) throws Exception {
-        String jsonRequest = GSON.toJson(deleteNotificationConfigurationRequest);
+        String jsonRequest = getJsonCodec().toJson(deleteNotificationConfigurationRequest);
         String jsonResult = deleteNotificationConfiguration.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<DeleteNotificationConfigurationResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DeleteNotificationConfigurationResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<DeleteNotificationConfigurationResponse> deleteNotificationConfigurationAsync(DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest) {
+        String jsonRequest = getJsonCodec().toJson(deleteNotificationConfigurationRequest);
+        return deleteNotificationConfiguration.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DeleteNotificationConfigurationResponse.class));
+    }
+
     public TestNotificationConfigurationResponse testNotificationConfiguration(TestNotificationConfigurationRequest testNotificationConfigurationRequest) throws Exception {
-        String jsonRequest = GSON.toJson(testNotificationConfigurationRequest);
+        String jsonRequest = getJsonCodec().toJson(testNotificationConfigurationRequest);
         String jsonResult = testNotificationConfiguration.request(jsonRequest);
 
-        return GSON.fromJson(jsonResult, new TypeToken<TestNotificationConfigurationResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<TestNotificationConfigurationResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<TestNotificationConfigurationResponse> testNotificationConfigurationAsync(TestNotificationConfigurationRequest testNotificationConfigurationRequest) {
+        String jsonRequest = getJsonCodec().toJson(testNotificationConfigurationRequest);
+        return testNotificationConfiguration.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, TestNotificationConfigurationResponse.class));
+    }
+
     public GetNotificationConfigurationListResponse getNotificationConfigurationList() throws Exception {
         String jsonResult = getNotificationConfigurationList.request("{}");
-        return GSON.fromJson(jsonResult, new TypeToken<GetNotificationConfigurationListResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetNotificationConfigurationListResponse>() {
         }.getType());
     }
 
+    public CompletableFuture<GetNotificationConfigurationListResponse> getNotificationConfigurationListAsync() {
+        return getNotificationConfigurationList.requestAsync("{}")
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetNotificationConfigurationListResponse.class));
+    }
+
 
 }
\ No newline at end of file
@@ -40,6 +40,7 @@ import com.adyen.service.resource.payment.Retrieve3DS2Result;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Payment extends Service {
 
@@ -72,12 +73,35 @@ public class Payment extends Service {
     }
 
     public PaymentResult authorise(PaymentRequest paymentRequest, RequestOptions requestOptions) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(paymentRequest);
-        String jsonResult = authorise.request(jsonRequest, requestOptions);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentResult>() {
+        String jsonRequest = getJsonCodec().toJson(paymentRequest);
+        String jsonResult = authorise.request(jsonRequest, requestOptions, paymentRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #authorise(PaymentRequest)}
+     *
+     * @param paymentRequest PaymentRequest
+     * @return future completing with the PaymentResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentResult> authoriseAsync(PaymentRequest paymentRequest) {
+        return authoriseAsync(paymentRequest, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #authorise(PaymentRequest, RequestOptions)}
+     *
+     * @param paymentRequest PaymentRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the PaymentResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentResult> authoriseAsync(PaymentRequest paymentRequest, RequestOptions requestOptions) {
+        String jsonRequest = getJsonCodec().toJson(paymentRequest);
+        return authorise.requestAsync(jsonRequest, requestOptions, paymentRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentResult.class));
+    }
+
     /**
      * POST /authorise3d API call
      *
@@ -86,14 +110,26 @@ public class Payment extends Service {
      * @throws Exception Exception
      */
     public PaymentResult authorise3D(PaymentRequest3d paymentRequest3d) throws Exception {
-        String jsonRequest = GSON.toJson(paymentRequest3d);
+        String jsonRequest = getJsonCodec().toJson(paymentRequest3d);
 
-        String jsonResult = authorise3D.request(jsonRequest);
+        String jsonResult = authorise3D.request(jsonRequest, null, paymentRequest3d.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentResult>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #authorise3D(PaymentRequest3d)}
+     *
+     * @param paymentRequest3d authorise3D
+     * @return future completing with the PaymentResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentResult> authorise3DAsync(PaymentRequest3d paymentRequest3d) {
+        String jsonRequest = getJsonCodec().toJson(paymentRequest3d);
+        return authorise3D.requestAsync(jsonRequest, null, paymentRequest3d.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentResult.class));
+    }
+
     /**
      * POST /authorise3ds2 API call
      *
@@ -102,14 +138,26 @@ public class Payment extends Service {
      * @throws Exception Exception
      */
     public PaymentResult authorise3DS2(PaymentRequest3ds2 paymentRequest3ds2) throws Exception {
-        String jsonRequest = GSON.toJson(paymentRequest3ds2);
+        String jsonRequest = getJsonCodec().toJson(paymentRequest3ds2);
 
-        String jsonResult = authorise3DS2.request(jsonRequest);
+        String jsonResult = authorise3DS2.request(jsonRequest, null, paymentRequest3ds2.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentResult>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #authorise3DS2(PaymentRequest3ds2)}
+     *
+     * @param paymentRequest3ds2 PaymentRequest3ds2
+     * @return future completing with the PaymentResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentResult> authorise3DS2Async(PaymentRequest3ds2 paymentRequest3ds2) {
+        String jsonRequest = getJsonCodec().toJson(paymentRequest3ds2);
+        return authorise3DS2.requestAsync(jsonRequest, null, paymentRequest3ds2.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentResult.class));
+    }
+
     /**
      * POST /retrieve3ds2Result API call
      *
@@ -120,14 +168,28 @@ public class Payment extends Service {
      */
     @Deprecated
     public ThreeDS2ResultResponse retrieve3ds2Result(ThreeDS2ResultRequest threeDS2ResultRequest) throws Exception {
-        String jsonRequest = GSON.toJson(threeDS2ResultRequest);
+        String jsonRequest = getJsonCodec().toJson(threeDS2ResultRequest);
 
-        String jsonResult = retrieve3DS2Result.request(jsonRequest);
+        String jsonResult = retrieve3DS2Result.request(jsonRequest, null, threeDS2ResultRequest.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<ThreeDS2ResultResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<ThreeDS2ResultResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #retrieve3ds2Result(ThreeDS2ResultRequest)}
+     *
+     * @deprecated Use /getAuthenticationResult instead
+     * @param threeDS2ResultRequest PaymentRequest3ds2
+     * @return future completing with the ThreeDS2ResultResponse, or exceptionally with an ApiException
+     */
+    @Deprecated
+    public CompletableFuture<ThreeDS2ResultResponse> retrieve3ds2ResultAsync(ThreeDS2ResultRequest threeDS2ResultRequest) {
+        String jsonRequest = getJsonCodec().toJson(threeDS2ResultRequest);
+        return retrieve3DS2Result.requestAsync(jsonRequest, null, threeDS2ResultRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, ThreeDS2ResultResponse.class));
+    }
+
     /**
      * POST /getAuthenticationResult API call
      *
@@ -137,11 +199,23 @@ public class Payment extends Service {
      * @throws IOException  IOException
      */
     public AuthenticationResultResponse getAuthenticationResult(AuthenticationResultRequest authenticationResultRequest) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(authenticationResultRequest);
+        String jsonRequest = getJsonCodec().toJson(authenticationResultRequest);
 
-        String jsonResult = getAuthenticationResult.request(jsonRequest);
+        String jsonResult = getAuthenticationResult.request(jsonRequest, null, authenticationResultRequest.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<AuthenticationResultResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<AuthenticationResultResponse>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #getAuthenticationResult(AuthenticationResultRequest)}
+     *
+     * @param authenticationResultRequest AuthenticationResultRequest
+     * @return future completing with the AuthenticationResultResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<AuthenticationResultResponse> getAuthenticationResultAsync(AuthenticationResultRequest authenticationResultRequest) {
+        String jsonRequest = getJsonCodec().toJson(authenticationResultRequest);
+        return getAuthenticationResult.requestAsync(jsonRequest, null, authenticationResultRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, AuthenticationResultResponse.class));
+    }
 }
@@ -33,6 +33,7 @@ import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class PaymentLinks extends ApiKeyAuthenticatedService {
     private static final String LINK_ID = "linkId";
@@ -55,12 +56,24 @@ public class PaymentLinks extends ApiKeyAuthenticatedService {
      * @throws ApiException ApiException
      */
     public PaymentLinkResource create(CreatePaymentLinkRequest createPaymentLinkRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(createPaymentLinkRequest);
-        String jsonResult = paymentLinks.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentLinkResource>() {
+        String jsonRequest = getJsonCodec().toJson(createPaymentLinkRequest);
+        String jsonResult = paymentLinks.request(jsonRequest, null, createPaymentLinkRequest.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentLinkResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #create(CreatePaymentLinkRequest)}
+     *
+     * @param createPaymentLinkRequest CreatePaymentLinkRequest
+     * @return future completing with the PaymentLinkResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentLinkResource> createAsync(CreatePaymentLinkRequest createPaymentLinkRequest) {
+        String jsonRequest = getJsonCodec().toJson(createPaymentLinkRequest);
+        return paymentLinks.requestAsync(jsonRequest, null, createPaymentLinkRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentLinkResource.class));
+    }
+
     /**
      * GET /paymentLinks API call
      *
@@ -72,10 +85,22 @@ public class PaymentLinks extends ApiKeyAuthenticatedService {
     public PaymentLinkResource retrieve(String linkId) throws ApiException, IOException {
         Map<String, String> params = Collections.singletonMap(LINK_ID, linkId);
         String jsonResult = paymentLink.request(null, null, ApiConstants.HttpMethod.GET, params);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentLinkResource>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentLinkResource>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #retrieve(String)}
+     *
+     * @param linkId String
+     * @return future completing with the PaymentLinkResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentLinkResource> retrieveAsync(String linkId) {
+        Map<String, String> params = Collections.singletonMap(LINK_ID, linkId);
+        return paymentLink.requestAsync(null, null, ApiConstants.HttpMethod.GET, params)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentLinkResource.class));
+    }
+
     /**
      * PATCH /paymentLinks API call
      *
@@ -86,9 +111,22 @@ public class PaymentLinks extends ApiKeyAuthenticatedService {
      */
     public PaymentLinkResource update(String linkId, UpdatePaymentLinkRequest updatePaymentLinkRequest) throws ApiException, IOException {
         Map<String, String> params = Collections.singletonMap(LINK_ID, linkId);
-        String jsonRequest = GSON.toJson(updatePaymentLinkRequest);
+        String jsonRequest = getJsonCodec().toJson(updatePaymentLinkRequest);
         String jsonResult = paymentLink.request(jsonRequest, null, ApiConstants.HttpMethod.PATCH, params);
-        return GSON.fromJson(jsonResult, new TypeToken<PaymentLinkResource>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PaymentLinkResource>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #update(String, UpdatePaymentLinkRequest)}
+     *
+     * @param linkId String
+     * @return future completing with the PaymentLinkResource, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PaymentLinkResource> updateAsync(String linkId, UpdatePaymentLinkRequest updatePaymentLinkRequest) {
+        Map<String, String> params = Collections.singletonMap(LINK_ID, linkId);
+        String jsonRequest = getJsonCodec().toJson(updatePaymentLinkRequest);
+        return paymentLink.requestAsync(jsonRequest, null, ApiConstants.HttpMethod.PATCH, params)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PaymentLinkResource.class));
+    }
 }
@@ -44,6 +44,7 @@ import com.adyen.service.resource.payout.SubmitThirdParty;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Payout extends Service {
     private final StoreDetailAndSubmitThirdParty storeDetailAndSubmitThirdParty;
@@ -73,14 +74,26 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public StoreDetailAndSubmitResponse storeDetailAndSubmitThirdParty(StoreDetailAndSubmitRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
+        String jsonRequest = getJsonCodec().toJson(request);
 
-        String jsonResult = storeDetailAndSubmitThirdParty.request(jsonRequest);
+        String jsonResult = storeDetailAndSubmitThirdParty.request(jsonRequest, null, request.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<StoreDetailAndSubmitResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<StoreDetailAndSubmitResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #storeDetailAndSubmitThirdParty(StoreDetailAndSubmitRequest)}
+     *
+     * @param request StoreDetailAndSubmitRequest
+     * @return future completing with the StoreDetailAndSubmitResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<StoreDetailAndSubmitResponse> storeDetailAndSubmitThirdPartyAsync(StoreDetailAndSubmitRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return storeDetailAndSubmitThirdParty.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoreDetailAndSubmitResponse.class));
+    }
+
     /**
      * Issues a ConfirmThirdParty API call
      *
@@ -90,14 +103,26 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public ConfirmThirdPartyResponse confirmThirdParty(ConfirmThirdPartyRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
+        String jsonRequest = getJsonCodec().toJson(request);
 
-        String jsonResult = confirmThirdParty.request(jsonRequest);
+        String jsonResult = confirmThirdParty.request(jsonRequest, null, request.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<ConfirmThirdPartyResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<ConfirmThirdPartyResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #confirmThirdParty(ConfirmThirdPartyRequest)}
+     *
+     * @param request ConfirmThirdPartyRequest
+     * @return future completing with the ConfirmThirdPartyResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ConfirmThirdPartyResponse> confirmThirdPartyAsync(ConfirmThirdPartyRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return confirmThirdParty.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, ConfirmThirdPartyResponse.class));
+    }
+
     /**
      * Issues a DeclineThirdParty API call
      *
@@ -107,14 +132,26 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public DeclineThirdPartyResponse declineThirdParty(DeclineThirdPartyRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
+        String jsonRequest = getJsonCodec().toJson(request);
 
-        String jsonResult = declineThirdParty.request(jsonRequest);
+        String jsonResult = declineThirdParty.request(jsonRequest, null, request.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<DeclineThirdPartyResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DeclineThirdPartyResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #declineThirdParty(DeclineThirdPartyRequest)}
+     *
+     * @param request DeclineThirdPartyRequest
+     * @return future completing with the DeclineThirdPartyResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<DeclineThirdPartyResponse> declineThirdPartyAsync(DeclineThirdPartyRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return declineThirdParty.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DeclineThirdPartyResponse.class));
+    }
+
     /**
      * Issues a storeDetail API call
      *
@@ -124,14 +161,26 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public StoreDetailResponse storeDetail(StoreDetailRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
+        String jsonRequest = getJsonCodec().toJson(request);
 
-        String jsonResult = storeDetail.request(jsonRequest);
+        String jsonResult = storeDetail.request(jsonRequest, null, request.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<StoreDetailResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<StoreDetailResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #storeDetail(StoreDetailRequest)}
+     *
+     * @param request StoreDetailRequest
+     * @return future completing with the StoreDetailResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<StoreDetailResponse> storeDetailAsync(StoreDetailRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return storeDetail.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoreDetailResponse.class));
+    }
+
     /**
      * Issues a SubmitThirdParty API call
      *
@@ -141,14 +190,26 @@ public class Payout extends Service {
      * @throws ApiException ApiException
      */
     public SubmitResponse submitThirdparty(SubmitRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
+        String jsonRequest = getJsonCodec().toJson(request);
 
-        String jsonResult = submitThirdparty.request(jsonRequest);
+        String jsonResult = submitThirdparty.request(jsonRequest, null, request.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<SubmitResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<SubmitResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #submitThirdparty(SubmitRequest)}
+     *
+     * @param request SubmitRequest
+     * @return future completing with the SubmitResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<SubmitResponse> submitThirdpartyAsync(SubmitRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return submitThirdparty.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, SubmitResponse.class));
+    }
+
     /**
      * Issues a payout API call
      *
@@ -171,11 +232,34 @@ public class Payout extends Service {
      * @throws ApiException
      */
     public PayoutResponse payout(PayoutRequest request, RequestOptions requestOptions) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
+        String jsonRequest = getJsonCodec().toJson(request);
 
-        String jsonResult = payout.request(jsonRequest, requestOptions);
+        String jsonResult = payout.request(jsonRequest, requestOptions, request.getMerchantAccount());
 
-        return GSON.fromJson(jsonResult, new TypeToken<PayoutResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<PayoutResponse>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #payout(PayoutRequest)}
+     *
+     * @param request PayoutRequest
+     * @return future completing with the PayoutResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PayoutResponse> payoutAsync(PayoutRequest request) {
+        return payoutAsync(request, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #payout(PayoutRequest, RequestOptions)}
+     *
+     * @param request PayoutRequest
+     * @param requestOptions RequestOptions
+     * @return future completing with the PayoutResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<PayoutResponse> payoutAsync(PayoutRequest request, RequestOptions requestOptions) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return payout.requestAsync(jsonRequest, requestOptions, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, PayoutResponse.class));
+    }
 }
@@ -29,6 +29,7 @@ import com.adyen.service.resource.terminal.cloud.ConnectedTerminals;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class PosPayment extends ApiKeyAuthenticatedService {
 
@@ -48,9 +49,21 @@ public class PosPayment extends ApiKeyAuthenticatedService {
      * @throws ApiException ApiException
      */
     public ConnectedTerminalsResponse connectedTerminals(ConnectedTerminalsRequest connectedTerminalsRequest) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(connectedTerminalsRequest);
+        String jsonRequest = getJsonCodec().toJson(connectedTerminalsRequest);
         String jsonResult = connectedTerminals.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<ConnectedTerminalsResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<ConnectedTerminalsResponse>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #connectedTerminals(ConnectedTerminalsRequest)}
+     *
+     * @param connectedTerminalsRequest ConnectedTerminalsRequest
+     * @return future completing with the ConnectedTerminalsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ConnectedTerminalsResponse> connectedTerminalsAsync(ConnectedTerminalsRequest connectedTerminalsRequest) {
+        String jsonRequest = getJsonCodec().toJson(connectedTerminalsRequest);
+        return connectedTerminals.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, ConnectedTerminalsResponse.class));
+    }
 }
@@ -42,6 +42,7 @@ import com.adyen.service.resource.posterminalmanagement.GetTerminalsUnderAccount
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class PosTerminalManagement extends ApiKeyAuthenticatedService {
 
@@ -70,12 +71,24 @@ public class PosTerminalManagement extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public AssignTerminalsResponse assignTerminals(AssignTerminalsRequest assignTerminalsRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(assignTerminalsRequest);
+        String jsonRequest = getJsonCodec().toJson(assignTerminalsRequest);
         String jsonResult = assignTerminals.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<AssignTerminalsResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<AssignTerminalsResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #assignTerminals(AssignTerminalsRequest)}
+     *
+     * @param assignTerminalsRequest
+     * @return future completing with the AssignTerminalsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<AssignTerminalsResponse> assignTerminalsAsync(AssignTerminalsRequest assignTerminalsRequest) {
+        String jsonRequest = getJsonCodec().toJson(assignTerminalsRequest);
+        return assignTerminals.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, AssignTerminalsResponse.class));
+    }
+
     /**
      * POST /findTerminal API call
      *
@@ -85,12 +98,24 @@ public class PosTerminalManagement extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public FindTerminalResponse findTerminal(FindTerminalRequest findTerminalRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(findTerminalRequest);
+        String jsonRequest = getJsonCodec().toJson(findTerminalRequest);
         String jsonResult = findTerminal.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<FindTerminalResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<FindTerminalResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #findTerminal(FindTerminalRequest)}
+     *
+     * @param findTerminalRequest
+     * @return future completing with the FindTerminalResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<FindTerminalResponse> findTerminalAsync(FindTerminalRequest findTerminalRequest) {
+        String jsonRequest = getJsonCodec().toJson(findTerminalRequest);
+        return findTerminal.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, FindTerminalResponse.class));
+    }
+
     /**
      * POST /getTerminalsUnderAccount API call
      *
@@ -100,12 +125,24 @@ public class PosTerminalManagement extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public GetTerminalsUnderAccountResponse getTerminalsUnderAccount(GetTerminalsUnderAccountRequest getTerminalsUnderAccountRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(getTerminalsUnderAccountRequest);
+        String jsonRequest = getJsonCodec().toJson(getTerminalsUnderAccountRequest);
         String jsonResult = getTerminalsUnderAccount.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<GetTerminalsUnderAccountResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetTerminalsUnderAccountResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #getTerminalsUnderAccount(GetTerminalsUnderAccountRequest)}
+     *
+     * @param getTerminalsUnderAccountRequest
+     * @return future completing with the GetTerminalsUnderAccountResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<GetTerminalsUnderAccountResponse> getTerminalsUnderAccountAsync(GetTerminalsUnderAccountRequest getTerminalsUnderAccountRequest) {
+        String jsonRequest = getJsonCodec().toJson(getTerminalsUnderAccountRequest);
+        return getTerminalsUnderAccount.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetTerminalsUnderAccountResponse.class));
+    }
+
 
     /**
      * POST /getStoresUnderAccount API call
@@ -116,12 +153,24 @@ public class PosTerminalManagement extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public GetStoresUnderAccountResponse getStoresUnderAccount(GetStoresUnderAccountRequest getStoresUnderAccountRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(getStoresUnderAccountRequest);
+        String jsonRequest = getJsonCodec().toJson(getStoresUnderAccountRequest);
         String jsonResult = getStoresUnderAccount.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<GetStoresUnderAccountResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<GetStoresUnderAccountResponse>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #getStoresUnderAccount(GetStoresUnderAccountRequest)}
+     *
+     * @param getStoresUnderAccountRequest
+     * @return future completing with the GetStoresUnderAccountResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<GetStoresUnderAccountResponse> getStoresUnderAccountAsync(GetStoresUnderAccountRequest getStoresUnderAccountRequest) {
+        String jsonRequest = getJsonCodec().toJson(getStoresUnderAccountRequest);
+        return getStoresUnderAccount.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetStoresUnderAccountResponse.class));
+    }
+
     /**
      * POST /getTerminalDetails API call
      *
@@ -131,10 +180,20 @@ public class PosTerminalManagement extends ApiKeyAuthenticatedService {
      * @throws IOException
      */
     public GetTerminalDetailsResponse getTerminalDetails(GetTerminalDetailsRequest getTerminalDetailsRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(getTerminalDetailsRequest);
-        String jsonResult = getTerminalDetails.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<GetTerminalDetailsResponse>() {
-        }.getType());
+        String jsonRequest = getJsonCodec().toJson(getTerminalDetailsRequest);
+        return getTerminalDetails.request(jsonRequest, body -> getJsonCodec().fromJson(body, GetTerminalDetailsResponse.class));
+    }
+
+    /**
+     * Non-blocking variant of {@link #getTerminalDetails(GetTerminalDetailsRequest)}
+     *
+     * @param getTerminalDetailsRequest
+     * @return future completing with the GetTerminalDetailsResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<GetTerminalDetailsResponse> getTerminalDetailsAsync(GetTerminalDetailsRequest getTerminalDetailsRequest) {
+        String jsonRequest = getJsonCodec().toJson(getTerminalDetailsRequest);
+        return getTerminalDetails.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, GetTerminalDetailsResponse.class));
     }
 
 }
@@ -41,6 +41,7 @@ import com.adyen.service.resource.recurring.StoreToken;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Recurring extends Service {
     private ListRecurringDetails listRecurringDetails;
@@ -68,12 +69,24 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public RecurringDetailsResult listRecurringDetails(RecurringDetailsRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
-        String jsonResult = listRecurringDetails.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<RecurringDetailsResult>() {
+        String jsonRequest = getJsonCodec().toJson(request);
+        String jsonResult = listRecurringDetails.request(jsonRequest, null, request.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<RecurringDetailsResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #listRecurringDetails(RecurringDetailsRequest)}
+     *
+     * @param request RecurringDetailsResult
+     * @return future completing with the RecurringDetailsResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<RecurringDetailsResult> listRecurringDetailsAsync(RecurringDetailsRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return listRecurringDetails.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, RecurringDetailsResult.class));
+    }
+
     /**
      * Issues a disable recurring contract API call
      *
@@ -83,12 +96,24 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public DisableResult disable(DisableRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
-        String jsonResult = disable.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<DisableResult>() {
+        String jsonRequest = getJsonCodec().toJson(request);
+        String jsonResult = disable.request(jsonRequest, null, request.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<DisableResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #disable(DisableRequest)}
+     *
+     * @param request DisableRequest
+     * @return future completing with the DisableResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<DisableResult> disableAsync(DisableRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return disable.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, DisableResult.class));
+    }
+
     /**
      * Issues a storeToken API call
      *
@@ -98,12 +123,24 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public StoreTokenResult storeToken(StoreTokenRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
-        String jsonResult = storeToken.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<StoreTokenResult>() {
+        String jsonRequest = getJsonCodec().toJson(request);
+        String jsonResult = storeToken.request(jsonRequest, null, request.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<StoreTokenResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #storeToken(StoreTokenRequest)}
+     *
+     * @param request StoreTokenRequest
+     * @return future completing with the StoreTokenResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<StoreTokenResult> storeTokenAsync(StoreTokenRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return storeToken.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoreTokenResult.class));
+    }
+
     /**
      * Issues a scheduleAccountUpdate API call
      *
@@ -113,12 +150,24 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public ScheduleAccountUpdaterResult scheduleAccountUpdater(ScheduleAccountUpdaterRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
-        String jsonResult = scheduleAccountUpdater.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<ScheduleAccountUpdaterResult>() {
+        String jsonRequest = getJsonCodec().toJson(request);
+        String jsonResult = scheduleAccountUpdater.request(jsonRequest, null, request.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<ScheduleAccountUpdaterResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #scheduleAccountUpdater(ScheduleAccountUpdaterRequest)}
+     *
+     * @param request ScheduleAccountUpdaterRequest
+     * @return future completing with the ScheduleAccountUpdaterResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ScheduleAccountUpdaterResult> scheduleAccountUpdaterAsync(ScheduleAccountUpdaterRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return scheduleAccountUpdater.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, ScheduleAccountUpdaterResult.class));
+    }
+
     /**
      * Issues a notifyShopper API call
      *
@@ -128,10 +177,22 @@ public class Recurring extends Service {
      * @throws ApiException ApiException
      */
     public NotifyShopperResult notifyShopper(NotifyShopperRequest request) throws IOException, ApiException {
-        String jsonRequest = GSON.toJson(request);
-        String jsonResult = notifyShopper.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<NotifyShopperResult>() {
+        String jsonRequest = getJsonCodec().toJson(request);
+        String jsonResult = notifyShopper.request(jsonRequest, null, request.getMerchantAccount());
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<NotifyShopperResult>() {
         }.getType());
     }
 
+    /**
+     * Non-blocking variant of {@link #notifyShopper(NotifyShopperRequest)}
+     *
+     * @param request ScheduleAccountUpdaterRequest
+     * @return future completing with the NotifyShopperResult, or exceptionally with an ApiException
+     */
+    public CompletableFuture<NotifyShopperResult> notifyShopperAsync(NotifyShopperRequest request) {
+        String jsonRequest = getJsonCodec().toJson(request);
+        return notifyShopper.requestAsync(jsonRequest, null, request.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, NotifyShopperResult.class));
+    }
+
 }
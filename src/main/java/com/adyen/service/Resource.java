@@ -21,25 +21,52 @@
 package com.adyen.service;
 
 import com.adyen.Config;
+import com.adyen.circuitbreaker.CircuitBreaker;
+import com.adyen.circuitbreaker.CircuitBreakerRegistry;
+import com.adyen.concurrency.ConcurrencyLimiter;
+import com.adyen.concurrency.ConcurrencyLimiterRegistry;
 import com.adyen.Service;
 import com.adyen.constants.ApiConstants;
+import com.adyen.httpclient.AsyncClientInterface;
 import com.adyen.httpclient.ClientInterface;
 import com.adyen.httpclient.HTTPClientException;
+import com.adyen.httpclient.ResponseBodyReader;
+import com.adyen.metrics.ApiCallEvent;
+import com.adyen.metrics.ApiCallListener;
 import com.adyen.model.ApiError;
 import com.adyen.model.RequestOptions;
+import com.adyen.retry.RetryPolicy;
+import com.adyen.serializer.GsonJsonCodec;
+import com.adyen.serializer.JsonCodec;
 import com.adyen.service.exception.ApiException;
+import com.adyen.service.exception.CircuitBreakerOpenException;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 
+import java.io.FilterReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static com.adyen.constants.ApiConstants.HttpMethod.POST;
 
 public class Resource {
 
+    /**
+     * @deprecated use the codec of the service, {@link Service#getJsonCodec()}
+     */
+    @Deprecated
     protected static final Gson GSON = new Gson();
     protected String endpoint;
     protected List<String> requiredFields;
@@ -88,28 +115,669 @@ public class Resource {
      * @return request
      */
     public String request(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) throws ApiException, IOException {
+        return send(json, requestOptions, httpMethod, params, null);
+    }
+
+    /**
+     * Request using json String on behalf of the merchant account of the request object, whose calls share a
+     * concurrency limit when {@link com.adyen.Client#setConcurrencyLimiterConfig} is set
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @param merchantAccount merchant account of the request, null for the one of the config
+     * @throws ApiException apiException
+     * @throws IOException  IOException
+     * @return request
+     */
+    public String request(String json, RequestOptions requestOptions, String merchantAccount) throws ApiException, IOException {
+        return send(json, requestOptions, POST, null, merchantAccount);
+    }
+
+    private String send(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params, String merchantAccount) throws ApiException, IOException {
+        if (getApiCallListener() != ApiCallListener.NO_OP) {
+            // buffered through the streaming call so that the listener gets the status of the response
+            return stream(json, requestOptions, httpMethod, params, merchantAccount, Resource::readBody);
+        }
         ClientInterface clientInterface = service.getClient().getHttpClient();
         Config config = service.getClient().getConfig();
-        String responseBody;
-        ApiException apiException;
+        String resolvedEndpoint = resolve(params);
 
+        return execute(json, requestOptions, httpMethod, merchantAccount, null,
+                options -> clientInterface.request(resolvedEndpoint, json, config, service.isApiKeyRequired(), options, httpMethod));
+    }
+
+    /**
+     * Request using json String, binding the response body with {@code responseBodyReader} while it is read from the connection
+     *
+     * @param json request json
+     * @param responseBodyReader reader binding the response body
+     * @param <T> result type
+     * @return result bound from the response body
+     * @throws ApiException ApiException
+     * @throws IOException  IOException
+     */
+    public <T> T request(String json, ResponseBodyReader<T> responseBodyReader) throws ApiException, IOException {
+        return request(json, null, POST, null, responseBodyReader);
+    }
+
+    /**
+     * Request using json String with additional request parameters like idempotency-key,
+     * binding the response body with {@code responseBodyReader} instead of buffering it into a String
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param params request parameters
+     * @param responseBodyReader reader binding the response body
+     * @param <T> result type
+     * @throws ApiException apiException
+     * @throws IOException  IOException
+     * @return result bound from the response body
+     */
+    public <T> T request(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params, ResponseBodyReader<T> responseBodyReader) throws ApiException, IOException {
+        return stream(json, requestOptions, httpMethod, params, null, responseBodyReader);
+    }
+
+    /**
+     * Request using json String on behalf of the merchant account of the request object,
+     * binding the response body with {@code responseBodyReader} while it is read from the connection
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @param merchantAccount merchant account of the request, null for the one of the config
+     * @param responseBodyReader reader binding the response body
+     * @param <T> result type
+     * @throws ApiException apiException
+     * @throws IOException  IOException
+     * @return result bound from the response body
+     */
+    public <T> T request(String json, RequestOptions requestOptions, String merchantAccount, ResponseBodyReader<T> responseBodyReader) throws ApiException, IOException {
+        return stream(json, requestOptions, POST, null, merchantAccount, responseBodyReader);
+    }
+
+    private <T> T stream(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params, String merchantAccount, ResponseBodyReader<T> responseBodyReader) throws ApiException, IOException {
+        ClientInterface clientInterface = service.getClient().getHttpClient();
+        Config config = service.getClient().getConfig();
+        String resolvedEndpoint = resolve(params);
+
+        StreamedResponse<T> streamedResponse = getApiCallListener() == ApiCallListener.NO_OP ? null : new StreamedResponse<>(responseBodyReader);
+        return execute(json, requestOptions, httpMethod, merchantAccount, streamedResponse,
+                options -> clientInterface.streamRequest(resolvedEndpoint, json, config, service.isApiKeyRequired(), options, httpMethod,
+                        streamedResponse != null ? streamedResponse : responseBodyReader));
+    }
+
+    /**
+     * Non-blocking request using json String
+     *
+     * @param json request json
+     * @return future completing with the response, or exceptionally with an ApiException or IOException
+     */
+    public CompletableFuture<String> requestAsync(String json) {
+        return requestAsync(json, null, POST, null);
+    }
+
+    /**
+     * Non-blocking request using json String with additional request parameters like idempotency-key
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @return future completing with the response, or exceptionally with an ApiException or IOException
+     */
+    public CompletableFuture<String> requestAsync(String json, RequestOptions requestOptions) {
+        return requestAsync(json, requestOptions, POST, null);
+    }
+
+    /**
+     * Non-blocking request using json String with additional request parameters like idempotency-key.
+     * Failed requests are mapped to {@link ApiException} the same way as {@link #request(String, RequestOptions, ApiConstants.HttpMethod, Map)}.
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @param httpMethod http method
+     * @param params request parameters
+     * @return future completing with the response, or exceptionally with an ApiException or IOException
+     */
+    public CompletableFuture<String> requestAsync(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params) {
+        AsyncCall asyncCall = new AsyncCall(json, requestOptions, httpMethod, params, null);
+        asyncCall.attempt(1);
+        return asyncCall.result;
+    }
+
+    /**
+     * Non-blocking request using json String on behalf of the merchant account of the request object
+     *
+     * @param json   json
+     * @param requestOptions request options
+     * @param merchantAccount merchant account of the request, null for the one of the config
+     * @return future completing with the response, or exceptionally with an ApiException or IOException
+     */
+    public CompletableFuture<String> requestAsync(String json, RequestOptions requestOptions, String merchantAccount) {
+        AsyncCall asyncCall = new AsyncCall(json, requestOptions, POST, null, merchantAccount);
+        asyncCall.attempt(1);
+        return asyncCall.result;
+    }
+
+    /**
+     * Tells whether the endpoint accepts idempotency keys, in which case calls without one get a generated key
+     * when a {@link RetryPolicy} is set, so that they can be retried safely.
+     *
+     * @return true when the endpoint accepts idempotency keys
+     */
+    protected boolean isIdempotencyKeySupported() {
+        return false;
+    }
+
+    /**
+     * One attempt of an HTTP call, given the request options to send.
+     */
+    @FunctionalInterface
+    private interface Call<T> {
+        T execute(RequestOptions requestOptions) throws IOException, HTTPClientException;
+    }
+
+    private <T> T execute(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, String merchantAccount, StreamedResponse<T> streamedResponse, Call<T> call) throws ApiException, IOException {
+        RetryPolicy retryPolicy = getRetryPolicy();
+        ApiCallListener listener = getApiCallListener();
+        CircuitBreaker circuitBreaker = getCircuitBreaker();
+        ConcurrencyLimiter concurrencyLimiter = getConcurrencyLimiter(merchantAccount);
+        if (retryPolicy == null && listener == ApiCallListener.NO_OP && circuitBreaker == null && concurrencyLimiter == null) {
+            try {
+                return call.execute(requestOptions);
+            } catch (HTTPClientException e) {
+                throw toApiException(e);
+            }
+        }
+
+        RequestOptions options = withIdempotencyKey(retryPolicy, requestOptions);
+        long firstAttemptStart = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            if (concurrencyLimiter != null) {
+                acquire(concurrencyLimiter);
+            }
+            CircuitBreaker.Permit permit = circuitBreaker != null ? circuitBreaker.tryAcquirePermission() : null;
+            if (circuitBreaker != null && permit == null) {
+                if (concurrencyLimiter != null) {
+                    concurrencyLimiter.release();
+                }
+                throw new CircuitBreakerOpenException(circuitBreaker);
+            }
+            ApiCallEvent.Builder event = listener == ApiCallListener.NO_OP ? null : startEvent(json, options, httpMethod).attempt(attempt);
+            if (streamedResponse != null) {
+                streamedResponse.reset();
+            }
+            long start = System.nanoTime();
+            try {
+                T result = call.execute(options);
+                recordOutcome(permit, concurrencyLimiter, start, null);
+                if (event != null) {
+                    listener.onApiCall(succeededEvent(event, start, result, streamedResponse));
+                }
+                return result;
+            } catch (HTTPClientException e) {
+                recordOutcome(permit, concurrencyLimiter, start, e);
+                ApiException apiException = toApiException(e);
+                if (event != null) {
+                    listener.onApiCall(failedEvent(event, start, e, apiException));
+                }
+                if (!sleep(retryDelay(retryPolicy, options, httpMethod, e, attempt, firstAttemptStart))) {
+                    throw apiException;
+                }
+            } catch (IOException e) {
+                recordOutcome(permit, concurrencyLimiter, start, e);
+                if (event != null) {
+                    listener.onApiCall(failedEvent(event, start, null, e));
+                }
+                if (!sleep(retryDelay(retryPolicy, options, httpMethod, e, attempt, firstAttemptStart))) {
+                    throw e;
+                }
+            } catch (RuntimeException e) {
+                recordOutcome(permit, concurrencyLimiter, start, e);
+                if (event != null) {
+                    listener.onApiCall(failedEvent(event, start, null, e));
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Non-blocking call, retried from the retry scheduler thread.
+     */
+    private final class AsyncCall {
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final AsyncClientInterface asyncClientInterface = service.getClient().getAsyncHttpClient();
+        private final Config config = service.getClient().getConfig();
+        private final RetryPolicy retryPolicy = getRetryPolicy();
+        private final ApiCallListener listener = getApiCallListener();
+        private final CircuitBreaker circuitBreaker = getCircuitBreaker();
+        private final ConcurrencyLimiter concurrencyLimiter;
+        private final long firstAttemptStart = System.nanoTime();
+        private final String json;
+        private final RequestOptions options;
+        private final ApiConstants.HttpMethod httpMethod;
+        private final String resolvedEndpoint;
+
+        private AsyncCall(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod, Map<String, String> params, String merchantAccount) {
+            this.json = json;
+            this.concurrencyLimiter = getConcurrencyLimiter(merchantAccount);
+            this.options = withIdempotencyKey(retryPolicy, requestOptions);
+            this.httpMethod = httpMethod;
+            this.resolvedEndpoint = resolve(params);
+        }
+
+        private void attempt(int attempt) {
+            if (concurrencyLimiter == null) {
+                send(attempt);
+                return;
+            }
+            CompletableFuture<Void> permit = concurrencyLimiter.acquireAsync();
+            if (permit.isDone()) {
+                onPermit(permit, attempt);
+                return;
+            }
+            // a queued permit is granted by the thread releasing another one, which may be an I/O thread
+            permit.whenCompleteAsync((granted, error) -> onPermit(permit, attempt), RetryScheduler.INSTANCE);
+        }
+
+        private void onPermit(CompletableFuture<Void> permit, int attempt) {
+            try {
+                permit.join();
+            } catch (CompletionException e) {
+                result.completeExceptionally(e.getCause());
+                return;
+            }
+            send(attempt);
+        }
+
+        private void send(int attempt) {
+            CircuitBreaker.Permit permit = circuitBreaker != null ? circuitBreaker.tryAcquirePermission() : null;
+            if (circuitBreaker != null && permit == null) {
+                if (concurrencyLimiter != null) {
+                    concurrencyLimiter.release();
+                }
+                result.completeExceptionally(new CircuitBreakerOpenException(circuitBreaker));
+                return;
+            }
+            ApiCallEvent.Builder event = listener == ApiCallListener.NO_OP ? null : startEvent(json, options, httpMethod).async(true).attempt(attempt);
+            long start = System.nanoTime();
+
+            CompletableFuture<String> pending;
+            try {
+                pending = asyncClientInterface.requestAsync(resolvedEndpoint, json, config, service.isApiKeyRequired(), options, httpMethod, null);
+            } catch (RuntimeException e) {
+                // thrown before the request is sent, the permits taken for it are given back here
+                recordOutcome(permit, concurrencyLimiter, start, e);
+                if (event != null) {
+                    listener.onApiCall(failedEvent(event, start, null, e));
+                }
+                result.completeExceptionally(e);
+                return;
+            }
+            pending.whenComplete((response, throwable) -> {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                recordOutcome(permit, concurrencyLimiter, start, cause);
+                if (throwable == null) {
+                    if (event != null) {
+                        listener.onApiCall(succeededEvent(event, start, response, null));
+                    }
+                    result.complete(response);
+                    return;
+                }
+                HTTPClientException httpClientException = cause instanceof HTTPClientException ? (HTTPClientException) cause : null;
+                Throwable error = httpClientException != null ? toApiException(httpClientException) : cause;
+                if (event != null) {
+                    listener.onApiCall(failedEvent(event, start, httpClientException, error));
+                }
+                long delay = cause instanceof Exception ? retryDelay(retryPolicy, options, httpMethod, (Exception) cause, attempt, firstAttemptStart) : -1;
+                if (delay < 0) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                try {
+                    RetryScheduler.INSTANCE.schedule(() -> attempt(attempt + 1), delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+    }
+
+    /**
+     * Holder of the thread scheduling the retries of non-blocking calls and sending those that waited for a
+     * concurrency permit, created on first use.
+     */
+    private static final class RetryScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adyen-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private RetryScheduler() {
+        }
+    }
+
+    /**
+     * @return circuit breaker of the endpoint, null when circuit breakers are disabled
+     */
+    private CircuitBreaker getCircuitBreaker() {
+        CircuitBreakerRegistry registry = service.getClient().getCircuitBreakerRegistry();
+        return registry != null ? registry.getCircuitBreaker(endpoint) : null;
+    }
+
+    /**
+     * @param merchantAccount merchant account of the request, null for the one of the config
+     * @return concurrency limiter of the merchant account, null when concurrency limits are disabled
+     */
+    private ConcurrencyLimiter getConcurrencyLimiter(String merchantAccount) {
+        ConcurrencyLimiterRegistry registry = service.getClient().getConcurrencyLimiterRegistry();
+        if (registry == null) {
+            return null;
+        }
+        return registry.getConcurrencyLimiter(merchantAccount != null ? merchantAccount : service.getClient().getConfig().getMerchantAccount());
+    }
+
+    private static void acquire(ConcurrencyLimiter concurrencyLimiter) throws ApiException, IOException {
+        try {
+            concurrencyLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the concurrency limit");
+        }
+    }
+
+    /**
+     * Reports the outcome of an attempt to the circuit breaker and the concurrency limiter. Server errors, I/O errors
+     * and unexpected exceptions, such as an unreadable response body, count as failures for the breaker; a 4xx
+     * response means the endpoint is up. Only 429 responses and slow calls shrink the concurrency limit.
+     */
+    private static void recordOutcome(CircuitBreaker.Permit permit, ConcurrencyLimiter concurrencyLimiter, long start, Throwable failure) {
+        long durationNanos = System.nanoTime() - start;
+        int statusCode = failure instanceof HTTPClientException ? ((HTTPClientException) failure).getCode() : 0;
+        if (permit != null) {
+            if (failure instanceof IOException || failure instanceof RuntimeException || statusCode >= 500) {
+                permit.onFailure();
+            } else {
+                permit.onSuccess(durationNanos);
+            }
+        }
+        if (concurrencyLimiter != null) {
+            if (failure == null) {
+                concurrencyLimiter.onSuccess(durationNanos);
+            } else if (statusCode == 429) {
+                concurrencyLimiter.onLimited(retryAfterMillis((HTTPClientException) failure));
+            } else {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    /**
+     * @return delay of the Retry-After header in seconds, converted to milliseconds, 0 when absent or an HTTP date
+     */
+    private static long retryAfterMillis(HTTPClientException e) {
+        Map<String, List<String>> headers = e.getResponseHeaders();
+        if (headers == null) {
+            return 0;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if ("Retry-After".equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(header.getValue().get(0).trim()));
+                } catch (NumberFormatException ignored) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private RetryPolicy getRetryPolicy() {
+        Config config = service.getClient().getConfig();
+        return config != null ? config.getRetryPolicy() : null;
+    }
+
+    /**
+     * Adds a generated idempotency key to the request options when the endpoint supports it and the caller did not set one.
+     */
+    private RequestOptions withIdempotencyKey(RetryPolicy retryPolicy, RequestOptions requestOptions) {
+        if (retryPolicy == null || !retryPolicy.isGenerateIdempotencyKeys() || !isIdempotencyKeySupported()
+                || (requestOptions != null && requestOptions.getIdempotencyKey() != null)) {
+            return requestOptions;
+        }
+        RequestOptions options = new RequestOptions();
+        options.setIdempotencyKey(UUID.randomUUID().toString());
+        return options;
+    }
+
+    /**
+     * Returns the delay before retrying a failed attempt, or -1 when it must not be retried: when the failure is not
+     * transient, the request is not safe to repeat, or the policy allows no further attempt. A 429 or 503 response
+     * is not retried before its Retry-After delay, when that is longer than the backoff.
+     */
+    private static long retryDelay(RetryPolicy retryPolicy, RequestOptions options, ApiConstants.HttpMethod httpMethod, Exception failure, int attempt, long firstAttemptStart) {
+        if (retryPolicy == null) {
+            return -1;
+        }
+        boolean transientFailure;
+        if (failure instanceof HTTPClientException) {
+            transientFailure = retryPolicy.isRetryable(((HTTPClientException) failure).getCode());
+        } else {
+            transientFailure = failure instanceof IOException && retryPolicy.isRetryable((IOException) failure);
+        }
+        // a failed connection means the request was not sent
+        boolean safeToRepeat = (options != null && options.getIdempotencyKey() != null)
+                || httpMethod == ApiConstants.HttpMethod.GET
+                || failure instanceof ConnectException;
+        if (!transientFailure || !safeToRepeat) {
+            return -1;
+        }
+        long backoffMillis = retryPolicy.getBackoffMillis(attempt);
+        if (failure instanceof HTTPClientException) {
+            int statusCode = ((HTTPClientException) failure).getCode();
+            if (statusCode == 429 || statusCode == 503) {
+                backoffMillis = Math.max(backoffMillis, retryAfterMillis((HTTPClientException) failure));
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - firstAttemptStart);
+        return retryPolicy.canRetry(attempt, elapsedMillis, backoffMillis) ? backoffMillis : -1;
+    }
+
+    /**
+     * Waits before a retry.
+     *
+     * @return false when there is no retry, or the thread was interrupted while waiting
+     */
+    private static boolean sleep(long delayMillis) {
+        if (delayMillis < 0) {
+            return false;
+        }
         try {
-            return clientInterface.request(resolve(params), json, config, service.isApiKeyRequired(), requestOptions, httpMethod);
-        } catch (HTTPClientException e) {
-            responseBody = e.getResponseBody();
-            apiException = new ApiException(e.getMessage(), e.getCode(), e.getResponseHeaders());
+            Thread.sleep(delayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ApiCallListener getApiCallListener() {
+        ApiCallListener listener = service.getClient().getApiCallListener();
+        // a mocked client has no listener
+        return listener != null ? listener : ApiCallListener.NO_OP;
+    }
+
+    private ApiCallEvent.Builder startEvent(String json, RequestOptions requestOptions, ApiConstants.HttpMethod httpMethod) {
+        return ApiCallEvent.builder()
+                .endpoint(endpoint)
+                .httpMethod(httpMethod)
+                .requestBytes(utf8Length(json))
+                .idempotencyKey(requestOptions != null ? requestOptions.getIdempotencyKey() : null)
+                .startTimeMillis(System.currentTimeMillis());
+    }
+
+    private static String readBody(Reader body) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            builder.append(buffer, 0, read);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Completes the event of a successful call. A body read through the blocking client is measured while it is
+     * read, the reading time being reported apart from the time spent waiting for the response; an asynchronous
+     * response comes buffered, without its status.
+     */
+    private static <T> ApiCallEvent succeededEvent(ApiCallEvent.Builder event, long start, T result, StreamedResponse<T> streamedResponse) {
+        long end = System.nanoTime();
+        if (streamedResponse == null || !streamedResponse.bodyRead) {
+            return event.durationNanos(end - start)
+                    .statusCode(ApiCallEvent.STATUS_UNKNOWN)
+                    .responseBytes(result instanceof String ? utf8Length((String) result) : -1)
+                    .build();
+        }
+        return event.durationNanos(streamedResponse.bodyStart - start)
+                .bindingNanos(end - streamedResponse.bodyStart)
+                .statusCode(streamedResponse.statusCode)
+                .responseBytes(streamedResponse.responseBytes)
+                .build();
+    }
+
+    /**
+     * Reader of a streamed response body recording its status, the time its reading started and its size in bytes.
+     */
+    private static final class StreamedResponse<T> implements ResponseBodyReader<T> {
+        private final ResponseBodyReader<T> responseBodyReader;
+        private boolean bodyRead;
+        private int statusCode;
+        private long bodyStart;
+        private long responseBytes;
+
+        private StreamedResponse(ResponseBodyReader<T> responseBodyReader) {
+            this.responseBodyReader = responseBodyReader;
+        }
+
+        private void reset() {
+            bodyRead = false;
+            statusCode = ApiCallEvent.STATUS_UNKNOWN;
+            responseBytes = -1;
+        }
+
+        @Override
+        public T read(Reader body) throws IOException {
+            return read(ApiCallEvent.STATUS_UNKNOWN, body);
+        }
+
+        @Override
+        public T read(int statusCode, Reader body) throws IOException {
+            this.bodyRead = true;
+            this.statusCode = statusCode;
+            this.bodyStart = System.nanoTime();
+            CountingReader countingReader = new CountingReader(body);
+            try {
+                return responseBodyReader.read(statusCode, countingReader);
+            } finally {
+                responseBytes = countingReader.bytes;
+            }
+        }
+    }
+
+    /**
+     * Counts the UTF-8 encoded size of the characters read.
+     */
+    private static final class CountingReader extends FilterReader {
+        private long bytes;
+
+        private CountingReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c >= 0) {
+                bytes += utf8Length((char) c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            for (int i = offset; i < offset + read; i++) {
+                bytes += utf8Length(buffer[i]);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            char[] buffer = new char[(int) Math.min(n, 512)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
         }
+    }
+
+    private static ApiCallEvent failedEvent(ApiCallEvent.Builder event, long start, HTTPClientException httpClientException, Throwable error) {
+        event.durationNanos(System.nanoTime() - start).error(error);
+        if (httpClientException != null) {
+            event.statusCode(httpClientException.getCode()).responseBytes(utf8Length(httpClientException.getResponseBody()));
+        }
+        return event.build();
+    }
+
+    private static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            length += utf8Length(value.charAt(i));
+        }
+        return length;
+    }
+
+    /**
+     * @return UTF-8 encoded size of the character, the 4 bytes of a surrogate pair being counted on its high surrogate
+     */
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        } else if (c < 0x800) {
+            return 2;
+        } else if (Character.isHighSurrogate(c)) {
+            return 4;
+        } else if (Character.isLowSurrogate(c)) {
+            return 0;
+        }
+        return 3;
+    }
+
+    private ApiException toApiException(HTTPClientException e) {
+        String responseBody = e.getResponseBody();
+        ApiException apiException = new ApiException(e.getMessage(), e.getCode(), e.getResponseHeaders());
 
         // Enhance ApiException with more info from JSON payload
         try {
-            ApiError apiError = GSON.fromJson(responseBody, new TypeToken<ApiError>() {
-            }.getType());
+            JsonCodec jsonCodec = service.getJsonCodec();
+            // a mocked service has no codec
+            ApiError apiError = (jsonCodec != null ? jsonCodec : GsonJsonCodec.DEFAULT).fromJson(responseBody, ApiError.class);
             apiException.setError(apiError);
-        } catch (JsonSyntaxException ignored) {
-            throw new ApiException("Invalid response or an invalid X-API-Key key was used", apiException.getStatusCode());
+        } catch (JsonSyntaxException | UncheckedIOException ignored) {
+            return new ApiException("Invalid response or an invalid X-API-Key key was used", apiException.getStatusCode());
         }
 
-        throw apiException;
+        return apiException;
     }
 
     private String resolve(Map<String, String> params) {
@@ -32,6 +32,7 @@ import com.adyen.service.resource.payment.Retrieve3DS2Result;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class Retrieve3DS2 extends Service {
 
@@ -53,9 +54,21 @@ public class Retrieve3DS2 extends Service {
      */
 
     public ThreeDS2ResultResponse authorise(ThreeDS2ResultRequest threeDS2ResultRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(threeDS2ResultRequest);
+        String jsonRequest = getJsonCodec().toJson(threeDS2ResultRequest);
         String jsonResult = retrieve3DS2Result.request(jsonRequest);
-        return GSON.fromJson(jsonResult, new TypeToken<ThreeDS2ResultResponse>() {
+        return getJsonCodec().fromJson(jsonResult, new TypeToken<ThreeDS2ResultResponse>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #authorise(ThreeDS2ResultRequest)}
+     *
+     * @param threeDS2ResultRequest threeDS2ResultRequest
+     * @return future completing with the ThreeDS2ResultResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<ThreeDS2ResultResponse> authoriseAsync(ThreeDS2ResultRequest threeDS2ResultRequest) {
+        String jsonRequest = getJsonCodec().toJson(threeDS2ResultRequest);
+        return retrieve3DS2Result.requestAsync(jsonRequest)
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, ThreeDS2ResultResponse.class));
+    }
 }
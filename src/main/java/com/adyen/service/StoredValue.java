@@ -45,6 +45,7 @@ import com.adyen.service.resource.storedvalue.VoidTransaction;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class StoredValue extends ApiKeyAuthenticatedService {
 
@@ -67,69 +68,105 @@ public class StoredValue extends ApiKeyAuthenticatedService {
 
 
     public StoredValueStatusChangeResponse changeStatus(StoredValueStatusChangeRequest storedValueStatusChangeRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(storedValueStatusChangeRequest);
+        String jsonRequest = getJsonCodec().toJson(storedValueStatusChangeRequest);
 
-        String jsonResult = changeStatus.request(jsonRequest);
+        String jsonResult = changeStatus.request(jsonRequest, null, storedValueStatusChangeRequest.getMerchantAccount());
 
-        StoredValueStatusChangeResponse storedValueStatusChangeResponse = GSON.fromJson(jsonResult, new TypeToken<StoredValueStatusChangeResponse>() {
+        StoredValueStatusChangeResponse storedValueStatusChangeResponse = getJsonCodec().fromJson(jsonResult, new TypeToken<StoredValueStatusChangeResponse>() {
         }.getType());
 
         return storedValueStatusChangeResponse;
     }
 
+    public CompletableFuture<StoredValueStatusChangeResponse> changeStatusAsync(StoredValueStatusChangeRequest storedValueStatusChangeRequest) {
+        String jsonRequest = getJsonCodec().toJson(storedValueStatusChangeRequest);
+        return changeStatus.requestAsync(jsonRequest, null, storedValueStatusChangeRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoredValueStatusChangeResponse.class));
+    }
+
     public StoredValueBalanceCheckResponse checkBalance(StoredValueBalanceCheckRequest storedValueBalanceCheckRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(storedValueBalanceCheckRequest);
+        String jsonRequest = getJsonCodec().toJson(storedValueBalanceCheckRequest);
 
-        String jsonResult = checkBalance.request(jsonRequest);
+        String jsonResult = checkBalance.request(jsonRequest, null, storedValueBalanceCheckRequest.getMerchantAccount());
 
-        StoredValueBalanceCheckResponse storedValueBalanceCheckResponse = GSON.fromJson(jsonResult, new TypeToken<StoredValueBalanceCheckResponse>() {
+        StoredValueBalanceCheckResponse storedValueBalanceCheckResponse = getJsonCodec().fromJson(jsonResult, new TypeToken<StoredValueBalanceCheckResponse>() {
         }.getType());
 
         return storedValueBalanceCheckResponse;
     }
 
+    public CompletableFuture<StoredValueBalanceCheckResponse> checkBalanceAsync(StoredValueBalanceCheckRequest storedValueBalanceCheckRequest) {
+        String jsonRequest = getJsonCodec().toJson(storedValueBalanceCheckRequest);
+        return checkBalance.requestAsync(jsonRequest, null, storedValueBalanceCheckRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoredValueBalanceCheckResponse.class));
+    }
+
     public StoredValueIssueResponse issue(StoredValueIssueRequest storedValueIssueRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(storedValueIssueRequest);
+        String jsonRequest = getJsonCodec().toJson(storedValueIssueRequest);
 
-        String jsonResult = issue.request(jsonRequest);
+        String jsonResult = issue.request(jsonRequest, null, storedValueIssueRequest.getMerchantAccount());
 
-        StoredValueIssueResponse storedValueIssueResponse = GSON.fromJson(jsonResult, new TypeToken<StoredValueIssueResponse>() {
+        StoredValueIssueResponse storedValueIssueResponse = getJsonCodec().fromJson(jsonResult, new TypeToken<StoredValueIssueResponse>() {
         }.getType());
 
         return storedValueIssueResponse;
     }
 
+    public CompletableFuture<StoredValueIssueResponse> issueAsync(StoredValueIssueRequest storedValueIssueRequest) {
+        String jsonRequest = getJsonCodec().toJson(storedValueIssueRequest);
+        return issue.requestAsync(jsonRequest, null, storedValueIssueRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoredValueIssueResponse.class));
+    }
+
     public StoredValueLoadResponse load(StoredValueLoadRequest storedValueLoadRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(storedValueLoadRequest);
+        String jsonRequest = getJsonCodec().toJson(storedValueLoadRequest);
 
-        String jsonResult = load.request(jsonRequest);
+        String jsonResult = load.request(jsonRequest, null, storedValueLoadRequest.getMerchantAccount());
 
-        StoredValueLoadResponse storedValueLoadResponse = GSON.fromJson(jsonResult, new TypeToken<StoredValueLoadResponse>() {
+        StoredValueLoadResponse storedValueLoadResponse = getJsonCodec().fromJson(jsonResult, new TypeToken<StoredValueLoadResponse>() {
         }.getType());
 
         return storedValueLoadResponse;
     }
 
+    public CompletableFuture<StoredValueLoadResponse> loadAsync(StoredValueLoadRequest storedValueLoadRequest) {
+        String jsonRequest = getJsonCodec().toJson(storedValueLoadRequest);
+        return load.requestAsync(jsonRequest, null, storedValueLoadRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoredValueLoadResponse.class));
+    }
+
     public StoredValueBalanceMergeResponse mergeBalance(StoredValueBalanceMergeRequest storedValueBalanceMergeRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(storedValueBalanceMergeRequest);
+        String jsonRequest = getJsonCodec().toJson(storedValueBalanceMergeRequest);
 
-        String jsonResult = mergeBalance.request(jsonRequest);
+        String jsonResult = mergeBalance.request(jsonRequest, null, storedValueBalanceMergeRequest.getMerchantAccount());
 
-        StoredValueBalanceMergeResponse storedValueBalanceMergeResponse = GSON.fromJson(jsonResult, new TypeToken<StoredValueBalanceMergeResponse>() {
+        StoredValueBalanceMergeResponse storedValueBalanceMergeResponse = getJsonCodec().fromJson(jsonResult, new TypeToken<StoredValueBalanceMergeResponse>() {
         }.getType());
 
         return storedValueBalanceMergeResponse;
     }
 
+    public CompletableFuture<StoredValueBalanceMergeResponse> mergeBalanceAsync(StoredValueBalanceMergeRequest storedValueBalanceMergeRequest) {
+        String jsonRequest = getJsonCodec().toJson(storedValueBalanceMergeRequest);
+        return mergeBalance.requestAsync(jsonRequest, null, storedValueBalanceMergeRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoredValueBalanceMergeResponse.class));
+    }
+
     public StoredValueVoidResponse voidTransaction(StoredValueVoidRequest storedValueVoidRequest) throws ApiException, IOException {
-        String jsonRequest = GSON.toJson(storedValueVoidRequest);
+        String jsonRequest = getJsonCodec().toJson(storedValueVoidRequest);
 
-        String jsonResult = voidTransaction.request(jsonRequest);
+        String jsonResult = voidTransaction.request(jsonRequest, null, storedValueVoidRequest.getMerchantAccount());
 
-        StoredValueVoidResponse storedValueVoidResponse = GSON.fromJson(jsonResult, new TypeToken<StoredValueVoidResponse>() {
+        StoredValueVoidResponse storedValueVoidResponse = getJsonCodec().fromJson(jsonResult, new TypeToken<StoredValueVoidResponse>() {
         }.getType());
 
         return storedValueVoidResponse;
     }
 
+    public CompletableFuture<StoredValueVoidResponse> voidTransactionAsync(StoredValueVoidRequest storedValueVoidRequest) {
+        String jsonRequest = getJsonCodec().toJson(storedValueVoidRequest);
+        return voidTransaction.requestAsync(jsonRequest, null, storedValueVoidRequest.getMerchantAccount())
+                .thenApply(jsonResult -> getJsonCodec().fromJson(jsonResult, StoredValueVoidResponse.class));
+    }
+
 }
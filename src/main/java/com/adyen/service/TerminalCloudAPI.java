@@ -32,6 +32,7 @@ import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public class TerminalCloudAPI extends ApiKeyAuthenticatedService {
 
@@ -44,7 +45,7 @@ public class TerminalCloudAPI extends ApiKeyAuthenticatedService {
         super(client);
         terminalApiAsync = new Async(this);
         terminalApiSync = new Sync(this);
-        terminalApiGson = TerminalAPIGsonBuilder.create();
+        terminalApiGson = TerminalAPIGsonBuilder.getInstance();
     }
 
     /**
@@ -61,6 +62,18 @@ public class TerminalCloudAPI extends ApiKeyAuthenticatedService {
         return terminalApiAsync.request(jsonRequest);
     }
 
+    /**
+     * Non-blocking variant of {@link #async(TerminalAPIRequest)}
+     *
+     * @param terminalAPIRequest TerminalAPIRequest
+     * @return future completing with the response string, or exceptionally with an ApiException
+     */
+    public CompletableFuture<String> asyncAsync(TerminalAPIRequest terminalAPIRequest) {
+        String jsonRequest = terminalApiGson.toJson(terminalAPIRequest);
+
+        return terminalApiAsync.requestAsync(jsonRequest);
+    }
+
     /**
      * POST /sync API call
      *
@@ -81,4 +94,21 @@ public class TerminalCloudAPI extends ApiKeyAuthenticatedService {
         return terminalApiGson.fromJson(jsonResponse, new TypeToken<TerminalAPIResponse>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #sync(TerminalAPIRequest)}
+     *
+     * @param terminalAPIRequest TerminalAPIRequest
+     * @return future completing with the TerminalAPIResponse, or exceptionally with an ApiException
+     */
+    public CompletableFuture<TerminalAPIResponse> syncAsync(TerminalAPIRequest terminalAPIRequest) {
+        String jsonRequest = terminalApiGson.toJson(terminalAPIRequest);
+
+        return terminalApiSync.requestAsync(jsonRequest).thenApply(jsonResponse -> {
+            if (jsonResponse == null || jsonResponse.isEmpty() || "ok".equals(jsonResponse)) {
+                return null;
+            }
+            return terminalApiGson.fromJson(jsonResponse, TerminalAPIResponse.class);
+        });
+    }
 }
@@ -34,6 +34,9 @@ import com.adyen.terminal.serialization.TerminalAPIGsonBuilder;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 public class TerminalLocalAPI extends ApiKeyAuthenticatedService {
 
     private LocalRequest localRequest;
@@ -45,7 +48,7 @@ public class TerminalLocalAPI extends ApiKeyAuthenticatedService {
         super(client);
         localRequest = new LocalRequest(this);
         nexoCrypto = new NexoCrypto();
-        terminalApiGson = TerminalAPIGsonBuilder.create();
+        terminalApiGson = TerminalAPIGsonBuilder.getInstance();
     }
 
     /**
@@ -76,4 +79,34 @@ public class TerminalLocalAPI extends ApiKeyAuthenticatedService {
         return terminalApiGson.fromJson(jsonDecryptedResponse, new TypeToken<TerminalAPIResponse>() {
         }.getType());
     }
+
+    /**
+     * Non-blocking variant of {@link #request(TerminalAPIRequest, SecurityKey)}
+     *
+     * @param terminalAPIRequest TerminalAPIRequest
+     * @param securityKey SecurityKey
+     * @return future completing with the TerminalAPIResponse, or exceptionally with an ApiException
+     * @throws Exception exception when the request cannot be encrypted
+     */
+    public CompletableFuture<TerminalAPIResponse> requestAsync(TerminalAPIRequest terminalAPIRequest, SecurityKey securityKey) throws Exception {
+        String jsonRequest = terminalApiGson.toJson(terminalAPIRequest);
+        SaleToPOISecuredMessage saleToPOISecuredRequest = nexoCrypto.encrypt(jsonRequest, terminalAPIRequest.getSaleToPOIRequest().getMessageHeader(), securityKey);
+
+        TerminalAPISecuredRequest securedPaymentRequest = new TerminalAPISecuredRequest();
+        securedPaymentRequest.setSaleToPOIRequest(saleToPOISecuredRequest);
+        String jsonEncryptedRequest = terminalApiGson.toJson(securedPaymentRequest);
+
+        return localRequest.requestAsync(jsonEncryptedRequest).thenApply(jsonResponse -> {
+            if (jsonResponse == null || jsonResponse.isEmpty()) {
+                return null;
+            }
+            TerminalAPISecuredResponse securedPaymentResponse = terminalApiGson.fromJson(jsonResponse, TerminalAPISecuredResponse.class);
+            try {
+                String jsonDecryptedResponse = nexoCrypto.decrypt(securedPaymentResponse.getSaleToPOIResponse(), securityKey);
+                return terminalApiGson.fromJson(jsonDecryptedResponse, TerminalAPIResponse.class);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.service.exception;
+
+import com.adyen.circuitbreaker.CircuitBreaker;
+
+/**
+ * Thrown without calling the endpoint when its circuit breaker is open.
+ */
+public class CircuitBreakerOpenException extends ApiException {
+
+    private final String endpoint;
+    private final long retryAfterMillis;
+
+    public CircuitBreakerOpenException(CircuitBreaker circuitBreaker) {
+        super("Circuit breaker open for " + circuitBreaker.getEndpoint(), 0);
+        this.endpoint = circuitBreaker.getEndpoint();
+        this.retryAfterMillis = circuitBreaker.getRemainingOpenMillis();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return time left before the breaker lets probe calls through, 0 when it is half-open
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
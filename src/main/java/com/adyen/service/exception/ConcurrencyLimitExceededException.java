@@ -0,0 +1,48 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.service.exception;
+
+/**
+ * Thrown without calling the endpoint when the concurrency limit of the merchant account stayed reached for the
+ * maximum wait, or too many calls were already waiting.
+ */
+public class ConcurrencyLimitExceededException extends ApiException {
+
+    private final String merchantAccount;
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String merchantAccount, int limit) {
+        super("Concurrency limit of " + limit + " calls reached for merchant account '" + merchantAccount + "'", 0);
+        this.merchantAccount = merchantAccount;
+        this.limit = limit;
+    }
+
+    public String getMerchantAccount() {
+        return merchantAccount;
+    }
+
+    /**
+     * @return concurrent calls allowed when the call was rejected
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
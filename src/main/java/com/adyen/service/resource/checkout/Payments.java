@@ -33,4 +33,9 @@ public class Payments extends Resource {
         super(service, service.getClient().getConfig().getCheckoutEndpoint() + "/" + Client.CHECKOUT_API_VERSION + "/payments",
                 Arrays.asList("merchantAccount", "reference", "amount", "returnUrl", "paymentMethod"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
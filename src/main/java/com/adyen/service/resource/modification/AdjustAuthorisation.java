@@ -30,4 +30,9 @@ public class AdjustAuthorisation extends Resource {
     public AdjustAuthorisation(Service service) {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/adjustAuthorisation", null);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
+}
@@ -29,4 +29,9 @@ public class Cancel extends Resource {
     public Cancel(Service service) {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/cancel", Arrays.asList("merchantAccount", "originalReference"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
@@ -29,4 +29,9 @@ public class CancelOrRefund extends Resource {
     public CancelOrRefund(Service service) {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/cancelOrRefund", Arrays.asList("merchantAccount", "originalReference"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
@@ -29,4 +29,9 @@ public class Capture extends Resource {
     public Capture(Service service) {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/capture", Arrays.asList("merchantAccount", "originalReference"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
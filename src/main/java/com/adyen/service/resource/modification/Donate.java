@@ -31,4 +31,9 @@ public class Donate extends Resource {
     public Donate(Service service) {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/donate", Arrays.asList("merchantAccount", "originalReference", "donationAccount"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
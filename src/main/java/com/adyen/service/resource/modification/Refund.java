@@ -31,4 +31,9 @@ public class Refund extends Resource {
               service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/refund",
               Arrays.asList("merchantAccount", "modificationAmount", "modificationAmount.value", "modificationAmount.currency", "originalReference"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
@@ -30,4 +30,9 @@ public class TechnicalCancel extends Resource {
     public TechnicalCancel(Service service) {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/technicalCancel", null);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
+}
@@ -30,4 +30,9 @@ public class VoidPendingRefund extends Resource {
     public VoidPendingRefund(Service service) {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payment/" + Client.API_VERSION + "/voidPendingRefund", Arrays.asList("merchantAccount", "originalReference"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
@@ -31,4 +31,9 @@ public class Payout extends Resource {
         super(service, service.getClient().getConfig().getEndpoint() + "/pal/servlet/Payout/" + Client.PAYOUT_API_VERSION + "/payout",
                 Arrays.asList("merchantAccount", "reference", "amount"));
     }
+
+    @Override
+    protected boolean isIdempotencyKeySupported() {
+        return true;
+    }
 }
@@ -47,11 +47,28 @@ import static com.adyen.model.terminal.security.NexoDerivedKey.NEXO_IV_LENGTH;
 
 public class NexoCrypto {
 
+    private static final String CIPHER_TRANSFORMATION = "AES/CBC/PKCS5Padding";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    // Cipher and Mac instances are not thread-safe; keep one per thread and re-initialise it for every message
+    private static final ThreadLocal<Cipher> CIPHER = new ThreadLocal<>();
+    private static final ThreadLocal<Mac> MAC = new ThreadLocal<>();
+
+    private final NexoDerivedKeyCache derivedKeyCache;
+
+    public NexoCrypto() {
+        this(NexoDerivedKeyCache.getDefault());
+    }
+
+    public NexoCrypto(NexoDerivedKeyCache derivedKeyCache) {
+        this.derivedKeyCache = derivedKeyCache;
+    }
+
     public SaleToPOISecuredMessage encrypt(
             String saleToPoiMessageJson, MessageHeader messageHeader, SecurityKey securityKey) throws Exception {
         validateSecurityKey(securityKey);
 
-        NexoDerivedKey derivedKey = NexoDerivedKeyGenerator.deriveKeyMaterial(securityKey.getPassphrase());
+        NexoDerivedKey derivedKey = derivedKeyCache.getDerivedKey(securityKey);
         byte[] saleToPoiMessageByteArray = saleToPoiMessageJson.getBytes(StandardCharsets.UTF_8);
         byte[] ivNonce = generateRandomIvNonce();
         byte[] encryptedSaleToPoiMessage = crypt(saleToPoiMessageByteArray, derivedKey, ivNonce, Cipher.ENCRYPT_MODE);
@@ -76,7 +93,7 @@ public class NexoCrypto {
         validateSecurityKey(securityKey);
 
         byte[] encryptedSaleToPoiMessageByteArray = Base64.decodeBase64(saleToPoiSecuredMessage.getNexoBlob().getBytes());
-        NexoDerivedKey derivedKey = NexoDerivedKeyGenerator.deriveKeyMaterial(securityKey.getPassphrase());
+        NexoDerivedKey derivedKey = derivedKeyCache.getDerivedKey(securityKey);
         byte[] ivNonce = saleToPoiSecuredMessage.getSecurityTrailer().getNonce();
         byte[] decryptedSaleToPoiMessageByteArray = crypt(encryptedSaleToPoiMessageByteArray, derivedKey, ivNonce, Cipher.DECRYPT_MODE);
 
@@ -106,7 +123,7 @@ public class NexoCrypto {
             throws NoSuchAlgorithmException, NoSuchPaddingException,
             IllegalBlockSizeException, BadPaddingException, InvalidKeyException, InvalidAlgorithmParameterException {
 
-        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        Cipher cipher = getCipher();
         SecretKeySpec secretKeySpec = new SecretKeySpec(dk.getCipherKey(), "AES");
 
         // xor dk.iv and the iv modifier
@@ -125,13 +142,31 @@ public class NexoCrypto {
      * Compute a hmac using the hmacKey
      */
     private byte[] hmac(byte[] bytes, NexoDerivedKey derivedKey) throws NoSuchAlgorithmException, InvalidKeyException {
-        Mac mac = Mac.getInstance("HmacSHA256");
-        SecretKeySpec s = new SecretKeySpec(derivedKey.getHmacKey(), "HmacSHA256");
+        Mac mac = getMac();
+        SecretKeySpec s = new SecretKeySpec(derivedKey.getHmacKey(), HMAC_ALGORITHM);
 
         mac.init(s);
         return mac.doFinal(bytes);
     }
 
+    private static Cipher getCipher() throws NoSuchAlgorithmException, NoSuchPaddingException {
+        Cipher cipher = CIPHER.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            CIPHER.set(cipher);
+        }
+        return cipher;
+    }
+
+    private static Mac getMac() throws NoSuchAlgorithmException {
+        Mac mac = MAC.get();
+        if (mac == null) {
+            mac = Mac.getInstance(HMAC_ALGORITHM);
+            MAC.set(mac);
+        }
+        return mac;
+    }
+
     /**
      * Validate the hmac from a received message
      */
@@ -0,0 +1,197 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+
+package com.adyen.terminal.security;
+
+import com.adyen.model.terminal.security.NexoDerivedKey;
+import com.adyen.model.terminal.security.SecurityKey;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded, thread-safe cache of Nexo derived keys.
+ * <p>
+ * Deriving the key material from a passphrase (PBKDF2) is expensive, so it is done once per security key
+ * instead of once per message. Entries are keyed on key identifier, key version and a SHA-256 fingerprint
+ * of the passphrase, and are evicted in least-recently-used order. The key material of evicted and
+ * invalidated entries is zeroed.
+ */
+public final class NexoDerivedKeyCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private static final NexoDerivedKeyCache DEFAULT_INSTANCE = new NexoDerivedKeyCache(DEFAULT_MAX_ENTRIES);
+
+    private final Map<CacheKey, NexoDerivedKey> entries;
+
+    public NexoDerivedKeyCache(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero");
+        }
+        this.entries = new LinkedHashMap<CacheKey, NexoDerivedKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, NexoDerivedKey> eldest) {
+                if (size() > maxEntries) {
+                    destroy(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the process-wide cache used by {@link NexoCrypto} by default
+     */
+    public static NexoDerivedKeyCache getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Returns a copy of the derived key material for the security key, deriving and caching it on a miss.
+     */
+    NexoDerivedKey getDerivedKey(SecurityKey securityKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        CacheKey cacheKey = new CacheKey(securityKey);
+        synchronized (entries) {
+            NexoDerivedKey derivedKey = entries.get(cacheKey);
+            if (derivedKey != null) {
+                return copyOf(derivedKey);
+            }
+        }
+
+        // Derive outside the lock; concurrent misses for the same key keep the first result
+        NexoDerivedKey derivedKey = NexoDerivedKeyGenerator.deriveKeyMaterial(securityKey.getPassphrase());
+        synchronized (entries) {
+            NexoDerivedKey existing = entries.get(cacheKey);
+            if (existing != null) {
+                destroy(derivedKey);
+                return copyOf(existing);
+            }
+            entries.put(cacheKey, derivedKey);
+            return copyOf(derivedKey);
+        }
+    }
+
+    /**
+     * Removes the derived key of a security key, e.g. after it has been rotated.
+     *
+     * @param securityKey security key to invalidate
+     * @throws NoSuchAlgorithmException if SHA-256 is not available
+     */
+    public void invalidate(SecurityKey securityKey) throws NoSuchAlgorithmException {
+        CacheKey cacheKey = new CacheKey(securityKey);
+        synchronized (entries) {
+            destroy(entries.remove(cacheKey));
+        }
+    }
+
+    /**
+     * Removes the derived keys of all versions of a key identifier.
+     *
+     * @param keyIdentifier key identifier to invalidate
+     */
+    public void invalidate(String keyIdentifier) {
+        synchronized (entries) {
+            Iterator<Map.Entry<CacheKey, NexoDerivedKey>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<CacheKey, NexoDerivedKey> entry = iterator.next();
+                if (Objects.equals(entry.getKey().keyIdentifier, keyIdentifier)) {
+                    destroy(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all derived keys.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            for (NexoDerivedKey derivedKey : entries.values()) {
+                destroy(derivedKey);
+            }
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static NexoDerivedKey copyOf(NexoDerivedKey derivedKey) {
+        NexoDerivedKey copy = new NexoDerivedKey();
+        copy.setHmacKey(derivedKey.getHmacKey().clone());
+        copy.setCipherKey(derivedKey.getCipherKey().clone());
+        copy.setIv(derivedKey.getIv().clone());
+        return copy;
+    }
+
+    private static void destroy(NexoDerivedKey derivedKey) {
+        if (derivedKey != null) {
+            Arrays.fill(derivedKey.getHmacKey(), (byte) 0);
+            Arrays.fill(derivedKey.getCipherKey(), (byte) 0);
+            Arrays.fill(derivedKey.getIv(), (byte) 0);
+        }
+    }
+
+    private static final class CacheKey {
+        private final String keyIdentifier;
+        private final Integer keyVersion;
+        private final byte[] passphraseFingerprint;
+
+        private CacheKey(SecurityKey securityKey) throws NoSuchAlgorithmException {
+            this.keyIdentifier = securityKey.getKeyIdentifier();
+            this.keyVersion = securityKey.getKeyVersion();
+            this.passphraseFingerprint = MessageDigest.getInstance("SHA-256")
+                    .digest(securityKey.getPassphrase().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return Objects.equals(keyIdentifier, cacheKey.keyIdentifier)
+                    && Objects.equals(keyVersion, cacheKey.keyVersion)
+                    && Arrays.equals(passphraseFingerprint, cacheKey.passphraseFingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(keyIdentifier, keyVersion) + Arrays.hashCode(passphraseFingerprint);
+        }
+    }
+}
@@ -21,6 +21,10 @@
 
 package com.adyen.terminal.serialization;
 
+import com.adyen.model.terminal.TerminalAPIRequest;
+import com.adyen.model.terminal.TerminalAPIResponse;
+import com.adyen.model.terminal.TerminalAPISecuredRequest;
+import com.adyen.model.terminal.TerminalAPISecuredResponse;
 import com.google.gson.FieldNamingStrategy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -29,28 +33,44 @@ import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.datatype.XMLGregorianCalendar;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class TerminalAPIGsonBuilder {
 
+    private static final Map<Field, String> FIELD_NAMES = new ConcurrentHashMap<>();
+    private static final FieldNamingStrategy FIELD_NAMING_STRATEGY = field -> FIELD_NAMES.computeIfAbsent(field, TerminalAPIGsonBuilder::resolveFieldName);
+    private static final Gson INSTANCE = create();
+
     private TerminalAPIGsonBuilder() {
     }
 
+    /**
+     * Returns the process-wide Terminal API Gson instance.
+     * Gson is immutable and thread-safe, so sharing it lets every service reuse the same type adapter cache.
+     *
+     * @return shared Terminal API Gson
+     */
+    public static Gson getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolves the type adapters of the Terminal API request and response messages on the shared instance,
+     * so the first terminal transaction does not pay for building them.
+     */
+    public static void warmUp() {
+        Gson gson = getInstance();
+        gson.getAdapter(TerminalAPIRequest.class);
+        gson.getAdapter(TerminalAPIResponse.class);
+        gson.getAdapter(TerminalAPISecuredRequest.class);
+        gson.getAdapter(TerminalAPISecuredResponse.class);
+    }
+
     public static Gson create() {
         GsonBuilder gsonBuilder = new GsonBuilder();
-        FieldNamingStrategy fieldNamingStrategy = field -> {
-            if (field.getAnnotation(XmlElement.class) != null) {
-                XmlElement xmlElement = field.getAnnotation(XmlElement.class);
-                return xmlElement.name();
-            } else if (field.getAnnotation(XmlAttribute.class) != null) {
-                XmlAttribute xmlAttribute = field.getAnnotation(XmlAttribute.class);
-                return xmlAttribute.name();
-            } else if (field.getAnnotation(XmlRootElement.class) != null) {
-                XmlRootElement xmlRootElement = field.getAnnotation(XmlRootElement.class);
-                return xmlRootElement.name();
-            }
-            return field.getName();
-        };
-        gsonBuilder.setFieldNamingStrategy(fieldNamingStrategy);
+        gsonBuilder.setFieldNamingStrategy(FIELD_NAMING_STRATEGY);
         gsonBuilder.registerTypeHierarchyAdapter(byte[].class, new ByteArrayToBase64TypeAdapter());
         gsonBuilder.registerTypeHierarchyAdapter(XMLGregorianCalendar.class, new XMLGregorianCalendarTypeAdapter());
         gsonBuilder.registerTypeAdapterFactory(new XMLEnumAdapterFactory());
@@ -58,4 +78,20 @@ public final class TerminalAPIGsonBuilder {
 
         return gsonBuilder.create();
     }
+
+    private static String resolveFieldName(Field field) {
+        XmlElement xmlElement = field.getAnnotation(XmlElement.class);
+        if (xmlElement != null) {
+            return xmlElement.name();
+        }
+        XmlAttribute xmlAttribute = field.getAnnotation(XmlAttribute.class);
+        if (xmlAttribute != null) {
+            return xmlAttribute.name();
+        }
+        XmlRootElement xmlRootElement = field.getAnnotation(XmlRootElement.class);
+        if (xmlRootElement != null) {
+            return xmlRootElement.name();
+        }
+        return field.getName();
+    }
 }
@@ -26,12 +26,19 @@ import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class XMLEnumAdapterFactory implements TypeAdapterFactory {
+
+    // Adapters only hold immutable lookup tables, so they are shared by every Gson instance
+    private static final Map<Class<?>, XMLEnumTypeAdapter<?>> ADAPTERS = new ConcurrentHashMap<>();
+
     @Override
     public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
         Class<? super T> rawType = type.getRawType();
         if (rawType.isEnum()) {
-            return new XMLEnumTypeAdapter<>(rawType);
+            return (TypeAdapter<T>) ADAPTERS.computeIfAbsent(rawType, XMLEnumTypeAdapter::new);
         }
         return null;
     }
@@ -29,33 +29,48 @@ import com.google.gson.stream.JsonWriter;
 import javax.xml.bind.annotation.XmlEnumValue;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Reads and writes enums by their {@link XmlEnumValue}, falling back to the constant name.
+ * The name/constant tables are resolved once per enum class, so reads and writes do not use reflection.
+ */
 public class XMLEnumTypeAdapter<T> extends TypeAdapter<T> {
 
-    private Class clazz;
+    private final Class clazz;
+    private final String[] valuesByOrdinal;
+    private final Map<String, T> constantsByValue;
+    private final Method fromValueMethod;
 
     public XMLEnumTypeAdapter(Class clazz) {
         this.clazz = clazz;
+
+        Object[] constants = clazz.getEnumConstants();
+        valuesByOrdinal = new String[constants.length];
+        constantsByValue = new HashMap<>(constants.length * 2);
+        Method valueMethod = findMethod(clazz, "value");
+        for (Object constant : constants) {
+            Enum enumValue = (Enum) constant;
+            String value = getXmlEnumValue(clazz, enumValue);
+            valuesByOrdinal[enumValue.ordinal()] = value;
+            constantsByValue.putIfAbsent(value, (T) constant);
+            // aliases exposed through value(), e.g. AuthenticationMethodType
+            for (String alias : getValues(valueMethod, constant)) {
+                constantsByValue.putIfAbsent(alias, (T) constant);
+            }
+        }
+        fromValueMethod = findMethod(clazz, "fromValue", String.class);
     }
 
     @Override
     public void write(JsonWriter out, T value) throws IOException {
-        if (value == null || !value.getClass().isEnum()) {
+        if (value == null || !clazz.isInstance(value)) {
             out.nullValue();
             return;
         }
 
-        Enum enumValue = (Enum) value;
-        try {
-            if (enumValue.getClass().getField(enumValue.name()).getAnnotation(XmlEnumValue.class) != null) {
-                XmlEnumValue xmlEnumValue = enumValue.getClass().getField(enumValue.name()).getAnnotation(XmlEnumValue.class);
-                out.value(xmlEnumValue.value());
-            } else {
-                out.value(enumValue.name());
-            }
-        } catch (Exception e) {
-            throw new IOException(e);
-        }
+        out.value(valuesByOrdinal[((Enum) value).ordinal()]);
     }
 
     public T read(JsonReader in) throws IOException {
@@ -66,22 +81,59 @@ public class XMLEnumTypeAdapter<T> extends TypeAdapter<T> {
         }
 
         String value = in.nextString();
-        T enumObject = null;
+        T enumObject = constantsByValue.get(value);
+        if (enumObject != null) {
+            return enumObject;
+        }
+
+        // not a known value, let the enum decide (e.g. throw for unknown values)
+        try {
+            if (fromValueMethod != null) {
+                enumObject = (T) fromValueMethod.invoke(null, value);
+            }
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        if (enumObject == null) {
+            throw new IOException("Unknown value " + value + " for " + clazz.getName());
+        }
+        return enumObject;
+    }
+
+    private static String getXmlEnumValue(Class clazz, Enum enumValue) {
         try {
-            Method[] methods = clazz.getMethods();
-            for (Method m : methods) {
-                if ("fromValue".equals(m.getName())) {
-                    enumObject = (T) m.invoke(null, value);
-                }
+            XmlEnumValue xmlEnumValue = clazz.getField(enumValue.name()).getAnnotation(XmlEnumValue.class);
+            if (xmlEnumValue != null) {
+                return xmlEnumValue.value();
             }
+        } catch (NoSuchFieldException e) {
+            // not a public constant field, use the name
+        }
+        return enumValue.name();
+    }
 
-            if (enumObject == null) {
-                enumObject = (T) Enum.valueOf(Enum.class, value);
+    private static String[] getValues(Method valueMethod, Object constant) {
+        if (valueMethod == null) {
+            return new String[0];
+        }
+        try {
+            Object values = valueMethod.invoke(constant);
+            if (values instanceof String) {
+                return new String[]{(String) values};
+            } else if (values instanceof String[]) {
+                return (String[]) values;
             }
         } catch (Exception e) {
-            throw new IOException(e);
+            // value() is not usable for lookups, rely on the XmlEnumValue table
         }
+        return new String[0];
+    }
 
-        return enumObject;
+    private static Method findMethod(Class clazz, String name, Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class EnumUtil {
+    private EnumUtil() {
+    }
+
+    /**
+     * Builds an immutable value-to-constant index for an enum, to be held in a static field and used by {@code fromValue}.
+     * When several constants share a value, the first one declared wins, matching a linear scan over {@code values()}.
+     *
+     * @param constants enum constants, as returned by {@code values()}
+     * @param valueFunction function returning the serialized value of a constant
+     * @param <E> enum type
+     * @return index from serialized value to constant
+     */
+    public static <E extends Enum<E>> Map<String, E> indexByValue(E[] constants, Function<E, String> valueFunction) {
+        Map<String, E> index = new HashMap<>(constants.length * 2);
+        for (E constant : constants) {
+            index.putIfAbsent(valueFunction.apply(constant), constant);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Builds an immutable value-to-constant index for an enum whose constants each carry several values.
+     *
+     * @param constants enum constants, as returned by {@code values()}
+     * @param valuesFunction function returning the serialized values of a constant
+     * @param <E> enum type
+     * @return index from serialized value to constant
+     */
+    public static <E extends Enum<E>> Map<String, E> indexByValues(E[] constants, Function<E, String[]> valuesFunction) {
+        Map<String, E> index = new HashMap<>(constants.length * 2);
+        for (E constant : constants) {
+            for (String value : valuesFunction.apply(constant)) {
+                index.putIfAbsent(value, constant);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
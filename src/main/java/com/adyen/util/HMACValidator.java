@@ -21,16 +21,20 @@
 package com.adyen.util;
 
 import com.adyen.model.Amount;
+import com.adyen.model.notification.NotificationRequest;
 import com.adyen.model.notification.NotificationRequestItem;
+import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SignatureException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.SortedMap;
 
@@ -39,6 +43,11 @@ import static com.adyen.constants.ApiConstants.AdditionalData.HMAC_SIGNATURE;
 public class HMACValidator {
     public static final String HMAC_SHA256_ALGORITHM = "HmacSHA256";
     public static final String DATA_SEPARATOR = ":";
+    private static final String KEY_FINGERPRINT_ALGORITHM = "SHA-256";
+
+    // Mac confined to the current thread, re-initialised only when a different key is used.
+    // The key itself is not kept: keys are compared by their SHA-256 fingerprint
+    private static final ThreadLocal<KeyedMac> KEYED_MAC = new ThreadLocal<>();
 
     // To calculate the HMAC SHA-256
     public String calculateHMAC(String data, String key) throws IllegalArgumentException, SignatureException {
@@ -47,15 +56,7 @@ public class HMACValidator {
                 throw new IllegalArgumentException();
             }
 
-            byte[] rawKey = Hex.decodeHex(key.toCharArray());
-            // Create an hmac_sha256 key from the raw key bytes
-            SecretKeySpec signingKey = new SecretKeySpec(rawKey, HMAC_SHA256_ALGORITHM);
-
-            // Get an hmac_sha256 Mac instance and initialize with the signing
-            // key
-            Mac mac = Mac.getInstance(HMAC_SHA256_ALGORITHM);
-
-            mac.init(signingKey);
+            Mac mac = getMac(key);
 
             // Compute the hmac on input data bytes
             byte[] rawHmac = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
@@ -75,64 +76,132 @@ public class HMACValidator {
     }
 
     public boolean validateHMAC(NotificationRequestItem notificationRequestItem, String key) throws IllegalArgumentException, SignatureException {
+        String merchantSign = getHmacSignature(notificationRequestItem);
+        return isEqual(merchantSign, calculateHMAC(notificationRequestItem, key));
+    }
+
+    public String getDataToSign(NotificationRequestItem notificationRequestItem) throws IllegalArgumentException {
         if (notificationRequestItem == null) {
             throw new IllegalArgumentException("Missing NotificationRequestItem.");
         }
 
-        if (notificationRequestItem.getAdditionalData() == null
-                || notificationRequestItem.getAdditionalData().get(HMAC_SIGNATURE) == null
-                || notificationRequestItem.getAdditionalData().get(HMAC_SIGNATURE).isEmpty()) {
-            throw new IllegalArgumentException("Missing " + HMAC_SIGNATURE);
-        }
-        final byte[] merchantSign = (notificationRequestItem.getAdditionalData().get(HMAC_SIGNATURE)).getBytes(StandardCharsets.UTF_8);
-        final byte[] expectedSign = (calculateHMAC(notificationRequestItem, key)).getBytes(StandardCharsets.UTF_8);
-
-        return MessageDigest.isEqual(merchantSign, expectedSign);
+        StringBuilder dataToSign = new StringBuilder(128);
+        appendDataToSign(dataToSign, notificationRequestItem);
+        return dataToSign.toString();
     }
 
-    public String getDataToSign(NotificationRequestItem notificationRequestItem) throws IllegalArgumentException {
-        if (notificationRequestItem == null) {
-            throw new IllegalArgumentException("Missing NotificationRequestItem.");
+    /**
+     * Validates the HMAC signature of every item in the notification request in one pass,
+     * with the Mac the current thread keeps for the last key it used.
+     *
+     * @param notificationRequest parsed notification request
+     * @param key HMAC key
+     * @return bitmap with bit {@code i} set when item {@code i} has a valid signature
+     * @throws IllegalArgumentException IllegalArgumentException
+     * @throws SignatureException SignatureException
+     * @see KeyedHMACValidator#validateHMAC(NotificationRequest)
+     */
+    public BitSet validateHMAC(NotificationRequest notificationRequest, String key) throws IllegalArgumentException, SignatureException {
+        if (notificationRequest == null) {
+            throw new IllegalArgumentException("Missing NotificationRequest.");
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Missing data or key.");
         }
+        Mac mac;
+        try {
+            mac = getMac(key);
+        } catch (DecoderException e) {
+            throw new IllegalArgumentException("Invalid HMAC key: " + e.getMessage());
+        } catch (GeneralSecurityException e) {
+            throw new SignatureException("Failed to generate HMAC : " + e.getMessage());
+        }
+        return KeyedHMACValidator.validateHMAC(notificationRequest, mac);
+    }
 
-        List<String> signedDataList = new ArrayList<>(8);
-        signedDataList.add(notificationRequestItem.getPspReference());
-        signedDataList.add(notificationRequestItem.getOriginalReference());
-        signedDataList.add(notificationRequestItem.getMerchantAccountCode());
-        signedDataList.add(notificationRequestItem.getMerchantReference());
+    public String getDataToSign(SortedMap<String, String> postParameters) {
+        List<String> parts = new ArrayList<>();
 
-        Amount amount = notificationRequestItem.getAmount();
+        postParameters.keySet().stream().forEach(s -> parts.add(escapeVal(s)));
+        postParameters.values().stream().forEach(s -> parts.add(escapeVal(s)));
+
+        return Util.implode(DATA_SEPARATOR, parts);
+    }
 
-        //If the amount and value are not null, append them to the payload.
+    // Appends pspReference:originalReference:merchantAccountCode:merchantReference:value:currency:eventCode:success,
+    // null values appear as empty strings
+    static void appendDataToSign(StringBuilder dataToSign, NotificationRequestItem notificationRequestItem) {
+        appendValue(dataToSign, notificationRequestItem.getPspReference()).append(DATA_SEPARATOR);
+        appendValue(dataToSign, notificationRequestItem.getOriginalReference()).append(DATA_SEPARATOR);
+        appendValue(dataToSign, notificationRequestItem.getMerchantAccountCode()).append(DATA_SEPARATOR);
+        appendValue(dataToSign, notificationRequestItem.getMerchantReference()).append(DATA_SEPARATOR);
+
+        Amount amount = notificationRequestItem.getAmount();
         if (amount != null && amount.getValue() != null) {
-            signedDataList.add(amount.getValue().toString());
-        } else {
-            //Else append a null. Will appear as a empty string in the final payload.
-            signedDataList.add(null);
+            dataToSign.append(amount.getValue().longValue());
         }
+        dataToSign.append(DATA_SEPARATOR);
+        if (amount != null) {
+            appendValue(dataToSign, amount.getCurrency());
+        }
+        dataToSign.append(DATA_SEPARATOR);
+
+        appendValue(dataToSign, notificationRequestItem.getEventCode()).append(DATA_SEPARATOR);
+        dataToSign.append(notificationRequestItem.isSuccess());
+    }
 
-        //If the amount and currency are not null, append them to the payload.
-        if (amount != null && amount.getCurrency() != null) {
-            signedDataList.add(amount.getCurrency());
-        } else {
-            //Else append a null. Will appear as a empty string in the final payload.
-            signedDataList.add(null);
+    private static StringBuilder appendValue(StringBuilder dataToSign, String value) {
+        if (value != null) {
+            dataToSign.append(value);
         }
+        return dataToSign;
+    }
 
+    static String getHmacSignature(NotificationRequestItem notificationRequestItem) {
+        if (notificationRequestItem == null) {
+            throw new IllegalArgumentException("Missing NotificationRequestItem.");
+        }
 
-        signedDataList.add(notificationRequestItem.getEventCode());
-        signedDataList.add(String.valueOf(notificationRequestItem.isSuccess()));
+        if (notificationRequestItem.getAdditionalData() == null
+                || notificationRequestItem.getAdditionalData().get(HMAC_SIGNATURE) == null
+                || notificationRequestItem.getAdditionalData().get(HMAC_SIGNATURE).isEmpty()) {
+            throw new IllegalArgumentException("Missing " + HMAC_SIGNATURE);
+        }
+        return notificationRequestItem.getAdditionalData().get(HMAC_SIGNATURE);
+    }
 
-        return Util.implode(DATA_SEPARATOR, signedDataList);
+    static boolean isEqual(String merchantSign, String expectedSign) {
+        return MessageDigest.isEqual(merchantSign.getBytes(StandardCharsets.UTF_8), expectedSign.getBytes(StandardCharsets.UTF_8));
     }
 
-    public String getDataToSign(SortedMap<String, String> postParameters) {
-        List<String> parts = new ArrayList<>();
+    private static Mac getMac(String key) throws GeneralSecurityException, DecoderException {
+        KeyedMac keyedMac = KEYED_MAC.get();
+        if (keyedMac == null) {
+            keyedMac = new KeyedMac(MessageDigest.getInstance(KEY_FINGERPRINT_ALGORITHM), Mac.getInstance(HMAC_SHA256_ALGORITHM));
+            KEYED_MAC.set(keyedMac);
+        }
+        byte[] keyFingerprint = keyedMac.digest.digest(key.getBytes(StandardCharsets.UTF_8));
+        if (MessageDigest.isEqual(keyFingerprint, keyedMac.keyFingerprint)) {
+            return keyedMac.mac;
+        }
 
-        postParameters.keySet().stream().forEach(s -> parts.add(escapeVal(s)));
-        postParameters.values().stream().forEach(s -> parts.add(escapeVal(s)));
+        byte[] rawKey = Hex.decodeHex(key.toCharArray());
+        keyedMac.keyFingerprint = null;
+        // Initialise the Mac with an hmac_sha256 key from the raw key bytes
+        keyedMac.mac.init(new SecretKeySpec(rawKey, HMAC_SHA256_ALGORITHM));
+        keyedMac.keyFingerprint = keyFingerprint;
+        return keyedMac.mac;
+    }
 
-        return Util.implode(DATA_SEPARATOR, parts);
+    private static final class KeyedMac {
+        private final MessageDigest digest;
+        private final Mac mac;
+        private byte[] keyFingerprint;
+
+        private KeyedMac(MessageDigest digest, Mac mac) {
+            this.digest = digest;
+            this.mac = mac;
+        }
     }
 
     private String escapeVal(String val) {
@@ -0,0 +1,178 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.util;
+
+import com.adyen.model.notification.NotificationRequest;
+import com.adyen.model.notification.NotificationRequestItem;
+import com.adyen.model.notification.NotificationRequestItemContainer;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SignatureException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.adyen.constants.ApiConstants.AdditionalData.HMAC_SIGNATURE;
+import static com.adyen.util.HMACValidator.HMAC_SHA256_ALGORITHM;
+
+/**
+ * HMAC validator bound to a single HMAC key.
+ * The key is parsed once; each thread keeps its own initialised Mac, which is reset after every calculation.
+ * Create one instance per key and share it.
+ */
+public final class KeyedHMACValidator {
+
+    private final HMACValidator hmacValidator = new HMACValidator();
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> mac;
+
+    public KeyedHMACValidator(String key) throws IllegalArgumentException {
+        if (key == null) {
+            throw new IllegalArgumentException("Missing data or key.");
+        }
+        try {
+            signingKey = new SecretKeySpec(Hex.decodeHex(key.toCharArray()), HMAC_SHA256_ALGORITHM);
+        } catch (DecoderException e) {
+            throw new IllegalArgumentException("Invalid HMAC key: " + e.getMessage());
+        }
+        mac = new ThreadLocal<>();
+    }
+
+    public String calculateHMAC(String data) throws IllegalArgumentException, SignatureException {
+        if (data == null) {
+            throw new IllegalArgumentException("Missing data or key.");
+        }
+        try {
+            byte[] rawHmac = getMac().doFinal(data.getBytes(StandardCharsets.UTF_8));
+            return new String(Base64.encodeBase64(rawHmac));
+        } catch (GeneralSecurityException e) {
+            throw new SignatureException("Failed to generate HMAC : " + e.getMessage());
+        }
+    }
+
+    public String calculateHMAC(NotificationRequestItem notificationRequestItem) throws IllegalArgumentException, SignatureException {
+        return calculateHMAC(hmacValidator.getDataToSign(notificationRequestItem));
+    }
+
+    public boolean validateHMAC(NotificationRequestItem notificationRequestItem) throws IllegalArgumentException, SignatureException {
+        String merchantSign = HMACValidator.getHmacSignature(notificationRequestItem);
+        return HMACValidator.isEqual(merchantSign, calculateHMAC(notificationRequestItem));
+    }
+
+    /**
+     * Validates the HMAC signature of every item in the notification request in one pass,
+     * reusing one Mac and one StringBuilder for the whole batch.
+     * Items without a signature are reported as invalid instead of failing the batch.
+     *
+     * @param notificationRequest parsed notification request
+     * @return bitmap with bit {@code i} set when item {@code i} of the request has a valid signature;
+     * the batch is valid when its cardinality equals the number of items
+     * @throws SignatureException SignatureException
+     */
+    public BitSet validateHMAC(NotificationRequest notificationRequest) throws IllegalArgumentException, SignatureException {
+        if (notificationRequest == null) {
+            throw new IllegalArgumentException("Missing NotificationRequest.");
+        }
+        try {
+            return validateHMAC(notificationRequest, getMac());
+        } catch (GeneralSecurityException e) {
+            throw new SignatureException("Failed to generate HMAC : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validates the items of the notification request with a Mac initialised with their HMAC key.
+     */
+    static BitSet validateHMAC(NotificationRequest notificationRequest, Mac mac) {
+        List<NotificationRequestItemContainer> containers = notificationRequest.getNotificationItemContainers();
+        if (containers == null) {
+            return new BitSet();
+        }
+
+        BitSet result = new BitSet(containers.size());
+        StringBuilder dataToSign = new StringBuilder(256);
+        for (int i = 0; i < containers.size(); i++) {
+            NotificationRequestItem notificationRequestItem = containers.get(i) == null ? null : containers.get(i).getNotificationItem();
+            String merchantSign = getHmacSignature(notificationRequestItem);
+            if (merchantSign == null) {
+                continue;
+            }
+
+            dataToSign.setLength(0);
+            HMACValidator.appendDataToSign(dataToSign, notificationRequestItem);
+            byte[] rawHmac = mac.doFinal(dataToSign.toString().getBytes(StandardCharsets.UTF_8));
+            if (HMACValidator.isEqual(merchantSign, new String(Base64.encodeBase64(rawHmac)))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Runs {@link #validateHMAC(NotificationRequest)} on the given executor.
+     *
+     * @param notificationRequest parsed notification request
+     * @param executor executor to validate on
+     * @return future completing with the per-item result bitmap, or exceptionally when the executor rejects the task
+     */
+    public CompletableFuture<BitSet> validateHMACAsync(NotificationRequest notificationRequest, Executor executor) {
+        CompletableFuture<BitSet> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(validateHMAC(notificationRequest));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // a saturated or shut down executor fails the future, not the caller
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private static String getHmacSignature(NotificationRequestItem notificationRequestItem) {
+        if (notificationRequestItem == null || notificationRequestItem.getAdditionalData() == null) {
+            return null;
+        }
+        String hmacSignature = notificationRequestItem.getAdditionalData().get(HMAC_SIGNATURE);
+        return hmacSignature == null || hmacSignature.isEmpty() ? null : hmacSignature;
+    }
+
+    private Mac getMac() throws GeneralSecurityException {
+        Mac threadMac = mac.get();
+        if (threadMac == null) {
+            threadMac = Mac.getInstance(HMAC_SHA256_ALGORITHM);
+            threadMac.init(signingKey);
+            mac.set(threadMac);
+        }
+        return threadMac;
+    }
+}
@@ -24,6 +24,7 @@ import com.adyen.enums.Gender;
 import com.adyen.enums.VatCategory;
 import com.adyen.httpclient.AdyenHttpClient;
 import com.adyen.httpclient.HTTPClientException;
+import com.adyen.httpclient.ResponseBodyReader;
 import com.adyen.model.AbstractPaymentRequest;
 import com.adyen.model.Address;
 import com.adyen.model.Amount;
@@ -67,6 +68,7 @@ import javax.xml.datatype.XMLGregorianCalendar;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -80,6 +82,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -100,6 +103,8 @@ public class BaseTest {
             when(adyenHttpClient.request(anyString(), anyString(), any(Config.class), anyBoolean(), isNull())).thenReturn(response);
             when(adyenHttpClient.request(anyString(), any(), any(Config.class), anyBoolean(), isNull(), any())).thenReturn(response);
             when(adyenHttpClient.request(anyString(), any(), any(Config.class), anyBoolean(), isNull(), any(), any())).thenReturn(response);
+            when(adyenHttpClient.streamRequest(anyString(), any(), any(Config.class), anyBoolean(), any(), any(), any(ResponseBodyReader.class)))
+                    .thenAnswer(invocation -> invocation.<ResponseBodyReader<?>>getArgument(6).read(200, new StringReader(response == null ? "" : response)));
 
         } catch (IOException | HTTPClientException e) {
             e.printStackTrace();
@@ -356,6 +361,7 @@ public class BaseTest {
         HTTPClientException httpClientException = new HTTPClientException(status, "An error occured", new HashMap<>(), response);
         try {
             when(adyenHttpClient.request(anyString(), anyString(), any(Config.class), anyBoolean(), isNull(), any())).thenThrow(httpClientException);
+            lenient().when(adyenHttpClient.streamRequest(anyString(), anyString(), any(Config.class), anyBoolean(), isNull(), any(), any(ResponseBodyReader.class))).thenThrow(httpClientException);
         } catch (IOException | HTTPClientException e) {
             fail("Unexpected exception: " + e.getMessage());
         }
@@ -368,6 +374,26 @@ public class BaseTest {
         return client;
     }
 
+    /**
+     * Returns a Config with an API key whose endpoints point at the stub server
+     */
+    protected Config createStubConfig(StubServer server) {
+        Config config = new Config();
+        config.setApiKey("apiKey");
+        config.setEndpoint(server.getUrl());
+        config.setCheckoutEndpoint(server.getUrl());
+        config.setMarketPayEndpoint(server.getUrl());
+        config.setPosTerminalManagementApiEndpoint(server.getUrl());
+        return config;
+    }
+
+    /**
+     * Returns a Client sending its requests to the stub server
+     */
+    protected Client createStubClient(StubServer server) {
+        return new Client(createStubConfig(server));
+    }
+
     protected <T extends AbstractModificationRequest> T createBaseModificationRequest(T modificationRequest) {
         modificationRequest.merchantAccount("AMerchant").originalReference("originalReference").reference("merchantReference");
 
@@ -95,6 +95,9 @@ import com.adyen.model.checkout.details.VippsDetails;
 import com.adyen.model.checkout.details.VisaCheckoutDetails;
 import com.adyen.model.checkout.details.WeChatPayDetails;
 import com.adyen.model.checkout.details.WeChatPayMiniProgramDetails;
+import com.adyen.serializer.GsonJsonCodec;
+import com.adyen.serializer.JacksonJsonCodec;
+import com.adyen.serializer.JsonCodec;
 import com.adyen.service.Checkout;
 import com.adyen.service.exception.ApiException;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -112,6 +115,7 @@ import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -150,6 +154,45 @@ public class CheckoutTest extends BaseTest {
         assertNotNull(paymentsResponse.getDonationToken());
     }
 
+    /**
+     * Test that services convert requests and responses with the codec configured on the client
+     * POST /payments
+     */
+    @Test
+    public void TestPaymentsSuccessMockedWithJacksonCodec() throws Exception {
+        Client client = createMockClientFromFile("mocks/checkout/payments-success.json");
+        client.setJsonCodec(new JacksonJsonCodec());
+        Checkout checkout = new Checkout(client);
+        PaymentsResponse paymentsResponse = checkout.payments(createPaymentsCheckoutRequest());
+        assertEquals("8535296650153317", paymentsResponse.getPspReference());
+        assertNotNull(paymentsResponse.getDonationToken());
+        assertEquals(PaymentsResponse.ResultCodeEnum.AUTHORISED, paymentsResponse.getResultCode());
+    }
+
+    /**
+     * Test that streamed responses and error payloads are bound with the configured codec
+     * POST /paymentMethods
+     */
+    @Test
+    public void TestPaymentMethodsWithJacksonCodec() throws Exception {
+        Client client = createMockClientFromFile("mocks/checkout/paymentmethods-success.json");
+        client.setJsonCodec(new JacksonJsonCodec());
+        PaymentMethodsRequest paymentMethodsRequest = new PaymentMethodsRequest();
+        paymentMethodsRequest.setMerchantAccount("MagentoMerchantTest");
+        PaymentMethodsResponse paymentMethodsResponse = new Checkout(client).paymentMethods(paymentMethodsRequest);
+        assertEquals(32, paymentMethodsResponse.getPaymentMethods().size());
+        assertEquals("Credit Card", paymentMethodsResponse.getPaymentMethods().get(2).getName());
+
+        Client errorClient = createMockClientForErrors(422, "mocks/checkout/payments-error-invalid-data-422.json");
+        errorClient.setJsonCodec(new JacksonJsonCodec());
+        try {
+            new Checkout(errorClient).payments(createPaymentsCheckoutRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(422, e.getError().getStatus());
+        }
+    }
+
     /**
      * Test success flow for PayPal SDK type
      * POST /payments
@@ -2343,6 +2386,48 @@ public class CheckoutTest extends BaseTest {
         assertEquals("VNRWtuNlNEWkRCSm1xWndjMDFFbktkQU...", ((ApplePayDetails) jacksonObject).getApplePayToken());
     }
 
+    @Test
+    public void TestPaymentMethodDetailsDeserializationWithTypeAfterMembers() throws JsonProcessingException {
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(new PaymentMethodDetailsTypeAdapter()).create();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule().addDeserializer(PaymentMethodDetails.class, new PaymentMethodDetailsDeserializerJackson()));
+
+        String json = "{\"personalDetails\": {\"firstName\": \"John\", \"lastName\": \"Doe\"}, \"number\": \"4111111111111111\", \"type\": \"scheme\", \"holderName\": \"John Doe\"}";
+        for (PaymentMethodDetails details : Arrays.asList(gson.fromJson(json, PaymentMethodDetails.class), objectMapper.readValue(json, PaymentMethodDetails.class))) {
+            assertTrue(details instanceof DefaultPaymentMethodDetails);
+            DefaultPaymentMethodDetails defaultDetails = (DefaultPaymentMethodDetails) details;
+            assertEquals("scheme", defaultDetails.getType());
+            assertEquals("John", defaultDetails.getPersonalDetails().getFirstName());
+            assertEquals("4111111111111111", defaultDetails.getNumber());
+            assertEquals("John Doe", defaultDetails.getHolderName());
+        }
+
+        json = "{\"issuer\": \"1121\", \"type\": \"ideal\"}";
+        assertEquals("1121", ((IdealDetails) gson.fromJson(json, PaymentMethodDetails.class)).getIssuer());
+        assertEquals("1121", ((IdealDetails) objectMapper.readValue(json, PaymentMethodDetails.class)).getIssuer());
+
+        json = "{\"number\": \"4111111111111111\"}";
+        assertEquals("4111111111111111", ((DefaultPaymentMethodDetails) gson.fromJson(json, PaymentMethodDetails.class)).getNumber());
+        assertEquals("4111111111111111", ((DefaultPaymentMethodDetails) objectMapper.readValue(json, PaymentMethodDetails.class)).getNumber());
+    }
+
+    @Test
+    public void TestPaymentMethodDetailsBoundFromStreamWithGeneratedAdapters() {
+        JsonCodec jsonCodec = new GsonJsonCodec();
+        String json = "{\"paymentMethod\": {\"personalDetails\": {\"firstName\": \"John\"}, \"type\": \"scheme\","
+                + " \"number\": \"4111111111111111\", \"holderName\": \"John Doe\"}, \"reference\": \"ref\"}";
+
+        PaymentsRequest paymentsRequest = jsonCodec.fromJson(json, PaymentsRequest.class);
+        DefaultPaymentMethodDetails details = (DefaultPaymentMethodDetails) paymentsRequest.getPaymentMethod();
+        assertEquals("scheme", details.getType());
+        assertEquals("John", details.getPersonalDetails().getFirstName());
+        assertEquals("4111111111111111", details.getNumber());
+        assertEquals("John Doe", details.getHolderName());
+        assertEquals("ref", paymentsRequest.getReference());
+
+        json = "{\"paymentMethod\": {\"type\": \"ideal\", \"issuer\": \"1121\"}}";
+        assertEquals("1121", ((IdealDetails) jsonCodec.fromJson(json, PaymentsRequest.class).getPaymentMethod()).getIssuer());
+    }
+
     @Test
     public void TestBankTransferPaymentsSuccess() throws IOException, ApiException {
         Client client = createMockClientFromFile("mocks/checkout/payments-banktransfer-success.json");
@@ -0,0 +1,139 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen;
+
+import com.adyen.model.PaymentResult;
+import com.adyen.model.checkout.PaymentMethodsResponse;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.model.modification.ModificationResult;
+import com.adyen.model.notification.NotificationRequest;
+import com.adyen.model.payout.PayoutResponse;
+import com.adyen.serializer.GeneratedTypeAdapter;
+import com.adyen.serializer.GeneratedTypeAdapterFactory;
+import com.adyen.serializer.GsonJsonCodec;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the generated type adapters produce the same JSON as Gson's reflective adapter.
+ */
+public class GeneratedTypeAdapterTest extends BaseTest {
+
+    private final Gson reflectiveGson = new GsonBuilder().disableHtmlEscaping().create();
+    private final Gson generatedGson = GsonJsonCodec.DEFAULT.getGson();
+
+    @Test
+    public void testModelsHaveGeneratedAdapters() throws Exception {
+        List<Class<?>> models = generatedModels();
+        assertTrue(models.size() > 300);
+        assertTrue(generatedGson.getAdapter(PaymentsResponse.class) instanceof GeneratedTypeAdapter);
+        assertTrue(generatedGson.getAdapter(ModificationResult.class) instanceof GeneratedTypeAdapter);
+    }
+
+    @Test
+    public void testSerializationMatchesReflection() throws Exception {
+        for (Class<?> model : generatedModels()) {
+            Object empty = model.newInstance();
+            assertEquals(model.getName(), reflectiveGson.toJson(empty), generatedGson.toJson(empty));
+
+            Object populated = populate(model);
+            String json = reflectiveGson.toJson(populated);
+            assertEquals(model.getName(), json, generatedGson.toJson(populated));
+            assertEquals(model.getName(), json, reflectiveGson.toJson(generatedGson.fromJson(json, model)));
+        }
+    }
+
+    @Test
+    public void testDeserializationMatchesReflection() {
+        assertDeserialization("mocks/checkout/payments-success.json", PaymentsResponse.class);
+        assertDeserialization("mocks/checkout/payments-3ds2-challenge-shopper.json", PaymentsResponse.class);
+        assertDeserialization("mocks/checkout/paymentmethods-success.json", PaymentMethodsResponse.class);
+        assertDeserialization("mocks/checkout/paymentmethods-storedpaymentmethods.json", PaymentMethodsResponse.class);
+        assertDeserialization("mocks/authorise-success-3ds2.json", PaymentResult.class);
+        assertDeserialization("mocks/capture-success.json", ModificationResult.class);
+        assertDeserialization("mocks/payout/payout-success.json", PayoutResponse.class);
+        assertDeserialization("mocks/notification/authorisation-true.json", NotificationRequest.class);
+        assertDeserialization("mocks/notification/chargeback.json", NotificationRequest.class);
+    }
+
+    private void assertDeserialization(String fileName, Class<?> model) {
+        String json = getFileContents(fileName);
+        assertEquals(fileName, reflectiveGson.toJson(reflectiveGson.fromJson(json, model)), reflectiveGson.toJson(generatedGson.fromJson(json, model)));
+    }
+
+    private List<Class<?>> generatedModels() throws Exception {
+        GeneratedTypeAdapterFactory factory = new GeneratedTypeAdapterFactory();
+        List<Class<?>> models = new ArrayList<>();
+        for (Class<?> model : ReflectionUtil.getClasses("com.adyen.model")) {
+            TypeAdapter<?> adapter = factory.create(generatedGson, TypeToken.get(model));
+            if (adapter != null) {
+                models.add(model);
+            }
+        }
+        return models;
+    }
+
+    /**
+     * Sets a sample value on every field of a simple type, including the ones without accessors.
+     */
+    private static Object populate(Class<?> model) throws Exception {
+        Object instance = model.newInstance();
+        for (Class<?> type = model; type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                Object value = sampleValue(field.getType(), field.getName());
+                if (value != null) {
+                    field.setAccessible(true);
+                    field.set(instance, value);
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static Object sampleValue(Class<?> type, String name) {
+        if (type == String.class) {
+            return name + " <&>";
+        } else if (type == Integer.class || type == int.class) {
+            return 7;
+        } else if (type == Long.class || type == long.class) {
+            return 7L;
+        } else if (type == Boolean.class || type == boolean.class) {
+            return true;
+        } else if (type.isEnum() && type.getEnumConstants().length > 0) {
+            return type.getEnumConstants()[0];
+        }
+        return null;
+    }
+}
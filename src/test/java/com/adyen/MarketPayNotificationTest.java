@@ -20,6 +20,9 @@
  */
 package com.adyen;
 
+import com.adyen.deserializer.MarketPayNotificationMessageDeserializer;
+import com.adyen.deserializer.MarketPayNotificationTypeAdapter;
+import com.adyen.deserializer.MarketPayNotificationTypes;
 import com.adyen.model.marketpay.AccountHolderStatus;
 import com.adyen.model.marketpay.CreateAccountResponse;
 import com.adyen.model.marketpay.ErrorFieldType;
@@ -60,10 +63,17 @@ import com.adyen.model.marketpay.notification.TransferFundsNotification;
 import com.adyen.model.marketpay.notification.UpdateNotificationConfigurationRequest;
 import com.adyen.model.marketpay.notification.UpdateNotificationConfigurationResponse;
 import com.adyen.notification.NotificationHandler;
+import com.adyen.serializer.GeneratedTypeAdapterFactory;
 import com.adyen.service.Notification;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.adyen.model.marketpay.CreateAccountResponse.StatusEnum.ACTIVE;
 import static com.adyen.model.marketpay.KYCCheckStatusData.StatusEnum.AWAITING_DATA;
 import static com.adyen.model.marketpay.KYCCheckStatusData.StatusEnum.DATA_PROVIDED;
@@ -85,6 +95,93 @@ import static org.junit.Assert.assertNull;
 
 public class MarketPayNotificationTest extends BaseTest {
 
+    @Test
+    public void TestStreamingMarketPayNotifications() throws Exception {
+        String json = "[" + getFileContents("mocks/marketpay/notification/account-created-success.json") + ","
+                + getFileContents("mocks/marketpay/notification/account-holder-created-success.json") + "]";
+        List<GenericNotification> notifications = new ArrayList<>();
+
+        new NotificationHandler().handleMarketpayNotificationJson(new StringReader(json), notifications::add);
+
+        assertEquals(2, notifications.size());
+        assertEquals(GenericNotification.EventTypeEnum.ACCOUNT_CREATED, notifications.get(0).getEventType());
+        assertEquals("AHC00000001", ((AccountHolderCreateNotification) notifications.get(1)).getContent().getAccountHolderCode());
+    }
+
+    @Test
+    public void TestMarketPayNotificationTypesRegistry() {
+        MarketPayNotificationTypes notificationTypes = new MarketPayNotificationTypes();
+        NotificationHandler notificationHandler = new NotificationHandler(notificationTypes);
+
+        GenericNotification unknown = notificationHandler.handleMarketpayNotificationJson("{\"eventType\":\"NEW_EVENT\",\"pspReference\":\"1\"}");
+        assertEquals(GenericNotification.class, unknown.getClass());
+        assertNull(unknown.getEventType());
+        assertEquals(GenericNotification.class, notificationHandler.handleMarketpayNotificationJson("{\"pspReference\":\"1\"}").getClass());
+
+        notificationTypes.register("new_event", TransferFundsNotification.class);
+        TransferFundsNotification registered = (TransferFundsNotification) notificationHandler.handleMarketpayNotificationJson("{\"pspReference\":\"1\",\"eventType\":\"NEW_EVENT\"}");
+        assertEquals("1", registered.getPspReference());
+    }
+
+    @Test
+    public void TestMarketPayNotificationMessageDeserializer() {
+        String json = getFileContents("mocks/marketpay/notification/transfer-funds-test.json");
+        Gson treeGson = new GsonBuilder().registerTypeAdapter(GenericNotification.class, new MarketPayNotificationMessageDeserializer()).create();
+        Gson streamingGson = new GsonBuilder().registerTypeAdapterFactory(new MarketPayNotificationTypeAdapter()).create();
+
+        TransferFundsNotification fromTree = (TransferFundsNotification) treeGson.fromJson(json, GenericNotification.class);
+        TransferFundsNotification fromStream = (TransferFundsNotification) streamingGson.fromJson(json, GenericNotification.class);
+
+        assertEquals(treeGson.toJson(fromTree), streamingGson.toJson(fromStream));
+        assertEquals("Test_TRANSFER_FUNDS", fromStream.getPspReference());
+        assertEquals(GenericNotification.class, treeGson.fromJson("{\"eventType\":\"NEW_EVENT\"}", GenericNotification.class).getClass());
+    }
+
+    @Test
+    public void TestMarketPayNotificationTypeAdapterRoundTrip() {
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(new MarketPayNotificationTypeAdapter()).create();
+
+        GenericNotification generic = gson.fromJson("{\"eventType\":\"NEW_EVENT\",\"pspReference\":\"1\"}", GenericNotification.class);
+        assertEquals(GenericNotification.class, generic.getClass());
+        assertEquals("{}", gson.toJson(generic, GenericNotification.class));
+        assertEquals(GenericNotification.class, gson.fromJson(gson.toJson(generic, GenericNotification.class), GenericNotification.class).getClass());
+
+        String json = getFileContents("mocks/marketpay/notification/transfer-funds-test.json");
+        GenericNotification transferFunds = gson.fromJson(json, GenericNotification.class);
+        String serialized = gson.toJson(transferFunds, GenericNotification.class);
+        TransferFundsNotification transferFundsCopy = (TransferFundsNotification) gson.fromJson(serialized, GenericNotification.class);
+        assertEquals("Test_TRANSFER_FUNDS", transferFundsCopy.getPspReference());
+        assertEquals(serialized, gson.toJson(transferFundsCopy, GenericNotification.class));
+        assertEquals("null", gson.toJson(null, GenericNotification.class));
+    }
+
+    @Test
+    public void TestMarketPayNotificationTypeAdapterBindsMapAfterEventType() {
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(new MarketPayNotificationTypeAdapter()).create();
+        String json = "{\"eventType\":\"ACCOUNT_CREATED\",\"pspReference\":\"1\","
+                + "\"content\":{\"accountCode\":\"A1\",\"metadata\":{\"shop\":\"42\"}}}";
+
+        AccountCreateNotification notification = (AccountCreateNotification) gson.fromJson(json, GenericNotification.class);
+        assertEquals("1", notification.getPspReference());
+        assertEquals("42", notification.getContent().getMetadata().get("shop"));
+    }
+
+    @Test
+    public void TestMarketPayNotificationTypeAdapterWithGeneratedAdapters() {
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                .registerTypeAdapterFactory(new MarketPayNotificationTypeAdapter())
+                .create();
+        String json = "{\"pspReference\":\"1\",\"eventType\":\"ACCOUNT_CREATED\","
+                + "\"content\":{\"accountCode\":\"A1\",\"metadata\":{\"shop\":\"42\"}},\"live\":\"false\"}";
+
+        AccountCreateNotification notification = (AccountCreateNotification) gson.fromJson(json, GenericNotification.class);
+        assertEquals("1", notification.getPspReference());
+        assertEquals("42", notification.getContent().getMetadata().get("shop"));
+        assertEquals(GenericNotification.class, gson.fromJson("{\"live\":\"false\",\"eventType\":\"NEW_EVENT\"}", GenericNotification.class).getClass());
+        assertEquals(GenericNotification.class, gson.fromJson("{\"pspReference\":\"1\"}", GenericNotification.class).getClass());
+    }
+
     @Test
     public void TestCreateNotificationConfiguration() throws Exception {
         Client client = createMockClientFromFile("mocks/marketpay/notification/create-notification-configuration-success.json");
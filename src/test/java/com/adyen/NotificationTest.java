@@ -30,11 +30,18 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -209,6 +216,44 @@ public class NotificationTest extends BaseTest {
         assertEquals(parser.parse(firstInput), parser.parse(secondInput));
     }
 
+    @Test
+    public void testStreamingNotificationItems() throws Exception {
+        String item = "{\"NotificationRequestItem\":{\"eventCode\":\"AUTHORISATION\",\"pspReference\":\"%s\",\"success\":\"true\"}}";
+        String json = "{\"notificationItems\":[" + String.format(item, "1") + "," + String.format(item, "2") + "],\"live\":\"false\"}";
+        List<String> pspReferences = new ArrayList<>();
+
+        NotificationRequest notificationRequest = notificationHandler.handleNotificationJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), notificationItem -> pspReferences.add(notificationItem.getPspReference()));
+
+        assertEquals(Arrays.asList("1", "2"), pspReferences);
+        assertEquals("false", notificationRequest.getLive());
+        assertNull(notificationRequest.getNotificationItemContainers());
+    }
+
+    @Test
+    public void testStreamingNotificationWithBooleanLiveAndEmptyItems() throws Exception {
+        String item = "{\"NotificationRequestItem\":{\"eventCode\":\"AUTHORISATION\",\"pspReference\":\"1\",\"success\":\"true\"}}";
+        String json = "{\"live\":true,\"notificationItems\":[{},null," + item + ",{\"NotificationRequestItem\":null}]}";
+        List<NotificationRequestItem> notificationItems = new ArrayList<>();
+
+        NotificationRequest notificationRequest = notificationHandler.handleNotificationJson(new StringReader(json), notificationItems::add);
+
+        assertEquals("true", notificationRequest.getLive());
+        assertEquals(notificationHandler.handleNotificationJson(json).getLive(), notificationRequest.getLive());
+        assertEquals(1, notificationItems.size());
+        assertEquals("1", notificationItems.get(0).getPspReference());
+    }
+
+    @Test
+    public void testStreamingNotificationMatchesBufferedParsing() throws Exception {
+        String json = getFileContents("mocks/notification/refund-true.json");
+        List<NotificationRequestItem> notificationItems = new ArrayList<>();
+
+        notificationHandler.handleNotificationJson(new StringReader(json), notificationItems::add);
+
+        assertEquals(notificationHandler.handleNotificationJson(json).getNotificationItems().toString(), notificationItems.toString());
+    }
+
     private NotificationRequest readNotificationRequestFromFile(String resourcePath) {
         String json = getFileContents(resourcePath);
         return notificationHandler.handleNotificationJson(json);
@@ -0,0 +1,223 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.model.Amount;
+import com.adyen.model.binlookup.CostEstimateAssumptions;
+import com.adyen.model.binlookup.CostEstimateRequest;
+import com.adyen.model.binlookup.CostEstimateResponse;
+import com.adyen.model.binlookup.MerchantDetails;
+import com.adyen.service.BinLookup;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the cost estimate cache against a local stub counting the requests.
+ */
+public class CostEstimateCacheTest extends BaseTest {
+
+    private StubServer server;
+    private Client client;
+    private final AtomicInteger requests = new AtomicInteger();
+    private String responseBody;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer(this::handle);
+
+        Config config = createStubConfig(server);
+        config.setCostEstimateCacheConfig(CostEstimateCacheConfig.defaultConfig());
+        client = new Client(config);
+        responseBody = getFileContents("mocks/binlookup/getcostestimate-success.json");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().close();
+        StubServer.respond(exchange, 200, responseBody);
+    }
+
+    private static CostEstimateRequest costEstimateRequest(String cardNumber, long amount) {
+        CostEstimateRequest costEstimateRequest = new CostEstimateRequest();
+        costEstimateRequest.setMerchantAccount("MerchantAccount");
+        costEstimateRequest.setCardNumber(cardNumber);
+        costEstimateRequest.setAmount(new Amount().currency("EUR").value(amount));
+        return costEstimateRequest;
+    }
+
+    @Test
+    public void testSameBinServedFromCache() throws Exception {
+        BinLookup binLookup = new BinLookup(client);
+
+        CostEstimateResponse first = binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+        CostEstimateResponse second = binLookup.getCostEstimate(costEstimateRequest("4111 1122 2222 2222", 1000));
+
+        assertEquals(1, requests.get());
+        assertEquals("Unsupported", second.getResultCode());
+        assertEquals(first.getSurchargeType(), second.getSurchargeType());
+
+        binLookup.getCostEstimate(costEstimateRequest("5555555555554444", 1000));
+        binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 2000));
+        assertEquals(3, requests.get());
+        assertEquals(1, client.getCostEstimateCache().stats().getHitCount());
+    }
+
+    @Test
+    public void testAsyncSameBinServedFromCache() throws Exception {
+        BinLookup binLookup = new BinLookup(client);
+
+        CostEstimateResponse first = binLookup.getCostEstimateAsync(costEstimateRequest("4111111111111111", 1000)).get();
+        CostEstimateResponse second = binLookup.getCostEstimateAsync(costEstimateRequest("4111 1122 2222 2222", 1000)).get();
+        // the blocking call shares the entries of the non-blocking one
+        binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+
+        assertEquals(1, requests.get());
+        assertEquals("Unsupported", second.getResultCode());
+        assertEquals(first.getSurchargeType(), second.getSurchargeType());
+        assertEquals(2, client.getCostEstimateCache().stats().getHitCount());
+    }
+
+    @Test
+    public void testAmountBands() throws Exception {
+        client.setCostEstimateCacheConfig(CostEstimateCacheConfig.builder().amountBandSize(1000).build());
+        BinLookup binLookup = new BinLookup(client);
+
+        responseBody = "{\"cardBin\": {\"summary\": \"1111\"}, \"costEstimateAmount\": {\"currency\": \"EUR\", \"value\": 25},"
+                + " \"resultCode\": \"Success\", \"surchargeType\": \"PASSTHROUGH\"}";
+
+        CostEstimateResponse exact = binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+        CostEstimateResponse sameAmount = binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+        CostEstimateResponse sameBand = binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1500));
+        binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 2500));
+
+        assertEquals(2, requests.get());
+        assertEquals(Long.valueOf(25), exact.getCostEstimateAmount().getValue());
+        assertEquals(Long.valueOf(25), sameAmount.getCostEstimateAmount().getValue());
+        // estimated for another amount of the band
+        assertNull(sameBand.getCostEstimateAmount());
+        assertEquals("PASSTHROUGH", sameBand.getSurchargeType());
+    }
+
+    @Test
+    public void testCardSummaryOfRequest() throws Exception {
+        BinLookup binLookup = new BinLookup(client);
+
+        CostEstimateResponse first = binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+        CostEstimateResponse second = binLookup.getCostEstimate(costEstimateRequest("4111 1122 2222 5678", 1000));
+
+        assertEquals(1, requests.get());
+        assertEquals("1111", first.getCardBin().getSummary());
+        assertEquals("5678", second.getCardBin().getSummary());
+    }
+
+    @Test
+    public void testKeyNotChangedByRequest() throws Exception {
+        BinLookup binLookup = new BinLookup(client);
+        CostEstimateRequest first = costEstimateRequest("4111111111111111", 1000);
+        first.setAssumptions(new CostEstimateAssumptions().installments(3));
+        first.setMerchantDetails(new MerchantDetails().mcc("5411"));
+
+        binLookup.getCostEstimate(first);
+        first.getAssumptions().setInstallments(6);
+        first.getMerchantDetails().setMcc("7011");
+
+        CostEstimateRequest second = costEstimateRequest("4111111111111111", 1000);
+        second.setAssumptions(new CostEstimateAssumptions().installments(3));
+        second.setMerchantDetails(new MerchantDetails().mcc("5411"));
+        binLookup.getCostEstimate(second);
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testEncryptedCardBypassesCache() throws Exception {
+        BinLookup binLookup = new BinLookup(client);
+        CostEstimateRequest costEstimateRequest = costEstimateRequest(null, 1000);
+        costEstimateRequest.setEncryptedCard("adyenjs_0_1_18$encrypted");
+
+        binLookup.getCostEstimate(costEstimateRequest);
+        binLookup.getCostEstimate(costEstimateRequest);
+
+        assertEquals(2, requests.get());
+        assertEquals(0, client.getCostEstimateCache().size());
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+        client.setCostEstimateCacheConfig(CostEstimateCacheConfig.builder()
+                .ttl(10, TimeUnit.SECONDS)
+                .refreshAfter(100, TimeUnit.MILLISECONDS)
+                .build());
+        BinLookup binLookup = new BinLookup(client);
+        binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+        Thread.sleep(150);
+
+        // served from the cache, while reloading in the background
+        binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.getCostEstimateCache().stats().getLoadSuccessCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+
+        CacheStats stats = client.getCostEstimateCache().stats();
+        assertEquals(2, requests.get());
+        assertEquals(1, stats.getRefreshCount());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRefreshAfterShorterThanTtl() {
+        CostEstimateCacheConfig.builder().ttl(1, TimeUnit.MINUTES).refreshAfter(1, TimeUnit.MINUTES).build();
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        try (Client uncachedClient = createStubClient(server)) {
+            BinLookup binLookup = new BinLookup(uncachedClient);
+            binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+            CostEstimateResponse second = binLookup.getCostEstimate(costEstimateRequest("4111111111111111", 1000));
+
+            assertEquals(2, requests.get());
+            assertEquals("Unsupported", second.getResultCode());
+        }
+    }
+}
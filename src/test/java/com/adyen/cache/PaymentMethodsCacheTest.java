@@ -0,0 +1,217 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.model.Amount;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.model.checkout.PaymentMethodsResponse;
+import com.adyen.service.Checkout;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * Tests the payment methods cache against a local stub counting the requests.
+ */
+public class PaymentMethodsCacheTest extends BaseTest {
+
+    private StubServer server;
+    private Client client;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long latencyMillis;
+    private String responseBody;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer(this::handle);
+
+        Config config = createStubConfig(server);
+        config.setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig.defaultConfig());
+        client = new Client(config);
+        responseBody = getFileContents("mocks/checkout/paymentmethods-success.json");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().close();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        StubServer.respond(exchange, 200, responseBody);
+    }
+
+    private static PaymentMethodsRequest paymentMethodsRequest(long amount) {
+        PaymentMethodsRequest paymentMethodsRequest = new PaymentMethodsRequest();
+        paymentMethodsRequest.setMerchantAccount("MerchantAccount");
+        paymentMethodsRequest.setCountryCode("NL");
+        paymentMethodsRequest.setAmount(new Amount().currency("EUR").value(amount));
+        paymentMethodsRequest.setChannel(PaymentMethodsRequest.ChannelEnum.WEB);
+        paymentMethodsRequest.setShopperLocale("nl-NL");
+        return paymentMethodsRequest;
+    }
+
+    @Test
+    public void testSameRequestShapeServedFromCache() throws Exception {
+        Checkout checkout = new Checkout(client);
+
+        PaymentMethodsResponse first = checkout.paymentMethods(paymentMethodsRequest(1000));
+        PaymentMethodsResponse second = checkout.paymentMethods(paymentMethodsRequest(1000));
+        PaymentMethodsResponse third = checkout.paymentMethodsAsync(paymentMethodsRequest(1000)).get();
+
+        assertEquals(1, requests.get());
+        assertEquals(32, second.getPaymentMethods().size());
+        assertEquals(first.getPaymentMethods().get(2).getName(), third.getPaymentMethods().get(2).getName());
+        // each caller gets its own response object
+        assertNotSame(first, second);
+        assertEquals(2, client.getPaymentMethodsCache().stats().getHitCount());
+
+        checkout.paymentMethods(paymentMethodsRequest(1001));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testAmountBuckets() throws Exception {
+        client.setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig.builder().amountBucketSize(1000).build());
+        Checkout checkout = new Checkout(client);
+
+        checkout.paymentMethods(paymentMethodsRequest(1000));
+        checkout.paymentMethods(paymentMethodsRequest(1999));
+        checkout.paymentMethods(paymentMethodsRequest(2000));
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testPaymentMethodListsCopiedIntoKey() throws Exception {
+        Checkout checkout = new Checkout(client);
+        PaymentMethodsRequest paymentMethodsRequest = paymentMethodsRequest(1000);
+        List<String> allowedPaymentMethods = new ArrayList<>(Arrays.asList("scheme", "ideal"));
+        paymentMethodsRequest.setAllowedPaymentMethods(allowedPaymentMethods);
+        checkout.paymentMethods(paymentMethodsRequest);
+
+        // changing the list of a request does not change the key of its cached response
+        allowedPaymentMethods.set(0, "paypal");
+        checkout.paymentMethods(paymentMethodsRequest);
+        assertEquals(2, requests.get());
+
+        PaymentMethodsRequest reordered = paymentMethodsRequest(1000);
+        reordered.setAllowedPaymentMethods(Arrays.asList("ideal", "scheme"));
+        checkout.paymentMethods(reordered);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testShopperReferenceBypassesCache() throws Exception {
+        Checkout checkout = new Checkout(client);
+        PaymentMethodsRequest paymentMethodsRequest = paymentMethodsRequest(1000);
+        paymentMethodsRequest.setShopperReference("shopper");
+
+        checkout.paymentMethods(paymentMethodsRequest);
+        checkout.paymentMethods(paymentMethodsRequest);
+
+        assertEquals(2, requests.get());
+        assertEquals(0, client.getPaymentMethodsCache().stats().getMissCount());
+    }
+
+    @Test
+    public void testPartitionByShopper() throws Exception {
+        client.setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig.builder().partitionByShopper(true).build());
+        Checkout checkout = new Checkout(client);
+        PaymentMethodsRequest shopper1 = paymentMethodsRequest(1000);
+        shopper1.setShopperReference("shopper1");
+        PaymentMethodsRequest shopper2 = paymentMethodsRequest(1000);
+        shopper2.setShopperReference("shopper2");
+
+        checkout.paymentMethods(shopper1);
+        checkout.paymentMethods(shopper2);
+        checkout.paymentMethods(shopper1);
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testCustomKeyExtractor() throws Exception {
+        client.setPaymentMethodsCacheConfig(PaymentMethodsCacheConfig.builder()
+                .keyExtractor(PaymentMethodsRequest::getCountryCode)
+                .build());
+        Checkout checkout = new Checkout(client);
+
+        checkout.paymentMethods(paymentMethodsRequest(1000));
+        checkout.paymentMethods(paymentMethodsRequest(5000));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsCoalesced() throws Exception {
+        latencyMillis = 200;
+        Checkout checkout = new Checkout(client);
+
+        List<CompletableFuture<PaymentMethodsResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            responses.add(checkout.paymentMethodsAsync(paymentMethodsRequest(1000)));
+        }
+        for (CompletableFuture<PaymentMethodsResponse> response : responses) {
+            assertEquals(32, response.get(5, TimeUnit.SECONDS).getPaymentMethods().size());
+        }
+
+        assertEquals(1, requests.get());
+        assertEquals(1, client.getPaymentMethodsCache().stats().getLoadSuccessCount());
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        try (Client uncachedClient = createStubClient(server)) {
+            Checkout checkout = new Checkout(uncachedClient);
+            checkout.paymentMethods(paymentMethodsRequest(1000));
+            PaymentMethodsResponse second = checkout.paymentMethods(paymentMethodsRequest(1000));
+
+            assertEquals(2, requests.get());
+            assertEquals(32, second.getPaymentMethods().size());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.cache;
+
+import com.adyen.service.exception.ApiException;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResponseCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Test
+    public void testHitUntilExpired() throws Exception {
+        ResponseCache<String, String> cache = new ResponseCache<>(TimeUnit.MILLISECONDS.toNanos(100), 10);
+
+        assertEquals("a1", cache.get("a", () -> load("a1")));
+        assertEquals("a1", cache.get("a", () -> load("a2")));
+        Thread.sleep(150);
+        assertEquals("a3", cache.get("a", () -> load("a3")));
+
+        assertEquals(2, loads.get());
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getLoadSuccessCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() throws Exception {
+        ResponseCache<String, String> cache = new ResponseCache<>(TimeUnit.MINUTES.toNanos(1), 2);
+        cache.get("a", () -> load("a"));
+        cache.get("b", () -> load("b"));
+        // a becomes the most recently used
+        cache.get("a", () -> load("a"));
+        cache.get("c", () -> load("c"));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().getEvictionCount());
+        cache.get("a", () -> load("a"));
+        cache.get("b", () -> load("b"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testFailureNotCached() throws Exception {
+        ResponseCache<String, String> cache = new ResponseCache<>(TimeUnit.MINUTES.toNanos(1), 10);
+        try {
+            cache.get("a", () -> {
+                throw new ApiException("Service unavailable", 503);
+            });
+            fail("Expected ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+
+        assertEquals("a", cache.get("a", () -> load("a")));
+        assertEquals(1, cache.stats().getLoadFailureCount());
+    }
+
+    @Test
+    public void testConcurrentMissesCoalesced() throws Exception {
+        ResponseCache<String, String> cache = new ResponseCache<>(TimeUnit.MINUTES.toNanos(1), 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> cache.get("a", () -> {
+                loading.countDown();
+                release.join();
+                return load("a");
+            }));
+            loading.await();
+            Future<String> second = executor.submit(() -> cache.get("a", () -> load("other")));
+            CompletableFuture<String> third = cache.getAsync("a", () -> CompletableFuture.completedFuture(load("other")));
+            // let the waiting callers join the load
+            Thread.sleep(50);
+            release.complete(null);
+
+            assertEquals("a", first.get(5, TimeUnit.SECONDS));
+            assertEquals("a", second.get(5, TimeUnit.SECONDS));
+            assertEquals("a", third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            assertEquals(3, cache.stats().getMissCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLoadDiscardedAfterInvalidateAll() throws Exception {
+        ResponseCache<String, String> cache = new ResponseCache<>(TimeUnit.MINUTES.toNanos(1), 10);
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> result = cache.getAsync("a", () -> load);
+
+        cache.invalidateAll();
+        load.complete("stale");
+
+        assertEquals("stale", result.get());
+        assertEquals(0, cache.size());
+        assertTrue(cache.stats().getHitRate() < 1);
+    }
+
+    @Test
+    public void testFailedRefreshKeepsValue() throws Exception {
+        ResponseCache<String, String> cache = new ResponseCache<>(TimeUnit.MINUTES.toNanos(1), TimeUnit.MILLISECONDS.toNanos(50), 10);
+        cache.get("a", () -> load("a1"));
+        Thread.sleep(100);
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+
+        assertEquals("a1", cache.get("a", () -> load("other"), () -> refresh));
+        // a single refresh at a time
+        assertEquals("a1", cache.get("a", () -> load("other"), () -> CompletableFuture.completedFuture("other")));
+        refresh.completeExceptionally(new ApiException("Service unavailable", 503));
+        assertEquals("a1", cache.get("a", () -> load("other"), () -> CompletableFuture.completedFuture("a2")));
+        assertEquals("a2", cache.get("a", () -> load("other")));
+
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getRefreshCount());
+        assertEquals(1, stats.getLoadFailureCount());
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.circuitbreaker;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.metrics.ApiCallListener;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.model.checkout.PaymentsRequest;
+import com.adyen.retry.RetryPolicy;
+import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
+import com.adyen.service.exception.CircuitBreakerOpenException;
+import com.google.gson.JsonSyntaxException;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the circuit breakers against a local stub injecting latency and errors.
+ */
+public class CircuitBreakerTest extends BaseTest {
+
+    private static final long OPEN_DURATION_MILLIS = 200;
+
+    private StubServer server;
+    private Client client;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> transitions = new CopyOnWriteArrayList<>();
+    private volatile int status = 503;
+    private volatile long latencyMillis;
+    private String responseBody;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer(this::handle);
+
+        Config config = createStubConfig(server);
+        // a single attempt, which also disables the automatic retry of 503 responses by the HTTP client
+        config.setRetryPolicy(RetryPolicy.builder().maxAttempts(1).build());
+        config.setCircuitBreakerConfig(circuitBreakerConfig().build());
+        client = new Client(config);
+        client.setApiCallListener(new ApiCallListener() {
+            @Override
+            public void onCircuitBreakerStateChange(CircuitBreaker circuitBreaker, CircuitBreaker.State from, CircuitBreaker.State to) {
+                transitions.add(from + "->" + to);
+            }
+        });
+        responseBody = getFileContents("mocks/checkout/payments-success.json");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().close();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        StubServer.respond(exchange, status, status == 200 ? responseBody : null);
+    }
+
+    private static CircuitBreakerConfig.Builder circuitBreakerConfig() {
+        return CircuitBreakerConfig.builder()
+                .failureRateThreshold(50)
+                .slidingWindow(4, 4)
+                .openDuration(OPEN_DURATION_MILLIS, TimeUnit.MILLISECONDS)
+                .permittedHalfOpenCalls(2);
+    }
+
+    private CircuitBreaker paymentsCircuitBreaker() {
+        return client.getCircuitBreakerRegistry().getCircuitBreaker(client.getConfig().getCheckoutEndpoint() + "/v68/payments");
+    }
+
+    private void openPaymentsCircuitBreaker(Checkout checkout) throws Exception {
+        for (int i = 0; i < 4; i++) {
+            try {
+                checkout.payments(new PaymentsRequest());
+                fail("Expected ApiException");
+            } catch (ApiException e) {
+                assertEquals(503, e.getStatusCode());
+            }
+        }
+    }
+
+    @Test
+    public void testOpensOnServerErrorsAndFailsFast() throws Exception {
+        Checkout checkout = new Checkout(client);
+        openPaymentsCircuitBreaker(checkout);
+
+        assertEquals(CircuitBreaker.State.OPEN, paymentsCircuitBreaker().getState());
+        try {
+            checkout.payments(new PaymentsRequest());
+            fail("Expected CircuitBreakerOpenException");
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals(0, e.getStatusCode());
+            assertEquals(paymentsCircuitBreaker().getEndpoint(), e.getEndpoint());
+            assertTrue(e.getRetryAfterMillis() > 0 && e.getRetryAfterMillis() <= OPEN_DURATION_MILLIS);
+        }
+        assertEquals(4, requests.get());
+        assertEquals(Arrays.asList("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    public void testAsyncFailsFast() throws Exception {
+        Checkout checkout = new Checkout(client);
+        openPaymentsCircuitBreaker(checkout);
+
+        try {
+            checkout.paymentsAsync(new PaymentsRequest()).get();
+            fail("Expected CircuitBreakerOpenException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+        }
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    public void testHalfOpenProbesClose() throws Exception {
+        Checkout checkout = new Checkout(client);
+        openPaymentsCircuitBreaker(checkout);
+        status = 200;
+        Thread.sleep(OPEN_DURATION_MILLIS + 50);
+
+        checkout.payments(new PaymentsRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, paymentsCircuitBreaker().getState());
+        checkout.paymentsAsync(new PaymentsRequest()).get();
+
+        assertEquals(CircuitBreaker.State.CLOSED, paymentsCircuitBreaker().getState());
+        assertEquals(Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    public void testHalfOpenFailureReopens() throws Exception {
+        Checkout checkout = new Checkout(client);
+        openPaymentsCircuitBreaker(checkout);
+        Thread.sleep(OPEN_DURATION_MILLIS + 50);
+
+        try {
+            checkout.payments(new PaymentsRequest());
+            fail("Expected ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, paymentsCircuitBreaker().getState());
+        assertEquals(Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions);
+    }
+
+    @Test
+    public void testAsyncClientThrowingReopens() throws Exception {
+        Checkout checkout = new Checkout(client);
+        openPaymentsCircuitBreaker(checkout);
+        Thread.sleep(OPEN_DURATION_MILLIS + 50);
+        client.setAsyncHttpClient((endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params) -> {
+            throw new IllegalStateException("client closed");
+        });
+
+        try {
+            checkout.paymentsAsync(new PaymentsRequest()).get(5, TimeUnit.SECONDS);
+            fail("Expected IllegalStateException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        // the probe that could not be sent is reported, so the breaker does not stay half-open
+        assertEquals(CircuitBreaker.State.OPEN, paymentsCircuitBreaker().getState());
+        assertEquals(Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions);
+    }
+
+    @Test
+    public void testSlowCallsOpen() throws Exception {
+        client.setCircuitBreakerConfig(circuitBreakerConfig().slowCallDuration(100, TimeUnit.MILLISECONDS).build());
+        status = 200;
+        latencyMillis = 300;
+        Checkout checkout = new Checkout(client);
+        for (int i = 0; i < 4; i++) {
+            checkout.payments(new PaymentsRequest());
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, paymentsCircuitBreaker().getState());
+    }
+
+    @Test
+    public void testClientErrorsDoNotOpen() throws Exception {
+        status = 422;
+        Checkout checkout = new Checkout(client);
+        for (int i = 0; i < 6; i++) {
+            try {
+                checkout.payments(new PaymentsRequest());
+                fail("Expected ApiException");
+            } catch (ApiException e) {
+                assertEquals(422, e.getStatusCode());
+            }
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, paymentsCircuitBreaker().getState());
+        assertEquals(0f, paymentsCircuitBreaker().getFailureRate(), 0f);
+    }
+
+    @Test
+    public void testBreakerPerEndpoint() throws Exception {
+        Checkout checkout = new Checkout(client);
+        openPaymentsCircuitBreaker(checkout);
+        status = 200;
+
+        checkout.paymentMethods(new PaymentMethodsRequest());
+
+        assertEquals(2, client.getCircuitBreakerRegistry().getCircuitBreakers().size());
+        assertEquals(5, requests.get());
+    }
+
+    @Test
+    public void testOpenStopsRetries() throws Exception {
+        client.setRetryPolicy(RetryPolicy.builder().maxAttempts(10).backoff(1, 5, TimeUnit.MILLISECONDS).build());
+
+        try {
+            new Checkout(client).payments(new PaymentsRequest());
+            fail("Expected CircuitBreakerOpenException");
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals(4, requests.get());
+        }
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("endpoint", CircuitBreakerConfig.builder().failureRateThreshold(100).slidingWindow(4, 2).build(), null);
+        assertEquals(-1f, circuitBreaker.getFailureRate(), 0f);
+
+        circuitBreaker.tryAcquirePermission().onSuccess(0);
+        circuitBreaker.tryAcquirePermission().onFailure();
+        circuitBreaker.tryAcquirePermission().onSuccess(0);
+        circuitBreaker.tryAcquirePermission().onSuccess(0);
+        assertEquals(25f, circuitBreaker.getFailureRate(), 0f);
+        // the failure slides out of the window
+        circuitBreaker.tryAcquirePermission().onSuccess(0);
+        circuitBreaker.tryAcquirePermission().onSuccess(0);
+        assertEquals(0f, circuitBreaker.getFailureRate(), 0f);
+        assertEquals(4, circuitBreaker.getNumberOfCalls());
+    }
+
+    @Test
+    public void testStalePermitsIgnored() throws Exception {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("endpoint", circuitBreakerConfig().build(), null);
+        CircuitBreaker.Permit closedPermit = circuitBreaker.tryAcquirePermission();
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.tryAcquirePermission().onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Thread.sleep(OPEN_DURATION_MILLIS + 50);
+
+        CircuitBreaker.Permit firstProbe = circuitBreaker.tryAcquirePermission();
+        CircuitBreaker.Permit secondProbe = circuitBreaker.tryAcquirePermission();
+        assertNull(circuitBreaker.tryAcquirePermission());
+        // a call started while closed is no probe, neither as a success nor as a failure
+        closedPermit.onSuccess(0);
+        firstProbe.onSuccess(0);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        closedPermit.onFailure();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        secondProbe.onSuccess(0);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testUnreadableResponsesOpen() throws Exception {
+        status = 200;
+        responseBody = "{\"paymentMethods\": \"none\"}";
+        Checkout checkout = new Checkout(client);
+        for (int i = 0; i < 4; i++) {
+            try {
+                checkout.paymentMethods(new PaymentMethodsRequest());
+                fail("Expected JsonSyntaxException");
+            } catch (JsonSyntaxException e) {
+                // the streamed response is bound within the call
+            }
+        }
+
+        CircuitBreaker circuitBreaker = client.getCircuitBreakerRegistry().getCircuitBreaker(client.getConfig().getCheckoutEndpoint() + "/v68/paymentMethods");
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        Config config = createStubConfig(server);
+        config.setRetryPolicy(RetryPolicy.builder().maxAttempts(1).build());
+        try (Client clientWithoutBreaker = new Client(config)) {
+            // twice the failures opening the configured breaker, all sent
+            Checkout checkout = new Checkout(clientWithoutBreaker);
+            for (int i = 0; i < 8; i++) {
+                try {
+                    checkout.payments(new PaymentsRequest());
+                    fail("Expected ApiException");
+                } catch (ApiException e) {
+                    assertEquals(503, e.getStatusCode());
+                }
+            }
+        }
+        assertEquals(8, requests.get());
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.concurrency;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.httpclient.AdyenAsyncHttpClient;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.model.checkout.PaymentsRequest;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.retry.RetryPolicy;
+import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
+import com.adyen.service.exception.ConcurrencyLimitExceededException;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the concurrency limiters against a local stub holding, slowing down or rejecting the requests.
+ */
+public class ConcurrencyLimiterTest extends BaseTest {
+
+    private StubServer server;
+    private Client client;
+    private final AtomicInteger inProgress = new AtomicInteger();
+    private final AtomicInteger limited = new AtomicInteger();
+    private volatile CountDownLatch hold = new CountDownLatch(0);
+    private volatile long latencyMillis;
+    private String responseBody;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer(this::handle);
+
+        Config config = createStubConfig(server);
+        config.setMerchantAccount("ConfigMerchant");
+        // a single attempt, which also disables the automatic retry of 429 responses by the HTTP client
+        config.setRetryPolicy(RetryPolicy.builder().maxAttempts(1).build());
+        client = new Client(config);
+        responseBody = getFileContents("mocks/checkout/payments-success.json");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        hold.countDown();
+        client.close();
+        server.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        inProgress.incrementAndGet();
+        try {
+            exchange.getRequestBody().close();
+            hold.await(5, TimeUnit.SECONDS);
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (limited.getAndDecrement() > 0) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                StubServer.respond(exchange, 429, null);
+                return;
+            }
+            StubServer.respond(exchange, 200, responseBody);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inProgress.decrementAndGet();
+        }
+    }
+
+    private static PaymentsRequest paymentsRequest(String merchantAccount) {
+        PaymentsRequest paymentsRequest = new PaymentsRequest();
+        paymentsRequest.setMerchantAccount(merchantAccount);
+        return paymentsRequest;
+    }
+
+    private ConcurrencyLimiter limiter(String merchantAccount) {
+        return client.getConcurrencyLimiterRegistry().getConcurrencyLimiter(merchantAccount);
+    }
+
+    private void awaitInProgress(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inProgress.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, inProgress.get());
+    }
+
+    @Test
+    public void testLimitsConcurrentCallsPerMerchantAccount() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().initialLimit(2).latencyThreshold(0, TimeUnit.SECONDS).build());
+        hold = new CountDownLatch(1);
+        Checkout checkout = new Checkout(client);
+
+        List<CompletableFuture<PaymentsResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            responses.add(checkout.paymentsAsync(paymentsRequest("MerchantA")));
+        }
+        responses.add(checkout.paymentsAsync(paymentsRequest("MerchantB")));
+
+        awaitInProgress(3);
+        assertEquals(2, limiter("MerchantA").getInFlight());
+        assertEquals(2, limiter("MerchantA").getQueueSize());
+        assertEquals(1, limiter("MerchantB").getInFlight());
+
+        hold.countDown();
+        for (CompletableFuture<PaymentsResponse> response : responses) {
+            assertEquals(PaymentsResponse.ResultCodeEnum.AUTHORISED, response.get(5, TimeUnit.SECONDS).getResultCode());
+        }
+        assertEquals(0, limiter("MerchantA").getInFlight());
+        assertEquals(0, limiter("MerchantA").getQueueSize());
+    }
+
+    @Test
+    public void testQueuedAsyncCallSentFromSchedulerThread() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().limits(1, 1).build());
+        AdyenAsyncHttpClient asyncHttpClient = new AdyenAsyncHttpClient();
+        List<String> sendingThreads = new CopyOnWriteArrayList<>();
+        client.setAsyncHttpClient((endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params) -> {
+            sendingThreads.add(Thread.currentThread().getName());
+            return asyncHttpClient.requestAsync(endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params);
+        });
+        hold = new CountDownLatch(1);
+        Checkout checkout = new Checkout(client);
+
+        try {
+            CompletableFuture<PaymentsResponse> first = checkout.paymentsAsync(paymentsRequest("MerchantA"));
+            CompletableFuture<PaymentsResponse> queued = checkout.paymentsAsync(paymentsRequest("MerchantA"));
+            awaitInProgress(1);
+            hold.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            queued.get(5, TimeUnit.SECONDS);
+        } finally {
+            asyncHttpClient.close();
+        }
+
+        // the queued call is not sent from the I/O thread completing the first one
+        assertEquals(Arrays.asList(Thread.currentThread().getName(), "adyen-retry-scheduler"), sendingThreads);
+    }
+
+    @Test
+    public void testAsyncClientThrowingReleasesPermit() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().limits(1, 1).build());
+        client.setAsyncHttpClient((endpoint, requestBody, config, isApiKeyRequired, requestOptions, httpMethod, params) -> {
+            throw new IllegalStateException("client closed");
+        });
+        Checkout checkout = new Checkout(client);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                checkout.paymentsAsync(paymentsRequest("MerchantA")).get(5, TimeUnit.SECONDS);
+                fail("Expected IllegalStateException");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }
+        assertEquals(0, limiter("MerchantA").getInFlight());
+        assertEquals(0, limiter("MerchantA").getQueueSize());
+    }
+
+    @Test
+    public void testWaitIsBounded() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().limits(1, 1).maxWait(100, TimeUnit.MILLISECONDS).build());
+        hold = new CountDownLatch(1);
+        Checkout checkout = new Checkout(client);
+        CompletableFuture<PaymentsResponse> first = checkout.paymentsAsync(paymentsRequest("MerchantA"));
+        awaitInProgress(1);
+
+        long start = System.nanoTime();
+        try {
+            checkout.payments(paymentsRequest("MerchantA"));
+            fail("Expected ConcurrencyLimitExceededException");
+        } catch (ConcurrencyLimitExceededException e) {
+            assertEquals("MerchantA", e.getMerchantAccount());
+            assertEquals(1, e.getLimit());
+            assertEquals(0, e.getStatusCode());
+        }
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, limiter("MerchantA").getQueueSize());
+
+        hold.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(0, limiter("MerchantA").getInFlight());
+    }
+
+    @Test
+    public void testFullQueueRejects() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().limits(1, 1).maxQueueSize(0).build());
+        hold = new CountDownLatch(1);
+        Checkout checkout = new Checkout(client);
+        CompletableFuture<PaymentsResponse> first = checkout.paymentsAsync(paymentsRequest("MerchantA"));
+        awaitInProgress(1);
+
+        try {
+            checkout.paymentsAsync(paymentsRequest("MerchantA")).join();
+            fail("Expected ConcurrencyLimitExceededException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException);
+        }
+        hold.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testTooManyRequestsShrinksLimitAndHoldsBack() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().initialLimit(10).backoffRatio(0.5).build());
+        limited.set(1);
+        Checkout checkout = new Checkout(client);
+
+        try {
+            checkout.payments(paymentsRequest("MerchantA"));
+            fail("Expected ApiException");
+        } catch (ApiException e) {
+            assertEquals(429, e.getStatusCode());
+        }
+        assertEquals(5, limiter("MerchantA").getLimit());
+
+        long start = System.nanoTime();
+        checkout.payments(paymentsRequest("MerchantA"));
+        // held back for the Retry-After of one second
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @Test
+    public void testLimitGrowsWhileInUse() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().initialLimit(1).limits(1, 10).build());
+        Checkout checkout = new Checkout(client);
+
+        for (int i = 0; i < 5; i++) {
+            checkout.payments(paymentsRequest("MerchantA"));
+        }
+
+        // one call at a time only uses the limit while it is below 3
+        assertEquals(3, limiter("MerchantA").getLimit());
+    }
+
+    @Test
+    public void testSlowCallsShrinkLimit() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder().initialLimit(10).backoffRatio(0.5)
+                .latencyThreshold(50, TimeUnit.MILLISECONDS).build());
+        latencyMillis = 100;
+
+        new Checkout(client).payments(paymentsRequest("MerchantA"));
+
+        assertEquals(5, limiter("MerchantA").getLimit());
+    }
+
+    @Test
+    public void testMerchantAccountFromConfig() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.defaultConfig());
+
+        new Checkout(client).payments(new PaymentsRequest());
+
+        assertEquals(1, client.getConcurrencyLimiterRegistry().getConcurrencyLimiters().size());
+        assertEquals("ConfigMerchant", client.getConcurrencyLimiterRegistry().getConcurrencyLimiters().iterator().next().getMerchantAccount());
+    }
+
+    @Test
+    public void testStreamedCallOnBehalfOfRequestMerchantAccount() throws Exception {
+        client.setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.defaultConfig());
+        PaymentMethodsRequest paymentMethodsRequest = new PaymentMethodsRequest();
+        paymentMethodsRequest.setMerchantAccount("MerchantA");
+
+        new Checkout(client).paymentMethods(paymentMethodsRequest);
+
+        assertEquals(1, client.getConcurrencyLimiterRegistry().getConcurrencyLimiters().size());
+        assertEquals("MerchantA", client.getConcurrencyLimiterRegistry().getConcurrencyLimiters().iterator().next().getMerchantAccount());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.constants.ApiConstants;
+import com.adyen.enums.Environment;
+import com.adyen.retry.RetryPolicy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for AdyenAsyncHttpClient against a local stub server
+ */
+public class AdyenAsyncHttpClientTest {
+
+    private StubServer server;
+    private String baseUrl;
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer()
+                .context("/payments", exchange -> StubServer.respond(exchange, 200, "{\"resultCode\":\"Authorised\"}"))
+                .context("/error", exchange -> StubServer.respond(exchange, 422, "{\"status\":422,\"errorCode\":\"130\"}"))
+                .context("/held", exchange -> {
+                    received.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    StubServer.respond(exchange, 200, "{\"resultCode\":\"Authorised\"}");
+                });
+        baseUrl = server.getUrl();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testRequestAsync() throws Exception {
+        try (AdyenAsyncHttpClient httpClient = new AdyenAsyncHttpClient()) {
+            String response = httpClient.requestAsync(baseUrl + "/payments", "{}", new Config(), false, null, ApiConstants.HttpMethod.POST, null).get();
+            assertEquals("{\"resultCode\":\"Authorised\"}", response);
+        }
+    }
+
+    @Test
+    public void testRequestAsyncHttpError() throws Exception {
+        try (AdyenAsyncHttpClient httpClient = new AdyenAsyncHttpClient()) {
+            httpClient.requestAsync(baseUrl + "/error", "{}", new Config(), false, null, ApiConstants.HttpMethod.POST, null).get();
+            fail("Expected HTTPClientException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof HTTPClientException);
+            HTTPClientException httpClientException = (HTTPClientException) e.getCause();
+            assertEquals(422, httpClientException.getCode());
+            assertEquals("{\"status\":422,\"errorCode\":\"130\"}", httpClientException.getResponseBody());
+        }
+    }
+
+    @Test
+    public void testClientIsRebuiltWhenConfigChanges() throws Exception {
+        Config config = new Config();
+        config.setConnectionPoolMaxTotal(10);
+
+        try (AdyenAsyncHttpClient httpClient = new AdyenAsyncHttpClient()) {
+            CloseableHttpAsyncClient httpAsyncClient = httpClient.getHttpAsyncClient(config);
+            assertSame(httpAsyncClient, httpClient.getHttpAsyncClient(config));
+
+            config.setConnectionPoolMaxTotal(20);
+            CloseableHttpAsyncClient rebuiltHttpAsyncClient = httpClient.getHttpAsyncClient(config);
+            assertNotSame(httpAsyncClient, rebuiltHttpAsyncClient);
+
+            config.setEnvironment(Environment.LIVE);
+            assertNotSame(rebuiltHttpAsyncClient, httpClient.getHttpAsyncClient(config));
+            assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.requestAsync(baseUrl + "/payments", "{}", config, false, null, ApiConstants.HttpMethod.POST, null).get());
+        }
+    }
+
+    @Test
+    public void testRetiredClientIsClosedOnceIdle() throws Exception {
+        Config config = new Config();
+        try (AdyenAsyncHttpClient httpClient = new AdyenAsyncHttpClient()) {
+            CloseableHttpAsyncClient httpAsyncClient = httpClient.getHttpAsyncClient(config);
+            CompletableFuture<String> held = httpClient.requestAsync(baseUrl + "/held", "{}", config, false, null, ApiConstants.HttpMethod.POST, null);
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+
+            config.setRetryPolicy(RetryPolicy.builder().build());
+            assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.requestAsync(baseUrl + "/payments", "{}", config, false, null, ApiConstants.HttpMethod.POST, null).get());
+            assertEquals(IOReactorStatus.ACTIVE, httpAsyncClient.getStatus());
+
+            // the retired client keeps serving the request running on it, and is closed once it has completed
+            release.countDown();
+            assertEquals("{\"resultCode\":\"Authorised\"}", held.get(5, TimeUnit.SECONDS));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (httpAsyncClient.getStatus() != IOReactorStatus.SHUT_DOWN && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(IOReactorStatus.SHUT_DOWN, httpAsyncClient.getStatus());
+        }
+    }
+}
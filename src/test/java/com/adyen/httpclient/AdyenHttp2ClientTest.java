@@ -0,0 +1,227 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.constants.ApiConstants;
+import com.adyen.enums.Environment;
+import com.adyen.model.RequestOptions;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.ProtocolVersion;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AsyncResponseBuilder;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2MultiplexingRequester;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for AdyenHttp2Client against a local HTTP/2 stub server
+ */
+public class AdyenHttp2ClientTest {
+
+    private HttpAsyncServer server;
+    private String baseUrl;
+    private final Set<SocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final Set<ProtocolVersion> protocolVersions = ConcurrentHashMap.newKeySet();
+    private volatile HttpRequest lastRequest;
+
+    @Before
+    public void setUp() throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                .register("/payments", new StubHandler(200, "{\"resultCode\":\"Authorised\"}"))
+                .register("/error", new StubHandler(422, "{\"status\":422,\"errorCode\":\"130\"}"))
+                .register("/slow", new StubHandler(0, null))
+                .create();
+        server.start();
+        ListenerEndpoint listenerEndpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+        baseUrl = "http://localhost:" + ((InetSocketAddress) listenerEndpoint.getAddress()).getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneConnection() throws Exception {
+        try (AdyenHttp2Client httpClient = new AdyenHttp2Client()) {
+            // open the connection first; requests racing the initial connect may each open one
+            assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.request(baseUrl + "/payments", "{}", new Config()));
+
+            List<CompletableFuture<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                responses.add(httpClient.requestAsync(baseUrl + "/payments", "{}", new Config(), false, null, ApiConstants.HttpMethod.POST, null));
+            }
+            for (CompletableFuture<String> response : responses) {
+                assertEquals("{\"resultCode\":\"Authorised\"}", response.get());
+            }
+        }
+        assertEquals(1, clientAddresses.size());
+        assertEquals(1, protocolVersions.size());
+        assertEquals(HttpVersion.HTTP_2, protocolVersions.iterator().next());
+    }
+
+    @Test
+    public void testRequestHttpError() throws Exception {
+        try (AdyenHttp2Client httpClient = new AdyenHttp2Client()) {
+            httpClient.request(baseUrl + "/error", "{}", new Config());
+            fail("Expected HTTPClientException");
+        } catch (HTTPClientException e) {
+            assertEquals(422, e.getCode());
+            assertEquals("{\"status\":422,\"errorCode\":\"130\"}", e.getResponseBody());
+        }
+    }
+
+    @Test
+    public void testRequestHeadersAndParameters() throws Exception {
+        RequestOptions requestOptions = new RequestOptions();
+        requestOptions.setIdempotencyKey("idempotency-key");
+        Config config = new Config();
+        config.setApiKey("api-key");
+        try (AdyenHttp2Client httpClient = new AdyenHttp2Client()) {
+            httpClient.request(baseUrl + "/payments", null, config, true, requestOptions, ApiConstants.HttpMethod.GET, Collections.singletonMap("shopperReference", "shopper"));
+        }
+        assertEquals("GET", lastRequest.getMethod());
+        assertEquals("/payments?shopperReference=shopper", lastRequest.getPath());
+        assertEquals("api-key", lastRequest.getFirstHeader("x-api-key").getValue());
+        assertEquals("idempotency-key", lastRequest.getFirstHeader("Idempotency-Key").getValue());
+    }
+
+    @Test
+    public void testClientSelectsHttp2FromConfig() throws Exception {
+        Config config = new Config();
+        config.setHttp2Enabled(true);
+        try (Client client = new Client(config)) {
+            assertTrue(client.getHttpClient() instanceof AdyenHttp2Client);
+            assertSame(client.getHttpClient(), client.getAsyncHttpClient());
+        }
+        try (Client client = new Client(new Config())) {
+            assertTrue(client.getHttpClient() instanceof AdyenHttpClient);
+        }
+    }
+
+    @Test
+    public void testRequestReadTimeout() throws Exception {
+        Config timeoutConfig = new Config();
+        timeoutConfig.setReadTimeoutMillis(200);
+        try (AdyenHttp2Client httpClient = new AdyenHttp2Client()) {
+            long start = System.nanoTime();
+            try {
+                httpClient.request(baseUrl + "/slow", "{}", timeoutConfig);
+                fail("Expected SocketTimeoutException");
+            } catch (SocketTimeoutException e) {
+                assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+            }
+            assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.request(baseUrl + "/payments", "{}", timeoutConfig));
+        }
+    }
+
+    @Test
+    public void testRequesterIsRebuiltWhenConfigChanges() throws Exception {
+        Config config = new Config();
+        try (AdyenHttp2Client httpClient = new AdyenHttp2Client()) {
+            H2MultiplexingRequester requester = httpClient.getRequester(config);
+            assertSame(requester, httpClient.getRequester(config));
+
+            config.setReadTimeoutMillis(200);
+            H2MultiplexingRequester rebuiltRequester = httpClient.getRequester(config);
+            assertNotSame(requester, rebuiltRequester);
+
+            config.setEnvironment(Environment.LIVE);
+            assertNotSame(rebuiltRequester, httpClient.getRequester(config));
+            assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.request(baseUrl + "/payments", "{}", config));
+
+            // the retired requesters had no request running on them
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((requester.getStatus() != IOReactorStatus.SHUT_DOWN || rebuiltRequester.getStatus() != IOReactorStatus.SHUT_DOWN)
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(IOReactorStatus.SHUT_DOWN, requester.getStatus());
+            assertEquals(IOReactorStatus.SHUT_DOWN, rebuiltRequester.getStatus());
+        }
+    }
+
+    private final class StubHandler implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+        private final int status;
+        private final String body;
+
+        StubHandler(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        @Override
+        public BasicRequestConsumer<String> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+            return new BasicRequestConsumer<>(entityDetails != null ? new StringAsyncEntityConsumer() : null);
+        }
+
+        @Override
+        public void handle(Message<HttpRequest, String> request, ResponseTrigger responseTrigger, HttpContext context) throws HttpException, IOException {
+            HttpCoreContext coreContext = HttpCoreContext.adapt(context);
+            clientAddresses.add(coreContext.getEndpointDetails().getRemoteAddress());
+            protocolVersions.add(coreContext.getProtocolVersion());
+            lastRequest = request.getHead();
+            if (status == 0) {
+                // never respond
+                return;
+            }
+            responseTrigger.submitResponse(AsyncResponseBuilder.create(status).setEntity(body, ContentType.APPLICATION_JSON).build(), context);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.httpclient;
+
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.enums.Environment;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.serializer.GsonJsonCodec;
+import com.adyen.util.CertificateUtil;
+import com.google.gson.Gson;
+import com.google.gson.stream.MalformedJsonException;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.net.ssl.SSLSessionContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.adyen.constants.ApiConstants.HttpMethod.POST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for AdyenHttpClient against a local stub server
+ */
+public class AdyenHttpClientTest {
+
+    private StubServer server;
+    private String endpoint;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer();
+        server.context("/payments", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            StubServer.respond(exchange, 200, "{\"resultCode\":\"Authorised\"}");
+        });
+        server.context("/created", exchange -> StubServer.respond(exchange, 201, "{\"resultCode\":\"Received\"}"));
+        server.context("/error", exchange -> StubServer.respond(exchange, 422, "{\"status\":422,\"errorCode\":\"130\"}"));
+        server.context("/truncated", exchange -> {
+            byte[] response = "{\"resultCode\":\"Autho".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, 1024);
+            OutputStream outputStream = exchange.getResponseBody();
+            outputStream.write(response);
+            outputStream.flush();
+            // drop the connection before the announced length was sent
+            exchange.close();
+        });
+        endpoint = server.getUrl() + "/payments";
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testPooledClientReusesConnection() throws Exception {
+        Config config = new Config();
+        config.setConnectionPoolEnabled(true);
+        config.setConnectionPoolMaxTotal(10);
+        config.setConnectionPoolMaxPerRoute(10);
+        config.setConnectionIdleTimeoutMillis(30000);
+        config.setConnectionValidateAfterInactivityMillis(1000);
+
+        try (AdyenHttpClient httpClient = new AdyenHttpClient()) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.request(endpoint, "{}", config));
+            }
+        }
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    public void testUnpooledClientOpensConnectionPerRequest() throws Exception {
+        AdyenHttpClient httpClient = new AdyenHttpClient();
+        for (int i = 0; i < 3; i++) {
+            httpClient.request(endpoint, "{}", new Config());
+        }
+        assertEquals(3, clientPorts.size());
+    }
+
+    @Test
+    public void testTerminalClientReusesConnection() throws Exception {
+        Config config = new Config();
+        config.setEnvironment(Environment.TEST);
+        config.setTerminalCertificate(getClass().getClassLoader().getResourceAsStream("adyen-terminalfleet-test.pem"));
+        config.setTerminalConnectionReuseEnabled(true);
+
+        try (AdyenHttpClient httpClient = new AdyenHttpClient()) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.request(endpoint, "{}", config));
+            }
+        }
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    public void testTerminalConnectionCacheIsKeyedOnCertificateAndEnvironment() throws Exception {
+        Config config = new Config();
+        config.setEnvironment(Environment.TEST);
+        config.setTerminalCertificate(getClass().getClassLoader().getResourceAsStream("adyen-terminalfleet-test.pem"));
+        Config sameCertificateConfig = new Config();
+        sameCertificateConfig.setEnvironment(Environment.TEST);
+        sameCertificateConfig.setTerminalCertificate(getClass().getClassLoader().getResourceAsStream("adyen-terminalfleet-test.pem"));
+        Config liveConfig = new Config();
+        liveConfig.setEnvironment(Environment.LIVE);
+        liveConfig.setTerminalCertificate(config.getTerminalCertificate());
+
+        try (TerminalConnectionCache terminalConnections = new TerminalConnectionCache()) {
+            assertSame(terminalConnections.getHttpClient(config), terminalConnections.getHttpClient(sameCertificateConfig));
+            assertNotSame(terminalConnections.getHttpClient(config), terminalConnections.getHttpClient(liveConfig));
+            assertEquals(2, terminalConnections.size());
+
+            terminalConnections.close();
+            assertEquals(0, terminalConnections.size());
+        }
+    }
+
+    @Test
+    public void testSSLSocketFactoryIsReusedUntilKeyStoresChange() throws Exception {
+        String keyStorePath = getClass().getClassLoader().getResource("testStore.keystore").getPath();
+        Config config = new Config();
+        config.setClientKeyStore(CertificateUtil.loadKeyStore(keyStorePath, KeyStore.getDefaultType(), "test1234"));
+        config.setTrustKeyStore(CertificateUtil.loadKeyStore(keyStorePath, KeyStore.getDefaultType(), "test1234"));
+        config.setClientKeyStorePassword("test1234");
+
+        AdyenHttpClient httpClient = new AdyenHttpClient();
+        SSLConnectionSocketFactory socketFactory = httpClient.createSSLConnectionSocketFactory(config);
+        assertNotNull(socketFactory);
+        assertSame(socketFactory, httpClient.createSSLConnectionSocketFactory(config));
+
+        config.setTrustKeyStore(CertificateUtil.loadKeyStore(keyStorePath, KeyStore.getDefaultType(), "test1234"));
+        assertNotSame(socketFactory, httpClient.createSSLConnectionSocketFactory(config));
+        assertNull(httpClient.createSSLConnectionSocketFactory(new Config()));
+    }
+
+    @Test
+    public void testSSLSessionSettings() throws Exception {
+        Config config = new Config();
+        config.setEnvironment(Environment.TEST);
+        config.setTerminalCertificate(getClass().getClassLoader().getResourceAsStream("adyen-terminalfleet-test.pem"));
+        config.setSslSessionCacheSize(16);
+        config.setSslSessionTimeoutSeconds(600);
+
+        SSLSessionContext sessionContext = AdyenHttpClient.createSSLContext(config).getClientSessionContext();
+        assertEquals(16, sessionContext.getSessionCacheSize());
+        assertEquals(600, sessionContext.getSessionTimeout());
+    }
+
+    @Test
+    public void testPooledClientIsRebuiltWhenPoolSettingsChange() throws Exception {
+        Config config = new Config();
+        config.setConnectionPoolEnabled(true);
+        config.setConnectionPoolMaxTotal(10);
+
+        try (AdyenHttpClient httpClient = new AdyenHttpClient()) {
+            CloseableHttpClient pooledHttpClient = httpClient.getPooledHttpClient(config);
+            assertSame(pooledHttpClient, httpClient.getPooledHttpClient(config));
+
+            config.setConnectionPoolMaxTotal(20);
+            CloseableHttpClient rebuiltHttpClient = httpClient.getPooledHttpClient(config);
+            assertNotSame(pooledHttpClient, rebuiltHttpClient);
+            assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.request(endpoint, "{}", config));
+            // the retired pool had no request running on it
+            assertPoolClosed(pooledHttpClient);
+        }
+    }
+
+    @Test
+    public void testRetiredPoolIsClosedOnceIdle() throws Exception {
+        CountDownLatch received = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.context("/held", exchange -> {
+            received.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubServer.respond(exchange, 200, "{\"resultCode\":\"Authorised\"}");
+        });
+        Config config = new Config();
+        config.setConnectionPoolEnabled(true);
+        config.setConnectionPoolMaxTotal(10);
+
+        try (AdyenHttpClient httpClient = new AdyenHttpClient()) {
+            CloseableHttpClient pooledHttpClient = httpClient.getPooledHttpClient(config);
+            CompletableFuture<String> held = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return httpClient.request(server.getUrl() + "/held", "{}", config);
+                } catch (IOException | HTTPClientException e) {
+                    throw new CompletionException(e);
+                }
+            });
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+
+            config.setConnectionPoolMaxTotal(20);
+            assertEquals("{\"resultCode\":\"Authorised\"}", httpClient.request(endpoint, "{}", config));
+
+            // the retired pool keeps serving the request running on it, and is closed once it has completed
+            release.countDown();
+            assertEquals("{\"resultCode\":\"Authorised\"}", held.get(5, TimeUnit.SECONDS));
+            assertPoolClosed(pooledHttpClient);
+        }
+    }
+
+    @Test
+    public void testClientReusesHttpClient() throws Exception {
+        Client client = new Client(new Config());
+        assertSame(client.getHttpClient(), client.getHttpClient());
+        client.close();
+    }
+
+    @Test
+    public void testClientDoesNotCloseHttpClientsPassedIn() throws Exception {
+        ClientInterface httpClient = mock(ClientInterface.class);
+        AsyncClientInterface asyncHttpClient = mock(AsyncClientInterface.class);
+        Client client = new Client(new Config());
+        client.setHttpClient(httpClient);
+        client.setAsyncHttpClient(asyncHttpClient);
+
+        client.close();
+        verify(httpClient, never()).close();
+        verify(asyncHttpClient, never()).close();
+    }
+
+    @Test
+    public void testRequestBindsResponseFromStream() throws Exception {
+        AdyenHttpClient httpClient = new AdyenHttpClient();
+        PaymentsResponse response = httpClient.streamRequest(endpoint, "{}", new Config(), false, null, POST,
+                body -> new Gson().fromJson(body, PaymentsResponse.class));
+        assertEquals(PaymentsResponse.ResultCodeEnum.AUTHORISED, response.getResultCode());
+    }
+
+    @Test
+    public void testStreamingRequestPassesStatusToReader() throws Exception {
+        AdyenHttpClient httpClient = new AdyenHttpClient();
+        String createdEndpoint = endpoint.replace("/payments", "/created");
+        int status = httpClient.streamRequest(createdEndpoint, "{}", new Config(), false, null, POST, new ResponseBodyReader<Integer>() {
+            @Override
+            public Integer read(Reader body) {
+                throw new AssertionError("The status should be passed to the reader");
+            }
+
+            @Override
+            public Integer read(int statusCode, Reader body) {
+                return statusCode;
+            }
+        });
+        assertEquals(201, status);
+    }
+
+    @Test
+    public void testStreamingRequestHttpError() throws Exception {
+        AdyenHttpClient httpClient = new AdyenHttpClient();
+        String errorEndpoint = endpoint.replace("/payments", "/error");
+        try {
+            httpClient.streamRequest(errorEndpoint, "{}", new Config(), false, null, POST, body -> {
+                fail("Error bodies should not be passed to the reader");
+                return null;
+            });
+            fail("Expected HTTPClientException");
+        } catch (HTTPClientException e) {
+            assertEquals(422, e.getCode());
+            assertEquals("{\"status\":422,\"errorCode\":\"130\"}", e.getResponseBody());
+        }
+    }
+
+    @Test
+    public void testStreamingRequestTruncatedBodyThrowsIOException() throws Exception {
+        AdyenHttpClient httpClient = new AdyenHttpClient();
+        String truncatedEndpoint = endpoint.replace("/payments", "/truncated");
+        try {
+            httpClient.streamRequest(truncatedEndpoint, "{}", new Config(), false, null, POST,
+                    body -> GsonJsonCodec.DEFAULT.fromJson(body, PaymentsResponse.class));
+            fail("Expected IOException");
+        } catch (IOException e) {
+            assertFalse(e instanceof MalformedJsonException);
+        }
+    }
+
+    private void assertPoolClosed(CloseableHttpClient httpClient) throws IOException {
+        try {
+            execute(httpClient);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals("Connection pool shut down", e.getMessage());
+        }
+    }
+
+    private String execute(CloseableHttpClient httpClient) throws IOException {
+        return httpClient.execute(new HttpPost(endpoint), response -> EntityUtils.toString(response.getEntity()));
+    }
+}
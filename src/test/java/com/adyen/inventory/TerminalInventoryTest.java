@@ -0,0 +1,226 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.inventory;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.StubServer;
+import com.adyen.model.posterminalmanagement.GetTerminalDetailsResponse;
+import com.adyen.service.exception.ApiException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the terminal inventory against a local stub of the POS terminal management API.
+ */
+public class TerminalInventoryTest extends BaseTest {
+
+    private StubServer server;
+    private Client client;
+    private TerminalInventory inventory;
+    private final AtomicInteger detailsRequests = new AtomicInteger();
+    private final AtomicInteger detailsInProgress = new AtomicInteger();
+    private final AtomicInteger maxDetailsInProgress = new AtomicInteger();
+    private volatile String terminalsUnderAccount;
+    private volatile int terminalsUnderAccountStatus = 200;
+    private volatile String failingTerminal;
+    private volatile long latencyMillis;
+    private String terminalDetails;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer(this::handle);
+
+        client = createStubClient(server);
+        terminalsUnderAccount = getFileContents("mocks/posterminalmanagement/get-terminals-under-account-success.json");
+        terminalDetails = getFileContents("mocks/posterminalmanagement/get-terminal-details-success.json");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (inventory != null) {
+            inventory.close();
+        }
+        client.close();
+        server.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        JsonObject request;
+        try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            request = new JsonParser().parse(reader).getAsJsonObject();
+        }
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/getTerminalsUnderAccount")) {
+            StubServer.respond(exchange, terminalsUnderAccountStatus, terminalsUnderAccount);
+            return;
+        }
+        if (!path.endsWith("/getTerminalDetails")) {
+            StubServer.respond(exchange, 404, "{}");
+            return;
+        }
+        detailsRequests.incrementAndGet();
+        maxDetailsInProgress.accumulateAndGet(detailsInProgress.incrementAndGet(), Math::max);
+        String terminal = request.get("terminal").getAsString();
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // no longer in progress once the client may see the response and send its next request
+        detailsInProgress.decrementAndGet();
+        if (terminal.equals(failingTerminal)) {
+            StubServer.respond(exchange, 500, "{}");
+            return;
+        }
+        // details of the requested terminal, with a firmware per model and a status per merchant account
+        JsonObject details = new JsonParser().parse(terminalDetails).getAsJsonObject();
+        String model = terminal.substring(0, terminal.indexOf('-'));
+        details.addProperty("terminal", terminal);
+        details.addProperty("deviceModel", model);
+        details.addProperty("serialNumber", terminal.substring(terminal.indexOf('-') + 1));
+        details.addProperty("firmwareVersion", model.startsWith("V400m") ? "Castles 1.0" : "Verifone_VOS 1.54.4");
+        details.addProperty("terminalStatus", model.startsWith("VX690") ? "SwitchedOff" : "OnlineToday");
+        StubServer.respond(exchange, 200, details.toString());
+    }
+
+    private TerminalInventory inventory(TerminalInventoryConfig.Builder config) {
+        inventory = new TerminalInventory(client, config.build());
+        return inventory;
+    }
+
+    @Test
+    public void testIndexes() throws Exception {
+        TerminalInventory inventory = inventory(TerminalInventoryConfig.builder("DemoCompany"));
+
+        TerminalInventory.RefreshResult result = inventory.refresh();
+
+        assertEquals(5, result.getTerminalCount());
+        assertEquals(5, result.getAddedCount());
+        assertEquals(5, result.getDetailsRetrievedCount());
+        assertEquals(5, inventory.size());
+
+        InventoryTerminal terminal = inventory.getTerminal("V400m-446489245");
+        assertEquals("TestMerchant2", terminal.getMerchantAccount());
+        assertEquals("MyStore", terminal.getStore());
+        assertEquals("Castles 1.0", terminal.getFirmwareVersion());
+        assertEquals(terminal, inventory.getTerminalBySerialNumber("446489245"));
+
+        assertEquals(2, inventory.getTerminalsByStore("TestMerchant2", "MyStore").size());
+        assertEquals(1, inventory.getTerminalsByStore("TestMerchant", "MyStore").size());
+        assertEquals(3, inventory.getTerminalsByMerchantAccount("TestMerchant2").size());
+        assertNull(inventory.getTerminal("P400Plus-375039302").getStore());
+        assertEquals(2, inventory.getTerminalsByFirmwareVersion("Castles 1.0").size());
+        assertEquals(1, inventory.getTerminalsByStatus(GetTerminalDetailsResponse.TerminalStatusEnum.SWITCHEDOFF).size());
+        assertEquals(4, inventory.find(t -> t.getTerminalStatus() == GetTerminalDetailsResponse.TerminalStatusEnum.ONLINETODAY).size());
+        assertTrue(inventory.getTerminalsByMerchantAccount("Unknown").isEmpty());
+    }
+
+    @Test
+    public void testBoundedParallelism() throws Exception {
+        latencyMillis = 100;
+        TerminalInventory inventory = inventory(TerminalInventoryConfig.builder("DemoCompany").parallelism(2));
+
+        inventory.refresh();
+
+        assertEquals(5, detailsRequests.get());
+        assertEquals(2, maxDetailsInProgress.get());
+    }
+
+    @Test
+    public void testIncrementalRefresh() throws Exception {
+        TerminalInventory inventory = inventory(TerminalInventoryConfig.builder("DemoCompany"));
+        inventory.refresh();
+
+        TerminalInventory.RefreshResult unchanged = inventory.refresh();
+        assertEquals(0, unchanged.getDetailsRetrievedCount());
+        assertEquals(5, detailsRequests.get());
+
+        terminalsUnderAccount = terminalsUnderAccount.replace("VX690-421415605", "VX690-421415606");
+        TerminalInventory.RefreshResult changed = inventory.refresh();
+        assertEquals(1, changed.getAddedCount());
+        assertEquals(1, changed.getRemovedCount());
+        assertEquals(1, changed.getDetailsRetrievedCount());
+        assertNull(inventory.getTerminal("VX690-421415605"));
+        assertEquals("421415606", inventory.getTerminal("VX690-421415606").getSerialNumber());
+    }
+
+    @Test
+    public void testFailedDetailsKeepPreviousDetails() throws Exception {
+        TerminalInventory inventory = inventory(TerminalInventoryConfig.builder("DemoCompany").detailsMaxAge(0, TimeUnit.SECONDS));
+        inventory.refresh();
+        failingTerminal = "V400m-446489310";
+
+        TerminalInventory.RefreshResult result = inventory.refresh();
+
+        assertEquals(4, result.getDetailsRetrievedCount());
+        assertEquals(1, result.getDetailsFailedCount());
+        assertNotNull(inventory.getTerminal("V400m-446489310").getDetails());
+    }
+
+    @Test
+    public void testListingFailure() throws Exception {
+        terminalsUnderAccountStatus = 500;
+        TerminalInventory inventory = inventory(TerminalInventoryConfig.builder("DemoCompany"));
+
+        try {
+            inventory.refresh();
+            fail("Expected ApiException");
+        } catch (ApiException e) {
+            assertEquals(500, e.getStatusCode());
+        }
+        assertTrue(inventory.getLastRefreshError() instanceof ApiException);
+        assertEquals(0, inventory.getLastRefreshTime());
+    }
+
+    @Test
+    public void testScheduledRefresh() throws Exception {
+        TerminalInventory inventory = inventory(TerminalInventoryConfig.builder("DemoCompany").refreshInterval(50, TimeUnit.MILLISECONDS));
+
+        inventory.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inventory.size() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(5, inventory.size());
+        assertNull(inventory.getLastRefreshError());
+    }
+}
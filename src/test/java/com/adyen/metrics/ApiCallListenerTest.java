@@ -0,0 +1,245 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.metrics;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.constants.ApiConstants;
+import com.adyen.httpclient.AdyenHttpClient;
+import com.adyen.httpclient.ResponseBodyReader;
+import com.adyen.model.RequestOptions;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.model.checkout.PaymentMethodsResponse;
+import com.adyen.model.checkout.PaymentsRequest;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.service.Checkout;
+import com.adyen.service.exception.ApiException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ApiCallListenerTest extends BaseTest {
+
+    @Test
+    public void testNoListenerByDefault() {
+        Client client = createMockClientFromFile("mocks/checkout/payments-success.json");
+        assertSame(ApiCallListener.NO_OP, client.getApiCallListener());
+        assertSame(client.getJsonCodec(), new Checkout(client).getJsonCodec());
+    }
+
+    @Test
+    public void testSuccessfulCall() throws Exception {
+        Client client = createMockClientFromFile("mocks/checkout/payments-success.json");
+        RecordingListener listener = new RecordingListener();
+        client.setApiCallListener(listener);
+
+        PaymentsResponse paymentsResponse = new Checkout(client).payments(createPaymentsRequest());
+        assertEquals(PaymentsResponse.ResultCodeEnum.AUTHORISED, paymentsResponse.getResultCode());
+
+        assertEquals(1, listener.events.size());
+        ApiCallEvent event = listener.events.get(0);
+        assertEquals(Client.CHECKOUT_ENDPOINT_TEST + "/" + Client.CHECKOUT_API_VERSION + "/payments", event.getEndpoint());
+        assertEquals(ApiConstants.HttpMethod.POST, event.getHttpMethod());
+        assertEquals(200, event.getStatusCode());
+        assertTrue(event.getRequestBytes() > 0);
+        assertEquals(getFileContents("mocks/checkout/payments-success.json").getBytes(StandardCharsets.UTF_8).length, event.getResponseBytes());
+        assertTrue(event.getBindingNanos() >= 0);
+        assertTrue(event.isSuccess());
+        assertFalse(event.isAsync());
+        assertNull(event.getIdempotencyKey());
+        assertEquals(Arrays.asList("serialize PaymentsRequest", "deserialize com.adyen.model.checkout.PaymentsResponse"), listener.conversions);
+    }
+
+    @Test
+    public void testSuccessfulCallReportsStatusOfResponse() throws Exception {
+        String response = getFileContents("mocks/checkout/payments-success.json");
+        try (StubServer server = new StubServer(exchange -> StubServer.respond(exchange, 201, response))) {
+            try (Client client = createStubClient(server)) {
+                RecordingListener listener = new RecordingListener();
+                client.setApiCallListener(listener);
+
+                new Checkout(client).payments(createPaymentsRequest());
+
+                ApiCallEvent event = listener.events.get(0);
+                assertEquals(201, event.getStatusCode());
+                assertEquals(response.getBytes(StandardCharsets.UTF_8).length, event.getResponseBytes());
+            }
+        }
+    }
+
+    @Test
+    public void testStreamedCall() throws Exception {
+        Client client = createMockClientFromFile("mocks/checkout/paymentmethods-success.json");
+        RecordingListener listener = new RecordingListener();
+        client.setApiCallListener(listener);
+
+        PaymentMethodsRequest paymentMethodsRequest = new PaymentMethodsRequest();
+        paymentMethodsRequest.setMerchantAccount("MagentoMerchantTest");
+        new Checkout(client).paymentMethods(paymentMethodsRequest);
+
+        assertEquals(1, listener.events.size());
+        ApiCallEvent event = listener.events.get(0);
+        assertEquals(200, event.getStatusCode());
+        assertEquals(getFileContents("mocks/checkout/paymentmethods-success.json").getBytes(StandardCharsets.UTF_8).length, event.getResponseBytes());
+        assertTrue(event.getBindingNanos() >= 0);
+        assertEquals(Arrays.asList("serialize PaymentMethodsRequest", "deserialize " + PaymentMethodsResponse.class.getName()), listener.conversions);
+    }
+
+    @Test
+    public void testStreamedCallReportsStatusAndBytes() throws Exception {
+        String response = "{\"groups\":[{\"name\":\"Cartes bancaires \u00e9\"}]}";
+        AdyenHttpClient httpClient = mock(AdyenHttpClient.class);
+        when(httpClient.streamRequest(anyString(), anyString(), any(Config.class), anyBoolean(), any(), any(), any(ResponseBodyReader.class)))
+                .thenAnswer(invocation -> invocation.<ResponseBodyReader<?>>getArgument(6).read(203, new StringReader(response)));
+        Client client = createMockClientFromFile("mocks/checkout/paymentmethods-success.json");
+        client.setHttpClient(httpClient);
+        RecordingListener listener = new RecordingListener();
+        client.setApiCallListener(listener);
+
+        PaymentMethodsRequest paymentMethodsRequest = new PaymentMethodsRequest();
+        paymentMethodsRequest.setMerchantAccount("MagentoMerchantTest");
+        PaymentMethodsResponse paymentMethodsResponse = new Checkout(client).paymentMethods(paymentMethodsRequest);
+
+        assertEquals("Cartes bancaires \u00e9", paymentMethodsResponse.getGroups().get(0).getName());
+        ApiCallEvent event = listener.events.get(0);
+        assertEquals(203, event.getStatusCode());
+        assertEquals(response.getBytes(StandardCharsets.UTF_8).length, event.getResponseBytes());
+        assertTrue(event.getBindingNanos() >= 0);
+    }
+
+    @Test
+    public void testIdempotencyKey() throws Exception {
+        AdyenHttpClient httpClient = mock(AdyenHttpClient.class);
+        when(httpClient.streamRequest(anyString(), anyString(), any(Config.class), anyBoolean(), any(RequestOptions.class), any(), any(ResponseBodyReader.class)))
+                .thenAnswer(invocation -> invocation.<ResponseBodyReader<?>>getArgument(6).read(200, new StringReader(getFileContents("mocks/checkout/payments-success.json"))));
+        Client client = createMockClientFromFile("mocks/checkout/payments-success.json");
+        client.setHttpClient(httpClient);
+        RecordingListener listener = new RecordingListener();
+        client.setApiCallListener(listener);
+
+        RequestOptions requestOptions = new RequestOptions();
+        requestOptions.setIdempotencyKey("idempotency-key");
+        new Checkout(client).payments(createPaymentsRequest(), requestOptions);
+
+        assertEquals("idempotency-key", listener.events.get(0).getIdempotencyKey());
+    }
+
+    @Test
+    public void testFailedCall() throws Exception {
+        Client client = createMockClientForErrors(422, "mocks/checkout/payments-error-invalid-data-422.json");
+        RecordingListener listener = new RecordingListener();
+        client.setApiCallListener(listener);
+
+        try {
+            new Checkout(client).payments(createPaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            ApiCallEvent event = listener.events.get(0);
+            assertEquals(422, event.getStatusCode());
+            assertSame(e, event.getError());
+            assertFalse(event.isSuccess());
+            assertTrue(event.getResponseBytes() > 0);
+        }
+    }
+
+    @Test
+    public void testMicrometerListener() throws Exception {
+        List<String> meters = new ArrayList<>();
+        MicrometerApiCallListener.MeterRecorder meterRecorder = new MicrometerApiCallListener.MeterRecorder() {
+            @Override
+            public void recordTimer(String name, long durationNanos, String... tags) {
+                meters.add(name + " " + Arrays.toString(tags));
+            }
+
+            @Override
+            public void recordSummary(String name, String baseUnit, double amount, String... tags) {
+                meters.add(name + " " + baseUnit);
+            }
+        };
+        Client client = createMockClientForErrors(422, "mocks/checkout/payments-error-invalid-data-422.json");
+        client.setApiCallListener(new MicrometerApiCallListener(meterRecorder));
+
+        try {
+            new Checkout(client).payments(createPaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            String endpoint = Client.CHECKOUT_ENDPOINT_TEST + "/" + Client.CHECKOUT_API_VERSION + "/payments";
+            assertEquals(Arrays.asList(
+                    "adyen.client.serialization [type, PaymentsRequest, direction, serialize]",
+                    "adyen.client.serialization [type, ApiError, direction, deserialize]",
+                    "adyen.client.requests [endpoint, " + endpoint + ", method, POST, status, 422, outcome, CLIENT_ERROR]",
+                    "adyen.client.request.size bytes",
+                    "adyen.client.response.size bytes"), meters);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullListener() {
+        new Client().setApiCallListener(null);
+    }
+
+    private static PaymentsRequest createPaymentsRequest() {
+        PaymentsRequest paymentsRequest = new PaymentsRequest();
+        paymentsRequest.setReference("Your order number");
+        paymentsRequest.setMerchantAccount("MagentoMerchantTest");
+        paymentsRequest.addCardData("4111111111111111", "10", "2018", "737", "John Smith");
+        return paymentsRequest;
+    }
+
+    private static final class RecordingListener implements ApiCallListener {
+        private final List<ApiCallEvent> events = new ArrayList<>();
+        private final List<String> conversions = new ArrayList<>();
+
+        @Override
+        public void onApiCall(ApiCallEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onSerialization(Type type, int length, long durationNanos) {
+            conversions.add("serialize " + ((Class<?>) type).getSimpleName());
+        }
+
+        @Override
+        public void onDeserialization(Type type, int length, long durationNanos) {
+            conversions.add("deserialize " + type.getTypeName());
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.retry;
+
+import com.adyen.BaseTest;
+import com.adyen.Client;
+import com.adyen.Config;
+import com.adyen.StubServer;
+import com.adyen.model.RequestOptions;
+import com.adyen.model.checkout.PaymentMethodsRequest;
+import com.adyen.model.checkout.PaymentsRequest;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.model.modification.CaptureRequest;
+import com.adyen.model.modification.ModificationResult;
+import com.adyen.model.payout.PayoutRequest;
+import com.adyen.service.Checkout;
+import com.adyen.service.Modification;
+import com.adyen.service.Payout;
+import com.adyen.service.exception.ApiException;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the retries against a local stub failing a given number of requests.
+ */
+public class RetryPolicyTest extends BaseTest {
+
+    private static final int RESET = -1;
+
+    private StubServer server;
+    private Client client;
+    private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile int failureStatus = 503;
+    private volatile String retryAfter;
+    private volatile String responseBody;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer(this::handle);
+
+        Config config = createStubConfig(server);
+        config.setRetryPolicy(RetryPolicy.builder().backoff(1, 5, TimeUnit.MILLISECONDS).build());
+        client = new Client(config);
+        responseBody = getFileContents("mocks/checkout/payments-success.json");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        // header absent is recorded as null
+        idempotencyKeys.add(String.valueOf(exchange.getRequestHeaders().getFirst("Idempotency-Key")));
+        exchange.getRequestBody().close();
+        if (failures.getAndDecrement() > 0) {
+            if (failureStatus == RESET) {
+                // close the connection without a response
+                exchange.close();
+                return;
+            }
+            if (retryAfter != null) {
+                exchange.getResponseHeaders().add("Retry-After", retryAfter);
+            }
+            StubServer.respond(exchange, failureStatus, null);
+            return;
+        }
+        StubServer.respond(exchange, 200, responseBody);
+    }
+
+    @Test
+    public void testPaymentsRetriedWithGeneratedIdempotencyKey() throws Exception {
+        failures.set(2);
+
+        PaymentsResponse paymentsResponse = new Checkout(client).payments(new PaymentsRequest());
+
+        assertEquals(PaymentsResponse.ResultCodeEnum.AUTHORISED, paymentsResponse.getResultCode());
+        assertEquals(3, idempotencyKeys.size());
+        assertFalse("null".equals(idempotencyKeys.get(0)));
+        assertEquals(Collections.nCopies(3, idempotencyKeys.get(0)), idempotencyKeys);
+    }
+
+    @Test
+    public void testCallerIdempotencyKeyKept() throws Exception {
+        failures.set(1);
+        RequestOptions requestOptions = new RequestOptions();
+        requestOptions.setIdempotencyKey("caller-key");
+
+        new Checkout(client).payments(new PaymentsRequest(), requestOptions);
+
+        assertEquals(Collections.nCopies(2, "caller-key"), idempotencyKeys);
+        assertEquals("caller-key", requestOptions.getIdempotencyKey());
+    }
+
+    @Test
+    public void testConnectionResetRetried() throws Exception {
+        failureStatus = RESET;
+        failures.set(1);
+
+        new Checkout(client).payments(new PaymentsRequest());
+
+        assertEquals(2, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testMaxAttempts() throws Exception {
+        failures.set(10);
+
+        try {
+            new Checkout(client).payments(new PaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+        assertEquals(3, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testTimeBudget() throws Exception {
+        client.getConfig().setRetryPolicy(RetryPolicy.builder()
+                .maxAttempts(10)
+                .backoff(200, 200, TimeUnit.MILLISECONDS)
+                .jitter(0)
+                .maxElapsed(350, TimeUnit.MILLISECONDS)
+                .build());
+        failures.set(10);
+
+        try {
+            new Checkout(client).payments(new PaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+        assertEquals(2, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testRetryAfterHonored() throws Exception {
+        failureStatus = 429;
+        retryAfter = "1";
+        failures.set(1);
+
+        long start = System.nanoTime();
+        PaymentsResponse paymentsResponse = new Checkout(client).payments(new PaymentsRequest());
+
+        assertEquals(PaymentsResponse.ResultCodeEnum.AUTHORISED, paymentsResponse.getResultCode());
+        assertEquals(2, idempotencyKeys.size());
+        assertTrue(System.nanoTime() - start >= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void testRetryAfterBeyondTimeBudgetNotRetried() throws Exception {
+        retryAfter = "60";
+        failures.set(1);
+
+        try {
+            new Checkout(client).payments(new PaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+        assertEquals(1, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testPolicySetAfterPooledClientCreated() throws Exception {
+        client.getConfig().setConnectionPoolEnabled(true);
+        client.setRetryPolicy(null);
+        new Checkout(client).payments(new PaymentsRequest());
+
+        // the pooled client built without a policy retries 503 responses by itself
+        client.setRetryPolicy(RetryPolicy.builder().maxAttempts(1).build());
+        idempotencyKeys.clear();
+        failures.set(1);
+        try {
+            new Checkout(client).payments(new PaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+        assertEquals(1, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testPolicySetAfterAsyncClientCreated() throws Exception {
+        client.setRetryPolicy(null);
+        new Checkout(client).paymentsAsync(new PaymentsRequest()).get(5, TimeUnit.SECONDS);
+
+        client.setRetryPolicy(RetryPolicy.builder().maxAttempts(1).build());
+        idempotencyKeys.clear();
+        failures.set(1);
+        try {
+            new Checkout(client).paymentsAsync(new PaymentsRequest()).get(5, TimeUnit.SECONDS);
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertEquals(503, ((ApiException) e.getCause()).getStatusCode());
+        }
+        assertEquals(1, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testClientErrorNotRetried() throws Exception {
+        failureStatus = 422;
+        failures.set(1);
+
+        try {
+            new Checkout(client).payments(new PaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(422, e.getStatusCode());
+        }
+        assertEquals(1, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testEndpointWithoutIdempotencyNotRetried() throws Exception {
+        failures.set(1);
+
+        try {
+            new Checkout(client).paymentMethods(new PaymentMethodsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+        assertEquals(Collections.singletonList("null"), idempotencyKeys);
+    }
+
+    @Test
+    public void testGeneratedKeysDisabled() throws Exception {
+        client.setRetryPolicy(RetryPolicy.builder().generateIdempotencyKeys(false).build());
+        failures.set(1);
+
+        try {
+            new Checkout(client).payments(new PaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(503, e.getStatusCode());
+        }
+        assertEquals(Collections.singletonList("null"), idempotencyKeys);
+    }
+
+    @Test
+    public void testModificationAndPayoutRetried() throws Exception {
+        responseBody = getFileContents("mocks/capture-success.json");
+        failures.set(1);
+        ModificationResult modificationResult = new Modification(client).capture(new CaptureRequest());
+        assertEquals(ModificationResult.ModificationResponse.CAPTURE_RECEIVED, modificationResult.getResponse());
+        assertEquals(2, idempotencyKeys.size());
+        assertEquals(idempotencyKeys.get(0), idempotencyKeys.get(1));
+
+        idempotencyKeys.clear();
+        responseBody = getFileContents("mocks/payout/payout-success.json");
+        failures.set(1);
+        assertNotNull(new Payout(client).payout(new PayoutRequest()).getPspReference());
+        assertEquals(2, idempotencyKeys.size());
+        assertEquals(idempotencyKeys.get(0), idempotencyKeys.get(1));
+    }
+
+    @Test
+    public void testAsyncRetried() throws Exception {
+        failures.set(2);
+
+        PaymentsResponse paymentsResponse = new Checkout(client).paymentsAsync(new PaymentsRequest()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(PaymentsResponse.ResultCodeEnum.AUTHORISED, paymentsResponse.getResultCode());
+        assertEquals(Collections.nCopies(3, idempotencyKeys.get(0)), idempotencyKeys);
+    }
+
+    @Test
+    public void testAsyncMaxAttempts() throws Exception {
+        failures.set(10);
+
+        try {
+            new Checkout(client).paymentsAsync(new PaymentsRequest()).get(5, TimeUnit.SECONDS);
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+            assertEquals(503, ((ApiException) e.getCause()).getStatusCode());
+        }
+        assertEquals(3, idempotencyKeys.size());
+    }
+
+    @Test
+    public void testNoRetryByDefault() throws Exception {
+        // not retried by the HTTP client either, unlike 503
+        failureStatus = 500;
+        failures.set(1);
+        try (Client clientWithoutRetries = createStubClient(server)) {
+            new Checkout(clientWithoutRetries).payments(new PaymentsRequest());
+            fail("Exception expected");
+        } catch (ApiException e) {
+            assertEquals(500, e.getStatusCode());
+        }
+        assertEquals(Collections.singletonList("null"), idempotencyKeys);
+    }
+
+    @Test
+    public void testBackoff() {
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+                .backoff(100, 1000, TimeUnit.MILLISECONDS)
+                .jitter(0.5)
+                .build();
+        for (int i = 0; i < 100; i++) {
+            long first = retryPolicy.getBackoffMillis(1);
+            assertTrue(first >= 50 && first <= 100);
+            long third = retryPolicy.getBackoffMillis(3);
+            assertTrue(third >= 200 && third <= 400);
+            long capped = retryPolicy.getBackoffMillis(10);
+            assertTrue(capped >= 500 && capped <= 1000);
+        }
+        assertTrue(retryPolicy.canRetry(2, 0, 0));
+        assertFalse(retryPolicy.canRetry(3, 0, 0));
+        assertFalse(retryPolicy.canRetry(1, 29900, 200));
+    }
+
+    @Test
+    public void testDefaultPredicates() {
+        RetryPolicy retryPolicy = RetryPolicy.defaultPolicy();
+        assertTrue(retryPolicy.isRetryable(503));
+        assertTrue(retryPolicy.isRetryable(429));
+        assertFalse(retryPolicy.isRetryable(422));
+        assertFalse(retryPolicy.isRetryable(501));
+        assertTrue(retryPolicy.isRetryable(new java.net.SocketException("Connection reset")));
+        assertFalse(retryPolicy.isRetryable(new java.net.UnknownHostException("checkout-test.adyen.com")));
+    }
+}
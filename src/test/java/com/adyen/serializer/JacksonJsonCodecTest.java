@@ -0,0 +1,130 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.adyen.BaseTest;
+import com.adyen.model.AccountInfo;
+import com.adyen.model.PaymentRequest;
+import com.adyen.model.binlookup.DSPublicKeyDetail;
+import com.adyen.model.checkout.PaymentsRequest;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.model.marketpay.CreateAccountHolderRequest;
+import com.adyen.model.marketpay.GetAccountHolderResponse;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that JacksonJsonCodec writes and reads models the same way as GsonJsonCodec
+ */
+public class JacksonJsonCodecTest extends BaseTest {
+
+    private final JsonCodec gsonCodec = new GsonJsonCodec();
+    private final JsonCodec jacksonCodec = new JacksonJsonCodec();
+
+    @Test
+    public void testDateFieldParity() {
+        AccountInfo accountInfo = new AccountInfo();
+        accountInfo.setAccountCreationDate(new Date(0));
+        accountInfo.setPasswordChangeDate(new Date(1503580067000L));
+        PaymentsRequest paymentsRequest = new PaymentsRequest();
+        paymentsRequest.setDateOfBirth(new Date(0));
+        paymentsRequest.setDeliveryDate(new Date(0));
+        paymentsRequest.setAccountInfo(accountInfo);
+
+        JsonObject fromGson = JsonParser.parseString(gsonCodec.toJson(paymentsRequest)).getAsJsonObject();
+        JsonObject fromJackson = JsonParser.parseString(jacksonCodec.toJson(paymentsRequest)).getAsJsonObject();
+
+        assertEquals("1970-01-01", fromJackson.get("dateOfBirth").getAsString());
+        assertEquals("1970-01-01T00:00:00.000Z", fromJackson.get("deliveryDate").getAsString());
+        assertEquals(fromGson.get("dateOfBirth"), fromJackson.get("dateOfBirth"));
+        assertEquals(fromGson.get("deliveryDate"), fromJackson.get("deliveryDate"));
+        assertEquals(fromGson.get("accountInfo"), fromJackson.get("accountInfo"));
+
+        PaymentsRequest roundTrip = jacksonCodec.fromJson(jacksonCodec.toJson(paymentsRequest), PaymentsRequest.class);
+        assertEquals(new Date(0), roundTrip.getDateOfBirth());
+        assertEquals(new Date(0), roundTrip.getDeliveryDate());
+        assertEquals(new Date(1503580067000L), roundTrip.getAccountInfo().getPasswordChangeDate());
+    }
+
+    @Test
+    public void testUnknownEnumValue() {
+        String json = "{\"pspReference\":\"12345\",\"resultCode\":\"SomeNewCode\"}";
+
+        PaymentsResponse fromGson = gsonCodec.fromJson(json, PaymentsResponse.class);
+        PaymentsResponse fromJackson = jacksonCodec.fromJson(json, PaymentsResponse.class);
+
+        assertNull(fromGson.getResultCode());
+        assertNull(fromJackson.getResultCode());
+        assertEquals("12345", fromJackson.getPspReference());
+    }
+
+    @Test
+    public void testPaymentRequestParity() {
+        PaymentRequest paymentRequest = createFullCardPaymentRequest();
+        paymentRequest.getOrCreateAdditionalData().put("riskdata.basket.item1.sku", "12345");
+
+        String json = jacksonCodec.toJson(paymentRequest);
+        assertEquals(JsonParser.parseString(gsonCodec.toJson(paymentRequest)), JsonParser.parseString(json));
+        assertFalse(json.contains("orCreateAdditionalData"));
+
+        PaymentRequest fromJackson = jacksonCodec.fromJson(json, PaymentRequest.class);
+        assertEquals("12345", fromJackson.getAdditionalData().get("riskdata.basket.item1.sku"));
+        assertEquals(JsonParser.parseString(gsonCodec.toJson(paymentRequest)), JsonParser.parseString(gsonCodec.toJson(fromJackson)));
+    }
+
+    @Test
+    public void testMarketPayModelParity() {
+        String json = getFileContents("mocks/marketpay/account/get-business-account-holder-success.json");
+
+        GetAccountHolderResponse fromGson = gsonCodec.fromJson(json, GetAccountHolderResponse.class);
+        GetAccountHolderResponse fromJackson = jacksonCodec.fromJson(json, GetAccountHolderResponse.class);
+        assertEquals(JsonParser.parseString(gsonCodec.toJson(fromGson)), JsonParser.parseString(gsonCodec.toJson(fromJackson)));
+
+        CreateAccountHolderRequest createAccountHolderRequest = new CreateAccountHolderRequest();
+        createAccountHolderRequest.setAccountHolderCode(fromGson.getAccountHolderCode());
+        createAccountHolderRequest.setAccountHolderDetails(fromGson.getAccountHolderDetails());
+        createAccountHolderRequest.setLegalEntity(CreateAccountHolderRequest.LegalEntityEnum.BUSINESS);
+        createAccountHolderRequest.setCreateDefaultAccount(true);
+        assertEquals(JsonParser.parseString(gsonCodec.toJson(createAccountHolderRequest)),
+                JsonParser.parseString(jacksonCodec.toJson(createAccountHolderRequest)));
+    }
+
+    @Test
+    public void testGsonDeserializerParity() {
+        String json = "{\"brand\":\"visa\",\"publicKey\":\"key\"}";
+
+        DSPublicKeyDetail fromGson = gsonCodec.fromJson(json, DSPublicKeyDetail.class);
+        DSPublicKeyDetail fromJackson = jacksonCodec.fromJson(json, DSPublicKeyDetail.class);
+
+        assertArrayEquals("key".getBytes(StandardCharsets.UTF_8), fromJackson.getPublicKey());
+        assertArrayEquals(fromGson.getPublicKey(), fromJackson.getPublicKey());
+        assertEquals(JsonParser.parseString(gsonCodec.toJson(fromGson)), JsonParser.parseString(jacksonCodec.toJson(fromJackson)));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.serializer;
+
+import com.adyen.model.nexo.MessageCategoryType;
+import com.adyen.model.nexo.MessageHeader;
+import com.adyen.terminal.serialization.TerminalAPIGsonBuilder;
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TerminalAPIGsonBuilderTest {
+
+    @Test
+    public void testGetInstanceIsShared() {
+        assertSame(TerminalAPIGsonBuilder.getInstance(), TerminalAPIGsonBuilder.getInstance());
+    }
+
+    @Test
+    public void testFieldNamesFromXmlAnnotations() {
+        TerminalAPIGsonBuilder.warmUp();
+        MessageHeader messageHeader = new MessageHeader();
+        messageHeader.setServiceID("001");
+        messageHeader.setMessageCategory(MessageCategoryType.PAYMENT);
+
+        Gson gson = TerminalAPIGsonBuilder.getInstance();
+        String json = gson.toJson(messageHeader);
+
+        assertEquals("{\"MessageCategory\":\"Payment\",\"ServiceID\":\"001\"}", json);
+        assertEquals("001", gson.fromJson(json, MessageHeader.class).getServiceID());
+    }
+}
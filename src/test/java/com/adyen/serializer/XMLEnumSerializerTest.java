@@ -21,16 +21,23 @@
 package com.adyen.serializer;
 
 import com.adyen.model.nexo.AuthenticationMethodType;
+import com.adyen.model.nexo.MessageCategoryType;
+import com.adyen.terminal.serialization.TerminalAPIGsonBuilder;
+import com.adyen.terminal.serialization.XMLEnumAdapterFactory;
 import com.adyen.terminal.serialization.XMLEnumTypeAdapter;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.IOException;
 import java.io.StringReader;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 @RunWith(MockitoJUnitRunner.class)
 public class XMLEnumSerializerTest {
@@ -53,4 +60,25 @@ public class XMLEnumSerializerTest {
         assertNotNull(authenticationMethodType2);
         assertEquals(AuthenticationMethodType.ON_LINE_PIN, authenticationMethodType2);
     }
+
+    @Test
+    public void testWriteUsesXmlEnumValue() {
+        Gson gson = TerminalAPIGsonBuilder.create();
+        assertEquals("\"OnLinePIN\"", gson.toJson(AuthenticationMethodType.ON_LINE_PIN));
+        assertEquals("\"Payment\"", gson.toJson(MessageCategoryType.PAYMENT));
+        assertEquals(MessageCategoryType.PAYMENT, gson.fromJson("\"Payment\"", MessageCategoryType.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadUnknownValue() throws Exception {
+        XMLEnumTypeAdapter<MessageCategoryType> adapter = new XMLEnumTypeAdapter<>(MessageCategoryType.class);
+        adapter.read(new JsonReader(new StringReader("\"NotACategory\"")));
+    }
+
+    @Test
+    public void testFactoryReusesAdapterPerEnum() {
+        XMLEnumAdapterFactory factory = new XMLEnumAdapterFactory();
+        TypeToken<MessageCategoryType> type = TypeToken.get(MessageCategoryType.class);
+        assertSame(factory.create(new Gson(), type), new XMLEnumAdapterFactory().create(new Gson(), type));
+    }
 }
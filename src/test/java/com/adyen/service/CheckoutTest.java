@@ -23,21 +23,30 @@ package com.adyen.service;
 import com.adyen.BaseTest;
 import com.adyen.Client;
 import com.adyen.Config;
+import com.adyen.httpclient.AsyncClientInterface;
 import com.adyen.httpclient.ClientInterface;
+import com.adyen.httpclient.HTTPClientException;
 import com.adyen.model.RequestOptions;
 import com.adyen.model.checkout.PaymentsRequest;
 import com.adyen.model.checkout.PaymentsResponse;
 import com.adyen.model.checkout.ThreeDSecureData;
+import com.adyen.service.exception.ApiException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -54,6 +63,9 @@ public class CheckoutTest extends BaseTest {
     @Mock
     ClientInterface clientInterface;
 
+    @Mock
+    AsyncClientInterface asyncClientInterface;
+
     @Mock
     Config config;
 
@@ -82,4 +94,37 @@ public class CheckoutTest extends BaseTest {
         //not html escaped
         assertTrue(captorValue.contains("\"mpiData\":{\"cavv\":\"AQIDBAUGBwgJCgsMDQ4PEBESExQ=\",\"xid\":\"AQIDBAUGBwgJCgsMDQ4PEBESExQ=\"}") || captorValue.contains("\"mpiData\":{\"xid\":\"AQIDBAUGBwgJCgsMDQ4PEBESExQ=\",\"cavv\":\"AQIDBAUGBwgJCgsMDQ4PEBESExQ=\"}"));
     }
+
+    @Test
+    public void testPaymentsAsync() throws Exception {
+        when(client.getConfig()).thenReturn(config);
+        when(config.getCheckoutEndpoint()).thenReturn("checkout");
+        when(client.getAsyncHttpClient()).thenReturn(asyncClientInterface);
+        when(asyncClientInterface.requestAsync(eq("checkout/" + Client.CHECKOUT_API_VERSION + "/payments"), anyString(), eq(config), anyBoolean(), nullable(RequestOptions.class), any(), nullable(Map.class)))
+                .thenReturn(CompletableFuture.completedFuture("{\"pspReference\": \"12345\"}"));
+
+        PaymentsResponse response = new Checkout(client).paymentsAsync(new PaymentsRequest()).get();
+
+        assertEquals("12345", response.getPspReference());
+    }
+
+    @Test
+    public void testPaymentsAsyncApiException() throws Exception {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new HTTPClientException(422, "HTTP Exception", Collections.emptyMap(), "{\"status\":422,\"errorCode\":\"130\",\"message\":\"Reference Missing\",\"errorType\":\"validation\"}"));
+        when(client.getConfig()).thenReturn(config);
+        when(config.getCheckoutEndpoint()).thenReturn("checkout");
+        when(client.getAsyncHttpClient()).thenReturn(asyncClientInterface);
+        when(asyncClientInterface.requestAsync(anyString(), anyString(), eq(config), anyBoolean(), nullable(RequestOptions.class), any(), nullable(Map.class))).thenReturn(failed);
+
+        try {
+            new Checkout(client).paymentsAsync(new PaymentsRequest()).get();
+            fail("Expected ApiException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+            ApiException apiException = (ApiException) e.getCause();
+            assertEquals(422, apiException.getStatusCode());
+            assertEquals("130", apiException.getError().getErrorCode());
+        }
+    }
 }
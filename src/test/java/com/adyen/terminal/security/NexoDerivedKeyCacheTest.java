@@ -0,0 +1,81 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+
+package com.adyen.terminal.security;
+
+import com.adyen.model.terminal.security.NexoDerivedKey;
+import com.adyen.model.terminal.security.SecurityKey;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class NexoDerivedKeyCacheTest {
+
+    @Test
+    public void testDerivedKeyIsCached() throws Exception {
+        NexoDerivedKeyCache cache = new NexoDerivedKeyCache(2);
+        NexoDerivedKey first = cache.getDerivedKey(createSecurityKey("KeyIdentifier", 1, "p@ssw0rd123456"));
+        NexoDerivedKey second = cache.getDerivedKey(createSecurityKey("KeyIdentifier", 1, "p@ssw0rd123456"));
+
+        assertEquals(1, cache.size());
+        assertArrayEquals(NexoDerivedKeyGenerator.deriveKeyMaterial("p@ssw0rd123456").getCipherKey(), second.getCipherKey());
+        assertArrayEquals(first.getHmacKey(), second.getHmacKey());
+        assertArrayEquals(first.getIv(), second.getIv());
+    }
+
+    @Test
+    public void testDifferentPassphraseIsNotShared() throws Exception {
+        NexoDerivedKeyCache cache = new NexoDerivedKeyCache(2);
+        NexoDerivedKey first = cache.getDerivedKey(createSecurityKey("KeyIdentifier", 1, "p@ssw0rd123456"));
+        NexoDerivedKey second = cache.getDerivedKey(createSecurityKey("KeyIdentifier", 1, "0th3rp@ssw0rd"));
+
+        assertEquals(2, cache.size());
+        assertFalse(Arrays.equals(first.getCipherKey(), second.getCipherKey()));
+    }
+
+    @Test
+    public void testEvictionAndInvalidation() throws Exception {
+        NexoDerivedKeyCache cache = new NexoDerivedKeyCache(2);
+        cache.getDerivedKey(createSecurityKey("KeyIdentifier", 1, "p@ssw0rd123456"));
+        cache.getDerivedKey(createSecurityKey("KeyIdentifier", 2, "p@ssw0rd123456"));
+        cache.getDerivedKey(createSecurityKey("OtherIdentifier", 1, "p@ssw0rd123456"));
+        assertEquals(2, cache.size());
+
+        cache.invalidate("KeyIdentifier");
+        assertEquals(1, cache.size());
+
+        cache.invalidate(createSecurityKey("OtherIdentifier", 1, "p@ssw0rd123456"));
+        assertEquals(0, cache.size());
+    }
+
+    private SecurityKey createSecurityKey(String keyIdentifier, int keyVersion, String passphrase) {
+        SecurityKey securityKey = new SecurityKey();
+        securityKey.setKeyIdentifier(keyIdentifier);
+        securityKey.setKeyVersion(keyVersion);
+        securityKey.setAdyenCryptoVersion(1);
+        securityKey.setPassphrase(passphrase);
+        return securityKey;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *                       ######
+ *                       ######
+ * ############    ####( ######  #####. ######  ############   ############
+ * #############  #####( ######  #####. ######  #############  #############
+ *        ######  #####( ######  #####. ######  #####  ######  #####  ######
+ * ###### ######  #####( ######  #####. ######  #####  #####   #####  ######
+ * ###### ######  #####( ######  #####. ######  #####          #####  ######
+ * #############  #############  #############  #############  #####  ######
+ *  ############   ############  #############   ############  #####  ######
+ *                                      ######
+ *                               #############
+ *                               ############
+ *
+ * Adyen Java API Library
+ *
+ * Copyright (c) 2022 Adyen B.V.
+ * This file is open source and available under the MIT license.
+ * See the LICENSE file for more info.
+ */
+package com.adyen.util;
+
+import com.adyen.model.checkout.PaymentRefundResource;
+import com.adyen.model.checkout.PaymentsResponse;
+import com.adyen.model.nexo.AuthenticationMethodType;
+import com.adyen.model.nexo.MessageCategoryType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class EnumUtilTest {
+
+    @Test
+    public void TestFromValueReturnsConstantForEveryValue() {
+        for (PaymentsResponse.ResultCodeEnum resultCode : PaymentsResponse.ResultCodeEnum.values()) {
+            assertEquals(resultCode, PaymentsResponse.ResultCodeEnum.fromValue(resultCode.getValue()));
+        }
+        for (MessageCategoryType messageCategory : MessageCategoryType.values()) {
+            assertEquals(messageCategory, MessageCategoryType.fromValue(messageCategory.value()));
+        }
+    }
+
+    @Test
+    public void TestFromValueWithUnknownValueReturnsNull() {
+        assertNull(PaymentsResponse.ResultCodeEnum.fromValue("NotAResultCode"));
+        assertNull(PaymentsResponse.ResultCodeEnum.fromValue(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void TestFromValueWithUnknownValueThrows() {
+        MessageCategoryType.fromValue("NotACategory");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void TestFromValueWithUnexpectedValueThrows() {
+        PaymentRefundResource.StatusEnum.fromValue("unknown");
+    }
+
+    @Test
+    public void TestFromValueWithMultipleValues() {
+        assertEquals(AuthenticationMethodType.SIGNATURE_CAPTURE, AuthenticationMethodType.fromValue("SignatureCapture"));
+    }
+}
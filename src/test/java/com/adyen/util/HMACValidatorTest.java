@@ -22,10 +22,24 @@
 package com.adyen.util;
 
 import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.Test;
+import com.adyen.model.Amount;
+import com.adyen.model.notification.NotificationRequest;
 import com.adyen.model.notification.NotificationRequestItem;
+import com.adyen.model.notification.NotificationRequestItemContainer;
 import com.google.gson.Gson;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -159,4 +173,112 @@ public class HMACValidatorTest {
             fail();
         }
     }
+
+    @Test
+    public void testCalculateHMACWithChangingKeys() throws SignatureException {
+        String otherKey = "DFB1EB5485895CFA84146406857104ABB4CBCABDC8AAF103A624C8F6A3EAAB00";
+        HMACValidator hmacValidator = new HMACValidator();
+        String first = hmacValidator.calculateHMAC("TestPayload", HMAC_KEY);
+        String other = hmacValidator.calculateHMAC("TestPayload", otherKey);
+
+        assertNotEquals(first, other);
+        assertEquals(first, hmacValidator.calculateHMAC("TestPayload", HMAC_KEY));
+        assertEquals(other, hmacValidator.calculateHMAC("TestPayload", otherKey));
+    }
+
+    @Test
+    public void testCalculateHMACAfterInvalidKey() throws SignatureException {
+        HMACValidator hmacValidator = new HMACValidator();
+        String expected = hmacValidator.calculateHMAC("TestPayload", HMAC_KEY);
+        try {
+            hmacValidator.calculateHMAC("TestPayload", "not a hex key");
+            fail("Expected SignatureException");
+        } catch (SignatureException e) {
+            assertNotNull(e.getMessage());
+        }
+        assertEquals(expected, hmacValidator.calculateHMAC("TestPayload", HMAC_KEY));
+    }
+
+    @Test
+    public void testKeyedHMACValidator() throws SignatureException {
+        NotificationRequestItem notificationRequest = new NotificationRequestItem();
+        notificationRequest.setPspReference("test_REPORT_AVAILABLE");
+        notificationRequest.setEventCode("REPORT_AVAILABLE");
+        notificationRequest.setSuccess(true);
+        String hmacSignature = new HMACValidator().calculateHMAC(notificationRequest, HMAC_KEY);
+        notificationRequest.setAdditionalData(Collections.singletonMap("hmacSignature", hmacSignature));
+
+        KeyedHMACValidator keyedHMACValidator = new KeyedHMACValidator(HMAC_KEY);
+        assertEquals(hmacSignature, keyedHMACValidator.calculateHMAC(notificationRequest));
+        assertTrue(keyedHMACValidator.validateHMAC(notificationRequest));
+        assertTrue(keyedHMACValidator.validateHMAC(notificationRequest));
+        assertFalse(new KeyedHMACValidator("DFB1EB5485895CFA84146406857104ABB4CBCABDC8AAF103A624C8F6A3EAAB00").validateHMAC(notificationRequest));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyedHMACValidatorInvalidKey() {
+        new KeyedHMACValidator("notAHexKey");
+    }
+
+    @Test
+    public void testValidateHMACBatch() throws Exception {
+        NotificationRequest notificationRequest = new NotificationRequest();
+        notificationRequest.setNotificationItemContainers(Arrays.asList(
+                createSignedItemContainer("pspReference1", true),
+                createSignedItemContainer("pspReference2", false),
+                createSignedItemContainer("pspReference3", true)));
+        notificationRequest.getNotificationItemContainers().get(2).getNotificationItem().setAdditionalData(null);
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        HMACValidator hmacValidator = new HMACValidator();
+        assertEquals(expected, hmacValidator.validateHMAC(notificationRequest, HMAC_KEY));
+        // the Mac of the thread is re-initialised when the key changes
+        assertEquals(new BitSet(), hmacValidator.validateHMAC(notificationRequest, "DFB1EB5485895CFA84146406857104ABB4CBCABDC8AAF103A624C8F6A3EAAB00"));
+        assertEquals(expected, hmacValidator.validateHMAC(notificationRequest, HMAC_KEY));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(expected, new KeyedHMACValidator(HMAC_KEY).validateHMACAsync(notificationRequest, executor).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidateHMACAsyncRejected() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        CompletableFuture<BitSet> result = new KeyedHMACValidator(HMAC_KEY).validateHMACAsync(new NotificationRequest(), executor);
+        try {
+            result.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidateHMACBatchInvalidKey() throws SignatureException {
+        new HMACValidator().validateHMAC(new NotificationRequest(), "notAHexKey");
+    }
+
+    private NotificationRequestItemContainer createSignedItemContainer(String pspReference, boolean validSignature) throws SignatureException {
+        NotificationRequestItem notificationRequestItem = new NotificationRequestItem();
+        notificationRequestItem.setPspReference(pspReference);
+        notificationRequestItem.setMerchantAccountCode("TestMerchant");
+        notificationRequestItem.setAmount(new Amount().currency("EUR").value(1000L));
+        notificationRequestItem.setEventCode("AUTHORISATION");
+        notificationRequestItem.setSuccess(true);
+        String hmacSignature = new HMACValidator().calculateHMAC(notificationRequestItem, HMAC_KEY);
+        if (!validSignature) {
+            notificationRequestItem.setPspReference(pspReference + "-tampered");
+        }
+        notificationRequestItem.setAdditionalData(Collections.singletonMap("hmacSignature", hmacSignature));
+
+        NotificationRequestItemContainer container = new NotificationRequestItemContainer();
+        container.setNotificationItem(notificationRequestItem);
+        return container;
+    }
 }